@@ -0,0 +1,76 @@
+package com.mypackage.projet.jeux.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.mypackage.projet.jeux.ApplicationSansRendu;
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import com.mypackage.projet.jeux.utilitaires.ChargeurNiveau;
+import com.mypackage.projet.jeux.utilitaires.CompilateurNiveau;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure ChargeurNiveau.chargerNiveau sur un petit fichier TMX (taille de niveau1)
+ * et sur un très grand fichier généré, lus en XML ou depuis leur version compilée (.niv).
+ * Le chargement se fait sans textures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BenchmarkChargementNiveau {
+
+    @Param({"petit", "enorme"})
+    public String taille;
+
+    @Param({"tmx", "niv"})
+    public String format;
+
+    private File fichierTmx;
+    private File fichierCompile;
+    private ChargeurNiveau chargeur;
+
+    @Setup
+    public void preparer() throws IOException {
+        Gdx.app = new ApplicationSansRendu(Application.LOG_NONE);
+        chargeur = new ChargeurNiveau(true);
+        chargeur.setNiveauxCompiles("niv".equals(format));
+
+        fichierTmx = File.createTempFile("niveau_" + taille + "_", ".tmx");
+        if ("petit".equals(taille)) {
+            GenerateurTmx.ecrire(fichierTmx, 100, 20, 15, 35, 42L);
+        } else {
+            GenerateurTmx.ecrire(fichierTmx, 10000, 20000, 2000, 5000, 42L);
+        }
+        fichierCompile = "niv".equals(format) ? new CompilateurNiveau().compiler(fichierTmx.getPath()) : null;
+    }
+
+    @TearDown
+    public void nettoyer() {
+        fichierTmx.delete();
+        if (fichierCompile != null) {
+            fichierCompile.delete();
+        }
+    }
+
+    @Benchmark
+    public Niveau chargerNiveau() {
+        return chargeur.chargerNiveau(fichierTmx.getPath());
+    }
+}
@@ -0,0 +1,51 @@
+package com.mypackage.projet.jeux.benchmarks;
+
+import com.mypackage.projet.jeux.modele.evenements.BusEvenements;
+import com.mypackage.projet.jeux.modele.gestionnaires.GestionnaireCollisions;
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure une passe complète de GestionnaireCollisions.gererCollisions
+ * selon le nombre d'obstacles et d'ennemis du niveau.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkCollisions {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int nombreEntites;
+
+    private Niveau niveau;
+    private GestionnaireCollisions gestionnaireCollisions;
+    private BusEvenements bus;
+
+    @Setup
+    public void preparer() {
+        niveau = NiveauxGeneres.creerNiveau(nombreEntites, nombreEntites, 42L);
+        bus = new BusEvenements(); // Sans abonnés : les événements publiés sont seulement recyclés
+        gestionnaireCollisions = new GestionnaireCollisions(niveau, bus);
+    }
+
+    @Benchmark
+    public void gererCollisions() {
+        gestionnaireCollisions.gererCollisions();
+        bus.distribuer();
+    }
+}
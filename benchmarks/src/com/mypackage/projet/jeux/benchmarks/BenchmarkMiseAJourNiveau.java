@@ -0,0 +1,58 @@
+package com.mypackage.projet.jeux.benchmarks;
+
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure un pas de simulation du niveau (Niveau.mettreAJour)
+ * suivi du nettoyage des entités inactives, avec ou sans stockage en composants,
+ * en séquentiel (seuil 0) ou réparti sur plusieurs cœurs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkMiseAJourNiveau {
+
+    private static final float PAS = 1f / 60f;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int nombreEnnemis;
+
+    @Param({"false", "true"})
+    public boolean composants;
+
+    @Param({"0", "1024"})
+    public int seuilParallele;
+
+    private Niveau niveau;
+
+    @Setup
+    public void preparer() {
+        niveau = NiveauxGeneres.creerNiveau(1000, nombreEnnemis, 42L);
+        niveau.setSeuilParallele(seuilParallele);
+        if (composants) {
+            niveau.activerComposantsEntites();
+        }
+    }
+
+    @Benchmark
+    public void mettreAJourEtNettoyer() {
+        niveau.mettreAJour(PAS);
+        niveau.nettoyerEntitesInactives();
+    }
+}
@@ -0,0 +1,74 @@
+package com.mypackage.projet.jeux.benchmarks;
+
+import com.mypackage.projet.jeux.modele.niveau.ProgressionNiveau;
+import com.mypackage.projet.jeux.utilitaires.SauvegardeProgression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure l'écriture et la relecture d'une sauvegarde de progression,
+ * ainsi que l'encodage seul, sans accès au disque.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkSauvegarde {
+
+    private static final String FICHIER = "benchmark_sauvegarde.dat";
+
+    @Param({"4", "100"})
+    public int nombreNiveaux;
+
+    private SauvegardeProgression.Sauvegarde sauvegarde;
+
+    @Setup
+    public void preparer() {
+        sauvegarde = new SauvegardeProgression.Sauvegarde();
+        sauvegarde.niveauActuelIndex = nombreNiveaux - 1;
+        for (int i = 0; i < nombreNiveaux; i++) {
+            ProgressionNiveau progression = new ProgressionNiveau("niveau" + (i + 1));
+            progression.setScore(1000 + i);
+            progression.setPieces(i % 50);
+            progression.setTempsEcoule(60f + i);
+            sauvegarde.progressions.put(progression.getNomNiveau(),
+                new SauvegardeProgression.DonneesProgression(progression));
+            sauvegarde.scoreTotal += progression.getScore();
+        }
+        SauvegardeProgression.sauvegarder(sauvegarde, FICHIER);
+    }
+
+    @TearDown
+    public void nettoyer() {
+        SauvegardeProgression.supprimer(FICHIER);
+    }
+
+    @Benchmark
+    public boolean sauvegarder() {
+        return SauvegardeProgression.sauvegarder(sauvegarde, FICHIER);
+    }
+
+    @Benchmark
+    public SauvegardeProgression.Sauvegarde charger() {
+        return SauvegardeProgression.charger(FICHIER);
+    }
+
+    @Benchmark
+    public byte[] encoder() {
+        return SauvegardeProgression.encoder(sauvegarde);
+    }
+}
@@ -0,0 +1,100 @@
+package com.mypackage.projet.jeux.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Écrit des fichiers TMX synthétiques (même structure que niveau1.tmx)
+ * pour mesurer le chargement des niveaux.
+ */
+final class GenerateurTmx {
+
+    private GenerateurTmx() {
+    }
+
+    /**
+     * Écrit une carte Tiled
+     * @param fichier Fichier de destination
+     * @param largeurTuiles Largeur de la carte (en tuiles)
+     * @param nbObstacles Nombre d'objets dans la couche "Obstacles"
+     * @param nbEnnemis Nombre d'objets dans la couche "Ennemis"
+     * @param nbPieces Nombre d'objets dans la couche "Objets"
+     * @param graine Graine de génération
+     * @throws IOException En cas d'erreur d'écriture
+     */
+    static void ecrire(File fichier, int largeurTuiles, int nbObstacles, int nbEnnemis, int nbPieces, long graine)
+            throws IOException {
+        Random aleatoire = new Random(graine);
+        int hauteurTuiles = NiveauxGeneres.HAUTEUR_TUILES;
+        int taille = NiveauxGeneres.TAILLE_TUILE;
+        int id = 1;
+
+        try (PrintWriter sortie = new PrintWriter(fichier, StandardCharsets.UTF_8.name())) {
+            sortie.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+            sortie.println("<map version=\"1.8\" orientation=\"orthogonal\" renderorder=\"right-down\" width=\""
+                + largeurTuiles + "\" height=\"" + hauteurTuiles + "\" tilewidth=\"" + taille
+                + "\" tileheight=\"" + taille + "\" infinite=\"0\">");
+            sortie.println(" <tileset firstgid=\"1\" name=\"tileset_mario\" tilewidth=\"32\" tileheight=\"32\" tilecount=\"5\" columns=\"5\">");
+            sortie.println("  <image source=\"tileset_mario.png\" width=\"160\" height=\"32\"/>");
+            sortie.println("  <tile id=\"0\"><properties><property name=\"nom\" value=\"Sol_Brique\"/></properties></tile>");
+            sortie.println("  <tile id=\"1\"><properties><property name=\"nom\" value=\"Bloc_Brique\"/></properties></tile>");
+            sortie.println("  <tile id=\"2\"><properties><property name=\"nom\" value=\"Bloc_Mystere\"/></properties></tile>");
+            sortie.println(" </tileset>");
+
+            // Couche de tuiles : deux lignes de sol en bas de la carte
+            sortie.println(" <layer id=\"1\" name=\"Sol\" width=\"" + largeurTuiles + "\" height=\"" + hauteurTuiles + "\">");
+            sortie.println("  <data encoding=\"csv\">");
+            for (int ligne = 0; ligne < hauteurTuiles; ligne++) {
+                StringBuilder ligneCsv = new StringBuilder(largeurTuiles * 2);
+                for (int colonne = 0; colonne < largeurTuiles; colonne++) {
+                    ligneCsv.append(ligne >= hauteurTuiles - 2 ? '1' : '0');
+                    if (ligne < hauteurTuiles - 1 || colonne < largeurTuiles - 1) {
+                        ligneCsv.append(',');
+                    }
+                }
+                sortie.println(ligneCsv);
+            }
+            sortie.println("  </data>");
+            sortie.println(" </layer>");
+
+            sortie.println(" <objectgroup id=\"2\" name=\"Joueur\">");
+            sortie.println("  <object id=\"" + (id++) + "\" x=\"64\" y=\"" + (hauteurTuiles - 3) * taille + "\" width=\"32\" height=\"32\"/>");
+            sortie.println(" </objectgroup>");
+
+            sortie.println(" <objectgroup id=\"3\" name=\"Ennemis\">");
+            for (int i = 0; i < nbEnnemis; i++) {
+                int x = 400 + aleatoire.nextInt(Math.max(1, largeurTuiles * taille - 500));
+                sortie.println("  <object id=\"" + (id++) + "\" x=\"" + x + "\" y=\"" + (hauteurTuiles - 3) * taille
+                    + "\" width=\"32\" height=\"32\"><properties>"
+                    + "<property name=\"type\" value=\"terrestre\"/>"
+                    + "<property name=\"comportement\" value=\"patrouille\"/>"
+                    + "<property name=\"distancePatrouille\" type=\"float\" value=\"100\"/>"
+                    + "</properties></object>");
+            }
+            sortie.println(" </objectgroup>");
+
+            sortie.println(" <objectgroup id=\"4\" name=\"Objets\">");
+            for (int i = 0; i < nbPieces; i++) {
+                int x = aleatoire.nextInt(largeurTuiles * taille);
+                sortie.println("  <object id=\"" + (id++) + "\" x=\"" + x + "\" y=\"" + (6 * taille)
+                    + "\" width=\"24\" height=\"24\"><properties><property name=\"type\" value=\"PIECE\"/>"
+                    + "<property name=\"valeur\" type=\"int\" value=\"10\"/></properties></object>");
+            }
+            sortie.println(" </objectgroup>");
+
+            sortie.println(" <objectgroup id=\"5\" name=\"Obstacles\">");
+            for (int i = 0; i < nbObstacles; i++) {
+                int x = aleatoire.nextInt(largeurTuiles) * taille;
+                int y = (2 + aleatoire.nextInt(hauteurTuiles - 4)) * taille;
+                sortie.println("  <object id=\"" + (id++) + "\" x=\"" + x + "\" y=\"" + y
+                    + "\" width=\"32\" height=\"32\"><properties><property name=\"type\" value=\"BLOC_BRIQUE\"/>"
+                    + "</properties></object>");
+            }
+            sortie.println(" </objectgroup>");
+            sortie.println("</map>");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.mypackage.projet.jeux.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point d'entrée des benchmarks JMH.
+ * Chaque suite est exécutée avec le profileur GC (allocations par opération, nombre de GC).
+ */
+public class LanceurBenchmarks {
+
+    /**
+     * @param args Nom (ou expression régulière) de la suite à lancer ; toutes par défaut
+     * @throws RunnerException En cas d'échec de JMH
+     */
+    public static void main(String[] args) throws RunnerException {
+        String suite = args.length > 0 ? args[0] : "";
+
+        Options options = new OptionsBuilder()
+            .include(LanceurBenchmarks.class.getPackage().getName() + ".*" + suite + ".*")
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(options).run();
+    }
+}
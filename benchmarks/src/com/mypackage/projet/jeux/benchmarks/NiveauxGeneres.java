@@ -0,0 +1,69 @@
+package com.mypackage.projet.jeux.benchmarks;
+
+import com.mypackage.projet.jeux.modele.comportements.ComportementPatrouille;
+import com.mypackage.projet.jeux.modele.entites.EnnemiTerrestre;
+import com.mypackage.projet.jeux.modele.entites.Joueur;
+import com.mypackage.projet.jeux.modele.entites.ObjetCollectable;
+import com.mypackage.projet.jeux.modele.entites.Obstacle;
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+
+import java.util.Random;
+
+/**
+ * Génère des niveaux de taille arbitraire directement en mémoire (sans fichier TMX)
+ * pour les benchmarks du modèle.
+ */
+final class NiveauxGeneres {
+
+    static final int TAILLE_TUILE = 32;
+    static final int HAUTEUR_TUILES = 15;
+
+    private NiveauxGeneres() {
+    }
+
+    /**
+     * Crée un niveau avec un sol continu, des blocs en hauteur, des ennemis et des pièces
+     * @param nbObstacles Nombre d'obstacles (moitié sol, moitié blocs en hauteur)
+     * @param nbEnnemis Nombre d'ennemis terrestres
+     * @param graine Graine de génération
+     * @return Le niveau généré
+     */
+    static Niveau creerNiveau(int nbObstacles, int nbEnnemis, long graine) {
+        Random aleatoire = new Random(graine);
+        int largeurTuiles = Math.max(nbObstacles / 2, 64);
+        Niveau niveau = new Niveau("genere_" + nbObstacles + "_" + nbEnnemis);
+        niveau.setLargeur(largeurTuiles * TAILLE_TUILE);
+        niveau.setHauteur(HAUTEUR_TUILES * TAILLE_TUILE);
+
+        // Sol : une tuile par colonne
+        int nbSol = nbObstacles / 2;
+        for (int i = 0; i < nbSol; i++) {
+            niveau.ajouterObstacle(new Obstacle(i * TAILLE_TUILE, 0, TAILLE_TUILE, TAILLE_TUILE, "BLOC_NORMAL"));
+        }
+
+        // Blocs en hauteur répartis sur toute la largeur
+        for (int i = nbSol; i < nbObstacles; i++) {
+            float x = aleatoire.nextInt(largeurTuiles) * TAILLE_TUILE;
+            float y = (3 + aleatoire.nextInt(8)) * TAILLE_TUILE;
+            String type = aleatoire.nextInt(4) == 0 ? "BLOC_QUESTION" : "BLOC_BRIQUE";
+            niveau.ajouterObstacle(new Obstacle(x, y, TAILLE_TUILE, TAILLE_TUILE, type));
+        }
+
+        // Ennemis en patrouille au sol, loin du point de départ du joueur
+        for (int i = 0; i < nbEnnemis; i++) {
+            float x = 400 + aleatoire.nextFloat() * (niveau.getLargeur() - 500);
+            EnnemiTerrestre ennemi = new EnnemiTerrestre(x, TAILLE_TUILE);
+            ennemi.setComportement(new ComportementPatrouille(100f));
+            niveau.ajouterEnnemi(ennemi);
+        }
+
+        // Une pièce pour dix ennemis
+        for (int i = 0; i < Math.max(1, nbEnnemis / 10); i++) {
+            float x = 400 + aleatoire.nextFloat() * (niveau.getLargeur() - 500);
+            niveau.ajouterObjetCollectable(new ObjetCollectable(x, 3 * TAILLE_TUILE, "PIECE", 10));
+        }
+
+        niveau.setJoueur(new Joueur(100, TAILLE_TUILE));
+        return niveau;
+    }
+}
@@ -0,0 +1,26 @@
+#!/bin/bash
+
+# Script de compilation des niveaux Tiled (.tmx) en niveaux compilés (.niv)
+# Exemple : ./scripts/compiler_niveaux.sh                  (tous les niveaux de assets/cartes)
+#           ./scripts/compiler_niveaux.sh assets/cartes/niveau1.tmx
+
+echo "=========================================="
+echo "  Compilation des niveaux"
+echo "=========================================="
+echo ""
+
+# Vérifier si le projet est compilé
+if [ ! -d "bin" ] || [ -z "$(ls -A bin)" ]; then
+    echo "❌ Le projet n'est pas compilé"
+    echo ""
+    echo "Veuillez d'abord compiler avec : ./scripts/compiler_javac.sh"
+    exit 1
+fi
+
+# Construire le classpath
+CLASSPATH="bin"
+for jar in lib/*.jar; do
+    CLASSPATH="${CLASSPATH}:${jar}"
+done
+
+java -cp "${CLASSPATH}" com.mypackage.projet.jeux.utilitaires.CompilateurNiveau "$@"
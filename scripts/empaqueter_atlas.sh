@@ -0,0 +1,27 @@
+#!/bin/bash
+
+# Script d'empaquetage des textures des entités dans un atlas (assets/textures/atlas/entites.atlas)
+# À relancer après l'ajout ou la modification d'une image de assets/textures
+# Exemple : ./scripts/empaqueter_atlas.sh
+#           ./scripts/empaqueter_atlas.sh assets/textures assets/textures/atlas
+
+echo "=========================================="
+echo "  Empaquetage de l'atlas des textures"
+echo "=========================================="
+echo ""
+
+# Vérifier si le projet est compilé
+if [ ! -d "bin" ] || [ -z "$(ls -A bin)" ]; then
+    echo "❌ Le projet n'est pas compilé"
+    echo ""
+    echo "Veuillez d'abord compiler avec : ./scripts/compiler_javac.sh"
+    exit 1
+fi
+
+# Construire le classpath
+CLASSPATH="bin"
+for jar in lib/*.jar; do
+    CLASSPATH="${CLASSPATH}:${jar}"
+done
+
+java -cp "${CLASSPATH}" com.mypackage.projet.jeux.utilitaires.EmpaqueteurAtlas "$@"
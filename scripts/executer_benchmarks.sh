@@ -0,0 +1,45 @@
+#!/bin/bash
+
+# Script de compilation et d'exécution des benchmarks JMH (sans Gradle)
+# Les JARs de JMH 1.37 sont attendus dans lib/jmh/ : jmh-core, jmh-generator-annprocess,
+# jopt-simple et commons-math3
+# Exemple : ./scripts/executer_benchmarks.sh BenchmarkCollisions
+
+echo "=========================================="
+echo "  Benchmarks JMH"
+echo "=========================================="
+echo ""
+
+# Vérifier si les dépendances sont présentes
+if [ ! -d "lib/jmh" ] || [ -z "$(ls -A lib/jmh)" ]; then
+    echo "❌ Les JARs de JMH ne sont pas présents dans le répertoire 'lib/jmh/'"
+    echo ""
+    echo "Veuillez y copier jmh-core, jmh-generator-annprocess, jopt-simple et commons-math3"
+    exit 1
+fi
+
+# Créer le répertoire de sortie
+mkdir -p bin-benchmarks
+
+# Construire le classpath : bibliothèques du jeu puis JMH
+CLASSPATH="bin-benchmarks"
+for jar in lib/*.jar lib/jmh/*.jar; do
+    CLASSPATH="${CLASSPATH}:${jar}"
+done
+
+# Les suites sont compilées avec les sources du jeu, comme scripts/compiler_javac.sh ;
+# le processeur d'annotations de JMH génère les classes de mesure
+echo "Compilation en cours..."
+SOURCES=$(find src/com benchmarks/src -name "*.java")
+javac -encoding UTF-8 -cp "${CLASSPATH}" -d bin-benchmarks $SOURCES
+
+if [ $? -ne 0 ]; then
+    echo ""
+    echo "=========================================="
+    echo "  ❌ Erreur lors de la compilation"
+    echo "=========================================="
+    exit 1
+fi
+
+# Lancer toutes les suites, ou celle passée en argument
+java -cp "${CLASSPATH}" com.mypackage.projet.jeux.benchmarks.LanceurBenchmarks "$@"
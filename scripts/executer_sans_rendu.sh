@@ -0,0 +1,26 @@
+#!/bin/bash
+
+# Script d'exécution de la logique du jeu sans fenêtre ni OpenGL
+# Exemple : ./scripts/executer_sans_rendu.sh --graines 20 --frames 7200
+
+echo "=========================================="
+echo "  Simulation sans rendu"
+echo "=========================================="
+echo ""
+
+# Vérifier si le projet est compilé
+if [ ! -d "bin" ] || [ -z "$(ls -A bin)" ]; then
+    echo "❌ Le projet n'est pas compilé"
+    echo ""
+    echo "Veuillez d'abord compiler avec : ./scripts/compiler_javac.sh"
+    exit 1
+fi
+
+# Construire le classpath
+CLASSPATH="bin"
+for jar in lib/*.jar; do
+    CLASSPATH="${CLASSPATH}:${jar}"
+done
+
+# Pas de -XstartOnFirstThread : aucune fenêtre n'est ouverte
+java -cp "${CLASSPATH}" com.mypackage.projet.jeux.LanceurSansRendu "$@"
@@ -0,0 +1,27 @@
+#!/bin/bash
+
+# Script de génération des polices de l'interface (assets/polices/interface.png et interface-*.fnt)
+# À relancer après la modification de la police source ou des tailles de GestionnairePolices.Taille
+# Exemple : ./scripts/generer_polices.sh
+#           ./scripts/generer_polices.sh assets/polices/DejaVuSans.ttf assets/polices
+
+echo "=========================================="
+echo "  Génération des polices de l'interface"
+echo "=========================================="
+echo ""
+
+# Vérifier si le projet est compilé
+if [ ! -d "bin" ] || [ -z "$(ls -A bin)" ]; then
+    echo "❌ Le projet n'est pas compilé"
+    echo ""
+    echo "Veuillez d'abord compiler avec : ./scripts/compiler_javac.sh"
+    exit 1
+fi
+
+# Construire le classpath
+CLASSPATH="bin"
+for jar in lib/*.jar; do
+    CLASSPATH="${CLASSPATH}:${jar}"
+done
+
+java -Djava.awt.headless=true -cp "${CLASSPATH}" com.mypackage.projet.jeux.utilitaires.GenerateurPolices "$@"
@@ -0,0 +1,41 @@
+#!/bin/bash
+
+# Script de vérification : aucune frame du régime établi ne doit allouer
+# (boucle logique sans rendu, toutes les graines). Code de sortie 1 en cas d'allocation.
+# Exemple : ./scripts/verifier_allocations.sh --graines 12 --frames 3600
+
+echo "=========================================="
+echo "  Vérification des allocations par frame"
+echo "=========================================="
+echo ""
+
+# Vérifier si le projet est compilé
+if [ ! -d "bin" ] || [ -z "$(ls -A bin)" ]; then
+    echo "❌ Le projet n'est pas compilé"
+    echo ""
+    echo "Veuillez d'abord compiler avec : ./scripts/compiler_javac.sh"
+    exit 1
+fi
+
+# Construire le classpath
+CLASSPATH="bin"
+for jar in lib/*.jar; do
+    CLASSPATH="${CLASSPATH}:${jar}"
+done
+
+# C1 seulement : les désoptimisations de C2 recréent des objets éliminés par
+# l'analyse d'échappement et fausseraient le compte
+java -XX:TieredStopAtLevel=1 -cp "${CLASSPATH}" com.mypackage.projet.jeux.LanceurSansRendu --allocations "$@"
+RESULTAT=$?
+
+# Niveau peuplé d'une foule d'ennemis : leur mise à jour passe par TraitementParallele.
+# Au moins 4 cœurs annoncés pour que les threads de travail existent même sur une machine à un cœur ;
+# la partie finit avant 1200 frames (le joueur est submergé), d'où une chauffe plus courte
+echo ""
+echo "Foule de 2000 ennemis (traitement parallèle)"
+java -XX:TieredStopAtLevel=1 -XX:ActiveProcessorCount=4 -cp "${CLASSPATH}" com.mypackage.projet.jeux.LanceurSansRendu \
+    --foule 2000 --frames 1200 --allocations 200 "$@"
+if [ $? -ne 0 ]; then
+    RESULTAT=1
+fi
+exit ${RESULTAT}
@@ -0,0 +1,229 @@
+package com.mypackage.projet.jeux;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.ApplicationLogger;
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.LifecycleListener;
+import com.badlogic.gdx.Net;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Clipboard;
+
+/**
+ * Application LibGDX minimale pour exécuter la logique du jeu sans fenêtre ni OpenGL.
+ * Elle ne fournit que la journalisation (Gdx.app.log/error/debug) ; les autres
+ * services (graphismes, entrées, fichiers, audio) ne sont pas disponibles.
+ */
+public class ApplicationSansRendu implements Application {
+
+    private int niveauJournal;
+    private ApplicationLogger journal;
+    private boolean sortieDemandee;
+
+    /**
+     * Constructeur
+     * @param niveauJournal Niveau de journalisation (Application.LOG_NONE, LOG_ERROR, LOG_INFO, LOG_DEBUG)
+     */
+    public ApplicationSansRendu(int niveauJournal) {
+        this.niveauJournal = niveauJournal;
+        this.journal = new JournalConsole();
+        this.sortieDemandee = false;
+    }
+
+    // ========== JOURNALISATION ==========
+
+    @Override
+    public void log(String tag, String message) {
+        if (niveauJournal >= LOG_INFO) {
+            journal.log(tag, message);
+        }
+    }
+
+    @Override
+    public void log(String tag, String message, Throwable exception) {
+        if (niveauJournal >= LOG_INFO) {
+            journal.log(tag, message, exception);
+        }
+    }
+
+    @Override
+    public void error(String tag, String message) {
+        if (niveauJournal >= LOG_ERROR) {
+            journal.error(tag, message);
+        }
+    }
+
+    @Override
+    public void error(String tag, String message, Throwable exception) {
+        if (niveauJournal >= LOG_ERROR) {
+            journal.error(tag, message, exception);
+        }
+    }
+
+    @Override
+    public void debug(String tag, String message) {
+        if (niveauJournal >= LOG_DEBUG) {
+            journal.debug(tag, message);
+        }
+    }
+
+    @Override
+    public void debug(String tag, String message, Throwable exception) {
+        if (niveauJournal >= LOG_DEBUG) {
+            journal.debug(tag, message, exception);
+        }
+    }
+
+    @Override
+    public void setLogLevel(int niveauJournal) {
+        this.niveauJournal = niveauJournal;
+    }
+
+    @Override
+    public int getLogLevel() {
+        return niveauJournal;
+    }
+
+    @Override
+    public void setApplicationLogger(ApplicationLogger journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public ApplicationLogger getApplicationLogger() {
+        return journal;
+    }
+
+    // ========== CYCLE DE VIE ==========
+
+    @Override
+    public void postRunnable(Runnable tache) {
+        // Pas de boucle de rendu : la tâche est exécutée immédiatement
+        tache.run();
+    }
+
+    @Override
+    public void exit() {
+        sortieDemandee = true;
+    }
+
+    /**
+     * Indique si le jeu a demandé à quitter (bouton QUITTER)
+     * @return true si la sortie a été demandée
+     */
+    public boolean estSortieDemandee() {
+        return sortieDemandee;
+    }
+
+    @Override
+    public ApplicationType getType() {
+        return ApplicationType.HeadlessDesktop;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @Override
+    public long getJavaHeap() {
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    }
+
+    @Override
+    public long getNativeHeap() {
+        return getJavaHeap();
+    }
+
+    // ========== SERVICES NON DISPONIBLES SANS RENDU ==========
+
+    @Override
+    public ApplicationListener getApplicationListener() {
+        return null;
+    }
+
+    @Override
+    public Graphics getGraphics() {
+        return null;
+    }
+
+    @Override
+    public Audio getAudio() {
+        return null;
+    }
+
+    @Override
+    public Input getInput() {
+        return null;
+    }
+
+    @Override
+    public Files getFiles() {
+        return null;
+    }
+
+    @Override
+    public Net getNet() {
+        return null;
+    }
+
+    @Override
+    public Preferences getPreferences(String nom) {
+        return null;
+    }
+
+    @Override
+    public Clipboard getClipboard() {
+        return null;
+    }
+
+    @Override
+    public void addLifecycleListener(LifecycleListener ecouteur) {
+    }
+
+    @Override
+    public void removeLifecycleListener(LifecycleListener ecouteur) {
+    }
+
+    /**
+     * Journal écrivant sur la sortie standard (erreurs sur la sortie d'erreur)
+     */
+    private static class JournalConsole implements ApplicationLogger {
+
+        @Override
+        public void log(String tag, String message) {
+            System.out.println("[" + tag + "] " + message);
+        }
+
+        @Override
+        public void log(String tag, String message, Throwable exception) {
+            System.out.println("[" + tag + "] " + message);
+            exception.printStackTrace(System.out);
+        }
+
+        @Override
+        public void error(String tag, String message) {
+            System.err.println("[" + tag + "] " + message);
+        }
+
+        @Override
+        public void error(String tag, String message, Throwable exception) {
+            System.err.println("[" + tag + "] " + message);
+            exception.printStackTrace(System.err);
+        }
+
+        @Override
+        public void debug(String tag, String message) {
+            System.out.println("[" + tag + "] " + message);
+        }
+
+        @Override
+        public void debug(String tag, String message, Throwable exception) {
+            System.out.println("[" + tag + "] " + message);
+            exception.printStackTrace(System.out);
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package com.mypackage.projet.jeux;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.mypackage.projet.jeux.controleur.BouclePasFixe;
 import com.mypackage.projet.jeux.controleur.ControleurJeu;
+import com.mypackage.projet.jeux.controleur.EnregistrementEntrees;
 import com.mypackage.projet.jeux.modele.gestionnaires.GestionnaireNiveaux;
 import com.mypackage.projet.jeux.modele.niveau.Niveau;
-import com.mypackage.projet.jeux.utilitaires.ChargeurNiveau;
 import com.mypackage.projet.jeux.utilitaires.ConfigurationJeu;
+import com.mypackage.projet.jeux.utilitaires.GestionnairePolices;
 import com.mypackage.projet.jeux.utilitaires.GestionnaireRessources;
+import com.mypackage.projet.jeux.utilitaires.Profileur;
+import com.mypackage.projet.jeux.vue.EcranChargement;
 import com.mypackage.projet.jeux.vue.RenduNiveau;
+import com.mypackage.projet.jeux.vue.RenduProfileur;
 import com.mypackage.projet.jeux.vue.RenduTransition;
 import com.mypackage.projet.jeux.vue.RenduHUD;
+import com.mypackage.projet.jeux.vue.TitreFenetre;
+
+import java.io.IOException;
 
 /**
  * Classe principale du jeu de plateforme
@@ -29,7 +40,35 @@ public class JeuPlateforme extends ApplicationAdapter {
     private OrthographicCamera camera;
     private Viewport viewport;
     private GestionnaireRessources gestionnaireRessources;
-    private ChargeurNiveau chargeurNiveau;
+    private GestionnairePolices gestionnairePolices; // Polices de l'interface, sur une texture commune
+    private BouclePasFixe bouclePasFixe;
+    private GLProfiler profileurGL;        // Compte les appels OpenGL (null si statistiquesRendu est désactivé)
+    private float tempsDepuisStatistiques;
+    private RenduProfileur rendeurProfileur; // Surcouche du profileur (null tant que F3 n'a pas été pressée)
+    private boolean surcoucheProfileur;
+    private TitreFenetre titreFenetre;     // Titre avec les FPS, reformaté seulement quand elles changent
+    
+    private static final String DOSSIER_TRACES = "traces";
+    private static final String DOSSIER_ENREGISTREMENTS = "enregistrements";
+    
+    // ========== DÉMARRAGE PAR ÉTAPES ==========
+    
+    /**
+     * Étapes du démarrage, exécutées par tranches dans render() derrière l'écran de chargement
+     */
+    private enum EtapeDemarrage {
+        RESSOURCES,     // Atlas des entités (AssetManager)
+        NIVEAU,         // Niveau de départ (lu en arrière-plan, finalisé par tranches)
+        INITIALISATION, // Rendus et état de la partie
+        TERMINE
+    }
+    
+    private static final int BUDGET_DEMARRAGE_MS = 8; // Travail de chargement par frame
+    private static final float PART_RESSOURCES = 0.3f; // Part des ressources dans la barre de progression
+    
+    private EtapeDemarrage etapeDemarrage;
+    private EcranChargement ecranChargement;
+    private long debutDemarrageNanos;
     
     /**
      * Méthode appelée au démarrage de l'application
@@ -46,25 +85,88 @@ public class JeuPlateforme extends ApplicationAdapter {
         viewport = new FitViewport(configuration.getLargeurFenetre(), configuration.getHauteurFenetre(), camera);
         viewport.apply();
         camera.position.set(configuration.getLargeurFenetre() / 2f, configuration.getHauteurFenetre() / 2f, 0);
+        titreFenetre = new TitreFenetre(configuration.getTitre());
         
-        // Initialiser le gestionnaire de ressources
+        // Initialiser le registre des ressources : l'atlas des entités se charge par tranches dans render()
         gestionnaireRessources = new GestionnaireRessources();
-        gestionnaireRessources.chargerRessources();
-        
-        // Initialiser le chargeur de niveaux
-        chargeurNiveau = new ChargeurNiveau();
+        gestionnaireRessources.demanderRessourcesCommunes();
         
-        // Initialiser le contrôleur de jeu
+        // Initialiser le contrôleur de jeu (textures des tilesets partagées par le registre)
         controleurJeu = new ControleurJeu();
+        configuration.configurerGestionnaire(controleurJeu.getGestionnaireNiveaux());
+        controleurJeu.getGestionnaireNiveaux().getChargeurNiveau().setRessources(gestionnaireRessources);
+        bouclePasFixe = new BouclePasFixe(configuration.getPasFixe(), configuration.getSousPasMax());
         
-        // Charger les niveaux depuis la configuration
-        chargerNiveaux();
+        // Lire le niveau de départ en arrière-plan pendant que la fenêtre s'affiche
+        controleurJeu.preparerDemarrage();
+        
+        // Statistiques de rendu (appels de dessin et liaisons de texture par frame)
+        if (configuration.isStatistiquesRendu()) {
+            profileurGL = new GLProfiler(Gdx.graphics);
+            profileurGL.enable();
+        }
         
-        // Initialiser le rendu
-        rendeurNiveau = new RenduNiveau(camera);
-        rendeurTransition = new RenduTransition(camera);
+        // Profileur des phases de la frame (F3 : surcouche, F4 : trace Chrome)
+        Profileur.setActif(configuration.isProfileur());
+        
+        // Polices de l'interface générées une fois, avant le premier texte affiché
+        gestionnairePolices = new GestionnairePolices();
+        
+        ecranChargement = new EcranChargement(configuration.getLargeurFenetre(), configuration.getHauteurFenetre(),
+            gestionnairePolices);
+        etapeDemarrage = EtapeDemarrage.RESSOURCES;
+        debutDemarrageNanos = System.nanoTime();
+    }
+    
+    /**
+     * Avance le démarrage d'une tranche (au plus BUDGET_DEMARRAGE_MS de chargement par frame)
+     */
+    private void avancerDemarrage() {
+        switch (etapeDemarrage) {
+            case RESSOURCES:
+                if (gestionnaireRessources.mettreAJour(BUDGET_DEMARRAGE_MS)) {
+                    etapeDemarrage = EtapeDemarrage.NIVEAU;
+                }
+                break;
+            case NIVEAU:
+                if (controleurJeu.getGestionnaireNiveaux().avancerChargement(BUDGET_DEMARRAGE_MS * 1_000_000L)) {
+                    etapeDemarrage = EtapeDemarrage.INITIALISATION;
+                }
+                break;
+            case INITIALISATION:
+                terminerDemarrage();
+                etapeDemarrage = EtapeDemarrage.TERMINE;
+                break;
+            case TERMINE:
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Retourne l'avancement du démarrage
+     * @return Valeur entre 0 et 1
+     */
+    private float getProgressionDemarrage() {
+        switch (etapeDemarrage) {
+            case RESSOURCES:
+                return PART_RESSOURCES * gestionnaireRessources.obtenirProgresChargement();
+            case NIVEAU:
+                return PART_RESSOURCES + (1f - PART_RESSOURCES)
+                    * controleurJeu.getGestionnaireNiveaux().getProgressionChargement();
+            default:
+                return 1f;
+        }
+    }
+    
+    /**
+     * Dernière étape du démarrage : rendus et partie (le niveau de départ est déjà prêt)
+     */
+    private void terminerDemarrage() {
+        // Initialiser le rendu (l'atlas est déjà dans le registre)
+        rendeurNiveau = new RenduNiveau(camera, gestionnaireRessources, gestionnairePolices);
         
-        // Initialiser le jeu
+        // Initialiser le jeu (récupère le niveau préchargé)
         controleurJeu.initialiser();
         
         // Initialiser le rendu pour le niveau actuel
@@ -91,92 +193,67 @@ public class JeuPlateforme extends ApplicationAdapter {
         // Forcer le jeu à démarrer (pas en pause)
         controleurJeu.setEtatActuel(ControleurJeu.EtatJeu.EN_JEU);
         
-        Gdx.app.log("JeuPlateforme", "=== Jeu initialisé avec succès ===");
+        // Enregistrer les entrées de la partie dès le premier pas
+        if (configuration.isEnregistrementEntrees()) {
+            demarrerEnregistrementEntrees();
+        }
+        
+        ecranChargement.libererRessources();
+        ecranChargement = null;
+        
+        // Le démarrage par étapes ne doit pas être rattrapé par des pas de simulation
+        bouclePasFixe.reinitialiser();
+        
+        Gdx.app.log("JeuPlateforme", "=== Jeu initialisé avec succès en "
+            + (System.nanoTime() - debutDemarrageNanos) / 1_000_000 + " ms ===");
         Gdx.app.log("JeuPlateforme", "🎮 État du jeu: " + controleurJeu.getEtatActuel());
         Gdx.app.log("JeuPlateforme", "🎮 Utilisez les FLÈCHES ← → pour bouger, ESPACE pour sauter");
     }
     
     /**
-     * Charge tous les niveaux définis dans la configuration
+     * Enregistre les entrées de chaque pas, écrites à la fermeture du jeu dans le dossier enregistrements/.
+     * Le rejeu (LanceurSansRendu --rejouer) exige le pas fixe ; les clics dans les menus de fin
+     * ne sont pas enregistrés (une partie poursuivie par un clic ne se rejoue à l'identique que jusqu'à ce clic).
      */
-    private void chargerNiveaux() {
-        GestionnaireNiveaux gestionnaireNiveaux = controleurJeu.getGestionnaireNiveaux();
-        
-        // Si des niveaux sont définis dans la configuration, les charger
-        if (configuration.getNiveaux() != null && !configuration.getNiveaux().isEmpty()) {
-            int numeroNiveau = 1;
-            for (String cheminNiveau : configuration.getNiveaux()) {
-                Niveau niveau = chargeurNiveau.chargerNiveau(cheminNiveau);
-                if (niveau != null) {
-                    // Configurer les objectifs et la position de fin
-                    configurerNiveau(niveau, numeroNiveau);
-                    gestionnaireNiveaux.ajouterNiveau(niveau);
-                    Gdx.app.log("JeuPlateforme", "✅ Niveau " + numeroNiveau + " chargé : " + cheminNiveau);
-                    numeroNiveau++;
-                }
-            }
-        } else {
-            // Charger un niveau par défaut
-            Gdx.app.log("JeuPlateforme", "Aucun niveau défini dans la configuration, chargement du niveau par défaut");
-            Niveau niveauDefaut = chargeurNiveau.chargerNiveau("assets/cartes/niveau1.tmx");
-            if (niveauDefaut != null) {
-                configurerNiveau(niveauDefaut, 1);
-                gestionnaireNiveaux.ajouterNiveau(niveauDefaut);
-            }
+    private void demarrerEnregistrementEntrees() {
+        if (!configuration.isPasFixeActif()) {
+            Gdx.app.error("JeuPlateforme", "⚠️ Enregistrement des entrées ignoré : le pas fixe est désactivé");
+            return;
         }
+        controleurJeu.getControleurEntrees().demarrerEnregistrement(new EnregistrementEntrees(
+            configuration.getPasFixe(), controleurJeu.getGestionnaireNiveaux().getCheminsNiveaux()));
+        Gdx.app.log("JeuPlateforme", "⏺️  Enregistrement des entrées démarré");
     }
     
     /**
-     * Configure les objectifs et paramètres d'un niveau
-     * @param niveau Le niveau à configurer
-     * @param numero Numéro du niveau
+     * Écrit l'enregistrement des entrées en cours, avec l'état final de la partie
      */
-    private void configurerNiveau(Niveau niveau, int numero) {
-        // Définir la position de fin du niveau - Progression comme dans Mario
-        // Niveau 1: 50% - Tutoriel/Facile
-        // Niveau 2: 70% - Moyen
-        // Niveau 3: 85% - Difficile
-        // Niveau 4: 95% - Boss Final
-        float pourcentage;
-        String difficulte;
-        
-        switch (numero) {
-            case 1:
-                pourcentage = 0.50f;
-                difficulte = "★☆☆☆ FACILE";
-                break;
-            case 2:
-                pourcentage = 0.70f;
-                difficulte = "★★☆☆ MOYEN";
-                break;
-            case 3:
-                pourcentage = 0.85f;
-                difficulte = "★★★☆ DIFFICILE";
-                break;
-            case 4:
-                pourcentage = 0.95f;
-                difficulte = "★★★★ BOSS FINAL";
-                break;
-            default:
-                pourcentage = 0.95f;
-                difficulte = "★★★★ NIVEAU BONUS";
-                break;
+    private void ecrireEnregistrementEntrees() {
+        EnregistrementEntrees enregistrement = controleurJeu.getControleurEntrees().getEnregistrement();
+        if (enregistrement == null) {
+            return;
         }
-        
-        float posFinX = niveau.getLargeur() * pourcentage;
-        float posFinY = 100; // À 100 pixels du sol
-        niveau.definirPositionFin(posFinX, posFinY);
-        
-        Gdx.app.log("JeuPlateforme", "\n╔═════════════════════════════════════════════════╗");
-        Gdx.app.log("JeuPlateforme", "║  🎮 MONDE 1-" + numero + " : " + niveau.getNom());
-        Gdx.app.log("JeuPlateforme", "╠═════════════════════════════════════════════════╣");
-        Gdx.app.log("JeuPlateforme", "║  Difficulté : " + difficulte);
-        Gdx.app.log("JeuPlateforme", "║  Distance : " + (int)posFinX + "px (" + (int)(pourcentage * 100) + "% du niveau)");
-        Gdx.app.log("JeuPlateforme", "║  Objectifs : " + niveau.getObjectifs().size() + " objectif(s)");
-        Gdx.app.log("JeuPlateforme", "║  Pièces : " + niveau.getTotalPiecesInitial());
-        Gdx.app.log("JeuPlateforme", "║  Ennemis : " + niveau.getTotalEnnemisInitial());
-        Gdx.app.log("JeuPlateforme", "╚═════════════════════════════════════════════════╝");
-        Gdx.app.log("JeuPlateforme", "🎯 Mission : Atteindre X=" + (int)posFinX + " puis appuyez sur ENTRÉE\n");
+        enregistrement.setEtatFinal(EnregistrementEntrees.EtatFinal.capturer(controleurJeu));
+        String chemin = Gdx.files.local(DOSSIER_ENREGISTREMENTS + "/entrees-" + System.currentTimeMillis() + ".ent")
+            .file().getAbsolutePath();
+        try {
+            enregistrement.ecrire(chemin);
+            Gdx.app.log("JeuPlateforme", "⏺️  Entrées enregistrées (" + enregistrement.getNombrePas() + " pas) : " + chemin);
+        } catch (IOException e) {
+            Gdx.app.error("JeuPlateforme", "Impossible d'écrire l'enregistrement des entrées : " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Retourne le rendu des transitions et menus de fin, créé à sa première utilisation
+     * (inutile avant la première fin de niveau)
+     * @return Le rendu des transitions
+     */
+    private RenduTransition obtenirRendeurTransition() {
+        if (rendeurTransition == null) {
+            rendeurTransition = new RenduTransition(camera, gestionnairePolices);
+        }
+        return rendeurTransition;
     }
     
     /**
@@ -184,35 +261,66 @@ public class JeuPlateforme extends ApplicationAdapter {
      */
     @Override
     public void render() {
+        // Démarrage par étapes : l'écran de chargement s'affiche dès la première frame
+        if (etapeDemarrage != EtapeDemarrage.TERMINE) {
+            avancerDemarrage();
+            if (etapeDemarrage != EtapeDemarrage.TERMINE) {
+                ecranChargement.dessiner(getProgressionDemarrage());
+                return;
+            }
+        }
+        
         // Calculer le temps écoulé
         float deltaTemps = Gdx.graphics.getDeltaTime();
+        Profileur.debutFrame();
+        gererTouchesProfileur();
+        
+        // Mémoriser les appuis de touches de cette frame
+        controleurJeu.capturerEntrees();
         
         // Mettre à jour le jeu
-        controleurJeu.mettreAJour(deltaTemps);
+        Niveau niveauAvant = controleurJeu.getGestionnaireNiveaux().getNiveauActuel();
+        ControleurJeu.EtatJeu etatAvant = controleurJeu.getEtatActuel();
+        float alpha = 1f;
+        if (configuration.isPasFixeActif()) {
+            // Pas fixe : la physique ne dépend plus de la fréquence d'affichage
+            int nombrePas = bouclePasFixe.calculerNombrePas(deltaTemps);
+            for (int i = 0; i < nombrePas; i++) {
+                controleurJeu.mettreAJour(bouclePasFixe.getPasFixe());
+                if (controleurJeu.getGestionnaireNiveaux().getNiveauActuel() != niveauAvant) {
+                    break; // Le retard accumulé appartient à l'ancien niveau
+                }
+            }
+            alpha = bouclePasFixe.getAlpha();
+        } else {
+            controleurJeu.mettreAJour(deltaTemps);
+        }
         
         // Gérer les clics souris sur les menus de fin
         gererClicsMenu();
         
-        // Faire suivre le joueur par la caméra
+        // Niveau chargé ou transition terminée : ne pas rattraper le temps passé à charger
         Niveau niveauActuel = controleurJeu.getGestionnaireNiveaux().getNiveauActuel();
+        if (niveauActuel != niveauAvant
+            || (etatAvant == ControleurJeu.EtatJeu.TRANSITION_NIVEAU
+                && controleurJeu.getEtatActuel() != ControleurJeu.EtatJeu.TRANSITION_NIVEAU)) {
+            bouclePasFixe.reinitialiser();
+            alpha = 1f;
+        }
+        
+        // Positions de rendu interpolées entre les deux derniers pas
+        if (niveauActuel != null) {
+            niveauActuel.interpolerPositionsRendu(alpha);
+        }
+        
+        // Faire suivre le joueur par la caméra
         if (niveauActuel != null && niveauActuel.getJoueur() != null) {
             com.mypackage.projet.jeux.modele.entites.Joueur joueur = niveauActuel.getJoueur();
-            
-            // Centrer la caméra sur le joueur (horizontalement)
-            float targetX = joueur.getPosition().x + joueur.getLargeur() / 2;
-            
-            // Pour la caméra verticale, garder une position fixe pour voir le niveau
-            float halfWidth = camera.viewportWidth / 2;
-            float halfHeight = camera.viewportHeight / 2;
-            
-            // Centrer horizontalement sur le joueur
-            camera.position.x = Math.max(halfWidth, Math.min(targetX, niveauActuel.getLargeur() - halfWidth));
-            
-            // Caméra fixe verticalement à mi-hauteur de l'écran pour bien voir le niveau
-            camera.position.y = halfHeight;
+            suivreJoueur(camera, niveauActuel);
             
             // DEBUG: Afficher la position toutes les 60 frames (1 fois par seconde à 60 FPS)
-            if (Gdx.graphics.getFrameId() % 60 == 0) {
+            // (texte formaté seulement si le niveau de journalisation l'affiche)
+            if (Gdx.graphics.getFrameId() % 60 == 0 && Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
                 Gdx.app.debug("JeuPlateforme", String.format("Joueur: (%.1f, %.1f) | Vitesse: (%.1f, %.1f) | auSol: %b | État: %s",
                     joueur.getPosition().x, 
                     joueur.getPosition().y,
@@ -247,25 +355,26 @@ public class JeuPlateforme extends ApplicationAdapter {
         }
         
         // Dessiner les transitions et écrans spéciaux
+        Profileur.debut(Profileur.Phase.RENDU_MENUS);
         GestionnaireNiveaux gestionnaire = controleurJeu.getGestionnaireNiveaux();
         switch (controleurJeu.getEtatActuel()) {
             case TRANSITION_NIVEAU:
                 if (gestionnaire.estEnTransition()) {
                     switch (gestionnaire.getEtatTransition()) {
                         case DEBUT_NIVEAU:
-                            rendeurTransition.dessinerDebutNiveau(
+                            obtenirRendeurTransition().dessinerDebutNiveau(
                                 gestionnaire, 
                                 gestionnaire.getProgressionTransition()
                             );
                             break;
                         case FIN_NIVEAU:
-                            rendeurTransition.dessinerFinNiveau(
+                            obtenirRendeurTransition().dessinerFinNiveau(
                                 gestionnaire,
                                 gestionnaire.getProgressionTransition()
                             );
                             break;
                         case TRANSITION_EN_COURS:
-                            rendeurTransition.dessinerTransitionNiveau(
+                            obtenirRendeurTransition().dessinerTransitionNiveau(
                                 gestionnaire,
                                 gestionnaire.getProgressionTransition()
                             );
@@ -277,33 +386,125 @@ public class JeuPlateforme extends ApplicationAdapter {
             case RECAPITULATIF_NIVEAU:
                 // Utiliser le menu de victoire interactif avec boutons (NIVEAU SUIVANT, REJOUER, QUITTER)
                 if (niveauActuel != null) {
-                    rendeurTransition.dessinerRecapitulatifNiveau(gestionnaire);
+                    obtenirRendeurTransition().dessinerRecapitulatifNiveau(gestionnaire);
                 }
                 break;
                 
             case GAME_OVER:
-                rendeurTransition.dessinerGameOver(
+                obtenirRendeurTransition().dessinerGameOver(
                     controleurJeu.getGestionnaireNiveaux(), 
                     controleurJeu.getGestionnaireNiveaux().getNiveauActuelIndex() + 1
                 );
                 break;
                 
             case VICTOIRE:
-                rendeurTransition.dessinerVictoire(gestionnaire);
+                obtenirRendeurTransition().dessinerVictoire(gestionnaire);
                 break;
         }
         
-        // Afficher les FPS dans le titre (pour le debug)
-        Gdx.graphics.setTitle(configuration.getTitre() + " - FPS: " + Gdx.graphics.getFramesPerSecond());
+        Profileur.fin(Profileur.Phase.RENDU_MENUS);
+        
+        // Afficher les FPS dans le titre (pour le debug), seulement quand elles changent
+        if (titreFenetre.mettreAJour(Gdx.graphics.getFramesPerSecond())) {
+            Gdx.graphics.setTitle(titreFenetre.getTexte());
+        }
+        
+        rapporterStatistiquesRendu(deltaTemps);
+        
+        // La surcouche n'est pas comptée dans la frame qu'elle affiche
+        Profileur.finFrame();
+        if (surcoucheProfileur) {
+            rendeurProfileur.dessiner(deltaTemps);
+        }
+    }
+    
+    /**
+     * Place la caméra sur la position de rendu du joueur, sans sortir des bords du niveau.
+     * N'utilise pas OpenGL : LanceurSansRendu l'appelle aussi pour mesurer les allocations du rendu.
+     * @param camera La caméra
+     * @param niveau Le niveau (avec un joueur)
+     */
+    static void suivreJoueur(OrthographicCamera camera, Niveau niveau) {
+        com.mypackage.projet.jeux.modele.entites.Joueur joueur = niveau.getJoueur();
+        
+        // Centrer la caméra sur le joueur (horizontalement)
+        float targetX = joueur.getPositionRendu().x + joueur.getLargeur() / 2;
+        
+        // Pour la caméra verticale, garder une position fixe pour voir le niveau
+        float halfWidth = camera.viewportWidth / 2;
+        float halfHeight = camera.viewportHeight / 2;
+        
+        // Centrer horizontalement sur le joueur
+        camera.position.x = Math.max(halfWidth, Math.min(targetX, niveau.getLargeur() - halfWidth));
+        
+        // Caméra fixe verticalement à mi-hauteur de l'écran pour bien voir le niveau
+        camera.position.y = halfHeight;
+    }
+    
+    /**
+     * F3 affiche ou masque la surcouche du profileur (et active les mesures),
+     * F4 exporte les dernières mesures au format Chrome Trace dans le dossier traces/
+     */
+    private void gererTouchesProfileur() {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            surcoucheProfileur = !surcoucheProfileur;
+            if (surcoucheProfileur) {
+                if (rendeurProfileur == null) {
+                    rendeurProfileur = new RenduProfileur(configuration.getLargeurFenetre(), configuration.getHauteurFenetre(),
+                        gestionnairePolices);
+                }
+                Profileur.setActif(true);
+            } else if (!configuration.isProfileur()) {
+                Profileur.setActif(false);
+            }
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            if (!Profileur.estActif() || Profileur.getNombreEvenements() == 0) {
+                Gdx.app.log("JeuPlateforme", "Profileur inactif : F3 pour commencer les mesures");
+                return;
+            }
+            String chemin = Gdx.files.local(DOSSIER_TRACES + "/trace-" + System.currentTimeMillis() + ".json")
+                .file().getAbsolutePath();
+            try {
+                Profileur.exporterTrace(chemin);
+                Gdx.app.log("JeuPlateforme", "📈 Trace exportée (" + Profileur.getNombreEvenements()
+                    + " mesures) : " + chemin);
+            } catch (IOException e) {
+                Gdx.app.error("JeuPlateforme", "Impossible d'exporter la trace : " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Journalise une fois par seconde les appels de dessin et les liaisons de texture de la frame
+     * @param deltaTemps Durée de la frame (en secondes)
+     */
+    private void rapporterStatistiquesRendu(float deltaTemps) {
+        if (profileurGL == null) {
+            return;
+        }
+        tempsDepuisStatistiques += deltaTemps;
+        if (tempsDepuisStatistiques >= 1f) {
+            tempsDepuisStatistiques = 0f;
+            Gdx.app.log("JeuPlateforme", "📊 Frame : " + profileurGL.getDrawCalls() + " appels de dessin, "
+                + profileurGL.getTextureBindings() + " liaisons de texture, "
+                + rendeurNiveau.getBlocsCarteDessines() + " bloc(s) de carte, "
+                + rendeurNiveau.getAppelsRenduEntites() + " envoi(s) pour les entités");
+        }
+        profileurGL.reset(); // Compteurs remis à zéro à chaque frame
     }
     
     /**
      * Méthode appelée lors du redimensionnement de la fenêtre
-     * Le FitViewport maintient automatiquement le ratio d'aspect
+     * Le FitViewport maintient automatiquement le ratio d'aspect ;
+     * le HUD refait la mise en page de ses textes pour la nouvelle taille
      */
     @Override
     public void resize(int largeur, int hauteur) {
         viewport.update(largeur, hauteur, true);
+        if (rendeurNiveau != null) {
+            rendeurNiveau.redimensionner(largeur, hauteur);
+        }
         Gdx.app.log("JeuPlateforme", "🖥️  Fenêtre redimensionnée : " + largeur + "x" + hauteur);
     }
     
@@ -344,12 +545,12 @@ public class JeuPlateforme extends ApplicationAdapter {
         com.mypackage.projet.jeux.vue.MenuFinNiveau menu = null;
         
         if (etat == ControleurJeu.EtatJeu.GAME_OVER) {
-            menu = rendeurTransition.getMenuGameOver();
+            menu = obtenirRendeurTransition().getMenuGameOver();
         } else if (etat == ControleurJeu.EtatJeu.VICTOIRE) {
-            menu = rendeurTransition.getMenuVictoire(false);
+            menu = obtenirRendeurTransition().getMenuVictoire(false);
         } else if (etat == ControleurJeu.EtatJeu.RECAPITULATIF_NIVEAU) {
             boolean aDesNiveauxRestants = controleurJeu.getGestionnaireNiveaux().aDesNiveauxRestants();
-            menu = rendeurTransition.getMenuVictoire(aDesNiveauxRestants);
+            menu = obtenirRendeurTransition().getMenuVictoire(aDesNiveauxRestants);
         }
         
         if (menu != null) {
@@ -369,13 +570,35 @@ public class JeuPlateforme extends ApplicationAdapter {
     public void dispose() {
         Gdx.app.log("JeuPlateforme", "=== Fermeture du jeu ===");
         
-        // Libérer les ressources
+        if (profileurGL != null) {
+            profileurGL.disable();
+        }
+        
+        // Libérer les ressources (fermeture possible pendant le chargement)
+        if (ecranChargement != null) {
+            ecranChargement.libererRessources();
+        }
         if (rendeurNiveau != null) {
             rendeurNiveau.libererRessources();
         }
         if (rendeurTransition != null) {
             rendeurTransition.libererRessources();
         }
+        if (rendeurProfileur != null) {
+            rendeurProfileur.libererRessources();
+        }
+        if (gestionnairePolices != null) {
+            gestionnairePolices.libererRessources();
+        }
+        if (controleurJeu != null) {
+            // Entrées de la partie (avant de libérer les niveaux, dont l'état final est relevé)
+            ecrireEnregistrementEntrees();
+            // Dernière sauvegarde demandée écrite avant de quitter
+            controleurJeu.getServiceSauvegarde().fermer();
+            // Cartes des niveaux (et leurs groupes de ressources) et thread de préchargement
+            controleurJeu.getGestionnaireNiveaux().libererRessources();
+        }
+        // En dernier : les cartes et les rendus lui ont rendu leurs ressources
         if (gestionnaireRessources != null) {
             gestionnaireRessources.libererRessources();
         }
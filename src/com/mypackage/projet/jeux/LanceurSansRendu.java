@@ -0,0 +1,542 @@
+package com.mypackage.projet.jeux;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.mypackage.projet.jeux.controleur.ControleurEntrees;
+import com.mypackage.projet.jeux.controleur.ControleurJeu;
+import com.mypackage.projet.jeux.controleur.EnregistrementEntrees;
+import com.mypackage.projet.jeux.controleur.SourceEntreesScriptee;
+import com.mypackage.projet.jeux.modele.entites.EnnemiTerrestre;
+import com.mypackage.projet.jeux.modele.entites.Joueur;
+import com.mypackage.projet.jeux.modele.gestionnaires.GestionnaireNiveaux;
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import com.mypackage.projet.jeux.utilitaires.ChargeurNiveau;
+import com.mypackage.projet.jeux.utilitaires.ConfigurationJeu;
+import com.mypackage.projet.jeux.utilitaires.Profileur;
+import com.mypackage.projet.jeux.utilitaires.TraitementParallele;
+import com.mypackage.projet.jeux.vue.TitreFenetre;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lanceur sans rendu : exécute la boucle logique complète du jeu (ControleurJeu)
+ * avec des entrées scriptées, sans fenêtre ni OpenGL, aussi vite que possible.
+ * Affiche le nombre de frames simulées par seconde pour chaque niveau et chaque graine.
+ *
+ * <p>Utilisation :</p>
+ * <pre>
+ * java -cp bin:lib/* com.mypackage.projet.jeux.LanceurSansRendu
+ *      [--niveau assets/cartes/niveau1.tmx]... [--graines 10] [--frames 3600] [--pas 0.016666668]
+ *      [--composants] [--activation GELE|TICK_LENT] [--marge 128]
+ *      [--parallele 1024] [--foule 2000] [--tmx] [--journal] [--profil] [--trace traces/sans-rendu.json]
+ *      [--allocations [600]] [--enregistrer enregistrements] [--rejouer partie.ent]...
+ * </pre>
+ * <p>--enregistrer écrit les entrées de chaque partie (un masque par pas, voir EnregistrementEntrees)
+ * dans le dossier donné, sous le nom niveau-graine.ent. --rejouer simule une partie enregistrée
+ * (ici ou par le jeu, option enregistrementEntrees) avec son pas et ses niveaux, à la place des graines,
+ * et échoue (code de sortie 1) si l'état final diffère de celui de l'enregistrement.</p>
+ * <p>--allocations compte les octets alloués par le thread de jeu à chaque frame, simulation et
+ * partie de render() sans OpenGL comprises, après les
+ * frames de chauffe données (chargement paresseux, compilation JIT) : la commande échoue
+ * (code de sortie 1) si une frame du régime établi alloue. Le compilateur C2 peut recréer, en se
+ * désoptimisant, des objets que l'analyse d'échappement avait supprimés : pour un compte exact,
+ * lancer la JVM avec -XX:TieredStopAtLevel=1 (voir scripts/verifier_allocations.sh).</p>
+ * <p>--foule ajoute au niveau chargé le nombre d'ennemis donné, répartis sur toute sa largeur :
+ * au-delà du seuil --parallele, leur mise à jour passe par TraitementParallele.</p>
+ * <p>--profil affiche la durée de chaque phase (p50, p99, max) sur les dernières frames simulées ;
+ * --trace écrit en plus ces mesures au format Chrome Trace.</p>
+ */
+public class LanceurSansRendu {
+
+    private static final String NIVEAU_DEFAUT = "assets/cartes/niveau1.tmx";
+    private static final int FRAMES_CHAUFFE_DEFAUT = 600;
+
+    /** Ennemis ajoutés à chaque niveau chargé (option --foule) */
+    private static int ennemisFoule = 0;
+
+    /**
+     * Résultat d'une partie simulée
+     */
+    public static class ResultatPartie {
+        public String cheminNiveau;
+        public long graine;
+        public int frames;
+        public long dureeChargementNanos;
+        public long dureeSimulationNanos;
+        public ControleurJeu.EtatJeu etatFinal;
+        public int score;
+        public int vies;
+        public float positionX;
+        public int framesAvecAllocation; // Frames du régime établi qui ont alloué (-1 : non mesuré)
+        public long octetsAlloues;       // Total alloué par ces frames
+        public long octetsMaxFrame;      // Plus grosse allocation d'une frame
+        public EnregistrementEntrees.EtatFinal etatDetaille; // Pour comparer un rejeu à son enregistrement
+
+        /**
+         * Calcule le nombre de frames simulées par seconde
+         * @return Les frames par seconde (temps de chargement exclu)
+         */
+        public double getFramesParSeconde() {
+            return dureeSimulationNanos > 0 ? frames * 1e9 / dureeSimulationNanos : 0;
+        }
+    }
+
+    /**
+     * Point d'entrée du mode sans rendu
+     * @param args Arguments de la ligne de commande
+     */
+    public static void main(String[] args) {
+        List<String> niveaux = new ArrayList<>();
+        int graines = 10;
+        int frames = 3600;
+        float pas = 1f / 60f;
+        int niveauJournal = Application.LOG_ERROR;
+        boolean profil = false;
+        int framesChauffe = -1; // Mesure des allocations désactivée
+        String fichierTrace = null;
+        String dossierEnregistrements = null;
+        List<String> rejeux = new ArrayList<>();
+        ConfigurationJeu configuration = new ConfigurationJeu();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--niveau":
+                    niveaux.add(args[++i]);
+                    break;
+                case "--graines":
+                    graines = Integer.parseInt(args[++i]);
+                    break;
+                case "--frames":
+                    frames = Integer.parseInt(args[++i]);
+                    break;
+                case "--pas":
+                    pas = Float.parseFloat(args[++i]);
+                    break;
+                case "--composants":
+                    configuration.setComposantsEntites(true);
+                    break;
+                case "--activation":
+                    configuration.setActivationRegions(true);
+                    configuration.setModeSommeil(args[++i]);
+                    break;
+                case "--marge":
+                    configuration.setMargeActivation(Float.parseFloat(args[++i]));
+                    break;
+                case "--parallele":
+                    configuration.setSeuilParallele(Integer.parseInt(args[++i]));
+                    break;
+                case "--foule":
+                    ennemisFoule = Integer.parseInt(args[++i]);
+                    break;
+                case "--tmx":
+                    configuration.setNiveauxCompiles(false);
+                    break;
+                case "--journal":
+                    niveauJournal = Application.LOG_INFO;
+                    break;
+                case "--allocations":
+                    framesChauffe = FRAMES_CHAUFFE_DEFAUT;
+                    if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                        framesChauffe = Integer.parseInt(args[++i]);
+                    }
+                    break;
+                case "--profil":
+                    profil = true;
+                    break;
+                case "--trace":
+                    profil = true;
+                    fichierTrace = args[++i];
+                    break;
+                case "--enregistrer":
+                    dossierEnregistrements = args[++i];
+                    break;
+                case "--rejouer":
+                    rejeux.add(args[++i]);
+                    break;
+                default:
+                    System.err.println("Argument inconnu : " + args[i]);
+                    return;
+            }
+        }
+        if (niveaux.isEmpty()) {
+            niveaux.add(NIVEAU_DEFAUT);
+        }
+
+        // Seule la journalisation de Gdx.app est nécessaire à la logique du jeu
+        Gdx.app = new ApplicationSansRendu(niveauJournal);
+        Profileur.setActif(profil);
+
+        long framesTotales = 0;
+        long dureeTotaleNanos = 0;
+        int framesAvecAllocation = 0;
+        int rejeuxDifferents = 0;
+
+        System.out.println("niveau;graine;frames;chargement_ms;simulation_ms;fps_simulees;etat;score;vies;x");
+        if (!rejeux.isEmpty()) {
+            // Parties enregistrées, à la place des graines
+            for (String fichier : rejeux) {
+                EnregistrementEntrees enregistrement;
+                try {
+                    enregistrement = EnregistrementEntrees.charger(fichier);
+                } catch (IOException e) {
+                    System.err.println("Impossible de lire l'enregistrement " + fichier + " : " + e.getMessage());
+                    rejeuxDifferents++;
+                    continue;
+                }
+                ResultatPartie resultat = rejouerPartie(enregistrement, configuration, framesChauffe);
+                if (resultat == null) {
+                    System.err.println("Impossible de charger les niveaux de " + fichier);
+                    rejeuxDifferents++;
+                    continue;
+                }
+                afficherResultat(resultat);
+                framesTotales += resultat.frames;
+                dureeTotaleNanos += resultat.dureeSimulationNanos;
+                framesAvecAllocation += signalerAllocations(resultat);
+
+                EnregistrementEntrees.EtatFinal attendu = enregistrement.getEtatFinal();
+                if (attendu == null) {
+                    System.out.println("REJEU " + fichier + " : " + resultat.etatDetaille + " (aucun état final enregistré)");
+                } else if (attendu.estIdentique(resultat.etatDetaille)) {
+                    System.out.println("REJEU " + fichier + " : identique (" + resultat.etatDetaille + ")");
+                } else {
+                    rejeuxDifferents++;
+                    System.out.println("REJEU " + fichier + " : DIFFÉRENT");
+                    System.out.println("  attendu : " + attendu);
+                    System.out.println("  obtenu  : " + resultat.etatDetaille);
+                }
+            }
+        }
+        for (String chemin : rejeux.isEmpty() ? niveaux : Collections.<String>emptyList()) {
+            for (long graine = 1; graine <= graines; graine++) {
+                EnregistrementEntrees enregistrement = dossierEnregistrements != null
+                    ? new EnregistrementEntrees(pas, Collections.singletonList(chemin)) : null;
+                ResultatPartie resultat = executerPartie(chemin, graine, frames, pas, configuration, framesChauffe,
+                    enregistrement);
+                if (resultat == null) {
+                    System.err.println("Impossible de charger le niveau : " + chemin);
+                    break;
+                }
+                afficherResultat(resultat);
+                framesTotales += resultat.frames;
+                dureeTotaleNanos += resultat.dureeSimulationNanos;
+                framesAvecAllocation += signalerAllocations(resultat);
+                if (enregistrement != null) {
+                    ecrireEnregistrement(enregistrement, dossierEnregistrements, chemin, graine);
+                }
+            }
+        }
+
+        if (dureeTotaleNanos > 0) {
+            System.out.println(String.format("TOTAL : %d frames simulées en %.1f ms, soit %.0f frames/s",
+                framesTotales, dureeTotaleNanos / 1e6, framesTotales * 1e9 / dureeTotaleNanos));
+        }
+        
+        if (framesChauffe >= 0) {
+            System.out.println(String.format("ALLOCATIONS : %d frame(s) du régime établi ont alloué (après %d frames de chauffe)",
+                framesAvecAllocation, framesChauffe));
+        }
+        
+        if (profil) {
+            try {
+                Profileur.ecrireResume(System.out);
+                if (fichierTrace != null) {
+                    Profileur.exporterTrace(fichierTrace);
+                    System.out.println("Trace : " + fichierTrace + " (" + Profileur.getNombreEvenements() + " mesures)");
+                }
+            } catch (IOException e) {
+                System.err.println("Impossible d'écrire le profil : " + e.getMessage());
+            }
+        }
+        
+        if (framesAvecAllocation > 0 || rejeuxDifferents > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Affiche une ligne de résultat (format CSV de l'en-tête)
+     * @param resultat Le résultat de la partie
+     */
+    private static void afficherResultat(ResultatPartie resultat) {
+        System.out.println(String.format("%s;%d;%d;%.2f;%.2f;%.0f;%s;%d;%d;%.1f",
+            resultat.cheminNiveau,
+            resultat.graine,
+            resultat.frames,
+            resultat.dureeChargementNanos / 1e6,
+            resultat.dureeSimulationNanos / 1e6,
+            resultat.getFramesParSeconde(),
+            resultat.etatFinal,
+            resultat.score,
+            resultat.vies,
+            resultat.positionX
+        ));
+    }
+
+    /**
+     * Signale sur la sortie d'erreur les frames d'une partie qui ont alloué
+     * @param resultat Le résultat de la partie
+     * @return Nombre de frames du régime établi qui ont alloué
+     */
+    private static int signalerAllocations(ResultatPartie resultat) {
+        if (resultat.framesAvecAllocation <= 0) {
+            return 0;
+        }
+        System.err.println(String.format("⚠️ %s graine %d : %d frame(s) avec allocation, %d octets (max %d par frame)",
+            resultat.cheminNiveau, resultat.graine, resultat.framesAvecAllocation, resultat.octetsAlloues,
+            resultat.octetsMaxFrame));
+        return resultat.framesAvecAllocation;
+    }
+
+    /**
+     * Écrit l'enregistrement d'une partie dans dossier/niveau-graine.ent
+     * @param enregistrement L'enregistrement (état final compris)
+     * @param dossier Dossier de destination
+     * @param cheminNiveau Chemin du niveau joué
+     * @param graine Graine des entrées scriptées
+     */
+    private static void ecrireEnregistrement(EnregistrementEntrees enregistrement, String dossier,
+                                             String cheminNiveau, long graine) {
+        String nom = Paths.get(cheminNiveau).getFileName().toString();
+        int point = nom.lastIndexOf('.');
+        if (point > 0) {
+            nom = nom.substring(0, point);
+        }
+        String fichier = Paths.get(dossier, nom + "-" + graine + ".ent").toString();
+        try {
+            enregistrement.ecrire(fichier);
+        } catch (IOException e) {
+            System.err.println("Impossible d'écrire l'enregistrement " + fichier + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Charge un niveau puis simule une partie avec des entrées scriptées
+     * @param cheminNiveau Chemin du fichier .tmx
+     * @param graine Graine des entrées scriptées
+     * @param frames Nombre de frames à simuler
+     * @param pas Durée simulée d'une frame (en secondes)
+     * @param configuration Options de stockage et d'activation des entités
+     * @return Le résultat de la partie, ou null si le niveau n'a pas pu être chargé
+     */
+    public static ResultatPartie executerPartie(String cheminNiveau, long graine, int frames, float pas,
+                                                ConfigurationJeu configuration) {
+        return executerPartie(cheminNiveau, graine, frames, pas, configuration, -1);
+    }
+
+    /**
+     * Charge un niveau puis simule une partie, en comptant éventuellement les allocations de chaque frame
+     * @param cheminNiveau Chemin du fichier .tmx
+     * @param graine Graine des entrées scriptées
+     * @param frames Nombre de frames à simuler
+     * @param pas Durée simulée d'une frame (en secondes)
+     * @param configuration Options de stockage et d'activation des entités
+     * @param framesChauffe Frames ignorées avant de compter les allocations (négatif : pas de mesure)
+     * @return Le résultat de la partie, ou null si le niveau n'a pas pu être chargé
+     */
+    public static ResultatPartie executerPartie(String cheminNiveau, long graine, int frames, float pas,
+                                                ConfigurationJeu configuration, int framesChauffe) {
+        return executerPartie(cheminNiveau, graine, frames, pas, configuration, framesChauffe, null);
+    }
+
+    /**
+     * Charge un niveau puis simule une partie, en enregistrant éventuellement ses entrées
+     * @param cheminNiveau Chemin du fichier .tmx
+     * @param graine Graine des entrées scriptées
+     * @param frames Nombre de frames à simuler
+     * @param pas Durée simulée d'une frame (en secondes)
+     * @param configuration Options de stockage et d'activation des entités
+     * @param framesChauffe Frames ignorées avant de compter les allocations (négatif : pas de mesure)
+     * @param enregistrement Enregistrement à compléter avec les entrées et l'état final (null : aucun)
+     * @return Le résultat de la partie, ou null si le niveau n'a pas pu être chargé
+     */
+    public static ResultatPartie executerPartie(String cheminNiveau, long graine, int frames, float pas,
+                                                ConfigurationJeu configuration, int framesChauffe,
+                                                EnregistrementEntrees enregistrement) {
+        ControleurEntrees entrees = new ControleurEntrees(new SourceEntreesScriptee(graine));
+        entrees.demarrerEnregistrement(enregistrement);
+        ResultatPartie resultat = simuler(Collections.singletonList(cheminNiveau), graine, entrees, frames, pas,
+            configuration, framesChauffe);
+        if (resultat != null && enregistrement != null) {
+            enregistrement.setEtatFinal(resultat.etatDetaille);
+        }
+        return resultat;
+    }
+
+    /**
+     * Rejoue une partie enregistrée : mêmes niveaux, même pas, un pas par frame
+     * @param enregistrement L'enregistrement à rejouer
+     * @param configuration Options de stockage et d'activation des entités
+     * @param framesChauffe Frames ignorées avant de compter les allocations (négatif : pas de mesure)
+     * @return Le résultat de la partie (graine 0), ou null si le premier niveau n'a pas pu être chargé
+     */
+    public static ResultatPartie rejouerPartie(EnregistrementEntrees enregistrement, ConfigurationJeu configuration,
+                                               int framesChauffe) {
+        ControleurEntrees entrees = new ControleurEntrees(); // Source jamais lue pendant le rejeu
+        entrees.rejouer(enregistrement);
+        return simuler(enregistrement.getNiveaux(), 0, entrees, enregistrement.getNombrePas(), enregistrement.getPas(),
+            configuration, framesChauffe);
+    }
+
+    /**
+     * Charge le premier niveau puis simule une partie avec les entrées données
+     * @param cheminsNiveaux Chemins des niveaux, dans l'ordre de jeu
+     * @param graine Graine affichée dans le résultat
+     * @param entrees Le contrôleur d'entrées (scriptées ou rejouées)
+     * @param frames Nombre de frames à simuler (un pas par frame)
+     * @param pas Durée simulée d'une frame (en secondes)
+     * @param configuration Options de stockage et d'activation des entités
+     * @param framesChauffe Frames ignorées avant de compter les allocations (négatif : pas de mesure)
+     * @return Le résultat de la partie, ou null si le niveau n'a pas pu être chargé
+     */
+    private static ResultatPartie simuler(List<String> cheminsNiveaux, long graine, ControleurEntrees entrees,
+                                          int frames, float pas, ConfigurationJeu configuration, int framesChauffe) {
+        ResultatPartie resultat = new ResultatPartie();
+        resultat.cheminNiveau = cheminsNiveaux.isEmpty() ? null : cheminsNiveaux.get(0);
+        resultat.graine = graine;
+
+        // ========== CHARGEMENT ==========
+        long debut = System.nanoTime();
+        GestionnaireNiveaux gestionnaireNiveaux = new GestionnaireNiveaux(new ChargeurNiveau(true));
+        configuration.configurerGestionnaire(gestionnaireNiveaux);
+        gestionnaireNiveaux.definirCheminsNiveaux(cheminsNiveaux);
+        ControleurJeu controleurJeu = new ControleurJeu(gestionnaireNiveaux, entrees);
+        controleurJeu.initialiser();
+
+        Niveau niveau = gestionnaireNiveaux.getNiveauActuel();
+        if (niveau == null) {
+            return null;
+        }
+        if (niveau.getJoueur() == null) {
+            niveau.setJoueur(new Joueur(100, 64));
+        }
+        if (ennemisFoule > 0) {
+            ajouterFoule(niveau, ennemisFoule);
+        }
+        resultat.dureeChargementNanos = System.nanoTime() - debut;
+
+        // ========== SIMULATION ==========
+        CompteurAllocations compteur = framesChauffe >= 0 ? new CompteurAllocations() : null;
+        resultat.framesAvecAllocation = compteur != null ? 0 : -1;
+        // La mesure couvre aussi la partie de render() qui n'utilise pas OpenGL
+        OrthographicCamera camera = null;
+        TitreFenetre titre = null;
+        if (compteur != null) {
+            camera = new OrthographicCamera();
+            camera.viewportWidth = configuration.getLargeurFenetre();
+            camera.viewportHeight = configuration.getHauteurFenetre();
+            titre = new TitreFenetre(configuration.getTitre());
+        }
+        debut = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            long travailleursAvant = compteur != null ? compteur.lireTravailleurs() : 0;
+            long octetsAvant = compteur != null ? compteur.lire() : 0;
+            Profileur.debutFrame();
+            controleurJeu.capturerEntrees();
+            controleurJeu.mettreAJour(pas);
+            if (camera != null) {
+                simulerRendu(gestionnaireNiveaux.getNiveauActuel(), camera, titre, i);
+            }
+            Profileur.finFrame();
+            if (compteur != null && i >= framesChauffe) {
+                long octets = compteur.lire() - octetsAvant - compteur.getCoutLecture();
+                octets += compteur.lireTravailleurs() - travailleursAvant;
+                if (octets > 0) {
+                    resultat.framesAvecAllocation++;
+                    resultat.octetsAlloues += octets;
+                    resultat.octetsMaxFrame = Math.max(resultat.octetsMaxFrame, octets);
+                }
+            }
+        }
+        resultat.dureeSimulationNanos = System.nanoTime() - debut;
+
+        Joueur joueur = gestionnaireNiveaux.getNiveauActuel().getJoueur();
+        resultat.frames = frames;
+        resultat.etatFinal = controleurJeu.getEtatActuel();
+        resultat.score = joueur.getScore();
+        resultat.vies = joueur.getVies();
+        resultat.positionX = joueur.getPosition().x;
+        resultat.etatDetaille = EnregistrementEntrees.EtatFinal.capturer(controleurJeu);
+        return resultat;
+    }
+
+    /**
+     * Étapes de render() sans OpenGL : positions de rendu interpolées, caméra sur le joueur
+     * et titre de la fenêtre, avec des FPS qui changent une fois par seconde comme en jeu.
+     * Le dessin lui-même (SpriteBatch) demande un contexte OpenGL et n'est pas mesuré ici.
+     * @param niveau Le niveau courant
+     * @param camera La caméra (jamais mise à jour : ses matrices passent par du code natif)
+     * @param titre Le titre de la fenêtre
+     * @param frame Numéro de la frame
+     */
+    private static void simulerRendu(Niveau niveau, OrthographicCamera camera, TitreFenetre titre, int frame) {
+        niveau.interpolerPositionsRendu(0.5f);
+        if (niveau.getJoueur() != null) {
+            JeuPlateforme.suivreJoueur(camera, niveau);
+        }
+        titre.mettreAJour(60 - (frame / 60) % 2);
+    }
+
+    /**
+     * Ajoute des ennemis terrestres répartis régulièrement entre le départ et la fin du niveau ;
+     * ils tombent au sol dès les premiers pas
+     * @param niveau Le niveau
+     * @param nombre Nombre d'ennemis à ajouter
+     */
+    private static void ajouterFoule(Niveau niveau, int nombre) {
+        float debut = 400f;
+        float largeur = Math.max(1f, niveau.getLargeur() - 2 * debut);
+        for (int i = 0; i < nombre; i++) {
+            niveau.ajouterEnnemi(new EnnemiTerrestre(debut + largeur * i / nombre, 200f));
+        }
+    }
+
+    /**
+     * Octets alloués par le thread courant et par les threads de TraitementParallele (ThreadMXBean de HotSpot).
+     * Selon la version de Java, une lecture alloue elle-même quelques octets sur le thread courant :
+     * ce coût est mesuré une fois et retiré de chaque mesure. Les threads de travail sont lus
+     * avant le thread courant en début de frame, et après lui en fin de frame, pour que leur
+     * lecture ne compte pas dans celle du thread courant.
+     */
+    private static class CompteurAllocations {
+        private final com.sun.management.ThreadMXBean threads;
+        private final long idThread;
+        private final long coutLecture;
+
+        CompteurAllocations() {
+            threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            threads.setThreadAllocatedMemoryEnabled(true);
+            idThread = Thread.currentThread().getId();
+            long cout = Long.MAX_VALUE;
+            for (int i = 0; i < 16; i++) {
+                long avant = lire();
+                cout = Math.min(cout, lire() - avant);
+            }
+            coutLecture = cout;
+        }
+
+        long lire() {
+            return threads.getThreadAllocatedBytes(idThread);
+        }
+
+        long lireTravailleurs() {
+            long octets = 0;
+            int nombre = TraitementParallele.getNombreTravailleursDemarres();
+            for (int i = 0; i < nombre; i++) {
+                octets += Math.max(0, threads.getThreadAllocatedBytes(TraitementParallele.getTravailleur(i).getId()));
+            }
+            return octets;
+        }
+
+        long getCoutLecture() {
+            return coutLecture;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mypackage.projet.jeux.controleur;
+
+/**
+ * Accumulateur de temps pour une simulation à pas fixe.
+ * Le temps réel de chaque frame est accumulé puis découpé en pas de durée constante,
+ * ce qui rend la physique indépendante de la fréquence d'affichage.
+ * Le reste de l'accumulateur sert de facteur d'interpolation pour le rendu.
+ */
+public class BouclePasFixe {
+
+    private final float pasFixe;
+    private final int sousPasMax;
+    private float accumulateur;
+    private float alpha;
+    private int pasAbandonnes;
+    private boolean ignorerFrameSuivante;
+
+    /**
+     * Constructeur
+     * @param pasFixe Durée d'un pas de simulation (en secondes)
+     * @param sousPasMax Nombre maximal de pas simulés par frame
+     */
+    public BouclePasFixe(float pasFixe, int sousPasMax) {
+        this.pasFixe = pasFixe;
+        this.sousPasMax = Math.max(1, sousPasMax);
+        this.accumulateur = 0;
+        this.alpha = 1;
+        this.pasAbandonnes = 0;
+    }
+
+    /**
+     * Ajoute le temps de la frame et calcule le nombre de pas à simuler.
+     * Au-delà de sousPasMax, le retard est abandonné (la simulation ralentit
+     * au lieu de partir en spirale sur une machine lente).
+     * @param deltaTemps Temps réel écoulé depuis la dernière frame
+     * @return Le nombre de pas fixes à exécuter cette frame
+     */
+    public int calculerNombrePas(float deltaTemps) {
+        if (ignorerFrameSuivante) {
+            // Cette frame contient encore le temps du chargement : rien à rattraper
+            ignorerFrameSuivante = false;
+            return 0;
+        }
+        accumulateur += deltaTemps;
+
+        int nombrePas = (int) (accumulateur / pasFixe);
+        accumulateur -= nombrePas * pasFixe;
+        if (nombrePas > sousPasMax) {
+            pasAbandonnes += nombrePas - sousPasMax;
+            nombrePas = sousPasMax;
+        }
+
+        alpha = accumulateur / pasFixe;
+        return nombrePas;
+    }
+
+    /**
+     * Vide l'accumulateur (après un chargement ou une pause longue).
+     * Le temps de la frame suivante, qui contient le chargement, est aussi ignoré.
+     */
+    public void reinitialiser() {
+        accumulateur = 0;
+        alpha = 1;
+        ignorerFrameSuivante = true;
+    }
+
+    // Getters
+    public float getPasFixe() {
+        return pasFixe;
+    }
+
+    public int getSousPasMax() {
+        return sousPasMax;
+    }
+
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public int getPasAbandonnes() {
+        return pasAbandonnes;
+    }
+}
@@ -1,19 +1,174 @@
 package com.mypackage.projet.jeux.controleur;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.mypackage.projet.jeux.modele.entites.Joueur;
 import com.mypackage.projet.jeux.modele.niveau.Niveau;
 
 /**
  * Classe gérant les entrées clavier pour contrôler le joueur
+ *
+ * <p>Au début de chaque pas de simulation, les entrées sont figées dans un masque de bits
+ * (debutPas) : c'est tout ce que la logique du jeu lit pendant le pas. Ce masque peut être
+ * enregistré, et un enregistrement peut remplacer la source pour rejouer une partie à l'identique.</p>
  */
 public class ControleurEntrees {
     
+    /** Touches dont l'appui (front montant) est mémorisé jusqu'au prochain pas de simulation */
+    private static final int[] TOUCHES_APPUI = {
+        Input.Keys.SPACE, Input.Keys.UP, Input.Keys.Z,
+        Input.Keys.ESCAPE, Input.Keys.ENTER, Input.Keys.R, Input.Keys.M
+    };
+    
+    // ========== BITS DU MASQUE D'UN PAS ==========
+    public static final int GAUCHE = 1;             // Gauche maintenue (← ou Q)
+    public static final int DROITE = 1 << 1;        // Droite maintenue (→ ou D)
+    public static final int SAUT_MAINTENU = 1 << 2; // Touche de saut maintenue (ESPACE, ↑ ou Z)
+    private static final int PREMIER_BIT_APPUI = 3; // Bit 3 + i : appui de TOUCHES_APPUI[i]
+    /** Appui sur une touche de saut (ESPACE, ↑ ou Z) */
+    public static final int SAUT_APPUYE = 0b111 << PREMIER_BIT_APPUI;
+    
+    private final SourceEntrees source;
+    private final boolean[] appuisEnAttente;
+    private int masquePas;                         // Entrées du pas en cours
+    private EnregistrementEntrees enregistrement;  // Pas enregistrés (null : pas d'enregistrement)
+    private EnregistrementEntrees rejeu;           // Pas rejoués à la place de la source (null : source)
+    private int pasRejoues;
+    
     /**
-     * Constructeur
+     * Constructeur (entrées lues au clavier)
      */
     public ControleurEntrees() {
+        this(new SourceEntreesClavier());
+    }
+    
+    /**
+     * Constructeur
+     * @param source La source des entrées (clavier ou scriptée)
+     */
+    public ControleurEntrees(SourceEntrees source) {
+        this.source = source;
+        this.appuisEnAttente = new boolean[TOUCHES_APPUI.length];
+    }
+    
+    /**
+     * Mémorise les touches venant d'être enfoncées pendant cette frame.
+     * À appeler une fois par frame : avec le pas fixe, une frame peut exécuter
+     * zéro ou plusieurs pas, l'appui est donc conservé jusqu'au pas qui le consomme.
+     */
+    public void capturerAppuis() {
+        if (rejeu != null) {
+            return; // Les appuis viennent de l'enregistrement
+        }
+        source.debutFrame();
+        for (int i = 0; i < TOUCHES_APPUI.length; i++) {
+            if (source.vientDEtreEnfoncee(TOUCHES_APPUI[i])) {
+                appuisEnAttente[i] = true;
+            }
+        }
+    }
+    
+    /**
+     * Fige les entrées du pas de simulation qui commence (à appeler au début de chaque pas) :
+     * touches maintenues et appuis mémorisés depuis le pas précédent, ou masque suivant
+     * de l'enregistrement rejoué. Le masque est ajouté à l'enregistrement en cours, s'il y en a un.
+     */
+    public void debutPas() {
+        if (rejeu != null) {
+            masquePas = rejeu.getMasque(pasRejoues++);
+            return;
+        }
+        
+        int masque = 0;
+        if (source.estEnfoncee(Input.Keys.LEFT) || source.estEnfoncee(Input.Keys.Q)) {
+            masque |= GAUCHE;
+        }
+        if (source.estEnfoncee(Input.Keys.RIGHT) || source.estEnfoncee(Input.Keys.D)) {
+            masque |= DROITE;
+        }
+        if (source.estEnfoncee(Input.Keys.SPACE) || 
+            source.estEnfoncee(Input.Keys.UP) ||
+            source.estEnfoncee(Input.Keys.Z)) {
+            masque |= SAUT_MAINTENU;
+        }
+        for (int i = 0; i < TOUCHES_APPUI.length; i++) {
+            if (appuisEnAttente[i]) {
+                masque |= 1 << (PREMIER_BIT_APPUI + i);
+            }
+        }
+        masquePas = masque;
+        
+        if (enregistrement != null) {
+            enregistrement.ajouter(masque);
+        }
+    }
+    
+    /**
+     * Indique si une touche a été enfoncée depuis le dernier pas de simulation
+     * @param touche Code de la touche (Input.Keys)
+     * @return true si la touche vient d'être enfoncée
+     */
+    public boolean vientDEtreEnfoncee(int touche) {
+        for (int i = 0; i < TOUCHES_APPUI.length; i++) {
+            if (TOUCHES_APPUI[i] == touche) {
+                return (masquePas & (1 << (PREMIER_BIT_APPUI + i))) != 0;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Indique si un bouton de la souris vient d'être enfoncé pendant cette frame
+     * (les clics, réservés aux menus de fin, ne sont pas enregistrés)
+     * @param bouton Code du bouton (Input.Buttons)
+     * @return true si le bouton vient d'être enfoncé (toujours false pendant un rejeu)
+     */
+    public boolean boutonVientDEtreEnfonce(int bouton) {
+        if (rejeu != null) {
+            return false;
+        }
+        return source.boutonVientDEtreEnfonce(bouton);
+    }
+    
+    /**
+     * Consomme les appuis mémorisés à la fin d'un pas de simulation
+     */
+    public void terminerPas() {
+        for (int i = 0; i < appuisEnAttente.length; i++) {
+            appuisEnAttente[i] = false;
+        }
+        masquePas = 0;
+    }
+    
+    // ========== ENREGISTREMENT ET REJEU ==========
+    
+    /**
+     * Enregistre les entrées de chaque pas à partir du prochain (voir debutPas)
+     * @param enregistrement L'enregistrement à compléter (null pour arrêter)
+     */
+    public void demarrerEnregistrement(EnregistrementEntrees enregistrement) {
+        this.enregistrement = enregistrement;
+    }
+    
+    public EnregistrementEntrees getEnregistrement() {
+        return enregistrement;
+    }
+    
+    /**
+     * Remplace la source par un enregistrement, à partir de son premier pas
+     * (la source n'est plus lue ; au-delà de la fin, aucune entrée)
+     * @param enregistrement L'enregistrement à rejouer
+     */
+    public void rejouer(EnregistrementEntrees enregistrement) {
+        this.rejeu = enregistrement;
+        this.pasRejoues = 0;
+    }
+    
+    /**
+     * Indique si tous les pas de l'enregistrement rejoué ont été consommés
+     * @return true si le rejeu est terminé (false sans rejeu)
+     */
+    public boolean estRejeuTermine() {
+        return rejeu != null && pasRejoues >= rejeu.getNombrePas();
     }
     
     /**
@@ -38,13 +193,13 @@ public class ControleurEntrees {
         boolean deplacementDroite = false;
         
         // Déplacement à gauche
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.Q)) {
+        if ((masquePas & GAUCHE) != 0) {
             joueur.deplacerGauche();
             deplacementGauche = true;
         }
         
         // Déplacement à droite
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D)) {
+        if ((masquePas & DROITE) != 0) {
             joueur.deplacerDroite();
             deplacementDroite = true;
         }
@@ -55,16 +210,12 @@ public class ControleurEntrees {
         }
         
         // Saut - NOUVEAU : Appui
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) || 
-            Gdx.input.isKeyJustPressed(Input.Keys.UP) ||
-            Gdx.input.isKeyJustPressed(Input.Keys.Z)) {
+        if ((masquePas & SAUT_APPUYE) != 0) {
             joueur.sauter();
         }
         
         // NOUVEAU : Relâchement du saut (pour saut variable Mario-style)
-        if (!Gdx.input.isKeyPressed(Input.Keys.SPACE) && 
-            !Gdx.input.isKeyPressed(Input.Keys.UP) &&
-            !Gdx.input.isKeyPressed(Input.Keys.Z)) {
+        if ((masquePas & SAUT_MAINTENU) == 0) {
             joueur.relacherSaut();
         }
         
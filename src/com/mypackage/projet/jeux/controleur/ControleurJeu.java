@@ -3,13 +3,15 @@ package com.mypackage.projet.jeux.controleur;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.mypackage.projet.jeux.modele.entites.Joueur;
+import com.mypackage.projet.jeux.modele.evenements.BusEvenements;
+import com.mypackage.projet.jeux.modele.evenements.EffetsEvenements;
+import com.mypackage.projet.jeux.modele.evenements.FinNiveau;
 import com.mypackage.projet.jeux.modele.gestionnaires.GestionnaireCollisions;
 import com.mypackage.projet.jeux.modele.gestionnaires.GestionnaireNiveaux;
 import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import com.mypackage.projet.jeux.utilitaires.Profileur;
 import com.mypackage.projet.jeux.utilitaires.SauvegardeProgression;
-import com.mypackage.projet.jeux.modele.niveau.ProgressionNiveau;
-
-import java.util.Map;
+import com.mypackage.projet.jeux.utilitaires.ServiceSauvegarde;
 
 /**
  * Contrôleur principal du jeu, gère la logique du jeu et les entrées utilisateur
@@ -21,6 +23,8 @@ public class ControleurJeu {
     private ControleurEntrees controleurEntrees;
     private EtatJeu etatActuel;
     private boolean sauvegardeAutomatique;
+    private final ServiceSauvegarde serviceSauvegarde; // Écriture des sauvegardes hors de la boucle de jeu
+    private final BusEvenements bus; // Événements de jeu, distribués en fin de pas
     
     // Variables pour la séquence de fin de niveau
     private EtapeSequenceFin etapeSequenceFin;
@@ -55,10 +59,29 @@ public class ControleurJeu {
      * Constructeur
      */
     public ControleurJeu() {
-        this.gestionnaireNiveaux = new GestionnaireNiveaux();
-        this.controleurEntrees = new ControleurEntrees();
+        this(new GestionnaireNiveaux(), new ControleurEntrees());
+    }
+    
+    /**
+     * Constructeur avec dépendances injectées (exécution sans rendu, entrées scriptées)
+     * @param gestionnaireNiveaux Le gestionnaire de niveaux à utiliser
+     * @param controleurEntrees Le contrôleur d'entrées à utiliser
+     */
+    public ControleurJeu(GestionnaireNiveaux gestionnaireNiveaux, ControleurEntrees controleurEntrees) {
+        this.gestionnaireNiveaux = gestionnaireNiveaux;
+        this.controleurEntrees = controleurEntrees;
         this.etatActuel = EtatJeu.MENU;
         this.sauvegardeAutomatique = false; // Désactivé pour toujours démarrer au niveau 1
+        this.serviceSauvegarde = new ServiceSauvegarde();
+        
+        // Abonnés aux événements de jeu : joueur, progression et objectifs, puis sauvegarde
+        this.bus = new BusEvenements();
+        EffetsEvenements.abonner(bus);
+        bus.abonner(FinNiveau.class, evenement -> {
+            if (sauvegardeAutomatique) {
+                sauvegarderProgression();
+            }
+        });
         
         // Initialiser les variables de séquence
         this.etapeSequenceFin = null;
@@ -66,6 +89,22 @@ public class ControleurJeu {
         this.positionChateauX = 0;
     }
     
+    /**
+     * Lance en arrière-plan la lecture du niveau par lequel la partie commencera
+     * (celui de la sauvegarde, sinon le premier) ; initialiser le récupère ensuite.
+     * Voir GestionnaireNiveaux.avancerChargement pour le finaliser par tranches.
+     */
+    public void preparerDemarrage() {
+        int index = 0;
+        if (sauvegardeAutomatique && SauvegardeProgression.existe()) {
+            SauvegardeProgression.Sauvegarde sauvegarde = SauvegardeProgression.charger();
+            if (sauvegarde != null) {
+                index = sauvegarde.niveauActuelIndex;
+            }
+        }
+        gestionnaireNiveaux.prechargerNiveau(index);
+    }
+    
     /**
      * Initialise le jeu
      */
@@ -83,7 +122,7 @@ public class ControleurJeu {
         
         Niveau niveauActuel = gestionnaireNiveaux.getNiveauActuel();
         if (niveauActuel != null) {
-            gestionnaireCollisions = new GestionnaireCollisions(niveauActuel);
+            gestionnaireCollisions = new GestionnaireCollisions(niveauActuel, bus);
         }
         
         etatActuel = EtatJeu.EN_JEU;
@@ -94,6 +133,17 @@ public class ControleurJeu {
      * @param deltaTemps Temps écoulé depuis la dernière frame
      */
     public void mettreAJour(float deltaTemps) {
+        Profileur.debut(Profileur.Phase.SIMULATION);
+        
+        // Figer les entrées de ce pas (enregistrées ou rejouées le cas échéant)
+        controleurEntrees.debutPas();
+        
+        // Mémoriser l'état précédent pour l'interpolation du rendu
+        Niveau niveauActuel = gestionnaireNiveaux.getNiveauActuel();
+        if (niveauActuel != null) {
+            niveauActuel.memoriserPositionsPrecedentes();
+        }
+        
         // Toujours mettre à jour le gestionnaire de niveaux pour les transitions
         gestionnaireNiveaux.mettreAJour(deltaTemps);
         
@@ -123,6 +173,24 @@ public class ControleurJeu {
                 gererSequenceFinNiveau(deltaTemps);
                 break;
         }
+        
+        // Distribuer les événements restants du pas (fin de niveau : sauvegarde)
+        bus.distribuer();
+        
+        // Les appuis de touches ne valent que pour un seul pas
+        controleurEntrees.terminerPas();
+        
+        Profileur.fin(Profileur.Phase.SIMULATION);
+    }
+    
+    /**
+     * Mémorise les appuis de touches de la frame (à appeler une fois par frame,
+     * avant les pas de simulation)
+     */
+    public void capturerEntrees() {
+        Profileur.debut(Profileur.Phase.ENTREES);
+        controleurEntrees.capturerAppuis();
+        Profileur.fin(Profileur.Phase.ENTREES);
     }
     
     /**
@@ -141,10 +209,14 @@ public class ControleurJeu {
         }
         
         // Gérer les entrées du joueur
+        Profileur.debut(Profileur.Phase.ENTREES);
         controleurEntrees.gererEntrees(joueur, niveauActuel);
+        Profileur.fin(Profileur.Phase.ENTREES);
         
         // Mettre à jour le niveau
+        Profileur.debut(Profileur.Phase.NIVEAU);
         niveauActuel.mettreAJour(deltaTemps);
+        Profileur.fin(Profileur.Phase.NIVEAU);
         
         // Empêcher le joueur de sortir des limites du niveau
         limiterPositionJoueur(joueur, niveauActuel);
@@ -154,14 +226,19 @@ public class ControleurJeu {
             gestionnaireCollisions.gererCollisions();
         }
         
+        // Appliquer les effets des collisions (score, pièces, objectifs) avant de vérifier la fin du niveau
+        bus.distribuer();
+        
         // Nettoyer les entités inactives
+        Profileur.debut(Profileur.Phase.NETTOYAGE);
         niveauActuel.nettoyerEntitesInactives();
+        Profileur.fin(Profileur.Phase.NETTOYAGE);
         
         // Vérifier les conditions de fin de niveau
         verifierConditionsFinNiveau(joueur);
         
         // Vérifier la touche pause
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+        if (controleurEntrees.vientDEtreEnfoncee(Input.Keys.ESCAPE)) {
             etatActuel = EtatJeu.PAUSE;
         }
     }
@@ -172,16 +249,14 @@ public class ControleurJeu {
      */
     private void verifierConditionsFinNiveau(Joueur joueur) {
         // Vérifier si le joueur est mort
+        Niveau niveauActuel = gestionnaireNiveaux.getNiveauActuel();
         if (joueur.getVies() <= 0) {
             etatActuel = EtatJeu.GAME_OVER;
-            if (sauvegardeAutomatique) {
-                sauvegarderProgression();
-            }
+            bus.publier(bus.obtenir(FinNiveau.class).definir(niveauActuel, false));
             return;
         }
         
         // Vérifier si le drapeau a été touché (démarrer la séquence)
-        Niveau niveauActuel = gestionnaireNiveaux.getNiveauActuel();
         com.mypackage.projet.jeux.modele.entites.Drapeau drapeau = niveauActuel.getDrapeau();
         
         if (drapeau != null && drapeau.estTouche() && etatActuel == EtatJeu.EN_JEU) {
@@ -194,10 +269,7 @@ public class ControleurJeu {
         if (niveauActuel.estTermine() && !gestionnaireNiveaux.estEnTransition()) {
             // Afficher le récapitulatif du niveau
             etatActuel = EtatJeu.RECAPITULATIF_NIVEAU;
-            
-            if (sauvegardeAutomatique) {
-                sauvegarderProgression();
-            }
+            bus.publier(bus.obtenir(FinNiveau.class).definir(niveauActuel, true));
         }
     }
     
@@ -205,7 +277,7 @@ public class ControleurJeu {
      * Gère l'état de pause
      */
     private void gererPause() {
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+        if (controleurEntrees.vientDEtreEnfoncee(Input.Keys.ESCAPE)) {
             etatActuel = EtatJeu.EN_JEU;
         }
     }
@@ -215,21 +287,21 @@ public class ControleurJeu {
      */
     private void gererGameOver() {
         // Support clavier (ENTRÉE ou R pour recommencer)
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER) || 
-            Gdx.input.isKeyJustPressed(Input.Keys.R)) {
+        if (controleurEntrees.vientDEtreEnfoncee(Input.Keys.ENTER) || 
+            controleurEntrees.vientDEtreEnfoncee(Input.Keys.R)) {
             
             gestionnaireNiveaux.rechargerNiveauActuel();
-            gestionnaireCollisions = new GestionnaireCollisions(gestionnaireNiveaux.getNiveauActuel());
+            gestionnaireCollisions = new GestionnaireCollisions(gestionnaireNiveaux.getNiveauActuel(), bus);
             reinitialiserVariablesSequence();
             etatActuel = EtatJeu.EN_JEU;
             
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.M) || 
-                   Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+        } else if (controleurEntrees.vientDEtreEnfoncee(Input.Keys.M) || 
+                   controleurEntrees.vientDEtreEnfoncee(Input.Keys.ESCAPE)) {
             etatActuel = EtatJeu.MENU;
         }
         
         // Support souris (clics sur les boutons du menu)
-        if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) {
+        if (controleurEntrees.boutonVientDEtreEnfonce(Input.Buttons.LEFT)) {
             gererClicSouris(false, false);
         }
     }
@@ -238,14 +310,14 @@ public class ControleurJeu {
      * Gère l'état de victoire (clavier + souris)
      */
     private void gererVictoire() {
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
+        if (controleurEntrees.vientDEtreEnfoncee(Input.Keys.ENTER)) {
             // Afficher le récapitulatif complet
             gestionnaireNiveaux.afficherRecapitulatif();
             etatActuel = EtatJeu.MENU;
         }
         
         // Support souris
-        if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) {
+        if (controleurEntrees.boutonVientDEtreEnfonce(Input.Buttons.LEFT)) {
             gererClicSouris(true, false);
         }
     }
@@ -264,13 +336,13 @@ public class ControleurJeu {
      * Gère l'affichage du récapitulatif de niveau (clavier + souris)
      */
     private void gererRecapitulatifNiveau() {
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER) || 
-            Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if (controleurEntrees.vientDEtreEnfoncee(Input.Keys.ENTER) || 
+            controleurEntrees.vientDEtreEnfoncee(Input.Keys.SPACE)) {
             passerAuNiveauSuivant();
         }
         
         // Support souris
-        if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) {
+        if (controleurEntrees.boutonVientDEtreEnfonce(Input.Buttons.LEFT)) {
             gererClicSouris(true, gestionnaireNiveaux.aDesNiveauxRestants());
         }
     }
@@ -292,7 +364,7 @@ public class ControleurJeu {
                         nouveauNiveau.setJoueur(joueur);
                     }
                     
-                    gestionnaireCollisions = new GestionnaireCollisions(nouveauNiveau);
+                    gestionnaireCollisions = new GestionnaireCollisions(nouveauNiveau, bus);
                     reinitialiserVariablesSequence();
                     etatActuel = EtatJeu.TRANSITION_NIVEAU;
                 }
@@ -314,13 +386,15 @@ public class ControleurJeu {
         switch (typeBouton) {
             case REJOUER:
                 gestionnaireNiveaux.rechargerNiveauActuel();
-                gestionnaireCollisions = new GestionnaireCollisions(gestionnaireNiveaux.getNiveauActuel());
+                gestionnaireCollisions = new GestionnaireCollisions(gestionnaireNiveaux.getNiveauActuel(), bus);
                 reinitialiserVariablesSequence();
                 etatActuel = EtatJeu.EN_JEU;
                 break;
                 
             case QUITTER:
-                Gdx.app.exit();
+                if (Gdx.app != null) {
+                    Gdx.app.exit();
+                }
                 break;
                 
             case NIVEAU_SUIVANT:
@@ -343,7 +417,7 @@ public class ControleurJeu {
      * Gère le menu
      */
     private void gererMenu() {
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
+        if (controleurEntrees.vientDEtreEnfoncee(Input.Keys.ENTER)) {
             initialiser();
         }
     }
@@ -353,6 +427,18 @@ public class ControleurJeu {
         return gestionnaireNiveaux;
     }
     
+    public ControleurEntrees getControleurEntrees() {
+        return controleurEntrees;
+    }
+    
+    public ServiceSauvegarde getServiceSauvegarde() {
+        return serviceSauvegarde;
+    }
+    
+    public BusEvenements getBusEvenements() {
+        return bus;
+    }
+    
     public EtatJeu getEtatActuel() {
         return etatActuel;
     }
@@ -362,23 +448,18 @@ public class ControleurJeu {
     }
     
     /**
-     * Sauvegarde la progression actuelle
-     * @return true si succès, false sinon
+     * Sauvegarde la progression actuelle.
+     * Les données sont copiées ici, puis écrites par le service de sauvegarde :
+     * la boucle de jeu n'attend jamais le disque.
+     * @return true si la sauvegarde a été demandée
      */
     public boolean sauvegarderProgression() {
-        SauvegardeProgression.Sauvegarde sauvegarde = new SauvegardeProgression.Sauvegarde();
-        sauvegarde.niveauActuelIndex = gestionnaireNiveaux.getNiveauActuelIndex();
-        sauvegarde.scoreTotal = gestionnaireNiveaux.getScoreTotal();
-        
-        // Sauvegarder les progressions de tous les niveaux
-        Map<String, ProgressionNiveau> historique = gestionnaireNiveaux.getHistoriqueProgressions();
-        for (Map.Entry<String, ProgressionNiveau> entry : historique.entrySet()) {
-            SauvegardeProgression.DonneesProgression donnees = 
-                new SauvegardeProgression.DonneesProgression(entry.getValue());
-            sauvegarde.progressions.put(entry.getKey(), donnees);
-        }
-        
-        return SauvegardeProgression.sauvegarder(sauvegarde);
+        serviceSauvegarde.demander(
+            gestionnaireNiveaux.getNiveauActuelIndex(),
+            gestionnaireNiveaux.getScoreTotal(),
+            gestionnaireNiveaux.getHistoriqueProgressions()
+        );
+        return true;
     }
     
     /**
@@ -395,7 +476,7 @@ public class ControleurJeu {
         if (gestionnaireNiveaux.chargerNiveau(sauvegarde.niveauActuelIndex)) {
             Niveau niveauActuel = gestionnaireNiveaux.getNiveauActuel();
             if (niveauActuel != null) {
-                gestionnaireCollisions = new GestionnaireCollisions(niveauActuel);
+                gestionnaireCollisions = new GestionnaireCollisions(niveauActuel, bus);
             }
             return true;
         }
@@ -443,7 +524,7 @@ public class ControleurJeu {
         if (posY < -100) {
             joueur.perdreVie();
             // Réinitialiser la position du joueur au début du niveau
-            joueur.forcerPosition(64, 384);
+            joueur.teleporter(64, 384); // Ni balayage ni interpolation à travers la téléportation
             joueur.setVitesse(0, 0);
         }
     }
@@ -0,0 +1,252 @@
+package com.mypackage.projet.jeux.controleur;
+
+import com.badlogic.gdx.utils.ShortArray;
+import com.mypackage.projet.jeux.modele.entites.Joueur;
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import com.mypackage.projet.jeux.modele.niveau.ProgressionNiveau;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Entrées d'une partie, enregistrées pas de simulation par pas (voir ControleurEntrees.debutPas) :
+ * un masque de bits par pas (gauche, droite, saut maintenu, appuis de touches).
+ * Avec le même pas fixe et les mêmes niveaux, rejouer ces masques reproduit exactement la partie,
+ * ce que vérifie l'état final mémorisé à la fin de l'enregistrement.
+ *
+ * <p>Format du fichier (DataOutputStream) : en-tête, pas fixe, chemins des niveaux, nombre de pas,
+ * puis les masques compressés par plages (masque, nombre de pas consécutifs identiques),
+ * et enfin l'état final attendu. Une minute de jeu tient généralement en quelques centaines d'octets.</p>
+ */
+public class EnregistrementEntrees {
+
+    private static final int ENTETE = 0x454E5452; // "ENTR"
+    private static final int VERSION = 1;
+
+    /**
+     * État de la partie à la fin de l'enregistrement, comparé à celui du rejeu
+     */
+    public static class EtatFinal {
+        public int indexNiveau;
+        public String etat;
+        public int score;
+        public int vies;
+        public int pieces;
+        public int ennemisVaincus;
+        public float tempsEcoule;
+        public float positionX;
+        public float positionY;
+
+        /**
+         * Relève l'état d'une partie
+         * @param controleurJeu Le contrôleur de la partie
+         * @return L'état (champs du joueur et de la progression à zéro s'ils n'existent pas)
+         */
+        public static EtatFinal capturer(ControleurJeu controleurJeu) {
+            EtatFinal etatFinal = new EtatFinal();
+            etatFinal.indexNiveau = controleurJeu.getGestionnaireNiveaux().getNiveauActuelIndex();
+            etatFinal.etat = controleurJeu.getEtatActuel().name();
+            Niveau niveau = controleurJeu.getGestionnaireNiveaux().getNiveauActuel();
+            if (niveau != null) {
+                ProgressionNiveau progression = niveau.getProgression();
+                etatFinal.pieces = progression.getPieces();
+                etatFinal.ennemisVaincus = progression.getEnnemisVaincus();
+                etatFinal.tempsEcoule = progression.getTempsEcoule();
+                Joueur joueur = niveau.getJoueur();
+                if (joueur != null) {
+                    etatFinal.score = joueur.getScore();
+                    etatFinal.vies = joueur.getVies();
+                    etatFinal.positionX = joueur.getPosition().x;
+                    etatFinal.positionY = joueur.getPosition().y;
+                }
+            }
+            return etatFinal;
+        }
+
+        /**
+         * Compare deux états au bit près (positions et temps compris)
+         * @param autre L'autre état
+         * @return true si les deux parties ont abouti au même état
+         */
+        public boolean estIdentique(EtatFinal autre) {
+            return autre != null
+                && indexNiveau == autre.indexNiveau
+                && etat.equals(autre.etat)
+                && score == autre.score
+                && vies == autre.vies
+                && pieces == autre.pieces
+                && ennemisVaincus == autre.ennemisVaincus
+                && Float.floatToIntBits(tempsEcoule) == Float.floatToIntBits(autre.tempsEcoule)
+                && Float.floatToIntBits(positionX) == Float.floatToIntBits(autre.positionX)
+                && Float.floatToIntBits(positionY) == Float.floatToIntBits(autre.positionY);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("niveau %d, %s, score %d, vies %d, pièces %d, ennemis %d, temps %.4fs, position (%.3f, %.3f)",
+                indexNiveau + 1, etat, score, vies, pieces, ennemisVaincus, tempsEcoule, positionX, positionY);
+        }
+    }
+
+    private final float pas;
+    private final List<String> niveaux;
+    private final ShortArray masques;
+    private EtatFinal etatFinal;
+
+    /**
+     * Constructeur d'un enregistrement vide
+     * @param pas Durée d'un pas de simulation (en secondes), à réutiliser au rejeu
+     * @param niveaux Chemins des niveaux de la partie, dans l'ordre de jeu
+     */
+    public EnregistrementEntrees(float pas, List<String> niveaux) {
+        this.pas = pas;
+        this.niveaux = new ArrayList<>(niveaux);
+        this.masques = new ShortArray(3600);
+    }
+
+    /**
+     * Ajoute le masque d'un pas de simulation
+     * @param masque Masque des entrées (bits de ControleurEntrees)
+     */
+    public void ajouter(int masque) {
+        masques.add((short) masque);
+    }
+
+    /**
+     * Retourne le masque d'un pas
+     * @param indexPas Numéro du pas (à partir de 0)
+     * @return Le masque, ou 0 (aucune entrée) après la fin de l'enregistrement
+     */
+    public int getMasque(int indexPas) {
+        return indexPas < masques.size ? masques.get(indexPas) & 0xFFFF : 0;
+    }
+
+    public int getNombrePas() {
+        return masques.size;
+    }
+
+    public float getPas() {
+        return pas;
+    }
+
+    public List<String> getNiveaux() {
+        return Collections.unmodifiableList(niveaux);
+    }
+
+    public EtatFinal getEtatFinal() {
+        return etatFinal;
+    }
+
+    public void setEtatFinal(EtatFinal etatFinal) {
+        this.etatFinal = etatFinal;
+    }
+
+    // ========== FICHIER ==========
+
+    /**
+     * Écrit l'enregistrement dans un fichier
+     * @param chemin Fichier à écrire (les dossiers manquants sont créés)
+     * @throws IOException Si l'écriture échoue
+     */
+    public void ecrire(String chemin) throws IOException {
+        Path fichier = Paths.get(chemin);
+        if (fichier.getParent() != null) {
+            Files.createDirectories(fichier.getParent());
+        }
+        try (DataOutputStream sortie = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(fichier)))) {
+            sortie.writeInt(ENTETE);
+            sortie.writeInt(VERSION);
+            sortie.writeFloat(pas);
+            sortie.writeInt(niveaux.size());
+            for (String niveau : niveaux) {
+                sortie.writeUTF(niveau);
+            }
+
+            // Masques par plages de pas identiques
+            sortie.writeInt(masques.size);
+            int i = 0;
+            while (i < masques.size) {
+                short masque = masques.get(i);
+                int fin = i + 1;
+                while (fin < masques.size && masques.get(fin) == masque) {
+                    fin++;
+                }
+                sortie.writeShort(masque);
+                sortie.writeInt(fin - i);
+                i = fin;
+            }
+
+            sortie.writeBoolean(etatFinal != null);
+            if (etatFinal != null) {
+                sortie.writeInt(etatFinal.indexNiveau);
+                sortie.writeUTF(etatFinal.etat);
+                sortie.writeInt(etatFinal.score);
+                sortie.writeInt(etatFinal.vies);
+                sortie.writeInt(etatFinal.pieces);
+                sortie.writeInt(etatFinal.ennemisVaincus);
+                sortie.writeFloat(etatFinal.tempsEcoule);
+                sortie.writeFloat(etatFinal.positionX);
+                sortie.writeFloat(etatFinal.positionY);
+            }
+        }
+    }
+
+    /**
+     * Lit un enregistrement
+     * @param chemin Fichier écrit par ecrire
+     * @return L'enregistrement
+     * @throws IOException Si le fichier est illisible ou n'est pas un enregistrement d'entrées
+     */
+    public static EnregistrementEntrees charger(String chemin) throws IOException {
+        try (DataInputStream entree = new DataInputStream(new BufferedInputStream(Files.newInputStream(Paths.get(chemin))))) {
+            if (entree.readInt() != ENTETE) {
+                throw new IOException(chemin + " n'est pas un enregistrement d'entrées");
+            }
+            int version = entree.readInt();
+            if (version != VERSION) {
+                throw new IOException("Version d'enregistrement non prise en charge : " + version);
+            }
+            float pas = entree.readFloat();
+            int nombreNiveaux = entree.readInt();
+            List<String> niveaux = new ArrayList<>(nombreNiveaux);
+            for (int i = 0; i < nombreNiveaux; i++) {
+                niveaux.add(entree.readUTF());
+            }
+
+            EnregistrementEntrees enregistrement = new EnregistrementEntrees(pas, niveaux);
+            int nombrePas = entree.readInt();
+            enregistrement.masques.ensureCapacity(nombrePas);
+            while (enregistrement.masques.size < nombrePas) {
+                short masque = entree.readShort();
+                int longueur = entree.readInt();
+                for (int i = 0; i < longueur; i++) {
+                    enregistrement.masques.add(masque);
+                }
+            }
+
+            if (entree.readBoolean()) {
+                EtatFinal etatFinal = new EtatFinal();
+                etatFinal.indexNiveau = entree.readInt();
+                etatFinal.etat = entree.readUTF();
+                etatFinal.score = entree.readInt();
+                etatFinal.vies = entree.readInt();
+                etatFinal.pieces = entree.readInt();
+                etatFinal.ennemisVaincus = entree.readInt();
+                etatFinal.tempsEcoule = entree.readFloat();
+                etatFinal.positionX = entree.readFloat();
+                etatFinal.positionY = entree.readFloat();
+                enregistrement.etatFinal = etatFinal;
+            }
+            return enregistrement;
+        }
+    }
+}
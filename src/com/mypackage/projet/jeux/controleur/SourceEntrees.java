@@ -0,0 +1,36 @@
+package com.mypackage.projet.jeux.controleur;
+
+/**
+ * Source des entrées utilisateur lues par les contrôleurs.
+ * Permet de remplacer le clavier (Gdx.input) par une source scriptée
+ * pour exécuter la logique du jeu sans fenêtre.
+ * Les codes de touches et de boutons sont ceux de {@link com.badlogic.gdx.Input}.
+ */
+public interface SourceEntrees {
+    
+    /**
+     * Appelé une fois au début de chaque frame, avant toute lecture
+     */
+    void debutFrame();
+    
+    /**
+     * Indique si une touche est maintenue enfoncée
+     * @param touche Code de la touche (Input.Keys)
+     * @return true si la touche est enfoncée
+     */
+    boolean estEnfoncee(int touche);
+    
+    /**
+     * Indique si une touche vient d'être enfoncée pendant cette frame
+     * @param touche Code de la touche (Input.Keys)
+     * @return true si la touche vient d'être enfoncée
+     */
+    boolean vientDEtreEnfoncee(int touche);
+    
+    /**
+     * Indique si un bouton de la souris vient d'être enfoncé pendant cette frame
+     * @param bouton Code du bouton (Input.Buttons)
+     * @return true si le bouton vient d'être enfoncé
+     */
+    boolean boutonVientDEtreEnfonce(int bouton);
+}
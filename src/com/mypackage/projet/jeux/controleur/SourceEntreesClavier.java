@@ -0,0 +1,29 @@
+package com.mypackage.projet.jeux.controleur;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Source d'entrées lisant directement le clavier et la souris via Gdx.input
+ */
+public class SourceEntreesClavier implements SourceEntrees {
+    
+    @Override
+    public void debutFrame() {
+        // Gdx.input est mis à jour par le backend avant chaque frame
+    }
+    
+    @Override
+    public boolean estEnfoncee(int touche) {
+        return Gdx.input.isKeyPressed(touche);
+    }
+    
+    @Override
+    public boolean vientDEtreEnfoncee(int touche) {
+        return Gdx.input.isKeyJustPressed(touche);
+    }
+    
+    @Override
+    public boolean boutonVientDEtreEnfonce(int bouton) {
+        return Gdx.input.isButtonJustPressed(bouton);
+    }
+}
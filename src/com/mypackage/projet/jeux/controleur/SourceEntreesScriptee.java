@@ -0,0 +1,97 @@
+package com.mypackage.projet.jeux.controleur;
+
+import com.badlogic.gdx.Input;
+
+import java.util.Random;
+
+/**
+ * Source d'entrées pseudo-aléatoire et déterministe (à graine fixe).
+ * Simule un joueur qui avance surtout vers la droite et saute régulièrement,
+ * pour les exécutions sans rendu (tests d'endurance, mesures de performance).
+ */
+public class SourceEntreesScriptee implements SourceEntrees {
+    
+    private static final float PROBABILITE_DROITE = 0.75f;
+    private static final float PROBABILITE_IMMOBILE = 0.1f;
+    private static final float PROBABILITE_SAUT = 1f / 30f;
+    
+    private final Random aleatoire;
+    
+    // Direction actuelle : -1 gauche, 0 immobile, 1 droite
+    private int direction;
+    private int framesDirectionRestantes;
+    private int framesSautRestantes;
+    private boolean sautDebute;
+    private long numeroFrame;
+    
+    /**
+     * Constructeur
+     * @param graine Graine du générateur (même graine = même suite d'entrées)
+     */
+    public SourceEntreesScriptee(long graine) {
+        this.aleatoire = new Random(graine);
+        this.direction = 1;
+        this.framesDirectionRestantes = 0;
+        this.framesSautRestantes = 0;
+        this.sautDebute = false;
+        this.numeroFrame = 0;
+    }
+    
+    @Override
+    public void debutFrame() {
+        numeroFrame++;
+        
+        // Choisir une nouvelle direction pour une durée aléatoire
+        if (framesDirectionRestantes <= 0) {
+            float tirage = aleatoire.nextFloat();
+            if (tirage < PROBABILITE_IMMOBILE) {
+                direction = 0;
+            } else if (tirage < PROBABILITE_IMMOBILE + PROBABILITE_DROITE) {
+                direction = 1;
+            } else {
+                direction = -1;
+            }
+            framesDirectionRestantes = 10 + aleatoire.nextInt(90);
+        }
+        framesDirectionRestantes--;
+        
+        // Saut : appui puis maintien pendant une durée aléatoire (saut variable)
+        sautDebute = false;
+        if (framesSautRestantes > 0) {
+            framesSautRestantes--;
+        } else if (aleatoire.nextFloat() < PROBABILITE_SAUT) {
+            sautDebute = true;
+            framesSautRestantes = 3 + aleatoire.nextInt(25);
+        }
+    }
+    
+    @Override
+    public boolean estEnfoncee(int touche) {
+        switch (touche) {
+            case Input.Keys.RIGHT:
+            case Input.Keys.D:
+                return direction > 0;
+            case Input.Keys.LEFT:
+            case Input.Keys.Q:
+                return direction < 0;
+            case Input.Keys.SPACE:
+                return framesSautRestantes > 0;
+            default:
+                return false;
+        }
+    }
+    
+    @Override
+    public boolean vientDEtreEnfoncee(int touche) {
+        return touche == Input.Keys.SPACE && sautDebute;
+    }
+    
+    @Override
+    public boolean boutonVientDEtreEnfonce(int bouton) {
+        return false;
+    }
+    
+    public long getNumeroFrame() {
+        return numeroFrame;
+    }
+}
@@ -34,4 +34,26 @@ public class ComportementPatrouille implements ComportementEnnemi {
             ennemi.inverserDirection();
         }
     }
+    
+    /**
+     * Reprend une patrouille déjà commencée (point de départ connu)
+     * @param positionXInitiale Position X de départ de la patrouille
+     */
+    public void definirPositionXInitiale(float positionXInitiale) {
+        this.positionXInitiale = positionXInitiale;
+        this.initialisee = true;
+    }
+    
+    // Getters
+    public float getDistancePatrouille() {
+        return distancePatrouille;
+    }
+    
+    public float getPositionXInitiale() {
+        return positionXInitiale;
+    }
+    
+    public boolean estInitialisee() {
+        return initialisee;
+    }
 }
@@ -40,6 +40,12 @@ public abstract class Ennemi extends Entite {
             return;
         }
         
+        // Ennemi stocké en composants : même calcul, directement sur les tableaux
+        if (composants != null) {
+            composants.mettreAJourEnnemi(indiceComposants, deltaTemps);
+            return;
+        }
+        
         // Exécuter le comportement de l'ennemi
         if (comportement != null) {
             comportement.executer(this, deltaTemps);
@@ -80,13 +86,17 @@ public abstract class Ennemi extends Entite {
      * Gère la mort de l'ennemi
      */
     protected void mourir() {
-        this.active = false;
+        setActive(false);
     }
     
     /**
      * Inverse la direction de l'ennemi
      */
     public void inverserDirection() {
+        if (composants != null) {
+            composants.inverserVitesseX(indiceComposants);
+            return;
+        }
         vitesse.x = -vitesse.x;
     }
     
@@ -121,6 +131,9 @@ public abstract class Ennemi extends Entite {
     
     public void setComportement(ComportementEnnemi comportement) {
         this.comportement = comportement;
+        if (composants != null) {
+            composants.definirComportement(indiceComposants, comportement);
+        }
     }
     
     public String getType() {
@@ -135,6 +148,9 @@ public abstract class Ennemi extends Entite {
     public void definirLimites(float limiteGauche, float limiteDroite) {
         this.limiteGauche = limiteGauche;
         this.limiteDroite = limiteDroite;
+        if (composants != null) {
+            composants.definirLimites(indiceComposants, limiteGauche, limiteDroite);
+        }
     }
     
     public float getLimiteGauche() {
@@ -142,7 +158,7 @@ public abstract class Ennemi extends Entite {
     }
     
     public void setLimiteGauche(float limiteGauche) {
-        this.limiteGauche = limiteGauche;
+        definirLimites(limiteGauche, this.limiteDroite);
     }
     
     public float getLimiteDroite() {
@@ -150,6 +166,6 @@ public abstract class Ennemi extends Entite {
     }
     
     public void setLimiteDroite(float limiteDroite) {
-        this.limiteDroite = limiteDroite;
+        definirLimites(this.limiteGauche, limiteDroite);
     }
 }
@@ -6,7 +6,7 @@ package com.mypackage.projet.jeux.modele.entites;
 public class EnnemiTerrestre extends Ennemi {
     
     private static final float VITESSE_DEFAUT = 50f;
-    private static final float GRAVITE = -800f;
+    public static final float GRAVITE = -800f;
     
     private boolean auSol;
     
@@ -27,8 +27,10 @@ public class EnnemiTerrestre extends Ennemi {
             return;
         }
         
-        // Appliquer la gravité
-        vitesse.y += GRAVITE * deltaTemps;
+        // Appliquer la gravité (faite par la boucle par lots si l'ennemi est en composants)
+        if (composants == null) {
+            vitesse.y += GRAVITE * deltaTemps;
+        }
         
         // Appeler la mise à jour de la classe parent
         super.mettreAJour(deltaTemps);
@@ -39,6 +41,10 @@ public class EnnemiTerrestre extends Ennemi {
      * @param y Position Y du sol
      */
     public void placerAuSol(float y) {
+        if (composants != null) {
+            composants.definirPosition(indiceComposants, composants.getX(indiceComposants), y);
+            composants.definirVitesse(indiceComposants, composants.getVx(indiceComposants), 0);
+        }
         position.y = y;
         vitesse.y = 0;
         auSol = true;
@@ -2,6 +2,7 @@ package com.mypackage.projet.jeux.modele.entites;
 
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.mypackage.projet.jeux.modele.niveau.ComposantsEntites;
 
 /**
  * Classe abstraite représentant une entité du jeu.
@@ -9,12 +10,29 @@ import com.badlogic.gdx.math.Vector2;
  */
 public abstract class Entite {
     
+    /**
+     * Écouteur prévenu lorsqu'une entité passe de l'état actif à inactif
+     */
+    public interface EcouteurDesactivation {
+        /**
+         * Appelé au moment où l'entité est désactivée
+         * @param entite L'entité désactivée
+         */
+        void entiteDesactivee(Entite entite);
+    }
+    
     protected Vector2 position;
+    protected Vector2 positionPrecedente; // Position au début du pas de simulation en cours
+    protected Vector2 positionRendu;      // Position interpolée utilisée par les rendus
     protected Vector2 vitesse;
     protected float largeur;
     protected float hauteur;
     protected boolean active;
     protected Rectangle boiteCollision;
+    private EcouteurDesactivation ecouteurDesactivation; // Stockage qui contient l'entité (peut être null)
+    private int emplacementStockage; // Emplacement dans ce stockage (-1 si aucun)
+    protected ComposantsEntites composants; // Tableaux qui portent l'état de l'entité (null si non liée)
+    protected int indiceComposants;         // Indice de l'entité dans ces tableaux
     
     /**
      * Constructeur de l'entité
@@ -25,11 +43,17 @@ public abstract class Entite {
      */
     public Entite(float x, float y, float largeur, float hauteur) {
         this.position = new Vector2(x, y);
+        this.positionPrecedente = new Vector2(x, y);
+        this.positionRendu = new Vector2(x, y);
         this.vitesse = new Vector2(0, 0);
         this.largeur = largeur;
         this.hauteur = hauteur;
         this.active = true;
         this.boiteCollision = new Rectangle(x, y, largeur, hauteur);
+        this.ecouteurDesactivation = null;
+        this.emplacementStockage = -1;
+        this.composants = null;
+        this.indiceComposants = -1;
     }
     
     /**
@@ -51,24 +75,130 @@ public abstract class Entite {
      * @return true si collision, false sinon
      */
     public boolean entreEnCollisionAvec(Entite autre) {
-        return this.boiteCollision.overlaps(autre.getBoiteCollision());
+        return getBoiteCollision().overlaps(autre.getBoiteCollision());
+    }
+    
+    /**
+     * Mémorise la position actuelle comme état précédent (appelé au début de chaque pas de simulation)
+     */
+    public void memoriserPositionPrecedente() {
+        positionPrecedente.set(getPosition());
+    }
+    
+    /**
+     * Place l'entité sans trajet depuis son ancienne position (réapparition, changement de zone) :
+     * la position précédente suit, donc ni le balayage des collisions ni l'interpolation du rendu
+     * ne la font passer par les positions intermédiaires
+     * @param x Nouvelle position X
+     * @param y Nouvelle position Y
+     */
+    public void teleporter(float x, float y) {
+        setPosition(x, y);
+        positionPrecedente.set(x, y);
+        positionRendu.set(x, y);
+    }
+    
+    /**
+     * Calcule la position de rendu entre l'état précédent et l'état actuel
+     * @param alpha Fraction du pas fixe écoulée depuis le dernier pas (0 = précédent, 1 = actuel)
+     * @return La position interpolée
+     */
+    public Vector2 interpolerPositionRendu(float alpha) {
+        Vector2 position = getPosition();
+        positionRendu.x = positionPrecedente.x + (position.x - positionPrecedente.x) * alpha;
+        positionRendu.y = positionPrecedente.y + (position.y - positionPrecedente.y) * alpha;
+        return positionRendu;
+    }
+    
+    // ========== COMPOSANTS ==========
+    
+    /**
+     * Lie l'entité à des tableaux de composants : sa position, sa vitesse et son état actif
+     * y sont désormais lus et écrits, ses propres champs servent de vues
+     * @param composants Les tableaux de composants
+     * @param indice L'indice de l'entité dans ces tableaux
+     */
+    public void lierComposants(ComposantsEntites composants, int indice) {
+        this.composants = composants;
+        this.indiceComposants = indice;
+    }
+    
+    /**
+     * Met à jour l'indice de l'entité après un déplacement dans les tableaux
+     * @param indice Le nouvel indice
+     */
+    public void deplacerComposants(int indice) {
+        this.indiceComposants = indice;
+    }
+    
+    /**
+     * Recopie l'état des composants dans les champs de l'entité puis la délie
+     */
+    public void delierComposants() {
+        if (composants == null) {
+            return;
+        }
+        getPosition();
+        getVitesse();
+        mettreAJourBoiteCollision();
+        composants = null;
+        indiceComposants = -1;
+    }
+    
+    public ComposantsEntites getComposants() {
+        return composants;
+    }
+    
+    public int getIndiceComposants() {
+        return indiceComposants;
     }
     
     // Getters et Setters
+    
+    /**
+     * Obtient la position (vue en lecture si l'entité est liée à des composants :
+     * la modifier passe alors par setPosition)
+     * @return La position
+     */
     public Vector2 getPosition() {
+        if (composants != null) {
+            position.set(composants.getX(indiceComposants), composants.getY(indiceComposants));
+        }
         return position;
     }
     
+    public Vector2 getPositionPrecedente() {
+        return positionPrecedente;
+    }
+    
+    public Vector2 getPositionRendu() {
+        return positionRendu;
+    }
+    
     public void setPosition(float x, float y) {
+        if (composants != null) {
+            composants.definirPosition(indiceComposants, x, y);
+        }
         this.position.set(x, y);
         mettreAJourBoiteCollision();
     }
     
+    /**
+     * Obtient la vitesse (vue en lecture si l'entité est liée à des composants :
+     * la modifier passe alors par setVitesse)
+     * @return La vitesse
+     */
     public Vector2 getVitesse() {
+        if (composants != null) {
+            vitesse.set(composants.getVx(indiceComposants), composants.getVy(indiceComposants));
+        }
         return vitesse;
     }
     
     public void setVitesse(float vx, float vy) {
+        if (composants != null) {
+            composants.definirVitesse(indiceComposants, vx, vy);
+        }
         this.vitesse.set(vx, vy);
     }
     
@@ -85,10 +215,37 @@ public abstract class Entite {
     }
     
     public void setActive(boolean active) {
+        boolean desactivation = this.active && !active;
         this.active = active;
+        if (composants != null) {
+            composants.definirActif(indiceComposants, active);
+        }
+        
+        if (desactivation && ecouteurDesactivation != null) {
+            ecouteurDesactivation.entiteDesactivee(this);
+        }
     }
     
     public Rectangle getBoiteCollision() {
+        if (composants != null) {
+            boiteCollision.setPosition(composants.getX(indiceComposants), composants.getY(indiceComposants));
+        }
         return boiteCollision;
     }
+    
+    public EcouteurDesactivation getEcouteurDesactivation() {
+        return ecouteurDesactivation;
+    }
+    
+    public void setEcouteurDesactivation(EcouteurDesactivation ecouteurDesactivation) {
+        this.ecouteurDesactivation = ecouteurDesactivation;
+    }
+    
+    public int getEmplacementStockage() {
+        return emplacementStockage;
+    }
+    
+    public void setEmplacementStockage(int emplacementStockage) {
+        this.emplacementStockage = emplacementStockage;
+    }
 }
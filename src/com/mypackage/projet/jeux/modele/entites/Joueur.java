@@ -468,9 +468,8 @@ public class Joueur extends Entite {
      */
     public void reinitialiser(float x, float y) {
         // Réinitialiser position et vitesse
-        this.position.set(x, y);
+        teleporter(x, y); // Pas de trajet depuis l'ancienne position
         this.vitesse.set(0, 0);
-        mettreAJourBoiteCollision();
         
         // Réinitialiser l'état
         this.vies = 3;
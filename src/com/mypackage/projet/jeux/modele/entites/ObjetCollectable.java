@@ -48,7 +48,7 @@ public class ObjetCollectable extends Entite {
      */
     public void collecter() {
         this.collecte = true;
-        this.active = false;
+        setActive(false);
     }
     
     // Getters
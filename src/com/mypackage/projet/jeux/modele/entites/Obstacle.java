@@ -1,5 +1,7 @@
 package com.mypackage.projet.jeux.modele.entites;
 
+import com.mypackage.projet.jeux.modele.niveau.GrilleSpatiale;
+
 /**
  * Classe représentant un obstacle statique (blocs, plateformes, etc.)
  */
@@ -8,6 +10,7 @@ public class Obstacle extends Entite {
     private String type;
     private boolean destructible;
     private boolean solide;
+    private GrilleSpatiale grilleSpatiale; // Grille qui indexe cet obstacle (null si non indexé)
     
     /**
      * Énumération des types d'obstacles
@@ -45,7 +48,12 @@ public class Obstacle extends Entite {
      */
     public void detruire() {
         if (destructible) {
-            this.active = false;
+            setActive(false);
+            
+            // Retirer l'obstacle de l'index spatial du niveau
+            if (grilleSpatiale != null) {
+                grilleSpatiale.retirer(this);
+            }
         }
     }
     
@@ -69,4 +77,12 @@ public class Obstacle extends Entite {
     public void setSolide(boolean solide) {
         this.solide = solide;
     }
+    
+    public GrilleSpatiale getGrilleSpatiale() {
+        return grilleSpatiale;
+    }
+    
+    public void setGrilleSpatiale(GrilleSpatiale grilleSpatiale) {
+        this.grilleSpatiale = grilleSpatiale;
+    }
 }
@@ -85,7 +85,7 @@ public class PowerUp extends Entite {
      */
     public void collecter() {
         this.collecte = true;
-        this.active = false;
+        setActive(false);
     }
     
     /**
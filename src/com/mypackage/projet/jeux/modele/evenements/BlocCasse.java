@@ -0,0 +1,49 @@
+package com.mypackage.projet.jeux.modele.evenements;
+
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+
+/**
+ * Le joueur a cassé une brique par en dessous
+ */
+public class BlocCasse extends Evenement {
+    
+    private float x; // Coin inférieur gauche du bloc (en pixels)
+    private float y;
+    private int points;
+    
+    /**
+     * Renseigne l'événement
+     * @param niveau Le niveau
+     * @param x Position X du bloc
+     * @param y Position Y du bloc
+     * @param points Points gagnés par le joueur
+     * @return L'événement
+     */
+    public BlocCasse definir(Niveau niveau, float x, float y, int points) {
+        this.niveau = niveau;
+        this.x = x;
+        this.y = y;
+        this.points = points;
+        return this;
+    }
+    
+    public float getX() {
+        return x;
+    }
+    
+    public float getY() {
+        return y;
+    }
+    
+    public int getPoints() {
+        return points;
+    }
+    
+    @Override
+    public void reset() {
+        super.reset();
+        x = 0;
+        y = 0;
+        points = 0;
+    }
+}
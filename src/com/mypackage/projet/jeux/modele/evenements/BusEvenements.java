@@ -0,0 +1,182 @@
+package com.mypackage.projet.jeux.modele.evenements;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.ReflectionPool;
+
+/**
+ * File d'événements de jeu, vidée une fois par pas de simulation.
+ * Les collisions publient ce qui s'est passé (PieceCollectee, EnnemiEcrase, BlocCasse...)
+ * au lieu d'appeler directement le joueur, la progression et les objectifs ; ceux-ci
+ * s'abonnent au type d'événement qui les concerne et le reçoivent dans distribuer,
+ * dans l'ordre de publication puis d'abonnement.
+ *
+ * <p>Chaque type d'événement a son pool, rempli dès le premier abonnement : obtenir puis publier
+ * n'alloue rien. La publication est synchronisée, ce qui permet aux phases parallèles d'y différer
+ * leurs effets ; la distribution se fait sur le thread de la boucle de jeu.</p>
+ */
+public class BusEvenements {
+
+    /** Événements créés d'avance pour chaque type abonné (aucune allocation au premier événement en jeu) */
+    private static final int RESERVE_PAR_TYPE = 16;
+
+    /**
+     * Abonné à un type d'événement
+     * @param <T> Type d'événement reçu
+     */
+    public interface Abonne<T extends Evenement> {
+        /**
+         * Reçoit un événement (recyclé après la distribution : ne pas le garder)
+         * @param evenement L'événement
+         */
+        void recevoir(T evenement);
+    }
+
+    private final ObjectMap<Class<?>, Pool<? extends Evenement>> pools;
+    private final ObjectMap<Class<?>, Array<Abonne<? extends Evenement>>> abonnes;
+    private Array<Evenement> file;           // Événements publiés depuis la dernière distribution
+    private Array<Evenement> fileDistribuee; // Événements en cours de distribution
+    private int nombreDistribues;
+
+    /**
+     * Constructeur
+     */
+    public BusEvenements() {
+        this.pools = new ObjectMap<>();
+        this.abonnes = new ObjectMap<>();
+        this.file = new Array<>(true, 32, Evenement.class);
+        this.fileDistribuee = new Array<>(true, 32, Evenement.class);
+    }
+
+    /**
+     * Abonne un récepteur à un type d'événement
+     * @param type La classe de l'événement
+     * @param abonne Le récepteur
+     * @param <T> Type d'événement
+     */
+    public <T extends Evenement> void abonner(Class<T> type, Abonne<? super T> abonne) {
+        Array<Abonne<? extends Evenement>> liste = abonnes.get(type);
+        if (liste == null) {
+            liste = new Array<>(true, 4);
+            abonnes.put(type, liste);
+            reserver(type);
+        }
+        liste.add(abonne);
+    }
+    
+    /**
+     * Crée le pool d'un type d'événement et le remplit de RESERVE_PAR_TYPE événements
+     * @param type La classe de l'événement
+     * @param <T> Type d'événement
+     */
+    private synchronized <T extends Evenement> void reserver(Class<T> type) {
+        Array<T> reserve = new Array<>(RESERVE_PAR_TYPE);
+        for (int i = 0; i < RESERVE_PAR_TYPE; i++) {
+            reserve.add(obtenir(type));
+        }
+        pool(type).freeAll(reserve);
+    }
+
+    /**
+     * Désabonne un récepteur
+     * @param type La classe de l'événement
+     * @param abonne Le récepteur donné à abonner
+     * @param <T> Type d'événement
+     */
+    public <T extends Evenement> void desabonner(Class<T> type, Abonne<? super T> abonne) {
+        Array<Abonne<? extends Evenement>> liste = abonnes.get(type);
+        if (liste != null) {
+            liste.removeValue(abonne, true);
+        }
+    }
+
+    // ========== PUBLICATION ==========
+
+    /**
+     * Obtient un événement vide à renseigner puis publier
+     * @param type La classe de l'événement (constructeur public sans paramètre)
+     * @param <T> Type d'événement
+     * @return Un événement recyclé, ou neuf si le pool est vide
+     */
+    public synchronized <T extends Evenement> T obtenir(Class<T> type) {
+        return pool(type).obtain();
+    }
+    
+    /**
+     * Retourne le pool d'un type d'événement, créé au besoin
+     * @param type La classe de l'événement
+     * @param <T> Type d'événement
+     * @return Le pool
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Evenement> Pool<T> pool(Class<T> type) {
+        Pool<T> pool = (Pool<T>) pools.get(type);
+        if (pool == null) {
+            pool = new ReflectionPool<>(type);
+            pools.put(type, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Publie un événement : il sera distribué au prochain appel de distribuer
+     * @param evenement L'événement (obtenu par obtenir)
+     */
+    public synchronized void publier(Evenement evenement) {
+        file.add(evenement);
+    }
+
+    // ========== DISTRIBUTION ==========
+
+    /**
+     * Distribue les événements en attente à leurs abonnés, puis les recycle.
+     * Ceux publiés pendant la distribution sont distribués dans la foulée.
+     */
+    @SuppressWarnings("unchecked")
+    public void distribuer() {
+        while (true) {
+            synchronized (this) {
+                if (file.size == 0) {
+                    return;
+                }
+                Array<Evenement> publies = file;
+                file = fileDistribuee;
+                fileDistribuee = publies;
+            }
+
+            for (int i = 0; i < fileDistribuee.size; i++) {
+                Evenement evenement = fileDistribuee.get(i);
+                Array<Abonne<? extends Evenement>> liste = abonnes.get(evenement.getClass());
+                if (liste != null) {
+                    for (int j = 0; j < liste.size; j++) {
+                        ((Abonne<Evenement>) liste.get(j)).recevoir(evenement);
+                    }
+                }
+            }
+            nombreDistribues += fileDistribuee.size;
+            recycler(fileDistribuee);
+        }
+    }
+
+    /**
+     * Rend les événements d'une file à leur pool et vide la file
+     * @param evenements La file
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized void recycler(Array<Evenement> evenements) {
+        for (int i = 0; i < evenements.size; i++) {
+            Evenement evenement = evenements.get(i);
+            ((Pool<Evenement>) pools.get(evenement.getClass())).free(evenement);
+        }
+        evenements.clear();
+    }
+
+    /**
+     * Retourne le nombre total d'événements distribués
+     * @return Nombre d'événements
+     */
+    public int getNombreDistribues() {
+        return nombreDistribues;
+    }
+}
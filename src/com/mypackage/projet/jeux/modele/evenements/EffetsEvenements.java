@@ -0,0 +1,57 @@
+package com.mypackage.projet.jeux.modele.evenements;
+
+import com.mypackage.projet.jeux.modele.entites.Joueur;
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import com.mypackage.projet.jeux.modele.niveau.ObjectifNiveau;
+import com.mypackage.projet.jeux.modele.niveau.ProgressionNiveau;
+
+/**
+ * Abonnés qui appliquent les événements de jeu au niveau où ils ont eu lieu :
+ * le joueur (score, pièces), puis la progression du niveau, puis ses objectifs,
+ * qui avancent ainsi à chaque événement au lieu d'être recalculés à chaque pas.
+ */
+public final class EffetsEvenements {
+    
+    private EffetsEvenements() {
+    }
+    
+    /**
+     * Abonne les effets de jeu au bus (une fois : ils valent pour tous les niveaux)
+     * @param bus Le bus d'événements de la partie
+     */
+    public static void abonner(BusEvenements bus) {
+        // ========== JOUEUR ==========
+        bus.abonner(PieceCollectee.class, evenement -> {
+            Joueur joueur = evenement.getNiveau().getJoueur();
+            joueur.ajouterScore(evenement.getValeur());
+            joueur.ajouterPieces(1); // +1 pièce, +10 points, bonus de vie tous les 100
+        });
+        bus.abonner(ObjetCollecte.class, evenement ->
+            evenement.getNiveau().getJoueur().ajouterScore(evenement.getValeur()));
+        bus.abonner(EnnemiEcrase.class, evenement ->
+            evenement.getNiveau().getJoueur().ajouterScore(evenement.getPoints()));
+        bus.abonner(BlocCasse.class, evenement ->
+            evenement.getNiveau().getJoueur().ajouterScore(evenement.getPoints()));
+        
+        // ========== PROGRESSION ==========
+        bus.abonner(PieceCollectee.class, evenement -> evenement.getNiveau().getProgression().ajouterPiece());
+        bus.abonner(EnnemiEcrase.class, evenement -> {
+            if (evenement.estVaincu()) {
+                evenement.getNiveau().getProgression().ennemiVaincu();
+            }
+        });
+        
+        // ========== OBJECTIFS (après la progression, dont ils lisent les compteurs) ==========
+        bus.abonner(PieceCollectee.class, evenement -> {
+            Niveau niveau = evenement.getNiveau();
+            niveau.avancerObjectifs(ObjectifNiveau.TypeObjectif.COLLECTER_PIECES, niveau.getProgression().getPieces());
+        });
+        bus.abonner(EnnemiEcrase.class, evenement -> {
+            if (evenement.estVaincu()) {
+                Niveau niveau = evenement.getNiveau();
+                ProgressionNiveau progression = niveau.getProgression();
+                niveau.avancerObjectifs(ObjectifNiveau.TypeObjectif.VAINCRE_ENNEMIS, progression.getEnnemisVaincus());
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.mypackage.projet.jeux.modele.evenements;
+
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+
+/**
+ * Le joueur a sauté sur un ennemi
+ */
+public class EnnemiEcrase extends Evenement {
+    
+    private int points;
+    private boolean vaincu; // L'ennemi n'avait plus de points de vie
+    
+    /**
+     * Renseigne l'événement
+     * @param niveau Le niveau
+     * @param points Points gagnés par le joueur
+     * @param vaincu true si l'ennemi a été vaincu par ce coup
+     * @return L'événement
+     */
+    public EnnemiEcrase definir(Niveau niveau, int points, boolean vaincu) {
+        this.niveau = niveau;
+        this.points = points;
+        this.vaincu = vaincu;
+        return this;
+    }
+    
+    public int getPoints() {
+        return points;
+    }
+    
+    public boolean estVaincu() {
+        return vaincu;
+    }
+    
+    @Override
+    public void reset() {
+        super.reset();
+        points = 0;
+        vaincu = false;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mypackage.projet.jeux.modele.evenements;
+
+import com.badlogic.gdx.utils.Pool;
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+
+/**
+ * Classe abstraite d'un événement de jeu (pièce collectée, ennemi écrasé, bloc cassé...).
+ * Les événements sont obtenus auprès du BusEvenements, qui les recycle après distribution :
+ * un abonné ne doit pas garder de référence vers un événement reçu.
+ */
+public abstract class Evenement implements Pool.Poolable {
+    
+    protected Niveau niveau; // Niveau où l'événement a eu lieu
+    
+    /**
+     * Retourne le niveau où l'événement a eu lieu
+     * @return Le niveau
+     */
+    public Niveau getNiveau() {
+        return niveau;
+    }
+    
+    /**
+     * Remet l'événement à zéro avant son retour dans le pool
+     */
+    @Override
+    public void reset() {
+        niveau = null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mypackage.projet.jeux.modele.evenements;
+
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+
+/**
+ * La partie du niveau est terminée : niveau réussi (récapitulatif) ou perdu (game over)
+ */
+public class FinNiveau extends Evenement {
+    
+    private boolean reussi;
+    
+    /**
+     * Renseigne l'événement
+     * @param niveau Le niveau
+     * @param reussi true si le niveau est réussi, false si le joueur n'a plus de vie
+     * @return L'événement
+     */
+    public FinNiveau definir(Niveau niveau, boolean reussi) {
+        this.niveau = niveau;
+        this.reussi = reussi;
+        return this;
+    }
+    
+    public boolean estReussi() {
+        return reussi;
+    }
+    
+    @Override
+    public void reset() {
+        super.reset();
+        reussi = false;
+    }
+}
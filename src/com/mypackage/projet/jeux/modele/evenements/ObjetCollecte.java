@@ -0,0 +1,33 @@
+package com.mypackage.projet.jeux.modele.evenements;
+
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+
+/**
+ * Le joueur a collecté un objet autre qu'une pièce (voir PieceCollectee)
+ */
+public class ObjetCollecte extends Evenement {
+    
+    private int valeur; // Points de l'objet ramassé
+    
+    /**
+     * Renseigne l'événement
+     * @param niveau Le niveau
+     * @param valeur Points de l'objet
+     * @return L'événement
+     */
+    public ObjetCollecte definir(Niveau niveau, int valeur) {
+        this.niveau = niveau;
+        this.valeur = valeur;
+        return this;
+    }
+    
+    public int getValeur() {
+        return valeur;
+    }
+    
+    @Override
+    public void reset() {
+        super.reset();
+        valeur = 0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mypackage.projet.jeux.modele.evenements;
+
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+
+/**
+ * Le joueur a collecté une pièce
+ */
+public class PieceCollectee extends Evenement {
+    
+    private int valeur; // Points de l'objet ramassé
+    
+    /**
+     * Renseigne l'événement
+     * @param niveau Le niveau
+     * @param valeur Points de la pièce
+     * @return L'événement
+     */
+    public PieceCollectee definir(Niveau niveau, int valeur) {
+        this.niveau = niveau;
+        this.valeur = valeur;
+        return this;
+    }
+    
+    public int getValeur() {
+        return valeur;
+    }
+    
+    @Override
+    public void reset() {
+        super.reset();
+        valeur = 0;
+    }
+}
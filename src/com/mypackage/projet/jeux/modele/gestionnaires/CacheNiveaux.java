@@ -0,0 +1,244 @@
+package com.mypackage.projet.jeux.modele.gestionnaires;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.mypackage.projet.jeux.modele.niveau.DescriptionNiveau;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache des niveaux déjà chargés, indexé par chemin du fichier TMX.
+ * Chaque entrée garde la description du niveau (instantané immuable des apparitions)
+ * et sa carte Tiled : recommencer ou revenir à un niveau ne relit aucun fichier.
+ * La mémoire occupée est estimée (textures, cellules, tables d'apparition) et bornée par un budget ;
+ * au-delà, les niveaux les moins récemment utilisés sont retirés et leur carte libérée.
+ * Le niveau en cours d'utilisation n'est jamais retiré.
+ */
+public class CacheNiveaux {
+
+    /** Budget par défaut : 64 Mo */
+    public static final long BUDGET_DEFAUT_OCTETS = 64L * 1024 * 1024;
+
+    private static final long TAILLE_CELLULE_OCTETS = 48; // Objet Cell + référence dans la couche
+    private static final long OCTETS_PAR_PIXEL = 4;       // Textures RGBA8888
+
+    /**
+     * Niveau conservé dans le cache
+     */
+    public static class Entree {
+        private final DescriptionNiveau description;
+        private final TiledMap carte;
+        private final long tailleOctets;
+
+        Entree(DescriptionNiveau description, TiledMap carte, long tailleOctets) {
+            this.description = description;
+            this.carte = carte;
+            this.tailleOctets = tailleOctets;
+        }
+
+        public DescriptionNiveau getDescription() {
+            return description;
+        }
+
+        public TiledMap getCarte() {
+            return carte;
+        }
+
+        public long getTailleOctets() {
+            return tailleOctets;
+        }
+    }
+
+    private final LinkedHashMap<String, Entree> entrees; // Ordre d'accès : le plus ancien en tête
+    private long budgetOctets;
+    private long tailleOctets;
+    private String cheminEnUtilisation;
+
+    /**
+     * Constructeur avec le budget par défaut
+     */
+    public CacheNiveaux() {
+        this(BUDGET_DEFAUT_OCTETS);
+    }
+
+    /**
+     * Constructeur
+     * @param budgetOctets Mémoire maximale estimée des niveaux conservés (en octets)
+     */
+    public CacheNiveaux(long budgetOctets) {
+        this.entrees = new LinkedHashMap<>(8, 0.75f, true);
+        this.budgetOctets = budgetOctets;
+        this.tailleOctets = 0;
+        this.cheminEnUtilisation = null;
+    }
+
+    /**
+     * Obtient un niveau du cache et le marque comme le plus récemment utilisé
+     * @param chemin Chemin du fichier du niveau
+     * @return L'entrée, ou null si le niveau n'est pas en cache
+     */
+    public Entree obtenir(String chemin) {
+        return entrees.get(chemin);
+    }
+
+    /**
+     * Ajoute (ou remplace) un niveau dans le cache, puis retire les plus anciens si le budget est dépassé.
+     * Le cache devient propriétaire de la carte : il la libère quand il la retire.
+     * @param chemin Chemin du fichier du niveau
+     * @param description La description du niveau
+     * @param carte Sa carte Tiled
+     */
+    public void ajouter(String chemin, DescriptionNiveau description, TiledMap carte) {
+        Entree precedente = entrees.get(chemin);
+        if (precedente != null) {
+            if (precedente.carte == carte && precedente.description == description) {
+                return;
+            }
+            retirer(chemin);
+        }
+
+        Entree entree = new Entree(description, carte, estimerTailleOctets(description, carte));
+        entrees.put(chemin, entree);
+        tailleOctets += entree.tailleOctets;
+        respecterBudget(chemin); // Le niveau qui vient d'être chargé va servir : il reste
+    }
+
+    /**
+     * Indique le niveau en cours de partie : il ne sera pas retiré du cache
+     * @param chemin Chemin du fichier du niveau (null : aucun)
+     */
+    public void definirEnUtilisation(String chemin) {
+        this.cheminEnUtilisation = chemin;
+        respecterBudget(null);
+    }
+
+    /**
+     * Vérifie si une carte appartient au cache
+     * @param carte La carte
+     * @return true si une entrée du cache possède cette carte
+     */
+    public boolean possede(TiledMap carte) {
+        for (Entree entree : entrees.values()) {
+            if (entree.carte == carte) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retire un niveau du cache et libère sa carte
+     * @param chemin Chemin du fichier du niveau
+     */
+    public void retirer(String chemin) {
+        Entree entree = entrees.remove(chemin);
+        if (entree != null) {
+            liberer(chemin, entree);
+        }
+    }
+
+    /**
+     * Vide le cache et libère toutes les cartes
+     */
+    public void vider() {
+        for (Map.Entry<String, Entree> entree : entrees.entrySet()) {
+            liberer(entree.getKey(), entree.getValue());
+        }
+        entrees.clear();
+        tailleOctets = 0;
+        cheminEnUtilisation = null;
+    }
+
+    /**
+     * Retire les niveaux les moins récemment utilisés tant que le budget est dépassé
+     * @param cheminProtege Niveau à conserver en plus du niveau en utilisation (peut être null)
+     */
+    private void respecterBudget(String cheminProtege) {
+        Iterator<Map.Entry<String, Entree>> iterateur = entrees.entrySet().iterator();
+        while (tailleOctets > budgetOctets && iterateur.hasNext()) {
+            Map.Entry<String, Entree> entree = iterateur.next();
+            if (entree.getKey().equals(cheminEnUtilisation) || entree.getKey().equals(cheminProtege)) {
+                continue;
+            }
+            iterateur.remove();
+            liberer(entree.getKey(), entree.getValue());
+        }
+    }
+
+    private void liberer(String chemin, Entree entree) {
+        tailleOctets -= entree.tailleOctets;
+        if (entree.carte != null) {
+            entree.carte.dispose();
+        }
+        Gdx.app.log("CacheNiveaux", "Niveau retiré du cache : " + chemin);
+    }
+
+    /**
+     * Estime la mémoire occupée par un niveau : description, cellules de la carte et textures des tilesets
+     * @param description La description du niveau
+     * @param carte Sa carte Tiled (peut être null)
+     * @return La taille estimée, en octets
+     */
+    static long estimerTailleOctets(DescriptionNiveau description, TiledMap carte) {
+        long taille = description != null ? description.estimerTailleOctets() : 0;
+        if (carte == null) {
+            return taille;
+        }
+
+        for (MapLayer calque : carte.getLayers()) {
+            if (calque instanceof TiledMapTileLayer) {
+                TiledMapTileLayer couche = (TiledMapTileLayer) calque;
+                for (int ty = 0; ty < couche.getHeight(); ty++) {
+                    for (int tx = 0; tx < couche.getWidth(); tx++) {
+                        if (couche.getCell(tx, ty) != null) {
+                            taille += TAILLE_CELLULE_OCTETS;
+                        }
+                    }
+                }
+            }
+        }
+
+        // Une texture est partagée par toutes les tuiles de son tileset
+        IdentityHashMap<Texture, Boolean> textures = new IdentityHashMap<>();
+        for (TiledMapTileSet tileset : carte.getTileSets()) {
+            for (TiledMapTile tuile : tileset) {
+                TextureRegion region = tuile.getTextureRegion();
+                Texture texture = region != null ? region.getTexture() : null;
+                if (texture != null && textures.put(texture, Boolean.TRUE) == null) {
+                    taille += (long) texture.getWidth() * texture.getHeight() * OCTETS_PAR_PIXEL;
+                }
+            }
+        }
+        return taille;
+    }
+
+    public int getNombreNiveaux() {
+        return entrees.size();
+    }
+
+    public long getTailleOctets() {
+        return tailleOctets;
+    }
+
+    public long getBudgetOctets() {
+        return budgetOctets;
+    }
+
+    /**
+     * Modifie le budget mémoire (les niveaux en trop sont retirés immédiatement)
+     * @param budgetOctets Mémoire maximale estimée des niveaux conservés (en octets)
+     */
+    public void setBudgetOctets(long budgetOctets) {
+        this.budgetOctets = budgetOctets;
+        respecterBudget(null);
+    }
+}
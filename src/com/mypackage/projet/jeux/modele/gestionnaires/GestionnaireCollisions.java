@@ -1,6 +1,8 @@
 package com.mypackage.projet.jeux.modele.gestionnaires;
 
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.mypackage.projet.jeux.modele.entites.Drapeau;
 import com.mypackage.projet.jeux.modele.entites.Ennemi;
 import com.mypackage.projet.jeux.modele.entites.EnnemiTerrestre;
@@ -8,21 +10,111 @@ import com.mypackage.projet.jeux.modele.entites.Joueur;
 import com.mypackage.projet.jeux.modele.entites.ObjetCollectable;
 import com.mypackage.projet.jeux.modele.entites.Obstacle;
 import com.mypackage.projet.jeux.modele.entites.PowerUp;
+import com.mypackage.projet.jeux.modele.evenements.BlocCasse;
+import com.mypackage.projet.jeux.modele.evenements.BusEvenements;
+import com.mypackage.projet.jeux.modele.evenements.EnnemiEcrase;
+import com.mypackage.projet.jeux.modele.evenements.ObjetCollecte;
+import com.mypackage.projet.jeux.modele.evenements.PieceCollectee;
+import com.mypackage.projet.jeux.modele.niveau.CarteCollision;
+import com.mypackage.projet.jeux.modele.niveau.GrilleSpatiale;
 import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import com.mypackage.projet.jeux.utilitaires.Profileur;
+import com.mypackage.projet.jeux.utilitaires.TraitementParallele;
+
+import java.util.List;
 
 /**
- * Classe gérant les collisions entre les différentes entités du jeu
+ * Classe gérant les collisions entre les différentes entités du jeu.
+ * Les conséquences sur le score, les pièces et les ennemis vaincus sont publiées
+ * sur le BusEvenements (appliquées en fin de pas), pas appliquées ici.
  */
 public class GestionnaireCollisions {
     
+    /** Marge autour de la boîte interrogée : couvre les corrections de position faites pendant une phase */
+    private static final float MARGE_REQUETE = 32f;
+    
+    /** Hauteur ignorée au bas de la boîte lors du test des murs (enfoncement maximal dans le sol en une frame) */
+    private static final float MARGE_SOL_TUILES = 12f;
+    
+    /** Hauteur ignorée en haut de la boîte lors du test des murs */
+    private static final float MARGE_PLAFOND_TUILES = 4f;
+    
+    /** Largeur ignorée de chaque côté lors du test du sol et du plafond */
+    private static final float MARGE_COTES_TUILES = 2f;
+    
+    /** Décalage pour rester strictement à l'intérieur d'un bord de boîte */
+    private static final float EPSILON = 0.01f;
+    
+    /**
+     * Déplacement par pas (sur un axe) au-delà duquel le joueur est balayé avant la résolution
+     * par chevauchement : celle-ci ne tolère pas d'enfoncement plus profond que MARGE_SOL_TUILES
+     */
+    private static final float SEUIL_BALAYAGE = MARGE_SOL_TUILES;
+    
+    /** Nombre maximal de contacts suivis pendant un balayage (glissement le long des surfaces) */
+    private static final int CONTACTS_MAX = 3;
+    
+    /** Aucun impact sur le trajet */
+    private static final float AUCUN_IMPACT = Float.POSITIVE_INFINITY;
+    
     private Niveau niveau;
+    private final BusEvenements bus;
+    
+    // Tampons réutilisés d'une frame à l'autre (aucune allocation pendant les collisions)
+    private final Array<Obstacle> obstaclesProches;
+    private final Rectangle zoneRequete;
+    
+    // Phase ennemis/terrain parallèle : un tampon de requête par thread
+    private final ThreadLocal<Array<Obstacle>> obstaclesProchesParThread;
+    private final ThreadLocal<Rectangle> zoneRequeteParThread;
+    private final TraitementParallele.TraitementPlage plageEnnemisTerrain;
+    private CarteCollision carteCollisionPhase;
+    
+    // Résultat du dernier calcul de temps d'impact
+    private float tempsImpact;
+    private boolean impactVertical;
     
     /**
      * Constructeur
      * @param niveau Le niveau dans lequel gérer les collisions
+     * @param bus Le bus où publier les événements de jeu
      */
-    public GestionnaireCollisions(Niveau niveau) {
+    public GestionnaireCollisions(Niveau niveau, BusEvenements bus) {
         this.niveau = niveau;
+        this.bus = bus;
+        this.obstaclesProches = new Array<>(false, 32);
+        this.zoneRequete = new Rectangle();
+        this.obstaclesProchesParThread = ThreadLocal.withInitial(() -> new Array<>(false, 32));
+        this.zoneRequeteParThread = ThreadLocal.withInitial(Rectangle::new);
+        this.plageEnnemisTerrain = this::gererCollisionsEnnemisTerrain;
+    }
+    
+    /**
+     * Remplit obstaclesProches avec les obstacles des cellules recouvertes par la boîte
+     * (élargie de la marge donnée)
+     * @param boite La boîte de l'entité en mouvement
+     * @param marge Marge ajoutée de chaque côté
+     */
+    private void requeterObstaclesProches(Rectangle boite, float marge) {
+        requeterObstaclesProches(boite, marge, zoneRequete, obstaclesProches);
+    }
+    
+    /**
+     * Remplit le tampon donné avec les obstacles proches de la boîte (lecture seule de la grille)
+     * @param boite La boîte de l'entité en mouvement
+     * @param marge Marge ajoutée de chaque côté
+     * @param zone Rectangle de travail pour la zone interrogée
+     * @param resultat Tampon qui reçoit les obstacles
+     */
+    private void requeterObstaclesProches(Rectangle boite, float marge, Rectangle zone, Array<Obstacle> resultat) {
+        zone.set(
+            boite.x - marge,
+            boite.y - marge,
+            boite.width + 2 * marge,
+            boite.height + 2 * marge
+        );
+        GrilleSpatiale grille = niveau.getGrilleObstacles();
+        grille.requeter(zone, resultat);
     }
     
     /**
@@ -34,34 +126,59 @@ public class GestionnaireCollisions {
             return;
         }
         
-        // Collisions avec les obstacles
-        gererCollisionsObstacles(joueur);
+        // Collisions avec le terrain (tuiles ou obstacles selon le mode du niveau)
+        Profileur.debut(Profileur.Phase.COLLISIONS_TERRAIN);
+        CarteCollision carteCollision = niveau.getCarteCollision();
+        balayerJoueur(joueur, carteCollision);
+        if (carteCollision != null) {
+            gererCollisionsTuiles(joueur, carteCollision);
+        } else {
+            gererCollisionsObstacles(joueur);
+        }
+        Profileur.fin(Profileur.Phase.COLLISIONS_TERRAIN);
         
         // Collisions avec les ennemis
+        Profileur.debut(Profileur.Phase.COLLISIONS_ENNEMIS);
         gererCollisionsEnnemis(joueur);
+        Profileur.fin(Profileur.Phase.COLLISIONS_ENNEMIS);
         
         // Collisions avec les objets collectables
+        Profileur.debut(Profileur.Phase.COLLISIONS_OBJETS);
         gererCollisionsObjetsCollectables(joueur);
+        Profileur.fin(Profileur.Phase.COLLISIONS_OBJETS);
         
         // Collisions avec les power-ups
+        Profileur.debut(Profileur.Phase.COLLISIONS_POWERUPS);
         gererCollisionsPowerUps(joueur);
+        Profileur.fin(Profileur.Phase.COLLISIONS_POWERUPS);
         
         // Collisions avec le drapeau (fin de niveau)
+        Profileur.debut(Profileur.Phase.COLLISIONS_DRAPEAU);
         gererCollisionDrapeau(joueur);
+        Profileur.fin(Profileur.Phase.COLLISIONS_DRAPEAU);
         
-        // Collisions des ennemis avec les obstacles
-        for (Ennemi ennemi : niveau.getEnnemis()) {
-            if (ennemi.estActive()) {
-                gererCollisionsEnnemiObstacles(ennemi);
-            }
-        }
+        // Collisions des ennemis avec les obstacles (chaque ennemi ne lit que le terrain
+        // et n'écrit que son propre état : la phase peut être répartie sur plusieurs cœurs)
+        Profileur.debut(Profileur.Phase.ENNEMIS_TERRAIN);
+        carteCollisionPhase = carteCollision;
+        TraitementParallele.executer(niveau.getEnnemisMisAJour().size(), niveau.getSeuilParallele(), plageEnnemisTerrain);
+        Profileur.fin(Profileur.Phase.ENNEMIS_TERRAIN);
         
         // Collisions des power-ups avec les obstacles
-        for (PowerUp powerUp : niveau.getPowerUps()) {
-            if (powerUp.estActive()) {
+        Profileur.debut(Profileur.Phase.POWERUPS_TERRAIN);
+        List<PowerUp> powerUpsMisAJour = niveau.getPowerUpsMisAJour();
+        for (int i = 0; i < powerUpsMisAJour.size(); i++) {
+            PowerUp powerUp = powerUpsMisAJour.get(i);
+            if (!powerUp.estActive()) {
+                continue;
+            }
+            if (carteCollision != null) {
+                gererCollisionsPowerUpTuiles(powerUp, carteCollision);
+            } else {
                 gererCollisionsPowerUpObstacles(powerUp);
             }
         }
+        Profileur.fin(Profileur.Phase.POWERUPS_TERRAIN);
     }
     
     /**
@@ -71,28 +188,19 @@ public class GestionnaireCollisions {
      */
     private void gererCollisionsObstacles(Joueur joueur) {
         Rectangle boiteJoueur = joueur.getBoiteCollision();
-        float rayonVerification = 200f;
         
-        // Sauvegarder la position et vitesse avant collision
-        float posXAvant = joueur.getPosition().x;
-        float posYAvant = joueur.getPosition().y;
-        float vitesseX = joueur.getVitesse().x;
+        // Sauvegarder la vitesse avant collision
         float vitesseY = joueur.getVitesse().y;
         
         // ========== PHASE 1 : COLLISIONS HORIZONTALES (Axe X) ==========
-        for (Obstacle obstacle : niveau.getObstacles()) {
+        // OPTIMISATION : Seuls les obstacles des cellules voisines sont testés
+        requeterObstaclesProches(boiteJoueur, MARGE_REQUETE);
+        for (int i = 0; i < obstaclesProches.size; i++) {
+            Obstacle obstacle = obstaclesProches.get(i);
             if (!obstacle.estActive() || !obstacle.estSolide()) {
                 continue;
             }
             
-            // OPTIMISATION : Ignorer les obstacles trop éloignés
-            float distanceX = Math.abs(obstacle.getPosition().x - posXAvant);
-            float distanceY = Math.abs(obstacle.getPosition().y - posYAvant);
-            
-            if (distanceX > rayonVerification || distanceY > rayonVerification) {
-                continue;
-            }
-            
             Rectangle boiteObstacle = obstacle.getBoiteCollision();
             
             if (boiteJoueur.overlaps(boiteObstacle)) {
@@ -131,19 +239,13 @@ public class GestionnaireCollisions {
         
         // ========== PHASE 2 : COLLISIONS VERTICALES (Axe Y) ==========
         boolean auSol = false;
-        for (Obstacle obstacle : niveau.getObstacles()) {
+        requeterObstaclesProches(boiteJoueur, MARGE_REQUETE);
+        for (int i = 0; i < obstaclesProches.size; i++) {
+            Obstacle obstacle = obstaclesProches.get(i);
             if (!obstacle.estActive() || !obstacle.estSolide()) {
                 continue;
             }
             
-            // OPTIMISATION : Ignorer les obstacles trop éloignés
-            float distanceX = Math.abs(obstacle.getPosition().x - joueur.getPosition().x);
-            float distanceY = Math.abs(obstacle.getPosition().y - joueur.getPosition().y);
-            
-            if (distanceX > rayonVerification || distanceY > rayonVerification) {
-                continue;
-            }
-            
             Rectangle boiteObstacle = obstacle.getBoiteCollision();
             
             if (boiteJoueur.overlaps(boiteObstacle)) {
@@ -197,16 +299,20 @@ public class GestionnaireCollisions {
         if (!auSol && vitesseY <= 0) {
             // Vérifier une dernière fois avec une marge de tolérance
             boolean auSolAvecTolerance = false;
-            Rectangle boiteJoueurEtendue = new Rectangle(
+            
+            // Bande de 2 pixels sous les pieds du joueur
+            zoneRequete.set(
                 boiteJoueur.x + 2, 
                 boiteJoueur.y - 2, 
                 boiteJoueur.width - 4, 
                 2
             );
+            niveau.getGrilleObstacles().requeter(zoneRequete, obstaclesProches);
             
-            for (Obstacle obstacle : niveau.getObstacles()) {
+            for (int i = 0; i < obstaclesProches.size; i++) {
+                Obstacle obstacle = obstaclesProches.get(i);
                 if (obstacle.estActive() && obstacle.estSolide()) {
-                    if (boiteJoueurEtendue.overlaps(obstacle.getBoiteCollision())) {
+                    if (zoneRequete.overlaps(obstacle.getBoiteCollision())) {
                         auSolAvecTolerance = true;
                         break;
                     }
@@ -300,7 +406,7 @@ public class GestionnaireCollisions {
             bloc.detruire();
             
             // Ajouter des points au score
-            joueur.ajouterScore(50);
+            bus.publier(bus.obtenir(BlocCasse.class).definir(niveau, bloc.getPosition().x, bloc.getPosition().y, 50));
             
             // TODO: Ajouter animation de débris/particules de brique
             
@@ -318,7 +424,9 @@ public class GestionnaireCollisions {
     private void gererCollisionsEnnemis(Joueur joueur) {
         Rectangle boiteJoueur = joueur.getBoiteCollision();
         
-        for (Ennemi ennemi : niveau.getEnnemis()) {
+        List<Ennemi> ennemisMisAJour = niveau.getEnnemisMisAJour();
+        for (int i = 0; i < ennemisMisAJour.size(); i++) {
+            Ennemi ennemi = ennemisMisAJour.get(i);
             if (!ennemi.estActive()) {
                 continue;
             }
@@ -348,16 +456,13 @@ public class GestionnaireCollisions {
                     
                     // SUCCÈS : Mario écrase l'ennemi ! 🦘
                     ennemi.subirDegats(1);
-                    joueur.ajouterScore(ennemi.getPointsScore());
                     
                     // REBOND Mario-style (plus haut si on maintient saut)
                     float rebond = 350f; // Rebond de base
                     joueur.setVitesse(joueur.getVitesse().x, rebond);
                     
-                    // Notifier le niveau
-                    if (!ennemi.estActive()) {
-                        niveau.notifierEnnemiVaincu();
-                    }
+                    // Score et ennemis vaincus : appliqués en fin de pas
+                    bus.publier(bus.obtenir(EnnemiEcrase.class).definir(niveau, ennemi.getPointsScore(), !ennemi.estActive()));
                     
                 // ========== COLLISION LATÉRALE (MARIO SE FAIT TOUCHER) ==========
                 } else {
@@ -386,30 +491,59 @@ public class GestionnaireCollisions {
      * @param joueur Le joueur
      */
     private void gererCollisionsObjetsCollectables(Joueur joueur) {
-        for (ObjetCollectable objet : niveau.getObjetsCollectables()) {
+        List<ObjetCollectable> objetsMisAJour = niveau.getObjetsMisAJour();
+        for (int i = 0; i < objetsMisAJour.size(); i++) {
+            ObjetCollectable objet = objetsMisAJour.get(i);
             if (!objet.estActive()) {
                 continue;
             }
             
             if (joueur.entreEnCollisionAvec(objet)) {
                 objet.collecter();
-                joueur.ajouterScore(objet.getValeur());
                 
-                // Notifier le niveau qu'une pièce a été collectée
+                // Score, pièces et objectifs : appliqués en fin de pas
                 if ("PIECE".equalsIgnoreCase(objet.getType())) {
-                    joueur.ajouterPieces(1); // +1 pièce, +10 points, bonus de vie tous les 100
-                    niveau.notifierPieceCollectee();
+                    bus.publier(bus.obtenir(PieceCollectee.class).definir(niveau, objet.getValeur()));
+                } else {
+                    bus.publier(bus.obtenir(ObjetCollecte.class).definir(niveau, objet.getValeur()));
                 }
             }
         }
     }
     
+    /**
+     * Gère les collisions avec le terrain d'une plage d'ennemis du pas courant
+     * @param debut Premier indice
+     * @param fin Indice de fin (exclu)
+     */
+    private void gererCollisionsEnnemisTerrain(int debut, int fin) {
+        List<Ennemi> ennemis = niveau.getEnnemisMisAJour();
+        Array<Obstacle> tampon = obstaclesProchesParThread.get();
+        Rectangle zone = zoneRequeteParThread.get();
+        
+        for (int i = debut; i < fin; i++) {
+            Ennemi ennemi = ennemis.get(i);
+            if (!ennemi.estActive()) {
+                continue;
+            }
+            if (carteCollisionPhase != null) {
+                gererCollisionsEnnemiTuiles(ennemi, carteCollisionPhase);
+            } else {
+                gererCollisionsEnnemiObstacles(ennemi, tampon, zone);
+            }
+        }
+    }
+    
     /**
      * Gère les collisions d'un ennemi avec les obstacles
      * @param ennemi L'ennemi
+     * @param obstaclesProches Tampon de requête du thread courant
+     * @param zone Rectangle de travail du thread courant
      */
-    private void gererCollisionsEnnemiObstacles(Ennemi ennemi) {
-        for (Obstacle obstacle : niveau.getObstacles()) {
+    private void gererCollisionsEnnemiObstacles(Ennemi ennemi, Array<Obstacle> obstaclesProches, Rectangle zone) {
+        requeterObstaclesProches(ennemi.getBoiteCollision(), 0, zone, obstaclesProches);
+        for (int i = 0; i < obstaclesProches.size; i++) {
+            Obstacle obstacle = obstaclesProches.get(i);
             if (!obstacle.estActive() || !obstacle.estSolide()) {
                 continue;
             }
@@ -434,7 +568,9 @@ public class GestionnaireCollisions {
      * @param joueur Le joueur
      */
     private void gererCollisionsPowerUps(Joueur joueur) {
-        for (PowerUp powerUp : niveau.getPowerUps()) {
+        List<PowerUp> powerUpsMisAJour = niveau.getPowerUpsMisAJour();
+        for (int i = 0; i < powerUpsMisAJour.size(); i++) {
+            PowerUp powerUp = powerUpsMisAJour.get(i);
             if (!powerUp.estActive() || powerUp.estEnApparition()) {
                 continue;
             }
@@ -453,7 +589,9 @@ public class GestionnaireCollisions {
     private void gererCollisionsPowerUpObstacles(PowerUp powerUp) {
         Rectangle boitePowerUp = powerUp.getBoiteCollision();
         
-        for (Obstacle obstacle : niveau.getObstacles()) {
+        requeterObstaclesProches(boitePowerUp, 0);
+        for (int i = 0; i < obstaclesProches.size; i++) {
+            Obstacle obstacle = obstaclesProches.get(i);
             if (!obstacle.estActive() || !obstacle.estSolide()) {
                 continue;
             }
@@ -482,6 +620,356 @@ public class GestionnaireCollisions {
             }
         }
     }
+
+    // ========== BALAYAGE DU JOUEUR (COLLISION CONTINUE) ==========
+    
+    /**
+     * Ramène le joueur au premier contact sur son trajet du pas (de la position précédente
+     * à la position actuelle) quand ce trajet est trop long pour la résolution par chevauchement,
+     * qui sinon le laisserait traverser une plateforme d'une tuile lors d'une longue frame.
+     * Au contact, la composante bloquée du déplacement est annulée et le reste du trajet glisse
+     * le long de la surface. Le joueur est laissé à peine enfoncé dans le sol ou le plafond touché :
+     * la résolution habituelle qui suit le pose (vitesse, au sol, blocs frappés) comme d'ordinaire.
+     * Un seul calcul par contact, quelle que soit la vitesse, au lieu de subdiviser le pas.
+     * @param joueur Le joueur
+     * @param carte La carte de collision du niveau (null en mode obstacles)
+     */
+    private void balayerJoueur(Joueur joueur, CarteCollision carte) {
+        Vector2 depart = joueur.getPositionPrecedente();
+        Vector2 arrivee = joueur.getPosition();
+        float dx = arrivee.x - depart.x;
+        float dy = arrivee.y - depart.y;
+        if (Math.abs(dx) <= SEUIL_BALAYAGE && Math.abs(dy) <= SEUIL_BALAYAGE) {
+            return; // Trajet court : la résolution par chevauchement suffit
+        }
+        
+        float x = depart.x;
+        float y = depart.y;
+        float largeur = joueur.getLargeur();
+        float hauteur = joueur.getHauteur();
+        float enfoncementY = 0f;
+        
+        for (int contact = 0; dx != 0f || dy != 0f; contact++) {
+            if (contact == CONTACTS_MAX) {
+                dx = 0f; // Coincé dans un recoin : le reste du trajet est abandonné
+                dy = 0f;
+                break;
+            }
+            if (carte != null) {
+                calculerImpactTuiles(carte, x, y, largeur, hauteur, dx, dy);
+            } else {
+                calculerImpactObstacles(x, y, largeur, hauteur, dx, dy);
+            }
+            if (tempsImpact >= 1f) {
+                break;
+            }
+            
+            // Avancer jusqu'au contact, puis glisser avec le reste du trajet
+            x += dx * tempsImpact;
+            y += dy * tempsImpact;
+            float reste = 1f - tempsImpact;
+            if (impactVertical) {
+                enfoncementY = Math.signum(dy) * 2 * EPSILON;
+                dx *= reste;
+                dy = 0f;
+            } else {
+                dx = 0f;
+                dy *= reste;
+            }
+        }
+        
+        joueur.forcerPosition(x + dx, y + dy + enfoncementY);
+    }
+    
+    /**
+     * Calcule le temps d'impact d'une boîte en mouvement contre les tuiles solides
+     * (la grille des tuiles sert de phase large : seules les tuiles de la zone balayée sont testées)
+     * @param carte La carte de collision
+     * @param x Bord gauche de la boîte au départ
+     * @param y Bord bas de la boîte au départ
+     * @param largeur Largeur de la boîte
+     * @param hauteur Hauteur de la boîte
+     * @param dx Déplacement horizontal
+     * @param dy Déplacement vertical
+     */
+    private void calculerImpactTuiles(CarteCollision carte, float x, float y, float largeur, float hauteur,
+                                      float dx, float dy) {
+        tempsImpact = AUCUN_IMPACT;
+        float tailleTuile = carte.getTailleTuile();
+        int colonneMin = carte.colonne(Math.min(x, x + dx));
+        int colonneMax = carte.colonne(Math.max(x, x + dx) + largeur);
+        int ligneMin = carte.ligne(Math.min(y, y + dy));
+        int ligneMax = carte.ligne(Math.max(y, y + dy) + hauteur);
+        
+        for (int ty = ligneMin; ty <= ligneMax; ty++) {
+            for (int tx = colonneMin; tx <= colonneMax; tx++) {
+                if (carte.estSolide(tx, ty)) {
+                    testerImpact(x, y, largeur, hauteur, dx, dy,
+                        tx * tailleTuile, ty * tailleTuile, tailleTuile, tailleTuile);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Calcule le temps d'impact d'une boîte en mouvement contre les obstacles solides
+     * trouvés par la grille spatiale dans la zone balayée
+     * @param x Bord gauche de la boîte au départ
+     * @param y Bord bas de la boîte au départ
+     * @param largeur Largeur de la boîte
+     * @param hauteur Hauteur de la boîte
+     * @param dx Déplacement horizontal
+     * @param dy Déplacement vertical
+     */
+    private void calculerImpactObstacles(float x, float y, float largeur, float hauteur, float dx, float dy) {
+        tempsImpact = AUCUN_IMPACT;
+        zoneRequete.set(Math.min(x, x + dx), Math.min(y, y + dy), largeur + Math.abs(dx), hauteur + Math.abs(dy));
+        niveau.getGrilleObstacles().requeter(zoneRequete, obstaclesProches);
+        
+        for (int i = 0; i < obstaclesProches.size; i++) {
+            Obstacle obstacle = obstaclesProches.get(i);
+            if (!obstacle.estActive() || !obstacle.estSolide()) {
+                continue;
+            }
+            Rectangle boite = obstacle.getBoiteCollision();
+            testerImpact(x, y, largeur, hauteur, dx, dy, boite.x, boite.y, boite.width, boite.height);
+        }
+    }
+    
+    /**
+     * Teste une boîte en mouvement contre une boîte fixe (méthode des intervalles par axe)
+     * et retient l'impact s'il précède le plus proche trouvé. Une boîte déjà chevauchée
+     * au départ, ou seulement effleurée, est ignorée.
+     * @param x Bord gauche de la boîte mobile au départ
+     * @param y Bord bas de la boîte mobile au départ
+     * @param largeur Largeur de la boîte mobile
+     * @param hauteur Hauteur de la boîte mobile
+     * @param dx Déplacement horizontal
+     * @param dy Déplacement vertical
+     * @param bx Bord gauche de la boîte fixe
+     * @param by Bord bas de la boîte fixe
+     * @param bLargeur Largeur de la boîte fixe
+     * @param bHauteur Hauteur de la boîte fixe
+     */
+    private void testerImpact(float x, float y, float largeur, float hauteur, float dx, float dy,
+                              float bx, float by, float bLargeur, float bHauteur) {
+        float entreeX;
+        float sortieX;
+        if (dx > 0f) {
+            entreeX = (bx - (x + largeur)) / dx;
+            sortieX = (bx + bLargeur - x) / dx;
+        } else if (dx < 0f) {
+            entreeX = (bx + bLargeur - x) / dx;
+            sortieX = (bx - (x + largeur)) / dx;
+        } else if (x + largeur > bx && x < bx + bLargeur) {
+            entreeX = Float.NEGATIVE_INFINITY;
+            sortieX = Float.POSITIVE_INFINITY;
+        } else {
+            return; // Jamais en face sur cet axe
+        }
+        
+        float entreeY;
+        float sortieY;
+        if (dy > 0f) {
+            entreeY = (by - (y + hauteur)) / dy;
+            sortieY = (by + bHauteur - y) / dy;
+        } else if (dy < 0f) {
+            entreeY = (by + bHauteur - y) / dy;
+            sortieY = (by - (y + hauteur)) / dy;
+        } else if (y + hauteur > by && y < by + bHauteur) {
+            entreeY = Float.NEGATIVE_INFINITY;
+            sortieY = Float.POSITIVE_INFINITY;
+        } else {
+            return;
+        }
+        
+        float entree = Math.max(entreeX, entreeY);
+        float sortie = Math.min(sortieX, sortieY);
+        if (entree < 0f || entree >= sortie || entree >= tempsImpact) {
+            return;
+        }
+        tempsImpact = entree;
+        impactVertical = entreeY >= entreeX; // Coin exact : priorité au sol et au plafond
+    }
+    
+    // ========== MODE TUILES : RÉSOLUTION PAR LECTURE DIRECTE DES BITS ==========
+    
+    /**
+     * Gère les collisions du joueur avec les tuiles solides de la carte de collision.
+     * Les murs sont testés sur la hauteur de la boîte privée de sa base (pour ignorer le sol
+     * dans lequel le joueur s'est enfoncé), puis le sol/plafond sur la largeur privée de ses bords.
+     * @param joueur Le joueur
+     * @param carte La carte de collision du niveau
+     */
+    private void gererCollisionsTuiles(Joueur joueur, CarteCollision carte) {
+        float tailleTuile = carte.getTailleTuile();
+        float vitesseX = joueur.getVitesse().x;
+        float vitesseY = joueur.getVitesse().y;
+        Rectangle boiteJoueur = joueur.getBoiteCollision();
+        
+        // ========== PHASE 1 : MURS (Axe X) ==========
+        float basMur = boiteJoueur.y + MARGE_SOL_TUILES;
+        float hautMur = boiteJoueur.y + boiteJoueur.height - MARGE_PLAFOND_TUILES;
+        
+        if (vitesseX >= 0) {
+            int tuile = carte.trouverTuileSolide(
+                boiteJoueur.x + boiteJoueur.width - EPSILON, basMur,
+                boiteJoueur.x + boiteJoueur.width - EPSILON, hautMur);
+            if (tuile >= 0) {
+                float nouvelleX = carte.colonneDeIndice(tuile) * tailleTuile - boiteJoueur.width;
+                joueur.forcerPosition(nouvelleX, joueur.getPosition().y);
+                boiteJoueur = joueur.getBoiteCollision();
+            }
+        }
+        if (vitesseX <= 0) {
+            int tuile = carte.trouverTuileSolide(boiteJoueur.x, basMur, boiteJoueur.x, hautMur);
+            if (tuile >= 0) {
+                float nouvelleX = (carte.colonneDeIndice(tuile) + 1) * tailleTuile;
+                joueur.forcerPosition(nouvelleX, joueur.getPosition().y);
+                boiteJoueur = joueur.getBoiteCollision();
+            }
+        }
+        
+        // ========== PHASE 2 : SOL ET PLAFOND (Axe Y) ==========
+        float gauche = boiteJoueur.x + MARGE_COTES_TUILES;
+        float droite = boiteJoueur.x + boiteJoueur.width - MARGE_COTES_TUILES;
+        boolean auSol = false;
+        
+        if (vitesseY <= 0) {
+            int tuile = carte.trouverTuileSolide(gauche, boiteJoueur.y, droite, boiteJoueur.y);
+            if (tuile >= 0) {
+                // Joueur atterrit sur la tuile
+                float nouvelleY = (carte.ligneDeIndice(tuile) + 1) * tailleTuile;
+                joueur.forcerPosition(joueur.getPosition().x, nouvelleY);
+                joueur.setVitesse(joueur.getVitesse().x, 0);
+                joueur.setAuSol(true);
+                auSol = true;
+                boiteJoueur = joueur.getBoiteCollision();
+            }
+        } else {
+            float haut = boiteJoueur.y + boiteJoueur.height - EPSILON;
+            int tuile = carte.trouverTuileSolide(gauche, haut, droite, haut);
+            if (tuile >= 0) {
+                // ========== COLLISION PLAFOND : Mario tape sa tête ==========
+                int ligne = carte.ligneDeIndice(tuile);
+                float nouvelleY = ligne * tailleTuile - boiteJoueur.height;
+                joueur.forcerPosition(joueur.getPosition().x, nouvelleY);
+                joueur.setVitesse(joueur.getVitesse().x, 0);
+                
+                // Interagir en priorité avec la tuile située au-dessus du centre de Mario
+                int colonne = carte.colonne(boiteJoueur.x + boiteJoueur.width / 2);
+                if (!carte.estSolide(colonne, ligne)) {
+                    colonne = carte.colonneDeIndice(tuile);
+                }
+                interagirAvecTuile(carte, colonne, ligne, joueur);
+                boiteJoueur = joueur.getBoiteCollision();
+            }
+        }
+        
+        // Si aucune collision au sol détectée, vérifier la bande juste sous les pieds
+        if (!auSol && vitesseY <= 0) {
+            if (carte.trouverTuileSolide(gauche, boiteJoueur.y - 2, droite, boiteJoueur.y - EPSILON) < 0) {
+                joueur.setAuSol(false);
+            }
+        }
+    }
+    
+    /**
+     * Gère l'interaction quand Mario tape une tuile par en dessous
+     * @param carte La carte de collision
+     * @param tx Colonne de la tuile
+     * @param ty Ligne de la tuile
+     * @param joueur Le joueur
+     */
+    private void interagirAvecTuile(CarteCollision carte, int tx, int ty, Joueur joueur) {
+        float tailleTuile = carte.getTailleTuile();
+        
+        // ========== BLOC MYSTÈRE : une pièce, puis le bloc est vide ==========
+        if (carte.estMystere(tx, ty)) {
+            ObjetCollectable piece = new ObjetCollectable(
+                tx * tailleTuile,
+                (ty + 1) * tailleTuile,
+                "piece",
+                10
+            );
+            niveau.ajouterObjetCollectable(piece);
+            carte.viderBlocMystere(tx, ty);
+        }
+        // ========== BRIQUE : cassée par Mario GRAND ou FEU ==========
+        else if (carte.estBrique(tx, ty)) {
+            Joueur.EtatTransformation transformation = joueur.getTransformation();
+            if (transformation == Joueur.EtatTransformation.GRAND || 
+                transformation == Joueur.EtatTransformation.FEU) {
+                niveau.detruireTuile(tx, ty);
+                bus.publier(bus.obtenir(BlocCasse.class).definir(niveau, tx * tailleTuile, ty * tailleTuile, 50));
+            }
+        }
+    }
+    
+    /**
+     * Gère les collisions d'un ennemi avec les tuiles solides
+     * @param ennemi L'ennemi
+     * @param carte La carte de collision du niveau
+     */
+    private void gererCollisionsEnnemiTuiles(Ennemi ennemi, CarteCollision carte) {
+        if (!(ennemi instanceof EnnemiTerrestre)) {
+            return;
+        }
+        EnnemiTerrestre ennemiTerrestre = (EnnemiTerrestre) ennemi;
+        float tailleTuile = carte.getTailleTuile();
+        Rectangle boite = ennemi.getBoiteCollision();
+        
+        // Mur devant l'ennemi : demi-tour
+        float basMur = boite.y + MARGE_SOL_TUILES;
+        float hautMur = boite.y + boite.height - MARGE_PLAFOND_TUILES;
+        float bordAvant = ennemi.getVitesse().x > 0 ? boite.x + boite.width - EPSILON : boite.x;
+        int tuileMur = carte.trouverTuileSolide(bordAvant, basMur, bordAvant, hautMur);
+        if (tuileMur >= 0) {
+            float nouvelleX = ennemi.getVitesse().x > 0
+                ? carte.colonneDeIndice(tuileMur) * tailleTuile - boite.width
+                : (carte.colonneDeIndice(tuileMur) + 1) * tailleTuile;
+            ennemi.setPosition(nouvelleX, ennemi.getPosition().y);
+            ennemi.inverserDirection();
+        }
+        
+        // Sol sous l'ennemi
+        if (ennemi.getVitesse().y <= 0) {
+            int tuileSol = carte.trouverTuileSolide(
+                boite.x + MARGE_COTES_TUILES, boite.y,
+                boite.x + boite.width - MARGE_COTES_TUILES, boite.y);
+            if (tuileSol >= 0) {
+                ennemiTerrestre.placerAuSol((carte.ligneDeIndice(tuileSol) + 1) * tailleTuile);
+            }
+        }
+    }
+    
+    /**
+     * Gère les collisions d'un power-up avec les tuiles solides
+     * @param powerUp Le power-up
+     * @param carte La carte de collision du niveau
+     */
+    private void gererCollisionsPowerUpTuiles(PowerUp powerUp, CarteCollision carte) {
+        float tailleTuile = carte.getTailleTuile();
+        Rectangle boite = powerUp.getBoiteCollision();
+        
+        // Mur : le power-up repart dans l'autre sens
+        float basMur = boite.y + MARGE_SOL_TUILES;
+        float hautMur = boite.y + boite.height - MARGE_PLAFOND_TUILES;
+        float bordAvant = powerUp.getVitesse().x > 0 ? boite.x + boite.width - EPSILON : boite.x;
+        if (carte.trouverTuileSolide(bordAvant, basMur, bordAvant, hautMur) >= 0) {
+            powerUp.inverserDirection();
+        }
+        
+        // Sol
+        if (powerUp.getVitesse().y <= 0) {
+            int tuileSol = carte.trouverTuileSolide(
+                boite.x + MARGE_COTES_TUILES, boite.y,
+                boite.x + boite.width - MARGE_COTES_TUILES, boite.y);
+            if (tuileSol >= 0) {
+                powerUp.placerAuSol((carte.ligneDeIndice(tuileSol) + 1) * tailleTuile);
+            }
+        }
+    }
     
     
     /**
@@ -1,15 +1,23 @@
 package com.mypackage.projet.jeux.modele.gestionnaires;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.mypackage.projet.jeux.modele.niveau.DescriptionNiveau;
 import com.mypackage.projet.jeux.modele.niveau.Niveau;
 import com.mypackage.projet.jeux.modele.niveau.ProgressionNiveau;
+import com.mypackage.projet.jeux.utilitaires.ChargementNiveau;
 import com.mypackage.projet.jeux.utilitaires.ChargeurNiveau;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Gestionnaire centralisé des niveaux du jeu.
@@ -17,6 +25,8 @@ import java.util.Map;
  * <p>Responsabilités :</p>
  * <ul>
  *   <li>Chargement des niveaux depuis fichiers TMX</li>
+ *   <li>Cache des niveaux déjà chargés (redémarrage sans relecture du fichier)</li>
+ *   <li>Préchargement du niveau suivant en arrière-plan</li>
  *   <li>Gestion des transitions entre niveaux</li>
  *   <li>Suivi de la progression globale</li>
  *   <li>Sauvegarde de l'historique</li>
@@ -55,19 +65,44 @@ public class GestionnaireNiveaux {
     // Liste des chemins vers les fichiers TMX
     private List<String> cheminsNiveaux;
     
+    // Niveaux déjà chargés (description + carte), bornés par un budget mémoire
+    private final CacheNiveaux cacheNiveaux;
+    
+    // Préchargement du niveau suivant : lecture en arrière-plan, finalisation par tranches
+    private static final long BUDGET_FINALISATION_NANOS = 2_000_000L; // 2 ms par frame
+    private ExecutorService executeurPrechargement;
+    private Future<ChargementNiveau> prechargement;
+    private ChargementNiveau finalisation;
+    private Niveau niveauPrecharge;
+    private int indicePrecharge;
+    private boolean prechargementActif;
+    
     /**
      * Constructeur par défaut.
      * Initialise le gestionnaire avec les 4 niveaux standards.
      */
     public GestionnaireNiveaux() {
+        this(new ChargeurNiveau());
+    }
+    
+    /**
+     * Constructeur avec un chargeur de niveaux donné
+     * (par exemple un chargeur sans rendu qui ne crée aucune texture).
+     * 
+     * @param chargeurNiveau Le chargeur utilisé pour lire les fichiers TMX
+     */
+    public GestionnaireNiveaux(ChargeurNiveau chargeurNiveau) {
         this.niveaux = new ArrayList<>();
         this.niveauActuelIndex = 0;
         this.historiqueProgressions = new HashMap<>();
         this.etatTransition = EtatTransition.AUCUNE;
         this.tempsTransition = 0;
         this.scoreTotal = 0;
-        this.chargeurNiveau = new ChargeurNiveau();
+        this.chargeurNiveau = chargeurNiveau;
         this.cheminsNiveaux = new ArrayList<>();
+        this.cacheNiveaux = new CacheNiveaux();
+        this.indicePrecharge = -1;
+        this.prechargementActif = true;
         
         // Configurer les niveaux par défaut
         configurerNiveauxParDefaut();
@@ -103,12 +138,14 @@ public class GestionnaireNiveaux {
         }
         
         niveauActuelIndex = 0;
-        niveauActuel = chargerNiveauDepuisFichier(cheminsNiveaux.get(0));
+        niveauActuel = recupererOuChargerNiveau(0);
         
         if (niveauActuel != null) {
             niveaux.clear();
             niveaux.add(niveauActuel);
+            cacheNiveaux.definirEnUtilisation(cheminsNiveaux.get(0));
             demarrerTransitionDebutNiveau();
+            demarrerPrechargement(1);
         }
         
         return niveauActuel;
@@ -116,13 +153,20 @@ public class GestionnaireNiveaux {
     
     /**
      * Charge un niveau depuis un fichier TMX.
+     * Un niveau déjà en cache est reconstruit depuis sa description, sans relire le fichier.
      * 
      * @param cheminFichier Chemin relatif ou absolu vers le fichier .tmx
      * @return Le niveau chargé, ou null en cas d'erreur
      */
     public Niveau chargerNiveauDepuisFichier(String cheminFichier) {
         try {
+            CacheNiveaux.Entree entree = cacheNiveaux.obtenir(cheminFichier);
+            if (entree != null) {
+                return chargeurNiveau.reconstruireNiveau(entree.getDescription(), entree.getCarte());
+            }
+            
             Niveau niveau = chargeurNiveau.chargerNiveau(cheminFichier);
+            mettreEnCache(cheminFichier, niveau);
             return niveau;
         } catch (Exception e) {
             e.printStackTrace();
@@ -130,6 +174,33 @@ public class GestionnaireNiveaux {
         }
     }
     
+    /**
+     * Récupère un niveau lu par le préchargement (écran de chargement, niveau suivant),
+     * ou le charge depuis son fichier s'il n'a pas été préchargé
+     * @param index Index du niveau
+     * @return Le niveau, ou null en cas d'erreur
+     */
+    private Niveau recupererOuChargerNiveau(int index) {
+        String chemin = cheminsNiveaux.get(index);
+        Niveau niveau = recupererNiveauPrecharge(index);
+        if (niveau != null) {
+            mettreEnCache(chemin, niveau);
+            return niveau;
+        }
+        return chargerNiveauDepuisFichier(chemin);
+    }
+    
+    /**
+     * Confie un niveau chargé au cache (seuls les niveaux construits depuis une description y entrent)
+     * @param cheminFichier Chemin du fichier du niveau
+     * @param niveau Le niveau chargé (peut être null)
+     */
+    private void mettreEnCache(String cheminFichier, Niveau niveau) {
+        if (niveau != null && niveau.getDescription() != null) {
+            cacheNiveaux.ajouter(cheminFichier, niveau.getDescription(), niveau.getCarte());
+        }
+    }
+    
     /**
      * Charge tous les niveaux configurés.
      * Utile pour le précalcul ou les menus de sélection de niveau.
@@ -164,6 +235,7 @@ public class GestionnaireNiveaux {
         if (etatTransition != EtatTransition.AUCUNE) {
             mettreAJourTransition(deltaTemps);
         }
+        avancerPrechargement(BUDGET_FINALISATION_NANOS);
     }
     
     /**
@@ -227,12 +299,13 @@ public class GestionnaireNiveaux {
             // Passer au niveau suivant
             niveauActuelIndex++;
         
-        // Charger le nouveau niveau depuis son fichier TMX
+        // Récupérer le niveau préchargé, ou le charger depuis son fichier TMX
         if (niveauActuelIndex < cheminsNiveaux.size()) {
             String cheminProchainNiveau = cheminsNiveaux.get(niveauActuelIndex);
-            niveauActuel = chargerNiveauDepuisFichier(cheminProchainNiveau);
+            niveauActuel = recupererOuChargerNiveau(niveauActuelIndex);
             
             if (niveauActuel != null) {
+                cacheNiveaux.definirEnUtilisation(cheminProchainNiveau);
                 // S'assurer que la liste contient le niveau
                 if (niveauActuelIndex >= niveaux.size()) {
                     niveaux.add(niveauActuel);
@@ -243,6 +316,7 @@ public class GestionnaireNiveaux {
             // Démarrer la transition du nouveau niveau
             etatTransition = EtatTransition.TRANSITION_EN_COURS;
             tempsTransition = 0;
+            demarrerPrechargement(niveauActuelIndex + 1);
             
             return true;
             } else {
@@ -253,14 +327,200 @@ public class GestionnaireNiveaux {
         return false;
     }
     
+    // ========== PRÉCHARGEMENT ==========
+    
+    /**
+     * Lance la lecture d'un niveau sur le thread de préchargement
+     * (le précédent préchargement non utilisé est abandonné)
+     * @param index Index du niveau à précharger
+     */
+    private void demarrerPrechargement(int index) {
+        annulerPrechargement();
+        if (!prechargementActif || index < 0 || index >= cheminsNiveaux.size()) {
+            return;
+        }
+        
+        if (executeurPrechargement == null) {
+            executeurPrechargement = Executors.newSingleThreadExecutor(tache -> {
+                Thread thread = new Thread(tache, "prechargement-niveaux");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        String chemin = cheminsNiveaux.get(index);
+        if (cacheNiveaux.obtenir(chemin) != null) {
+            return; // Déjà en mémoire : rien à lire
+        }
+        indicePrecharge = index;
+        prechargement = executeurPrechargement.submit(() -> chargeurNiveau.preparerNiveau(chemin));
+    }
+    
+    /**
+     * Finalise le niveau préchargé sur le thread de rendu, dans la limite d'un budget de temps
+     * @param budgetNanos Durée maximale consacrée à la finalisation (en nanosecondes)
+     */
+    private void avancerPrechargement(long budgetNanos) {
+        if (niveauPrecharge != null) {
+            return;
+        }
+        if (finalisation == null) {
+            if (prechargement == null || !prechargement.isDone()) {
+                return;
+            }
+            finalisation = obtenirPreparation();
+            if (finalisation == null) {
+                return;
+            }
+        }
+        
+        if (finalisation.avancer(budgetNanos)) {
+            niveauPrecharge = finalisation.getNiveau();
+            finalisation = null;
+            Gdx.app.log("GestionnaireNiveaux", "✅ Niveau suivant préchargé : " + cheminsNiveaux.get(indicePrecharge));
+        }
+    }
+    
+    /**
+     * Attend la fin de la lecture en arrière-plan
+     * @return Le chargement à finaliser, ou null en cas d'échec
+     */
+    private ChargementNiveau obtenirPreparation() {
+        Future<ChargementNiveau> tache = prechargement;
+        prechargement = null;
+        try {
+            return tache.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            Gdx.app.error("GestionnaireNiveaux", "Échec du préchargement : " + e.getCause().getMessage(), e.getCause());
+            return null;
+        }
+    }
+    
+    /**
+     * Récupère le niveau préchargé, en terminant sa lecture et sa finalisation si nécessaire
+     * @param index Index du niveau demandé
+     * @return Le niveau, ou null s'il n'a pas été préchargé
+     */
+    private Niveau recupererNiveauPrecharge(int index) {
+        if (indicePrecharge != index) {
+            return null;
+        }
+        if (niveauPrecharge == null && finalisation == null && prechargement != null) {
+            finalisation = obtenirPreparation();
+        }
+        if (niveauPrecharge == null && finalisation != null) {
+            avancerPrechargement(Long.MAX_VALUE);
+        }
+        
+        Niveau niveau = niveauPrecharge;
+        niveauPrecharge = null;
+        indicePrecharge = -1;
+        return niveau;
+    }
+    
+    /**
+     * Abandonne le préchargement en cours et libère le niveau préchargé non utilisé
+     */
+    private void annulerPrechargement() {
+        if (prechargement != null) {
+            Future<ChargementNiveau> tache = prechargement;
+            prechargement = null;
+            if (!tache.cancel(false)) {
+                ChargementNiveau prepare = null;
+                try {
+                    prepare = tache.get();
+                } catch (Exception e) {
+                    // Préparation échouée : rien à libérer
+                }
+                if (prepare != null) {
+                    prepare.abandonner();
+                }
+            }
+        }
+        if (finalisation != null) {
+            finalisation.abandonner();
+            finalisation = null;
+        }
+        if (niveauPrecharge != null) {
+            if (niveauPrecharge.getCarte() != null) {
+                niveauPrecharge.getCarte().dispose();
+            }
+            niveauPrecharge = null;
+        }
+        indicePrecharge = -1;
+    }
+    
+    /**
+     * Lance la lecture d'un niveau en arrière-plan avant qu'il soit demandé (écran de chargement).
+     * chargerNiveau et chargerPremierNiveau le récupèrent ensuite au lieu de relire le fichier.
+     * @param index Index du niveau
+     */
+    public void prechargerNiveau(int index) {
+        demarrerPrechargement(index);
+    }
+    
+    /**
+     * Avance le chargement lancé par prechargerNiveau, dans la limite d'un budget de temps
+     * @param budgetNanos Durée maximale consacrée à la finalisation (en nanosecondes)
+     * @return true quand il n'y a plus rien à charger (niveau prêt, déjà en cache, ou lecture échouée)
+     */
+    public boolean avancerChargement(long budgetNanos) {
+        avancerPrechargement(budgetNanos);
+        return prechargement == null && finalisation == null;
+    }
+    
+    /**
+     * Retourne l'avancement du chargement lancé par prechargerNiveau
+     * @return Valeur entre 0 (lecture du fichier) et 1 (niveau prêt)
+     */
+    public float getProgressionChargement() {
+        if (finalisation != null) {
+            return 0.5f + 0.5f * finalisation.getProgression();
+        }
+        return prechargement != null ? 0f : 1f;
+    }
+    
     /**
-     * Recharge le niveau actuel
+     * Active ou désactive le préchargement du niveau suivant
+     * @param prechargementActif true pour précharger le niveau suivant pendant la partie
+     */
+    public void setPrechargementActif(boolean prechargementActif) {
+        this.prechargementActif = prechargementActif;
+        if (!prechargementActif) {
+            annulerPrechargement();
+        }
+    }
+    
+    public boolean estNiveauSuivantPret() {
+        return niveauPrecharge != null && indicePrecharge == niveauActuelIndex + 1;
+    }
+    
+    /**
+     * Recharge le niveau actuel.
+     * Les entités sont recréées depuis la description du niveau (obstacles détruits et pièces
+     * ramassées compris) et les tuiles détruites sont remises dans la carte, sans relire le fichier.
+     * Un niveau construit sans description est seulement réinitialisé.
      */
     public void rechargerNiveauActuel() {
-        if (niveauActuel != null) {
+        if (niveauActuel == null) {
+            return;
+        }
+        
+        DescriptionNiveau description = niveauActuel.getDescription();
+        if (description != null) {
+            Niveau ancien = niveauActuel;
+            niveauActuel = chargeurNiveau.reconstruireNiveau(description, ancien.getCarte());
+            niveauActuel.definirPositionFin(ancien.getPositionFinX(), ancien.getPositionFinY());
+            if (niveauActuelIndex < niveaux.size() && niveaux.get(niveauActuelIndex) == ancien) {
+                niveaux.set(niveauActuelIndex, niveauActuel);
+            }
+        } else {
             niveauActuel.reinitialiser();
-            demarrerTransitionDebutNiveau();
         }
+        demarrerTransitionDebutNiveau();
     }
     
     /**
@@ -269,23 +529,37 @@ public class GestionnaireNiveaux {
      */
     public boolean niveauPrecedent() {
         if (niveauActuelIndex > 0) {
-            niveauActuelIndex--;
-            niveauActuel = niveaux.get(niveauActuelIndex);
-            demarrerTransitionDebutNiveau();
-            return true;
+            return chargerNiveau(niveauActuelIndex - 1);
         }
         return false;
     }
     
     /**
      * Charge un niveau spécifique par son index
+     * (les niveaux issus d'un fichier repartent de leur état initial, depuis le cache si possible)
      * @param index Index du niveau
      * @return true si chargé avec succès, false sinon
      */
     public boolean chargerNiveau(int index) {
-        if (index >= 0 && index < niveaux.size()) {
+        boolean depuisFichier = index >= 0 && index < cheminsNiveaux.size();
+        if (depuisFichier || (index >= 0 && index < niveaux.size())) {
+            Niveau niveau;
+            if (depuisFichier) {
+                niveau = recupererOuChargerNiveau(index);
+                if (niveau == null) {
+                    return false;
+                }
+                if (index < niveaux.size()) {
+                    niveaux.set(index, niveau);
+                } else {
+                    niveaux.add(niveau);
+                }
+                cacheNiveaux.definirEnUtilisation(cheminsNiveaux.get(index));
+            } else {
+                niveau = niveaux.get(index);
+            }
             niveauActuelIndex = index;
-            niveauActuel = niveaux.get(niveauActuelIndex);
+            niveauActuel = niveau;
             demarrerTransitionDebutNiveau();
             return true;
         }
@@ -359,6 +633,22 @@ public class GestionnaireNiveaux {
     }
     
     // Getters
+    public ChargeurNiveau getChargeurNiveau() {
+        return chargeurNiveau;
+    }
+    
+    public CacheNiveaux getCacheNiveaux() {
+        return cacheNiveaux;
+    }
+    
+    /**
+     * Modifie le budget mémoire du cache des niveaux
+     * @param budgetOctets Mémoire maximale estimée des niveaux conservés (en octets)
+     */
+    public void setBudgetCacheNiveaux(long budgetOctets) {
+        cacheNiveaux.setBudgetOctets(budgetOctets);
+    }
+    
     public Niveau getNiveauActuel() {
         return niveauActuel;
     }
@@ -406,6 +696,25 @@ public class GestionnaireNiveaux {
         cheminsNiveaux.add(cheminFichier);
     }
     
+    /**
+     * Remplace la liste des chemins de niveaux (niveaux par défaut compris).
+     * 
+     * @param chemins Chemins vers les fichiers .tmx, dans l'ordre de jeu
+     */
+    public void definirCheminsNiveaux(List<String> chemins) {
+        cheminsNiveaux.clear();
+        cheminsNiveaux.addAll(chemins);
+    }
+    
+    /**
+     * Retourne les chemins des niveaux configurés.
+     * 
+     * @return Chemins des fichiers .tmx, dans l'ordre de jeu (lecture seule)
+     */
+    public List<String> getCheminsNiveaux() {
+        return Collections.unmodifiableList(cheminsNiveaux);
+    }
+    
     /**
      * Retourne le nombre total de niveaux configurés.
      * 
@@ -439,6 +748,7 @@ public class GestionnaireNiveaux {
         niveauActuel = null;
         etatTransition = EtatTransition.AUCUNE;
         tempsTransition = 0;
+        annulerPrechargement();
     }
     
     /**
@@ -446,11 +756,18 @@ public class GestionnaireNiveaux {
      * À appeler lors de la fermeture du jeu.
      */
     public void libererRessources() {
+        annulerPrechargement();
+        if (executeurPrechargement != null) {
+            executeurPrechargement.shutdownNow();
+            executeurPrechargement = null;
+        }
+        // Les cartes du cache sont libérées par le cache, les autres ici
         for (Niveau niveau : niveaux) {
-            if (niveau != null && niveau.getCarte() != null) {
+            if (niveau != null && niveau.getCarte() != null && !cacheNiveaux.possede(niveau.getCarte())) {
                 niveau.getCarte().dispose();
             }
         }
         niveaux.clear();
+        cacheNiveaux.vider();
     }
 }
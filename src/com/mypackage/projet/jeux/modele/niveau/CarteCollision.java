@@ -0,0 +1,191 @@
+package com.mypackage.projet.jeux.modele.niveau;
+
+import java.util.BitSet;
+
+/**
+ * Carte de collision compacte construite à partir d'une couche de tuiles.
+ * Chaque tuile occupe un bit par propriété (solide, brique, mystère) :
+ * la solidité d'une position se lit directement par son indice de tuile,
+ * sans parcourir de liste d'obstacles.
+ * Convention : la ligne 0 est en bas de la carte (repère LibGDX).
+ */
+public class CarteCollision {
+
+    /**
+     * Modes de résolution des collisions d'un niveau
+     */
+    public enum ModeCollision {
+        OBJETS,  // Rectangles de la couche d'objets "Obstacles" (comportement historique)
+        TUILES   // Bits de la couche de tuiles "Sol"
+    }
+
+    private final int largeur;
+    private final int hauteur;
+    private final float tailleTuile;
+    private final String nomCouche;
+    private final BitSet solides;
+    private final BitSet briques;
+    private final BitSet mysteres;
+
+    /**
+     * Constructeur
+     * @param largeur Largeur de la carte (en tuiles)
+     * @param hauteur Hauteur de la carte (en tuiles)
+     * @param tailleTuile Taille d'une tuile (en pixels)
+     * @param nomCouche Nom de la couche de tuiles d'origine
+     */
+    public CarteCollision(int largeur, int hauteur, float tailleTuile, String nomCouche) {
+        this.largeur = largeur;
+        this.hauteur = hauteur;
+        this.tailleTuile = tailleTuile;
+        this.nomCouche = nomCouche;
+        this.solides = new BitSet(largeur * hauteur);
+        this.briques = new BitSet(largeur * hauteur);
+        this.mysteres = new BitSet(largeur * hauteur);
+    }
+
+    /**
+     * Déclare une tuile de la carte
+     * @param tx Colonne de la tuile
+     * @param ty Ligne de la tuile
+     * @param solide true si la tuile bloque les déplacements
+     * @param brique true si la tuile est une brique cassable
+     * @param mystere true si la tuile est un bloc mystère
+     */
+    public void definirTuile(int tx, int ty, boolean solide, boolean brique, boolean mystere) {
+        if (!estDansCarte(tx, ty)) {
+            return;
+        }
+        int indice = indice(tx, ty);
+        solides.set(indice, solide);
+        briques.set(indice, brique);
+        mysteres.set(indice, mystere);
+    }
+
+    /**
+     * Retire complètement une tuile (brique cassée)
+     * @param tx Colonne de la tuile
+     * @param ty Ligne de la tuile
+     */
+    public void retirerTuile(int tx, int ty) {
+        definirTuile(tx, ty, false, false, false);
+    }
+
+    /**
+     * Marque un bloc mystère comme utilisé (il reste solide)
+     * @param tx Colonne de la tuile
+     * @param ty Ligne de la tuile
+     */
+    public void viderBlocMystere(int tx, int ty) {
+        if (estDansCarte(tx, ty)) {
+            mysteres.clear(indice(tx, ty));
+        }
+    }
+
+    /**
+     * Indique si une tuile est solide (hors de la carte : vide)
+     * @param tx Colonne de la tuile
+     * @param ty Ligne de la tuile
+     * @return true si la tuile est solide
+     */
+    public boolean estSolide(int tx, int ty) {
+        return estDansCarte(tx, ty) && solides.get(indice(tx, ty));
+    }
+
+    public boolean estBrique(int tx, int ty) {
+        return estDansCarte(tx, ty) && briques.get(indice(tx, ty));
+    }
+
+    public boolean estMystere(int tx, int ty) {
+        return estDansCarte(tx, ty) && mysteres.get(indice(tx, ty));
+    }
+
+    /**
+     * Cherche la première tuile solide dans une zone en pixels
+     * @param xMin Bord gauche de la zone
+     * @param yMin Bord bas de la zone
+     * @param xMax Bord droit de la zone
+     * @param yMax Bord haut de la zone
+     * @return L'indice de la tuile (ty * largeur + tx), ou -1 si la zone est libre
+     */
+    public int trouverTuileSolide(float xMin, float yMin, float xMax, float yMax) {
+        int colonneMin = colonne(xMin);
+        int colonneMax = colonne(xMax);
+        int ligneMin = ligne(yMin);
+        int ligneMax = ligne(yMax);
+
+        for (int ty = ligneMin; ty <= ligneMax; ty++) {
+            for (int tx = colonneMin; tx <= colonneMax; tx++) {
+                if (estSolide(tx, ty)) {
+                    return indice(tx, ty);
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Colonne de la tuile contenant une abscisse
+     * @param x Abscisse en pixels
+     * @return La colonne
+     */
+    public int colonne(float x) {
+        return (int) Math.floor(x / tailleTuile);
+    }
+
+    /**
+     * Ligne de la tuile contenant une ordonnée
+     * @param y Ordonnée en pixels
+     * @return La ligne
+     */
+    public int ligne(float y) {
+        return (int) Math.floor(y / tailleTuile);
+    }
+
+    /**
+     * Colonne correspondant à un indice retourné par trouverTuileSolide
+     * @param indice L'indice de tuile
+     * @return La colonne
+     */
+    public int colonneDeIndice(int indice) {
+        return indice % largeur;
+    }
+
+    /**
+     * Ligne correspondant à un indice retourné par trouverTuileSolide
+     * @param indice L'indice de tuile
+     * @return La ligne
+     */
+    public int ligneDeIndice(int indice) {
+        return indice / largeur;
+    }
+
+    private boolean estDansCarte(int tx, int ty) {
+        return tx >= 0 && ty >= 0 && tx < largeur && ty < hauteur;
+    }
+
+    private int indice(int tx, int ty) {
+        return ty * largeur + tx;
+    }
+
+    // Getters
+    public int getLargeur() {
+        return largeur;
+    }
+
+    public int getHauteur() {
+        return hauteur;
+    }
+
+    public float getTailleTuile() {
+        return tailleTuile;
+    }
+
+    public String getNomCouche() {
+        return nomCouche;
+    }
+
+    public int getNombreTuilesSolides() {
+        return solides.cardinality();
+    }
+}
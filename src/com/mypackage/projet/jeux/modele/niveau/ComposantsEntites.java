@@ -0,0 +1,332 @@
+package com.mypackage.projet.jeux.modele.niveau;
+
+import com.mypackage.projet.jeux.modele.comportements.ComportementEnnemi;
+import com.mypackage.projet.jeux.modele.comportements.ComportementPatrouille;
+import com.mypackage.projet.jeux.modele.entites.Ennemi;
+import com.mypackage.projet.jeux.modele.entites.EnnemiTerrestre;
+import com.mypackage.projet.jeux.modele.entites.Entite;
+import com.mypackage.projet.jeux.modele.entites.ObjetCollectable;
+
+import java.util.Arrays;
+
+/**
+ * Stockage en tableaux parallèles (structure de tableaux) des ennemis et des objets collectables.
+ * Positions, vitesses, tailles et états actifs sont rangés dans des float[] / boolean[] contigus :
+ * la mise à jour des ennemis devient une boucle serrée sur ces tableaux au lieu d'un appel
+ * virtuel par entité. Une fois liée, une entité lit et écrit ses composants ici ;
+ * ses getters (getPosition, getVitesse, getBoiteCollision) deviennent de simples vues.
+ */
+public class ComposantsEntites {
+
+    private static final int CAPACITE_INITIALE = 64;
+
+    // Valeur de distancePatrouille pour un ennemi sans comportement de patrouille
+    private static final float SANS_PATROUILLE = -1f;
+
+    private Entite[] entites;
+    private int taille;
+    private int nombreEnnemis;
+
+    // Composants communs
+    private float[] x;
+    private float[] y;
+    private float[] vx;
+    private float[] vy;
+    private float[] largeur;
+    private float[] hauteur;
+    private boolean[] actif;
+
+    // Composants des ennemis
+    private boolean[] ennemi;
+    private float[] gravite;
+    private float[] limiteGauche;
+    private float[] limiteDroite;
+    private float[] distancePatrouille;
+    private float[] origineXPatrouille; // NaN tant que la patrouille n'a pas démarré
+    private ComportementEnnemi[] comportements;
+
+    /**
+     * Constructeur
+     */
+    public ComposantsEntites() {
+        this.entites = new Entite[CAPACITE_INITIALE];
+        this.x = new float[CAPACITE_INITIALE];
+        this.y = new float[CAPACITE_INITIALE];
+        this.vx = new float[CAPACITE_INITIALE];
+        this.vy = new float[CAPACITE_INITIALE];
+        this.largeur = new float[CAPACITE_INITIALE];
+        this.hauteur = new float[CAPACITE_INITIALE];
+        this.actif = new boolean[CAPACITE_INITIALE];
+        this.ennemi = new boolean[CAPACITE_INITIALE];
+        this.gravite = new float[CAPACITE_INITIALE];
+        this.limiteGauche = new float[CAPACITE_INITIALE];
+        this.limiteDroite = new float[CAPACITE_INITIALE];
+        this.distancePatrouille = new float[CAPACITE_INITIALE];
+        this.origineXPatrouille = new float[CAPACITE_INITIALE];
+        this.comportements = new ComportementEnnemi[CAPACITE_INITIALE];
+        this.taille = 0;
+        this.nombreEnnemis = 0;
+    }
+
+    /**
+     * Indique si la boucle de mise à jour par lots reproduit exactement
+     * la mise à jour de cet ennemi (gravité, comportement, limites, déplacement)
+     * @param ennemi L'ennemi
+     * @return true si l'ennemi peut être stocké en composants
+     */
+    public static boolean peutAccueillir(Ennemi ennemi) {
+        return ennemi.getClass() == EnnemiTerrestre.class;
+    }
+
+    // ========== LIAISON DES ENTITÉS ==========
+
+    /**
+     * Range un ennemi dans les tableaux et le lie à ses composants
+     * @param e L'ennemi (voir peutAccueillir)
+     */
+    public void ajouterEnnemi(Ennemi e) {
+        int i = ajouterEntite(e);
+        ennemi[i] = true;
+        gravite[i] = e instanceof EnnemiTerrestre ? EnnemiTerrestre.GRAVITE : 0;
+        limiteGauche[i] = e.getLimiteGauche();
+        limiteDroite[i] = e.getLimiteDroite();
+        definirComportement(i, e.getComportement());
+        nombreEnnemis++;
+        e.lierComposants(this, i);
+    }
+
+    /**
+     * Range un objet collectable dans les tableaux et le lie à ses composants
+     * @param objet L'objet
+     */
+    public void ajouterObjetCollectable(ObjetCollectable objet) {
+        int i = ajouterEntite(objet);
+        ennemi[i] = false;
+        gravite[i] = 0;
+        comportements[i] = null;
+        objet.lierComposants(this, i);
+    }
+
+    private int ajouterEntite(Entite entite) {
+        if (entite.getComposants() != null) {
+            throw new IllegalArgumentException("L'entité est déjà liée à des composants");
+        }
+        if (taille == entites.length) {
+            agrandir(taille * 2);
+        }
+
+        // Lire l'état courant avant la liaison (les getters deviennent ensuite des vues)
+        int i = taille++;
+        entites[i] = entite;
+        x[i] = entite.getPosition().x;
+        y[i] = entite.getPosition().y;
+        vx[i] = entite.getVitesse().x;
+        vy[i] = entite.getVitesse().y;
+        largeur[i] = entite.getLargeur();
+        hauteur[i] = entite.getHauteur();
+        actif[i] = entite.estActive();
+        return i;
+    }
+
+    /**
+     * Délie une entité : son état est recopié dans ses propres champs,
+     * puis le dernier élément des tableaux prend sa place
+     * @param entite L'entité à retirer
+     */
+    public void retirer(Entite entite) {
+        if (entite.getComposants() != this) {
+            return;
+        }
+        int i = entite.getIndiceComposants();
+
+        if (ennemi[i]) {
+            ComportementEnnemi comportement = comportements[i];
+            if (comportement instanceof ComportementPatrouille && !Float.isNaN(origineXPatrouille[i])) {
+                ((ComportementPatrouille) comportement).definirPositionXInitiale(origineXPatrouille[i]);
+            }
+            nombreEnnemis--;
+        }
+        entite.delierComposants();
+
+        int dernier = --taille;
+        if (i != dernier) {
+            entites[i] = entites[dernier];
+            x[i] = x[dernier];
+            y[i] = y[dernier];
+            vx[i] = vx[dernier];
+            vy[i] = vy[dernier];
+            largeur[i] = largeur[dernier];
+            hauteur[i] = hauteur[dernier];
+            actif[i] = actif[dernier];
+            ennemi[i] = ennemi[dernier];
+            gravite[i] = gravite[dernier];
+            limiteGauche[i] = limiteGauche[dernier];
+            limiteDroite[i] = limiteDroite[dernier];
+            distancePatrouille[i] = distancePatrouille[dernier];
+            origineXPatrouille[i] = origineXPatrouille[dernier];
+            comportements[i] = comportements[dernier];
+            entites[i].deplacerComposants(i);
+        }
+        entites[dernier] = null;
+        comportements[dernier] = null;
+    }
+
+    private void agrandir(int capacite) {
+        entites = Arrays.copyOf(entites, capacite);
+        x = Arrays.copyOf(x, capacite);
+        y = Arrays.copyOf(y, capacite);
+        vx = Arrays.copyOf(vx, capacite);
+        vy = Arrays.copyOf(vy, capacite);
+        largeur = Arrays.copyOf(largeur, capacite);
+        hauteur = Arrays.copyOf(hauteur, capacite);
+        actif = Arrays.copyOf(actif, capacite);
+        ennemi = Arrays.copyOf(ennemi, capacite);
+        gravite = Arrays.copyOf(gravite, capacite);
+        limiteGauche = Arrays.copyOf(limiteGauche, capacite);
+        limiteDroite = Arrays.copyOf(limiteDroite, capacite);
+        distancePatrouille = Arrays.copyOf(distancePatrouille, capacite);
+        origineXPatrouille = Arrays.copyOf(origineXPatrouille, capacite);
+        comportements = Arrays.copyOf(comportements, capacite);
+    }
+
+    // ========== MISE À JOUR PAR LOTS ==========
+
+    /**
+     * Met à jour tous les ennemis actifs en une seule boucle sur les tableaux.
+     * Reproduit EnnemiTerrestre.mettreAJour, ComportementPatrouille.executer et Ennemi.mettreAJour.
+     * @param deltaTemps Temps écoulé depuis la dernière frame
+     */
+    public void mettreAJourEnnemis(float deltaTemps) {
+        mettreAJourEnnemis(0, taille, deltaTemps);
+    }
+    
+    /**
+     * Met à jour les ennemis actifs d'une plage d'indices (chaque ennemi n'écrit que ses propres cases :
+     * des plages disjointes peuvent être traitées en parallèle)
+     * @param debut Premier indice
+     * @param fin Indice de fin (exclu)
+     * @param deltaTemps Temps écoulé depuis la dernière frame
+     */
+    public void mettreAJourEnnemis(int debut, int fin, float deltaTemps) {
+        for (int i = debut; i < fin; i++) {
+            if (ennemi[i] && actif[i]) {
+                mettreAJourEnnemi(i, deltaTemps);
+            }
+        }
+    }
+
+    /**
+     * Met à jour un seul ennemi (utilisé par Ennemi.mettreAJour lorsqu'il est lié)
+     * @param i Indice de l'ennemi dans les tableaux
+     * @param deltaTemps Temps écoulé depuis la dernière frame
+     */
+    public void mettreAJourEnnemi(int i, float deltaTemps) {
+        // Appliquer la gravité
+        vy[i] += gravite[i] * deltaTemps;
+
+        // Comportement : patrouille en ligne, les autres par la stratégie de l'ennemi
+        if (distancePatrouille[i] >= 0) {
+            if (Float.isNaN(origineXPatrouille[i])) {
+                origineXPatrouille[i] = x[i];
+            }
+            if (Math.abs(x[i] - origineXPatrouille[i]) >= distancePatrouille[i]) {
+                vx[i] = -vx[i];
+            }
+        } else if (comportements[i] != null) {
+            comportements[i].executer((Ennemi) entites[i], deltaTemps);
+        }
+
+        // Calculer la nouvelle position en respectant les limites de déplacement
+        float nouvelleX = x[i] + vx[i] * deltaTemps;
+        if (nouvelleX < limiteGauche[i]) {
+            nouvelleX = limiteGauche[i];
+            vx[i] = -vx[i];
+        } else if (nouvelleX > limiteDroite[i]) {
+            nouvelleX = limiteDroite[i];
+            vx[i] = -vx[i];
+        }
+
+        x[i] = nouvelleX;
+        y[i] += vy[i] * deltaTemps;
+    }
+
+    // ========== ACCÈS AUX COMPOSANTS ==========
+
+    /**
+     * Associe un comportement à un ennemi lié
+     * @param i Indice de l'ennemi
+     * @param comportement Le comportement (peut être null)
+     */
+    public void definirComportement(int i, ComportementEnnemi comportement) {
+        comportements[i] = comportement;
+        distancePatrouille[i] = SANS_PATROUILLE;
+        origineXPatrouille[i] = Float.NaN;
+
+        if (comportement != null && comportement.getClass() == ComportementPatrouille.class) {
+            ComportementPatrouille patrouille = (ComportementPatrouille) comportement;
+            distancePatrouille[i] = patrouille.getDistancePatrouille();
+            if (patrouille.estInitialisee()) {
+                origineXPatrouille[i] = patrouille.getPositionXInitiale();
+            }
+        }
+    }
+
+    public void definirLimites(int i, float gauche, float droite) {
+        limiteGauche[i] = gauche;
+        limiteDroite[i] = droite;
+    }
+
+    public void definirPosition(int i, float nouvelleX, float nouvelleY) {
+        x[i] = nouvelleX;
+        y[i] = nouvelleY;
+    }
+
+    public void definirVitesse(int i, float nouvelleVx, float nouvelleVy) {
+        vx[i] = nouvelleVx;
+        vy[i] = nouvelleVy;
+    }
+
+    public void definirActif(int i, boolean estActif) {
+        actif[i] = estActif;
+    }
+
+    public void inverserVitesseX(int i) {
+        vx[i] = -vx[i];
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    public float getVx(int i) {
+        return vx[i];
+    }
+
+    public float getVy(int i) {
+        return vy[i];
+    }
+
+    public boolean estActif(int i) {
+        return actif[i];
+    }
+
+    public Entite getEntite(int i) {
+        return entites[i];
+    }
+
+    public int getTaille() {
+        return taille;
+    }
+
+    public int getNombreEnnemis() {
+        return nombreEnnemis;
+    }
+
+    public int getNombreObjetsCollectables() {
+        return taille - nombreEnnemis;
+    }
+}
@@ -0,0 +1,646 @@
+package com.mypackage.projet.jeux.modele.niveau;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Description d'un niveau tel qu'il est écrit dans son fichier : dimensions, tilesets,
+ * couches de tuiles et tables d'apparition des entités (une ligne par entité, en tableaux parallèles).
+ * Elle est produite soit par la lecture d'un fichier Tiled (.tmx), soit par celle d'un niveau
+ * compilé (.niv), puis transformée en Niveau par ChargeurNiveau.
+ * Une fois remplie par son lecteur, la description n'est plus modifiée.
+ */
+public class DescriptionNiveau {
+
+    /** Valeur de distancePatrouille d'un ennemi sans comportement de patrouille */
+    public static final float SANS_PATROUILLE = -1f;
+
+    /** Valeur de pointsVie d'un ennemi qui garde ses points de vie par défaut */
+    public static final int POINTS_VIE_DEFAUT = -1;
+
+    // Masques d'une cellule de couche de tuiles : identifiant global + retournements + rotation
+    public static final int MASQUE_ID_TUILE = 0x0FFFFFFF;
+    public static final int RETOURNEMENT_HORIZONTAL = 0x80000000;
+    public static final int RETOURNEMENT_VERTICAL = 0x40000000;
+    public static final int DECALAGE_ROTATION = 28;
+
+    private static final int CAPACITE_INITIALE = 16;
+
+    private final String nom;
+    private final int largeurCarte;
+    private final int hauteurCarte;
+    private final int largeurTuile;
+    private final int hauteurTuile;
+    private final CarteCollision.ModeCollision modeCollision;
+
+    private final List<Tileset> tilesets;
+    private final List<CoucheTuiles> couchesTuiles;
+
+    // Joueur et drapeau (au plus un de chaque)
+    private boolean joueurPresent;
+    private float joueurX;
+    private float joueurY;
+    private boolean drapeauPresent;
+    private float drapeauX;
+    private float drapeauY;
+    private float drapeauHauteur;
+
+    // Ennemis
+    private int nombreEnnemis;
+    private String[] typesEnnemis;
+    private float[] ennemisX;
+    private float[] ennemisY;
+    private float[] distancesPatrouille;
+    private int[] pointsVieEnnemis;
+
+    // Objets collectables
+    private int nombreObjets;
+    private String[] typesObjets;
+    private float[] objetsX;
+    private float[] objetsY;
+    private int[] valeursObjets;
+
+    // Power-ups (type = ordinal de PowerUp.TypePowerUp)
+    private int nombrePowerUps;
+    private int[] typesPowerUps;
+    private float[] powerUpsX;
+    private float[] powerUpsY;
+
+    // Obstacles
+    private int nombreObstacles;
+    private String[] typesObstacles;
+    private float[] obstaclesX;
+    private float[] obstaclesY;
+    private float[] obstaclesLargeur;
+    private float[] obstaclesHauteur;
+    private boolean[] obstaclesDestructibles;
+
+    /**
+     * Constructeur
+     * @param nom Nom du niveau
+     * @param largeurCarte Largeur de la carte (en tuiles)
+     * @param hauteurCarte Hauteur de la carte (en tuiles)
+     * @param largeurTuile Largeur d'une tuile (en pixels)
+     * @param hauteurTuile Hauteur d'une tuile (en pixels)
+     * @param modeCollision Mode de collision demandé par la carte
+     */
+    public DescriptionNiveau(String nom, int largeurCarte, int hauteurCarte, int largeurTuile, int hauteurTuile,
+                             CarteCollision.ModeCollision modeCollision) {
+        this.nom = nom;
+        this.largeurCarte = largeurCarte;
+        this.hauteurCarte = hauteurCarte;
+        this.largeurTuile = largeurTuile;
+        this.hauteurTuile = hauteurTuile;
+        this.modeCollision = modeCollision;
+        this.tilesets = new ArrayList<>();
+        this.couchesTuiles = new ArrayList<>();
+
+        this.typesEnnemis = new String[CAPACITE_INITIALE];
+        this.ennemisX = new float[CAPACITE_INITIALE];
+        this.ennemisY = new float[CAPACITE_INITIALE];
+        this.distancesPatrouille = new float[CAPACITE_INITIALE];
+        this.pointsVieEnnemis = new int[CAPACITE_INITIALE];
+
+        this.typesObjets = new String[CAPACITE_INITIALE];
+        this.objetsX = new float[CAPACITE_INITIALE];
+        this.objetsY = new float[CAPACITE_INITIALE];
+        this.valeursObjets = new int[CAPACITE_INITIALE];
+
+        this.typesPowerUps = new int[CAPACITE_INITIALE];
+        this.powerUpsX = new float[CAPACITE_INITIALE];
+        this.powerUpsY = new float[CAPACITE_INITIALE];
+
+        this.typesObstacles = new String[CAPACITE_INITIALE];
+        this.obstaclesX = new float[CAPACITE_INITIALE];
+        this.obstaclesY = new float[CAPACITE_INITIALE];
+        this.obstaclesLargeur = new float[CAPACITE_INITIALE];
+        this.obstaclesHauteur = new float[CAPACITE_INITIALE];
+        this.obstaclesDestructibles = new boolean[CAPACITE_INITIALE];
+    }
+
+    // ========== REMPLISSAGE (réservé aux lecteurs de fichiers) ==========
+
+    public void ajouterTileset(Tileset tileset) {
+        tilesets.add(tileset);
+    }
+
+    public void ajouterCoucheTuiles(CoucheTuiles couche) {
+        couchesTuiles.add(couche);
+    }
+
+    public void definirJoueur(float x, float y) {
+        this.joueurPresent = true;
+        this.joueurX = x;
+        this.joueurY = y;
+    }
+
+    public void definirDrapeau(float x, float y, float hauteur) {
+        this.drapeauPresent = true;
+        this.drapeauX = x;
+        this.drapeauY = y;
+        this.drapeauHauteur = hauteur;
+    }
+
+    /**
+     * Ajoute une ligne à la table des ennemis
+     * @param type Type de l'ennemi ("terrestre", ...)
+     * @param x Position X
+     * @param y Position Y
+     * @param distancePatrouille Distance de patrouille, ou SANS_PATROUILLE
+     * @param pointsVie Points de vie, ou POINTS_VIE_DEFAUT
+     */
+    public void ajouterEnnemi(String type, float x, float y, float distancePatrouille, int pointsVie) {
+        if (nombreEnnemis == ennemisX.length) {
+            int capacite = nombreEnnemis * 2;
+            typesEnnemis = Arrays.copyOf(typesEnnemis, capacite);
+            ennemisX = Arrays.copyOf(ennemisX, capacite);
+            ennemisY = Arrays.copyOf(ennemisY, capacite);
+            distancesPatrouille = Arrays.copyOf(distancesPatrouille, capacite);
+            pointsVieEnnemis = Arrays.copyOf(pointsVieEnnemis, capacite);
+        }
+        int i = nombreEnnemis++;
+        typesEnnemis[i] = type;
+        ennemisX[i] = x;
+        ennemisY[i] = y;
+        distancesPatrouille[i] = distancePatrouille;
+        pointsVieEnnemis[i] = pointsVie;
+    }
+
+    /**
+     * Ajoute une ligne à la table des objets collectables
+     * @param type Type de l'objet ("PIECE", ...)
+     * @param x Position X
+     * @param y Position Y
+     * @param valeur Valeur en points
+     */
+    public void ajouterObjet(String type, float x, float y, int valeur) {
+        if (nombreObjets == objetsX.length) {
+            int capacite = nombreObjets * 2;
+            typesObjets = Arrays.copyOf(typesObjets, capacite);
+            objetsX = Arrays.copyOf(objetsX, capacite);
+            objetsY = Arrays.copyOf(objetsY, capacite);
+            valeursObjets = Arrays.copyOf(valeursObjets, capacite);
+        }
+        int i = nombreObjets++;
+        typesObjets[i] = type;
+        objetsX[i] = x;
+        objetsY[i] = y;
+        valeursObjets[i] = valeur;
+    }
+
+    /**
+     * Ajoute une ligne à la table des power-ups
+     * @param type Ordinal de PowerUp.TypePowerUp
+     * @param x Position X
+     * @param y Position Y
+     */
+    public void ajouterPowerUp(int type, float x, float y) {
+        if (nombrePowerUps == powerUpsX.length) {
+            int capacite = nombrePowerUps * 2;
+            typesPowerUps = Arrays.copyOf(typesPowerUps, capacite);
+            powerUpsX = Arrays.copyOf(powerUpsX, capacite);
+            powerUpsY = Arrays.copyOf(powerUpsY, capacite);
+        }
+        int i = nombrePowerUps++;
+        typesPowerUps[i] = type;
+        powerUpsX[i] = x;
+        powerUpsY[i] = y;
+    }
+
+    /**
+     * Ajoute une ligne à la table des obstacles
+     * @param type Type de l'obstacle ("BLOC_NORMAL", ...)
+     * @param x Position X
+     * @param y Position Y
+     * @param largeur Largeur
+     * @param hauteur Hauteur
+     * @param destructible true si l'obstacle peut être détruit
+     */
+    public void ajouterObstacle(String type, float x, float y, float largeur, float hauteur, boolean destructible) {
+        if (nombreObstacles == obstaclesX.length) {
+            int capacite = nombreObstacles * 2;
+            typesObstacles = Arrays.copyOf(typesObstacles, capacite);
+            obstaclesX = Arrays.copyOf(obstaclesX, capacite);
+            obstaclesY = Arrays.copyOf(obstaclesY, capacite);
+            obstaclesLargeur = Arrays.copyOf(obstaclesLargeur, capacite);
+            obstaclesHauteur = Arrays.copyOf(obstaclesHauteur, capacite);
+            obstaclesDestructibles = Arrays.copyOf(obstaclesDestructibles, capacite);
+        }
+        int i = nombreObstacles++;
+        typesObstacles[i] = type;
+        obstaclesX[i] = x;
+        obstaclesY[i] = y;
+        obstaclesLargeur[i] = largeur;
+        obstaclesHauteur[i] = hauteur;
+        obstaclesDestructibles[i] = destructible;
+    }
+
+    // ========== CARTE ==========
+
+    public String getNom() {
+        return nom;
+    }
+
+    public int getLargeurCarte() {
+        return largeurCarte;
+    }
+
+    public int getHauteurCarte() {
+        return hauteurCarte;
+    }
+
+    public int getLargeurTuile() {
+        return largeurTuile;
+    }
+
+    public int getHauteurTuile() {
+        return hauteurTuile;
+    }
+
+    public CarteCollision.ModeCollision getModeCollision() {
+        return modeCollision;
+    }
+
+    public List<Tileset> getTilesets() {
+        return Collections.unmodifiableList(tilesets);
+    }
+
+    public List<CoucheTuiles> getCouchesTuiles() {
+        return Collections.unmodifiableList(couchesTuiles);
+    }
+
+    /**
+     * Recherche une couche de tuiles par son nom
+     * @param nomCouche Nom de la couche
+     * @return La couche, ou null si elle n'existe pas
+     */
+    public CoucheTuiles getCoucheTuiles(String nomCouche) {
+        for (CoucheTuiles couche : couchesTuiles) {
+            if (couche.getNom().equals(nomCouche)) {
+                return couche;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Recherche le tileset qui contient un identifiant global de tuile
+     * @param gid Identifiant global (sans les bits de retournement)
+     * @return Le tileset, ou null si aucun ne le contient
+     */
+    public Tileset getTilesetDe(int gid) {
+        Tileset resultat = null;
+        for (Tileset tileset : tilesets) {
+            if (tileset.getPremierGid() <= gid
+                && (resultat == null || tileset.getPremierGid() > resultat.getPremierGid())) {
+                resultat = tileset;
+            }
+        }
+        return resultat != null && gid - resultat.getPremierGid() < resultat.getNombreTuiles() ? resultat : null;
+    }
+
+    // ========== JOUEUR ET DRAPEAU ==========
+
+    public boolean estJoueurPresent() {
+        return joueurPresent;
+    }
+
+    public float getJoueurX() {
+        return joueurX;
+    }
+
+    public float getJoueurY() {
+        return joueurY;
+    }
+
+    public boolean estDrapeauPresent() {
+        return drapeauPresent;
+    }
+
+    public float getDrapeauX() {
+        return drapeauX;
+    }
+
+    public float getDrapeauY() {
+        return drapeauY;
+    }
+
+    public float getDrapeauHauteur() {
+        return drapeauHauteur;
+    }
+
+    // ========== TABLES D'APPARITION ==========
+
+    public int getNombreEnnemis() {
+        return nombreEnnemis;
+    }
+
+    public String getTypeEnnemi(int i) {
+        return typesEnnemis[i];
+    }
+
+    public float getEnnemiX(int i) {
+        return ennemisX[i];
+    }
+
+    public float getEnnemiY(int i) {
+        return ennemisY[i];
+    }
+
+    public float getDistancePatrouille(int i) {
+        return distancesPatrouille[i];
+    }
+
+    public int getPointsVieEnnemi(int i) {
+        return pointsVieEnnemis[i];
+    }
+
+    public int getNombreObjets() {
+        return nombreObjets;
+    }
+
+    public String getTypeObjet(int i) {
+        return typesObjets[i];
+    }
+
+    public float getObjetX(int i) {
+        return objetsX[i];
+    }
+
+    public float getObjetY(int i) {
+        return objetsY[i];
+    }
+
+    public int getValeurObjet(int i) {
+        return valeursObjets[i];
+    }
+
+    public int getNombrePowerUps() {
+        return nombrePowerUps;
+    }
+
+    public int getTypePowerUp(int i) {
+        return typesPowerUps[i];
+    }
+
+    public float getPowerUpX(int i) {
+        return powerUpsX[i];
+    }
+
+    public float getPowerUpY(int i) {
+        return powerUpsY[i];
+    }
+
+    public int getNombreObstacles() {
+        return nombreObstacles;
+    }
+
+    public String getTypeObstacle(int i) {
+        return typesObstacles[i];
+    }
+
+    public float getObstacleX(int i) {
+        return obstaclesX[i];
+    }
+
+    public float getObstacleY(int i) {
+        return obstaclesY[i];
+    }
+
+    public float getObstacleLargeur(int i) {
+        return obstaclesLargeur[i];
+    }
+
+    public float getObstacleHauteur(int i) {
+        return obstaclesHauteur[i];
+    }
+
+    public boolean estObstacleDestructible(int i) {
+        return obstaclesDestructibles[i];
+    }
+
+    /**
+     * Estime la mémoire occupée par la description (cellules des couches et tables d'apparition)
+     * @return La taille estimée, en octets
+     */
+    public long estimerTailleOctets() {
+        long taille = 0;
+        for (CoucheTuiles couche : couchesTuiles) {
+            taille += (long) couche.getCellules().length * Integer.BYTES;
+        }
+        for (Tileset tileset : tilesets) {
+            taille += tileset.getNombreTuiles() * 9L; // Référence du nom + octet de solidité
+        }
+        // Une ligne de table par entité : type (référence) + coordonnées et paramètres
+        taille += nombreEnnemis * 24L + nombreObjets * 20L + nombrePowerUps * 12L + nombreObstacles * 29L;
+        return taille;
+    }
+
+    // ========== TILESETS ET COUCHES ==========
+
+    /**
+     * Tileset découpé dans une seule image
+     */
+    public static class Tileset {
+
+        /** Solidité non précisée par le tileset (la tuile est alors solide) */
+        public static final byte SOLIDE_NON_DEFINI = -1;
+
+        private final String nom;
+        private final int premierGid;
+        private final String cheminImage;
+        private final int largeurImage;
+        private final int hauteurImage;
+        private final int largeurTuile;
+        private final int hauteurTuile;
+        private final int espacement;
+        private final int marge;
+        private final float decalageX;
+        private final float decalageY;
+
+        // Propriétés "nom" et "solide" de chaque tuile (indice = identifiant local)
+        private final String[] nomsTuiles;
+        private final byte[] solidesTuiles;
+
+        /**
+         * Constructeur
+         * @param nom Nom du tileset
+         * @param premierGid Identifiant global de la première tuile
+         * @param cheminImage Chemin de l'image, relatif au fichier du niveau
+         * @param largeurImage Largeur de l'image (en pixels)
+         * @param hauteurImage Hauteur de l'image (en pixels)
+         * @param largeurTuile Largeur d'une tuile (en pixels)
+         * @param hauteurTuile Hauteur d'une tuile (en pixels)
+         * @param espacement Espacement entre les tuiles (en pixels)
+         * @param marge Marge autour de l'image (en pixels)
+         * @param decalageX Décalage de dessin des tuiles en X
+         * @param decalageY Décalage de dessin des tuiles en Y
+         */
+        public Tileset(String nom, int premierGid, String cheminImage, int largeurImage, int hauteurImage,
+                       int largeurTuile, int hauteurTuile, int espacement, int marge,
+                       float decalageX, float decalageY) {
+            this.nom = nom;
+            this.premierGid = premierGid;
+            this.cheminImage = cheminImage;
+            this.largeurImage = largeurImage;
+            this.hauteurImage = hauteurImage;
+            this.largeurTuile = largeurTuile;
+            this.hauteurTuile = hauteurTuile;
+            this.espacement = espacement;
+            this.marge = marge;
+            this.decalageX = decalageX;
+            this.decalageY = decalageY;
+
+            int nombreTuiles = getColonnes() * getLignes();
+            this.nomsTuiles = new String[nombreTuiles];
+            this.solidesTuiles = new byte[nombreTuiles];
+            Arrays.fill(solidesTuiles, SOLIDE_NON_DEFINI);
+        }
+
+        /**
+         * Définit les propriétés d'une tuile
+         * @param idLocal Identifiant de la tuile dans le tileset
+         * @param nomTuile Propriété "nom" (peut être null)
+         * @param solide Propriété "solide" (0, 1 ou SOLIDE_NON_DEFINI)
+         */
+        public void definirProprietesTuile(int idLocal, String nomTuile, byte solide) {
+            nomsTuiles[idLocal] = nomTuile;
+            solidesTuiles[idLocal] = solide;
+        }
+
+        public int getColonnes() {
+            return Math.max(0, (largeurImage - 2 * marge + espacement) / (largeurTuile + espacement));
+        }
+
+        public int getLignes() {
+            return Math.max(0, (hauteurImage - 2 * marge + espacement) / (hauteurTuile + espacement));
+        }
+
+        public int getNombreTuiles() {
+            return nomsTuiles.length;
+        }
+
+        public String getNomTuile(int idLocal) {
+            return nomsTuiles[idLocal];
+        }
+
+        public byte getSolideTuile(int idLocal) {
+            return solidesTuiles[idLocal];
+        }
+
+        public String getNom() {
+            return nom;
+        }
+
+        public int getPremierGid() {
+            return premierGid;
+        }
+
+        public String getCheminImage() {
+            return cheminImage;
+        }
+
+        public int getLargeurImage() {
+            return largeurImage;
+        }
+
+        public int getHauteurImage() {
+            return hauteurImage;
+        }
+
+        public int getLargeurTuile() {
+            return largeurTuile;
+        }
+
+        public int getHauteurTuile() {
+            return hauteurTuile;
+        }
+
+        public int getEspacement() {
+            return espacement;
+        }
+
+        public int getMarge() {
+            return marge;
+        }
+
+        public float getDecalageX() {
+            return decalageX;
+        }
+
+        public float getDecalageY() {
+            return decalageY;
+        }
+    }
+
+    /**
+     * Couche de tuiles : une cellule par case, rangées ligne par ligne depuis le bas (repère LibGDX).
+     * Une cellule vaut 0 si la case est vide, sinon l'identifiant global de la tuile
+     * combiné aux bits RETOURNEMENT_* et à la rotation (bits DECALAGE_ROTATION et suivant).
+     */
+    public static class CoucheTuiles {
+
+        private final String nom;
+        private final int largeur;
+        private final int hauteur;
+        private final boolean visible;
+        private final float opacite;
+        private final int[] cellules;
+
+        /**
+         * Constructeur
+         * @param nom Nom de la couche
+         * @param largeur Largeur (en tuiles)
+         * @param hauteur Hauteur (en tuiles)
+         * @param visible Visibilité de la couche
+         * @param opacite Opacité de la couche
+         * @param cellules Cellules (largeur * hauteur valeurs)
+         */
+        public CoucheTuiles(String nom, int largeur, int hauteur, boolean visible, float opacite, int[] cellules) {
+            if (cellules.length != largeur * hauteur) {
+                throw new IllegalArgumentException("Couche '" + nom + "' : " + cellules.length
+                    + " cellules pour " + largeur + "x" + hauteur);
+            }
+            this.nom = nom;
+            this.largeur = largeur;
+            this.hauteur = hauteur;
+            this.visible = visible;
+            this.opacite = opacite;
+            this.cellules = cellules;
+        }
+
+        public int getCellule(int x, int y) {
+            return cellules[y * largeur + x];
+        }
+
+        public String getNom() {
+            return nom;
+        }
+
+        public int getLargeur() {
+            return largeur;
+        }
+
+        public int getHauteur() {
+            return hauteur;
+        }
+
+        public boolean estVisible() {
+            return visible;
+        }
+
+        public float getOpacite() {
+            return opacite;
+        }
+
+        /**
+         * Donne accès au tableau des cellules (écriture du niveau compilé)
+         * @return Les cellules, ligne par ligne depuis le bas
+         */
+        public int[] getCellules() {
+            return cellules;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.mypackage.projet.jeux.modele.niveau;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.mypackage.projet.jeux.modele.entites.Obstacle;
+
+/**
+ * Index spatial à grille uniforme pour les obstacles d'un niveau.
+ * Chaque obstacle est rangé dans toutes les cellules que recouvre sa boîte de collision,
+ * ce qui permet de ne tester que les obstacles proches d'une zone donnée
+ * (coût indépendant de la taille du niveau).
+ */
+public class GrilleSpatiale {
+
+    /** Taille par défaut d'une cellule (2 tuiles de 32 pixels) */
+    public static final float TAILLE_CELLULE_DEFAUT = 64f;
+
+    private final float tailleCellule;
+    private final LongMap<Array<Obstacle>> cellules;
+    private int nombreObstacles;
+
+    /**
+     * Constructeur avec la taille de cellule par défaut
+     */
+    public GrilleSpatiale() {
+        this(TAILLE_CELLULE_DEFAUT);
+    }
+
+    /**
+     * Constructeur
+     * @param tailleCellule Taille (en pixels) d'une cellule de la grille
+     */
+    public GrilleSpatiale(float tailleCellule) {
+        this.tailleCellule = tailleCellule;
+        this.cellules = new LongMap<>();
+        this.nombreObstacles = 0;
+    }
+
+    /**
+     * Insère un obstacle dans toutes les cellules recouvertes par sa boîte de collision
+     * @param obstacle L'obstacle à insérer
+     */
+    public void inserer(Obstacle obstacle) {
+        Rectangle boite = obstacle.getBoiteCollision();
+        int celluleMinX = indiceCellule(boite.x);
+        int celluleMinY = indiceCellule(boite.y);
+        int celluleMaxX = indiceCellule(boite.x + boite.width);
+        int celluleMaxY = indiceCellule(boite.y + boite.height);
+
+        for (int cx = celluleMinX; cx <= celluleMaxX; cx++) {
+            for (int cy = celluleMinY; cy <= celluleMaxY; cy++) {
+                long cle = cleCellule(cx, cy);
+                Array<Obstacle> contenu = cellules.get(cle);
+                if (contenu == null) {
+                    contenu = new Array<>(false, 4);
+                    cellules.put(cle, contenu);
+                }
+                contenu.add(obstacle);
+            }
+        }
+
+        obstacle.setGrilleSpatiale(this);
+        nombreObstacles++;
+    }
+
+    /**
+     * Retire un obstacle de toutes les cellules qu'il occupe
+     * @param obstacle L'obstacle à retirer
+     */
+    public void retirer(Obstacle obstacle) {
+        if (obstacle.getGrilleSpatiale() != this) {
+            return; // Pas indexé dans cette grille
+        }
+
+        Rectangle boite = obstacle.getBoiteCollision();
+        int celluleMinX = indiceCellule(boite.x);
+        int celluleMinY = indiceCellule(boite.y);
+        int celluleMaxX = indiceCellule(boite.x + boite.width);
+        int celluleMaxY = indiceCellule(boite.y + boite.height);
+
+        for (int cx = celluleMinX; cx <= celluleMaxX; cx++) {
+            for (int cy = celluleMinY; cy <= celluleMaxY; cy++) {
+                long cle = cleCellule(cx, cy);
+                Array<Obstacle> contenu = cellules.get(cle);
+                if (contenu != null) {
+                    contenu.removeValue(obstacle, true);
+                    if (contenu.size == 0) {
+                        cellules.remove(cle);
+                    }
+                }
+            }
+        }
+
+        obstacle.setGrilleSpatiale(null);
+        nombreObstacles--;
+    }
+
+    /**
+     * Récupère les obstacles dont les cellules recouvrent la zone donnée (phase large).
+     * Le résultat peut contenir des obstacles qui ne touchent pas exactement la zone :
+     * le test précis reste à la charge de l'appelant.
+     * @param zone La zone à interroger
+     * @param resultat Tableau réutilisable vidé puis rempli (sans doublons ; sans état partagé,
+     *                 donc utilisable depuis plusieurs threads avec des tableaux distincts)
+     */
+    public void requeter(Rectangle zone, Array<Obstacle> resultat) {
+        resultat.clear();
+
+        int celluleMinX = indiceCellule(zone.x);
+        int celluleMinY = indiceCellule(zone.y);
+        int celluleMaxX = indiceCellule(zone.x + zone.width);
+        int celluleMaxY = indiceCellule(zone.y + zone.height);
+
+        for (int cx = celluleMinX; cx <= celluleMaxX; cx++) {
+            for (int cy = celluleMinY; cy <= celluleMaxY; cy++) {
+                Array<Obstacle> contenu = cellules.get(cleCellule(cx, cy));
+                if (contenu == null) {
+                    continue;
+                }
+                for (int i = 0; i < contenu.size; i++) {
+                    Obstacle obstacle = contenu.get(i);
+                    // Un grand obstacle (ex: le sol) occupe plusieurs cellules : il n'est retenu
+                    // que dans la première cellule qu'il partage avec la zone
+                    Rectangle boite = obstacle.getBoiteCollision();
+                    if (cx == Math.max(celluleMinX, indiceCellule(boite.x))
+                        && cy == Math.max(celluleMinY, indiceCellule(boite.y))) {
+                        resultat.add(obstacle);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Vide entièrement la grille
+     */
+    public void vider() {
+        for (Array<Obstacle> contenu : cellules.values()) {
+            for (int i = 0; i < contenu.size; i++) {
+                contenu.get(i).setGrilleSpatiale(null);
+            }
+        }
+        cellules.clear();
+        nombreObstacles = 0;
+    }
+
+    /**
+     * Calcule l'indice de cellule d'une coordonnée
+     * @param coordonnee Coordonnée en pixels
+     * @return L'indice de la cellule
+     */
+    private int indiceCellule(float coordonnee) {
+        return (int) Math.floor(coordonnee / tailleCellule);
+    }
+
+    /**
+     * Combine les indices d'une cellule en une clé unique
+     * @param cx Indice X de la cellule
+     * @param cy Indice Y de la cellule
+     * @return La clé de la cellule
+     */
+    private static long cleCellule(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    // Getters
+    public float getTailleCellule() {
+        return tailleCellule;
+    }
+
+    public int getNombreObstacles() {
+        return nombreObstacles;
+    }
+
+    public int getNombreCellules() {
+        return cellules.size;
+    }
+}
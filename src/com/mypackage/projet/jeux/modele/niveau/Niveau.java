@@ -1,12 +1,15 @@
 package com.mypackage.projet.jeux.modele.niveau;
 
 import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.mypackage.projet.jeux.modele.entites.Drapeau;
 import com.mypackage.projet.jeux.modele.entites.Ennemi;
+import com.mypackage.projet.jeux.modele.entites.Entite;
 import com.mypackage.projet.jeux.modele.entites.Joueur;
 import com.mypackage.projet.jeux.modele.entites.ObjetCollectable;
 import com.mypackage.projet.jeux.modele.entites.Obstacle;
 import com.mypackage.projet.jeux.modele.entites.PowerUp;
+import com.mypackage.projet.jeux.utilitaires.TraitementParallele;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,13 +19,38 @@ import java.util.List;
  */
 public class Niveau {
     
+    /**
+     * Écouteur prévenu lorsqu'une tuile de la carte affichée change (brique cassée)
+     */
+    public interface EcouteurTuiles {
+        /**
+         * Appelé après la modification de la cellule
+         * @param nomCouche Nom de la couche de tuiles modifiée
+         * @param tx Colonne de la tuile
+         * @param ty Ligne de la tuile
+         */
+        void tuileModifiee(String nomCouche, int tx, int ty);
+    }
+    
     private String nom;
     private TiledMap carte;
+    private DescriptionNiveau description; // Instantané des apparitions (null si construit à la main)
     private Joueur joueur;
-    private List<Ennemi> ennemis;
-    private List<ObjetCollectable> objetsCollectables;
-    private List<Obstacle> obstacles;
-    private List<PowerUp> powerUps;
+    private StockageEntites<Ennemi> ennemis;
+    private StockageEntites<ObjetCollectable> objetsCollectables;
+    private StockageEntites<Obstacle> obstacles;
+    private StockageEntites<PowerUp> powerUps;
+    private ComposantsEntites composants; // Ennemis et objets en tableaux parallèles (null si désactivé)
+    private RegionsActivation regionsActivation; // Fenêtre de simulation autour de la vue (null si désactivée)
+    
+    // Mise à jour parallèle des ennemis (chaque ennemi n'écrit que son propre état)
+    private int seuilParallele; // Nombre d'ennemis à partir duquel paralléliser (0 : jamais)
+    private float deltaTempsPas;
+    private final TraitementParallele.TraitementPlage plageEnnemis;
+    private final TraitementParallele.TraitementPlage plageComposants;
+    private final TraitementParallele.TraitementPlage plageEnnemisMisAJour;
+    private GrilleSpatiale grilleObstacles; // Index spatial des obstacles (phase large des collisions)
+    private CarteCollision carteCollision; // Bits de solidité des tuiles (null en mode OBJETS)
     private Drapeau drapeau; // Drapeau de fin de niveau
     private float largeur;
     private float hauteur;
@@ -31,11 +59,13 @@ public class Niveau {
     // Nouveaux attributs pour la gestion avancée
     private ProgressionNiveau progression;
     private List<ObjectifNiveau> objectifs;
+    private List<ObjectifNiveau> objectifsParPas; // Objectifs de position ou de temps, vérifiés à chaque pas
     private int totalPiecesInitial;
     private int totalEnnemisInitial;
     private float positionFinX; // Position X pour atteindre la fin du niveau
     private float positionFinY; // Position Y pour atteindre la fin du niveau
     private boolean conditionVictoireAtteinte;
+    private EcouteurTuiles ecouteurTuiles; // Rendu de la carte prévenu des tuiles détruites (peut être null)
     
     /**
      * Constructeur du niveau
@@ -43,10 +73,17 @@ public class Niveau {
      */
     public Niveau(String nom) {
         this.nom = nom;
-        this.ennemis = new ArrayList<>();
-        this.objetsCollectables = new ArrayList<>();
-        this.obstacles = new ArrayList<>();
-        this.powerUps = new ArrayList<>();
+        this.ennemis = new StockageEntites<>(this::entiteRetiree);
+        this.objetsCollectables = new StockageEntites<>(this::entiteRetiree);
+        this.composants = null;
+        this.regionsActivation = null;
+        this.seuilParallele = 0;
+        this.plageEnnemis = this::mettreAJourEnnemis;
+        this.plageComposants = this::mettreAJourComposants;
+        this.plageEnnemisMisAJour = this::mettreAJourEnnemisMisAJour;
+        this.grilleObstacles = new GrilleSpatiale();
+        this.obstacles = new StockageEntites<>(grilleObstacles::retirer); // Sans effet si déjà retiré par detruire()
+        this.powerUps = new StockageEntites<>(this::entiteRetiree);
         this.drapeau = null;
         this.termine = false;
         this.conditionVictoireAtteinte = false;
@@ -54,6 +91,7 @@ public class Niveau {
         // Initialiser les nouveaux systèmes
         this.progression = new ProgressionNiveau(nom);
         this.objectifs = new ArrayList<>();
+        this.objectifsParPas = new ArrayList<>();
         this.totalPiecesInitial = 0;
         this.totalEnnemisInitial = 0;
         this.positionFinX = -1;
@@ -85,22 +123,41 @@ public class Niveau {
             verifierConditionsVictoire();
         }
         
-        // Mettre à jour les ennemis
-        for (Ennemi ennemi : ennemis) {
-            if (ennemi.estActive()) {
-                ennemi.mettreAJour(deltaTemps);
+        // Fenêtre d'activation : seules les entités proches de la vue sont simulées
+        if (regionsActivation != null) {
+            mettreAJourRegionsActivation(deltaTemps);
+            if (drapeau != null) {
+                drapeau.mettreAJour(deltaTemps);
             }
+            mettreAJourObjectifs();
+            return;
         }
         
-        // Mettre à jour les objets collectables
-        for (ObjetCollectable objet : objetsCollectables) {
-            if (objet.estActive()) {
-                objet.mettreAJour(deltaTemps);
+        // Mettre à jour les ennemis (en une boucle sur les tableaux pour ceux stockés en composants)
+        deltaTempsPas = deltaTemps;
+        int ennemisEnComposants = 0;
+        if (composants != null) {
+            TraitementParallele.executer(composants.getTaille(), seuilParallele, plageComposants);
+            ennemisEnComposants = composants.getNombreEnnemis();
+        }
+        if (ennemisEnComposants < ennemis.size()) {
+            TraitementParallele.executer(ennemis.size(), seuilParallele, plageEnnemis);
+        }
+        
+        // Mettre à jour les objets collectables (rien à faire pour ceux stockés en composants)
+        int objetsEnComposants = composants != null ? composants.getNombreObjetsCollectables() : 0;
+        if (objetsEnComposants < objetsCollectables.size()) {
+            for (int i = 0; i < objetsCollectables.size(); i++) {
+                ObjetCollectable objet = objetsCollectables.get(i);
+                if (objet.estActive() && objet.getComposants() == null) {
+                    objet.mettreAJour(deltaTemps);
+                }
             }
         }
         
         // Mettre à jour les power-ups
-        for (PowerUp powerUp : powerUps) {
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
             if (powerUp.estActive()) {
                 powerUp.mettreAJour(deltaTemps);
             }
@@ -115,6 +172,179 @@ public class Niveau {
         mettreAJourObjectifs();
     }
     
+    /**
+     * Met à jour les entités de la fenêtre d'activation à chaque pas,
+     * et celles du tick lent avec un pas allongé
+     * @param deltaTemps Temps écoulé depuis la dernière frame
+     */
+    private void mettreAJourRegionsActivation(float deltaTemps) {
+        if (joueur != null) {
+            regionsActivation.preparerPas(joueur.getPosition().x, joueur.getLargeur());
+        } else {
+            regionsActivation.preparerPas(0, 0);
+        }
+        deltaTempsPas = deltaTemps;
+        TraitementParallele.executer(regionsActivation.getEnnemisMisAJour().size(), seuilParallele, plageEnnemisMisAJour);
+        
+        List<ObjetCollectable> objetsMisAJour = regionsActivation.getObjetsMisAJour();
+        int eveilles = regionsActivation.getNombreObjetsEveilles();
+        for (int i = 0; i < objetsMisAJour.size(); i++) {
+            ObjetCollectable objet = objetsMisAJour.get(i);
+            objet.mettreAJour(i < eveilles ? deltaTemps : regionsActivation.calculerPasLent(objet, deltaTemps));
+        }
+        
+        List<PowerUp> powerUpsMisAJour = regionsActivation.getPowerUpsMisAJour();
+        eveilles = regionsActivation.getNombrePowerUpsEveilles();
+        for (int i = 0; i < powerUpsMisAJour.size(); i++) {
+            PowerUp powerUp = powerUpsMisAJour.get(i);
+            powerUp.mettreAJour(i < eveilles ? deltaTemps : regionsActivation.calculerPasLent(powerUp, deltaTemps));
+        }
+    }
+    
+    // ========== PLAGES D'ENNEMIS (PARALLÉLISABLES) ==========
+    
+    private void mettreAJourEnnemis(int debut, int fin) {
+        for (int i = debut; i < fin; i++) {
+            Ennemi ennemi = ennemis.get(i);
+            if (ennemi.estActive() && ennemi.getComposants() == null) {
+                ennemi.mettreAJour(deltaTempsPas);
+            }
+        }
+    }
+    
+    private void mettreAJourComposants(int debut, int fin) {
+        composants.mettreAJourEnnemis(debut, fin, deltaTempsPas);
+    }
+    
+    private void mettreAJourEnnemisMisAJour(int debut, int fin) {
+        List<Ennemi> ennemisMisAJour = regionsActivation.getEnnemisMisAJour();
+        int eveilles = regionsActivation.getNombreEnnemisEveilles();
+        for (int i = debut; i < fin; i++) {
+            Ennemi ennemi = ennemisMisAJour.get(i);
+            ennemi.mettreAJour(i < eveilles ? deltaTempsPas : regionsActivation.calculerPasLent(ennemi, deltaTempsPas));
+        }
+    }
+    
+    /**
+     * Active la fenêtre de simulation : les ennemis, objets et power-ups éloignés
+     * de la vue sont figés ou mis à jour à basse fréquence
+     * @param largeurVue Largeur de la vue de la caméra (en pixels)
+     * @param marge Marge autour de la vue dans laquelle les entités restent éveillées
+     * @param modeSommeil Traitement des entités hors de la fenêtre
+     * @param periodeTickLent Nombre de pas entre deux mises à jour d'une entité endormie
+     */
+    public void activerRegionsActivation(float largeurVue, float marge,
+                                         RegionsActivation.ModeSommeil modeSommeil, int periodeTickLent) {
+        regionsActivation = new RegionsActivation(largeur, largeurVue, marge, modeSommeil, periodeTickLent);
+        for (Ennemi ennemi : ennemis) {
+            regionsActivation.ajouter(ennemi);
+        }
+        for (ObjetCollectable objet : objetsCollectables) {
+            regionsActivation.ajouter(objet);
+        }
+        for (PowerUp powerUp : powerUps) {
+            regionsActivation.ajouter(powerUp);
+        }
+    }
+    
+    /**
+     * Range les ennemis et les objets collectables dans des tableaux parallèles
+     * (mise à jour par lots, moins d'accès mémoire dispersés).
+     * Les entités ajoutées ensuite y sont rangées automatiquement.
+     */
+    public void activerComposantsEntites() {
+        if (composants != null) {
+            return;
+        }
+        composants = new ComposantsEntites();
+        for (Ennemi ennemi : ennemis) {
+            if (ComposantsEntites.peutAccueillir(ennemi)) {
+                composants.ajouterEnnemi(ennemi);
+            }
+        }
+        for (ObjetCollectable objet : objetsCollectables) {
+            composants.ajouterObjetCollectable(objet);
+        }
+    }
+    
+    /**
+     * Oublie une entité retirée de son stockage (composants, fenêtre d'activation)
+     * @param entite L'entité retirée
+     */
+    private void entiteRetiree(Entite entite) {
+        if (composants != null) {
+            composants.retirer(entite);
+        }
+        if (regionsActivation != null) {
+            regionsActivation.retirer(entite);
+        }
+    }
+    
+    /**
+     * Mémorise l'état précédent des entités mobiles avant un pas de simulation
+     */
+    public void memoriserPositionsPrecedentes() {
+        if (joueur != null) {
+            joueur.memoriserPositionPrecedente();
+        }
+        if (regionsActivation != null) {
+            // Les entités du pas à venir sont mémorisées en le préparant (RegionsActivation.preparerPas)
+            return;
+        }
+        for (int i = 0; i < ennemis.size(); i++) {
+            Ennemi ennemi = ennemis.get(i);
+            ennemi.memoriserPositionPrecedente();
+        }
+        for (int i = 0; i < objetsCollectables.size(); i++) {
+            ObjetCollectable objet = objetsCollectables.get(i);
+            objet.memoriserPositionPrecedente();
+        }
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
+            powerUp.memoriserPositionPrecedente();
+        }
+    }
+    
+    /**
+     * Calcule les positions de rendu des entités mobiles entre deux pas de simulation
+     * @param alpha Fraction du pas fixe écoulée (1 = état actuel)
+     */
+    public void interpolerPositionsRendu(float alpha) {
+        if (joueur != null) {
+            joueur.interpolerPositionRendu(alpha);
+        }
+        if (regionsActivation != null) {
+            List<Ennemi> ennemisMisAJour = regionsActivation.getEnnemisMisAJour();
+            for (int i = 0; i < ennemisMisAJour.size(); i++) {
+                Ennemi ennemi = ennemisMisAJour.get(i);
+                ennemi.interpolerPositionRendu(alpha);
+            }
+            List<ObjetCollectable> objetsMisAJour = regionsActivation.getObjetsMisAJour();
+            for (int i = 0; i < objetsMisAJour.size(); i++) {
+                ObjetCollectable objet = objetsMisAJour.get(i);
+                objet.interpolerPositionRendu(alpha);
+            }
+            List<PowerUp> powerUpsMisAJour = regionsActivation.getPowerUpsMisAJour();
+            for (int i = 0; i < powerUpsMisAJour.size(); i++) {
+                PowerUp powerUp = powerUpsMisAJour.get(i);
+                powerUp.interpolerPositionRendu(alpha);
+            }
+            return;
+        }
+        for (int i = 0; i < ennemis.size(); i++) {
+            Ennemi ennemi = ennemis.get(i);
+            ennemi.interpolerPositionRendu(alpha);
+        }
+        for (int i = 0; i < objetsCollectables.size(); i++) {
+            ObjetCollectable objet = objetsCollectables.get(i);
+            objet.interpolerPositionRendu(alpha);
+        }
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
+            powerUp.interpolerPositionRendu(alpha);
+        }
+    }
+    
     /**
      * Vérifie les conditions de victoire du niveau
      */
@@ -125,7 +355,8 @@ public class Niveau {
         
         // Vérifier si tous les objectifs sont accomplis
         boolean tousObjectifsAccomplis = true;
-        for (ObjectifNiveau objectif : objectifs) {
+        for (int i = 0; i < objectifs.size(); i++) {
+            ObjectifNiveau objectif = objectifs.get(i);
             if (!objectif.estAccompli()) {
                 tousObjectifsAccomplis = false;
                 break;
@@ -139,22 +370,18 @@ public class Niveau {
     }
     
     /**
-     * Met à jour la progression des objectifs
+     * Met à jour les objectifs qui dépendent de la position ou du temps (les seuls vérifiés
+     * à chaque pas : pièces et ennemis avancent par avancerObjectifs, sur événement)
      */
     private void mettreAJourObjectifs() {
-        for (ObjectifNiveau objectif : objectifs) {
+        for (int i = 0; i < objectifsParPas.size(); i++) {
+            ObjectifNiveau objectif = objectifsParPas.get(i);
             switch (objectif.getType()) {
                 case ATTEINDRE_FIN:
                     if (positionFinX > 0 && joueur != null) {
                         float distanceX = Math.abs(joueur.getPosition().x - positionFinX);
                         float distanceY = Math.abs(joueur.getPosition().y - positionFinY);
                         
-                        // DEBUG: Afficher la distance toutes les 2 secondes
-                        // Progression tracking (silent)
-                        if ((int)(progression.getTempsEcoule()) % 2 == 0 && progression.getTempsEcoule() > 0) {
-                            // Position tracking removed
-                        }
-                        
                         // Zone de fin assez large (100px de rayon)
                         if (distanceX < 100 && distanceY < 200) {
                             if (!objectif.estAccompli()) {
@@ -164,19 +391,26 @@ public class Niveau {
                     }
                     break;
                     
-                case COLLECTER_PIECES:
-                    int anciennePieces = objectif.getValeurActuelle();
-                    objectif.mettreAJourProgression(progression.getPieces());
-                    break;
-                    
-                case VAINCRE_ENNEMIS:
-                    int ancienEnnemis = objectif.getValeurActuelle();
-                    objectif.mettreAJourProgression(progression.getEnnemisVaincus());
-                    break;
-                    
                 case SURVIVRE_TEMPS:
                     objectif.mettreAJourProgression((int)progression.getTempsEcoule());
                     break;
+                    
+                default:
+                    break;
+            }
+        }
+    }
+    
+    /**
+     * Met à jour la progression des objectifs d'un type (appelé par les abonnés aux événements de jeu)
+     * @param type Le type d'objectif concerné
+     * @param valeur Nouvelle valeur (nombre de pièces, d'ennemis vaincus...)
+     */
+    public void avancerObjectifs(ObjectifNiveau.TypeObjectif type, int valeur) {
+        for (int i = 0; i < objectifs.size(); i++) {
+            ObjectifNiveau objectif = objectifs.get(i);
+            if (objectif.getType() == type) {
+                objectif.mettreAJourProgression(valeur);
             }
         }
     }
@@ -204,6 +438,12 @@ public class Niveau {
     public void ajouterEnnemi(Ennemi ennemi) {
         ennemis.add(ennemi);
         totalEnnemisInitial++;
+        if (composants != null && ComposantsEntites.peutAccueillir(ennemi)) {
+            composants.ajouterEnnemi(ennemi);
+        }
+        if (regionsActivation != null) {
+            regionsActivation.ajouter(ennemi);
+        }
         
         // Si le drapeau est déjà défini, appliquer les limites immédiatement
         if (drapeau != null) {
@@ -218,6 +458,10 @@ public class Niveau {
      */
     public void ajouterObjectif(ObjectifNiveau objectif) {
         objectifs.add(objectif);
+        if (objectif.getType() == ObjectifNiveau.TypeObjectif.ATTEINDRE_FIN
+            || objectif.getType() == ObjectifNiveau.TypeObjectif.SURVIVRE_TEMPS) {
+            objectifsParPas.add(objectif);
+        }
     }
     
     /**
@@ -271,41 +515,58 @@ public class Niveau {
      */
     public void ajouterObjetCollectable(ObjetCollectable objet) {
         objetsCollectables.add(objet);
+        if (composants != null) {
+            composants.ajouterObjetCollectable(objet);
+        }
+        if (regionsActivation != null) {
+            regionsActivation.ajouter(objet);
+        }
         if ("PIECE".equalsIgnoreCase(objet.getType())) {
             totalPiecesInitial++;
         }
     }
     
-    /**
-     * Notifie qu'une pièce a été collectée
-     */
-    public void notifierPieceCollectee() {
-        progression.ajouterPiece();
-    }
-    
-    /**
-     * Notifie qu'un ennemi a été vaincu
-     */
-    public void notifierEnnemiVaincu() {
-        progression.ennemiVaincu();
-    }
-    
     /**
      * Ajoute un obstacle au niveau
      * @param obstacle L'obstacle à ajouter
      */
     public void ajouterObstacle(Obstacle obstacle) {
         obstacles.add(obstacle);
+        grilleObstacles.inserer(obstacle);
     }
     
     /**
-     * Nettoie les entités inactives
+     * Nettoie les entités inactives.
+     * Seules les entités désactivées depuis le dernier appel sont visitées.
      */
     public void nettoyerEntitesInactives() {
-        ennemis.removeIf(ennemi -> !ennemi.estActive());
-        objetsCollectables.removeIf(objet -> !objet.estActive());
-        obstacles.removeIf(obstacle -> !obstacle.estActive());
-        powerUps.removeIf(powerUp -> !powerUp.estActive());
+        ennemis.compacter();
+        objetsCollectables.compacter();
+        obstacles.compacter();
+        powerUps.compacter();
+    }
+    
+    /**
+     * Détruit une tuile de la carte de collision (brique cassée)
+     * et efface la cellule correspondante de la couche affichée
+     * @param tx Colonne de la tuile
+     * @param ty Ligne de la tuile
+     */
+    public void detruireTuile(int tx, int ty) {
+        if (carteCollision == null) {
+            return;
+        }
+        carteCollision.retirerTuile(tx, ty);
+        
+        if (carte != null) {
+            TiledMapTileLayer couche = (TiledMapTileLayer) carte.getLayers().get(carteCollision.getNomCouche());
+            if (couche != null) {
+                couche.setCell(tx, ty, null);
+            }
+        }
+        if (ecouteurTuiles != null) {
+            ecouteurTuiles.tuileModifiee(carteCollision.getNomCouche(), tx, ty);
+        }
     }
     
     /**
@@ -314,10 +575,21 @@ public class Niveau {
      */
     public void ajouterPowerUp(PowerUp powerUp) {
         powerUps.add(powerUp);
+        if (regionsActivation != null) {
+            regionsActivation.ajouter(powerUp);
+        }
     }
     
     
     // Getters et Setters
+    public EcouteurTuiles getEcouteurTuiles() {
+        return ecouteurTuiles;
+    }
+    
+    public void setEcouteurTuiles(EcouteurTuiles ecouteurTuiles) {
+        this.ecouteurTuiles = ecouteurTuiles;
+    }
+    
     public String getNom() {
         return nom;
     }
@@ -330,6 +602,14 @@ public class Niveau {
         this.carte = carte;
     }
     
+    public DescriptionNiveau getDescription() {
+        return description;
+    }
+    
+    public void setDescription(DescriptionNiveau description) {
+        this.description = description;
+    }
+    
     public Joueur getJoueur() {
         return joueur;
     }
@@ -338,18 +618,79 @@ public class Niveau {
         this.joueur = joueur;
     }
     
-    public List<Ennemi> getEnnemis() {
+    public StockageEntites<Ennemi> getEnnemis() {
         return ennemis;
     }
     
-    public List<ObjetCollectable> getObjetsCollectables() {
+    public StockageEntites<ObjetCollectable> getObjetsCollectables() {
         return objetsCollectables;
     }
     
-    public List<Obstacle> getObstacles() {
+    public StockageEntites<Obstacle> getObstacles() {
         return obstacles;
     }
     
+    public ComposantsEntites getComposants() {
+        return composants;
+    }
+    
+    public int getSeuilParallele() {
+        return seuilParallele;
+    }
+    
+    /**
+     * Définit le nombre d'ennemis à partir duquel leur mise à jour et leurs collisions
+     * avec le terrain sont réparties sur plusieurs cœurs
+     * @param seuilParallele Le seuil (0 pour rester séquentiel)
+     */
+    public void setSeuilParallele(int seuilParallele) {
+        this.seuilParallele = seuilParallele;
+    }
+    
+    public RegionsActivation getRegionsActivation() {
+        return regionsActivation;
+    }
+    
+    /**
+     * Ennemis simulés pendant le pas courant (tous, sans fenêtre d'activation)
+     * @return Les ennemis à mettre à jour et à tester en collision
+     */
+    public List<Ennemi> getEnnemisMisAJour() {
+        return regionsActivation != null ? regionsActivation.getEnnemisMisAJour() : ennemis;
+    }
+    
+    /**
+     * Objets collectables simulés pendant le pas courant (tous, sans fenêtre d'activation)
+     * @return Les objets à tester en collision
+     */
+    public List<ObjetCollectable> getObjetsMisAJour() {
+        return regionsActivation != null ? regionsActivation.getObjetsMisAJour() : objetsCollectables;
+    }
+    
+    /**
+     * Power-ups simulés pendant le pas courant (tous, sans fenêtre d'activation)
+     * @return Les power-ups à mettre à jour et à tester en collision
+     */
+    public List<PowerUp> getPowerUpsMisAJour() {
+        return regionsActivation != null ? regionsActivation.getPowerUpsMisAJour() : powerUps;
+    }
+    
+    public GrilleSpatiale getGrilleObstacles() {
+        return grilleObstacles;
+    }
+    
+    public CarteCollision getCarteCollision() {
+        return carteCollision;
+    }
+    
+    public void setCarteCollision(CarteCollision carteCollision) {
+        this.carteCollision = carteCollision;
+    }
+    
+    public CarteCollision.ModeCollision getModeCollision() {
+        return carteCollision != null ? CarteCollision.ModeCollision.TUILES : CarteCollision.ModeCollision.OBJETS;
+    }
+    
     public float getLargeur() {
         return largeur;
     }
@@ -402,7 +743,7 @@ public class Niveau {
         return conditionVictoireAtteinte;
     }
     
-    public List<PowerUp> getPowerUps() {
+    public StockageEntites<PowerUp> getPowerUps() {
         return powerUps;
     }
     
@@ -0,0 +1,276 @@
+package com.mypackage.projet.jeux.modele.niveau;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.mypackage.projet.jeux.modele.entites.Ennemi;
+import com.mypackage.projet.jeux.modele.entites.EnnemiTerrestre;
+import com.mypackage.projet.jeux.modele.entites.Entite;
+import com.mypackage.projet.jeux.modele.entites.ObjetCollectable;
+import com.mypackage.projet.jeux.modele.entites.PowerUp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fenêtre d'activation de la simulation.
+ * Les entités sont rangées par colonnes verticales du niveau ; seules les colonnes proches
+ * de la vue (vue + marge) sont simulées à chaque pas. Les autres dorment : figées, ou mises
+ * à jour à basse fréquence (une colonne sur N à chaque pas, avec un pas N fois plus long).
+ * La fenêtre est calculée à partir de la position du joueur, comme la caméra,
+ * et non de la caméra elle-même : le réveil est déterministe, avec ou sans rendu.
+ */
+public class RegionsActivation {
+
+    /**
+     * Traitement des entités hors de la fenêtre d'activation
+     */
+    public enum ModeSommeil {
+        GELE,      // Aucune mise à jour hors de la fenêtre
+        TICK_LENT  // Mise à jour toutes les N frames, colonne par colonne
+    }
+
+    /** Largeur par défaut d'une colonne (8 tuiles de 32 pixels) */
+    public static final float LARGEUR_COLONNE_DEFAUT = 256f;
+
+    /**
+     * Déplacement maximal d'une entité pendant un pas du tick lent (en pixels).
+     * La résolution des collisions par chevauchement ne tolère pas d'enfoncement de plus de 12 pixels :
+     * au-delà, un ennemi endormi traverserait un sol d'une tuile.
+     */
+    public static final float DEPLACEMENT_LENT_MAX = 8f;
+
+    /** Gravité des ennemis et power-ups (en pixels/s²), ajoutée à la vitesse pendant le pas */
+    private static final float GRAVITE = Math.abs(EnnemiTerrestre.GRAVITE);
+
+    private final float largeurColonne;
+    private final float largeurNiveau;
+    private final float largeurVue;
+    private final float marge;
+    private final ModeSommeil modeSommeil;
+    private final int periodeTickLent;
+
+    private final Array<Array<Entite>> colonnes;
+    private final ObjectIntMap<Entite> colonneDesEntites;
+    private final Array<Entite> deplacees;
+    private int numeroTick;
+    private int colonneMin;
+    private int colonneMax;
+
+    // Entités à simuler pendant le pas courant : les éveillées d'abord, puis celles du tick lent
+    private final List<Ennemi> ennemisMisAJour;
+    private final List<ObjetCollectable> objetsMisAJour;
+    private final List<PowerUp> powerUpsMisAJour;
+    private int nombreEnnemisEveilles;
+    private int nombreObjetsEveilles;
+    private int nombrePowerUpsEveilles;
+
+    /**
+     * Constructeur
+     * @param largeurNiveau Largeur du niveau (en pixels)
+     * @param largeurVue Largeur de la vue de la caméra (en pixels)
+     * @param marge Marge autour de la vue dans laquelle les entités restent éveillées
+     * @param modeSommeil Traitement des entités hors de la fenêtre
+     * @param periodeTickLent Nombre de pas entre deux mises à jour d'une entité endormie (mode TICK_LENT)
+     */
+    public RegionsActivation(float largeurNiveau, float largeurVue, float marge,
+                             ModeSommeil modeSommeil, int periodeTickLent) {
+        this.largeurColonne = LARGEUR_COLONNE_DEFAUT;
+        this.largeurNiveau = largeurNiveau;
+        this.largeurVue = largeurVue;
+        this.marge = Math.max(0, marge);
+        this.modeSommeil = modeSommeil;
+        this.periodeTickLent = Math.max(1, periodeTickLent);
+
+        int nombreColonnes = (int) Math.ceil(largeurNiveau / largeurColonne) + 1;
+        this.colonnes = new Array<>(true, nombreColonnes);
+        for (int i = 0; i < nombreColonnes; i++) {
+            colonnes.add(new Array<>(false, 8));
+        }
+        this.colonneDesEntites = new ObjectIntMap<>();
+        this.deplacees = new Array<>(false, 16);
+        this.numeroTick = 0;
+        this.colonneMin = 0;
+        this.colonneMax = -1;
+
+        this.ennemisMisAJour = new ArrayList<>();
+        this.objetsMisAJour = new ArrayList<>();
+        this.powerUpsMisAJour = new ArrayList<>();
+    }
+
+    // ========== RANGEMENT DES ENTITÉS ==========
+
+    /**
+     * Range une entité dans la colonne qui contient son centre
+     * @param entite L'entité (ennemi, objet collectable ou power-up)
+     */
+    public void ajouter(Entite entite) {
+        int colonne = colonneDe(entite);
+        colonnes.get(colonne).add(entite);
+        colonneDesEntites.put(entite, colonne);
+    }
+
+    /**
+     * Retire une entité de sa colonne
+     * @param entite L'entité
+     */
+    public void retirer(Entite entite) {
+        int colonne = colonneDesEntites.remove(entite, -1);
+        if (colonne >= 0) {
+            colonnes.get(colonne).removeValue(entite, true);
+        }
+    }
+
+    private int colonneDe(Entite entite) {
+        float centre = entite.getPosition().x + entite.getLargeur() / 2;
+        return borner((int) Math.floor(centre / largeurColonne));
+    }
+
+    private int borner(int colonne) {
+        return Math.max(0, Math.min(colonne, colonnes.size - 1));
+    }
+
+    // ========== SÉLECTION DES ENTITÉS DU PAS ==========
+
+    /**
+     * Calcule la fenêtre d'activation et les entités à simuler pendant ce pas.
+     * Chaque entité retenue mémorise sa position précédente (interpolation du rendu).
+     * @param xJoueur Position X du joueur
+     * @param largeurJoueur Largeur du joueur
+     */
+    public void preparerPas(float xJoueur, float largeurJoueur) {
+        // Même centrage que la caméra (bornée aux bords du niveau)
+        float demiVue = largeurVue / 2;
+        float centre = Math.max(demiVue, Math.min(xJoueur + largeurJoueur / 2, largeurNiveau - demiVue));
+        colonneMin = borner((int) Math.floor((centre - demiVue - marge) / largeurColonne));
+        colonneMax = borner((int) Math.floor((centre + demiVue + marge) / largeurColonne));
+
+        ennemisMisAJour.clear();
+        objetsMisAJour.clear();
+        powerUpsMisAJour.clear();
+
+        for (int c = colonneMin; c <= colonneMax; c++) {
+            selectionnerColonne(c);
+        }
+        nombreEnnemisEveilles = ennemisMisAJour.size();
+        nombreObjetsEveilles = objetsMisAJour.size();
+        nombrePowerUpsEveilles = powerUpsMisAJour.size();
+
+        // Tick lent : une colonne endormie sur N, à tour de rôle
+        if (modeSommeil == ModeSommeil.TICK_LENT) {
+            for (int c = numeroTick % periodeTickLent; c < colonnes.size; c += periodeTickLent) {
+                if (c < colonneMin || c > colonneMax) {
+                    selectionnerColonne(c);
+                }
+            }
+        }
+        numeroTick++;
+
+        // Changer de colonne les entités qui ont bougé depuis le dernier pas
+        for (int i = 0; i < deplacees.size; i++) {
+            Entite entite = deplacees.get(i);
+            retirer(entite);
+            ajouter(entite);
+        }
+        deplacees.clear();
+    }
+
+    private void selectionnerColonne(int c) {
+        Array<Entite> colonne = colonnes.get(c);
+        for (int i = 0; i < colonne.size; i++) {
+            Entite entite = colonne.get(i);
+            if (!entite.estActive()) {
+                continue;
+            }
+            if (colonneDe(entite) != c) {
+                deplacees.add(entite);
+            }
+            entite.memoriserPositionPrecedente();
+
+            if (entite instanceof Ennemi) {
+                ennemisMisAJour.add((Ennemi) entite);
+            } else if (entite instanceof ObjetCollectable) {
+                objetsMisAJour.add((ObjetCollectable) entite);
+            } else if (entite instanceof PowerUp) {
+                powerUpsMisAJour.add((PowerUp) entite);
+            }
+        }
+    }
+
+    /**
+     * Calcule le pas d'une entité du tick lent : periodeTickLent pas ordinaires, raccourcis pour que
+     * l'entité ne se déplace pas de plus de DEPLACEMENT_LENT_MAX, gravité du pas comprise
+     * (jamais moins qu'un pas ordinaire). Une entité endormie qui tombe vieillit donc moins vite.
+     * @param entite L'entité endormie
+     * @param deltaTemps Durée d'un pas ordinaire
+     * @return La durée du pas lent de l'entité
+     */
+    public float calculerPasLent(Entite entite, float deltaTemps) {
+        float pasLent = deltaTemps * periodeTickLent;
+        Vector2 vitesse = entite.getVitesse();
+
+        // Horizontal : |vx| * pas <= DEPLACEMENT_LENT_MAX
+        float vx = Math.abs(vitesse.x);
+        if (vx * pasLent > DEPLACEMENT_LENT_MAX) {
+            pasLent = DEPLACEMENT_LENT_MAX / vx;
+        }
+
+        // Vertical : (|vy| + GRAVITE * pas) * pas <= DEPLACEMENT_LENT_MAX
+        float vy = Math.abs(vitesse.y);
+        if ((vy + GRAVITE * pasLent) * pasLent > DEPLACEMENT_LENT_MAX) {
+            pasLent = (float) ((Math.sqrt(vy * vy + 4 * GRAVITE * DEPLACEMENT_LENT_MAX) - vy) / (2 * GRAVITE));
+        }
+        return Math.max(deltaTemps, pasLent);
+    }
+
+    /**
+     * Indique si une abscisse est dans la fenêtre d'activation du pas courant
+     * @param x L'abscisse
+     * @return true si la position est éveillée
+     */
+    public boolean estEveille(float x) {
+        int colonne = borner((int) Math.floor(x / largeurColonne));
+        return colonne >= colonneMin && colonne <= colonneMax;
+    }
+
+    // Getters
+    public List<Ennemi> getEnnemisMisAJour() {
+        return ennemisMisAJour;
+    }
+
+    public List<ObjetCollectable> getObjetsMisAJour() {
+        return objetsMisAJour;
+    }
+
+    public List<PowerUp> getPowerUpsMisAJour() {
+        return powerUpsMisAJour;
+    }
+
+    public int getNombreEnnemisEveilles() {
+        return nombreEnnemisEveilles;
+    }
+
+    public int getNombreObjetsEveilles() {
+        return nombreObjetsEveilles;
+    }
+
+    public int getNombrePowerUpsEveilles() {
+        return nombrePowerUpsEveilles;
+    }
+
+    public ModeSommeil getModeSommeil() {
+        return modeSommeil;
+    }
+
+    public int getPeriodeTickLent() {
+        return periodeTickLent;
+    }
+
+    public float getMarge() {
+        return marge;
+    }
+
+    public int getNombreColonnes() {
+        return colonnes.size;
+    }
+}
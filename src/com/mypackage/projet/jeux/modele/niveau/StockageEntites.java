@@ -0,0 +1,326 @@
+package com.mypackage.projet.jeux.modele.niveau;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.mypackage.projet.jeux.modele.entites.Entite;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Stockage dense d'entités qui conserve l'ordre d'insertion (ordre de mise à jour et de dessin).
+ * Chaque entité reçoit un emplacement stable et une poignée (emplacement + génération) :
+ * une poignée conservée après le retrait de son entité devient invalide au lieu de
+ * désigner l'entité qui réutilise l'emplacement.
+ * Les entités désactivées sont signalées par leur écouteur de désactivation puis retirées
+ * en bloc par compacter(), en une seule passe qui ne tourne que s'il y a des morts ;
+ * l'ordre d'itération ne change jamais pendant une frame.
+ * @param <T> Type des entités stockées
+ */
+public class StockageEntites<T extends Entite> extends AbstractList<T> implements Entite.EcouteurDesactivation {
+
+    private static final int CAPACITE_INITIALE = 16;
+
+    // Tableau dense parcouru par les boucles de mise à jour, de collision et de rendu
+    private Object[] elements;
+    private int[] emplacementDeIndice;
+    private int taille;
+
+    // Table des emplacements : indice dense et génération de chaque emplacement
+    private int[] indiceDeEmplacement;
+    private int[] generations;
+    private int nombreEmplacements;
+    private final IntArray emplacementsLibres;
+
+    private final Array<Entite> desactivees;
+    private final Consumer<T> actionRetrait;
+
+    /**
+     * Constructeur
+     */
+    public StockageEntites() {
+        this(null);
+    }
+
+    /**
+     * Constructeur
+     * @param actionRetrait Action exécutée sur chaque entité retirée par compacter() (peut être null)
+     */
+    public StockageEntites(Consumer<T> actionRetrait) {
+        this.elements = new Object[CAPACITE_INITIALE];
+        this.emplacementDeIndice = new int[CAPACITE_INITIALE];
+        this.taille = 0;
+        this.indiceDeEmplacement = new int[CAPACITE_INITIALE];
+        this.generations = new int[CAPACITE_INITIALE];
+        this.nombreEmplacements = 0;
+        this.emplacementsLibres = new IntArray(CAPACITE_INITIALE);
+        this.desactivees = new Array<>(false, CAPACITE_INITIALE);
+        this.actionRetrait = actionRetrait;
+    }
+
+    // ========== AJOUT ET RETRAIT ==========
+
+    /**
+     * Ajoute une entité à la fin du stockage
+     * @param entite L'entité à ajouter
+     * @return La poignée de l'entité
+     */
+    public long ajouter(T entite) {
+        if (entite.getEcouteurDesactivation() != null) {
+            throw new IllegalArgumentException("L'entité appartient déjà à un stockage");
+        }
+
+        int emplacement;
+        if (emplacementsLibres.size > 0) {
+            emplacement = emplacementsLibres.pop();
+        } else {
+            if (nombreEmplacements == indiceDeEmplacement.length) {
+                int capacite = nombreEmplacements * 2;
+                indiceDeEmplacement = Arrays.copyOf(indiceDeEmplacement, capacite);
+                generations = Arrays.copyOf(generations, capacite);
+                // Listes des retraits dimensionnées ici, pour que compacter() n'alloue jamais
+                emplacementsLibres.ensureCapacity(capacite - emplacementsLibres.size);
+                desactivees.ensureCapacity(capacite - desactivees.size);
+            }
+            emplacement = nombreEmplacements++;
+        }
+
+        if (taille == elements.length) {
+            elements = Arrays.copyOf(elements, taille * 2);
+            emplacementDeIndice = Arrays.copyOf(emplacementDeIndice, taille * 2);
+        }
+        elements[taille] = entite;
+        emplacementDeIndice[taille] = emplacement;
+        indiceDeEmplacement[emplacement] = taille;
+        taille++;
+        modCount++;
+
+        entite.setEmplacementStockage(emplacement);
+        entite.setEcouteurDesactivation(this);
+
+        // Une entité ajoutée déjà inactive sera retirée au prochain compactage
+        if (!entite.estActive()) {
+            desactivees.add(entite);
+        }
+        return poignee(emplacement);
+    }
+
+    @Override
+    public boolean add(T entite) {
+        ajouter(entite);
+        return true;
+    }
+
+    /**
+     * Retire une entité ; les suivantes reculent d'une place
+     * @param entite L'entité à retirer
+     * @return true si l'entité faisait partie du stockage
+     */
+    public boolean retirer(T entite) {
+        if (!contient(entite)) {
+            return false;
+        }
+        retirerIndice(indiceDeEmplacement[entite.getEmplacementStockage()]);
+        return true;
+    }
+
+    @Override
+    public T remove(int indice) {
+        if (indice < 0 || indice >= taille) {
+            throw new IndexOutOfBoundsException("Indice : " + indice + ", taille : " + taille);
+        }
+        return retirerIndice(indice);
+    }
+
+    @Override
+    public boolean remove(Object objet) {
+        if (!(objet instanceof Entite) || !contient((Entite) objet)) {
+            return false;
+        }
+        retirerIndice(indiceDeEmplacement[((Entite) objet).getEmplacementStockage()]);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < taille; i++) {
+            Entite entite = (Entite) elements[i];
+            entite.setEcouteurDesactivation(null);
+            entite.setEmplacementStockage(-1);
+            elements[i] = null;
+        }
+        for (int emplacement = 0; emplacement < nombreEmplacements; emplacement++) {
+            generations[emplacement]++;
+        }
+        emplacementsLibres.clear();
+        for (int emplacement = nombreEmplacements - 1; emplacement >= 0; emplacement--) {
+            emplacementsLibres.add(emplacement);
+        }
+        taille = 0;
+        desactivees.clear();
+        modCount++;
+    }
+
+    /**
+     * Retire les entités désactivées depuis le dernier compactage, sans changer l'ordre des autres.
+     * L'action de retrait est appelée sur chacune avant le tassement (elle ne doit pas modifier le stockage).
+     * Sans mort, l'appel ne coûte rien ; sinon une seule passe tasse le tableau dense
+     * à partir du premier trou.
+     * @return Le nombre d'entités retirées
+     */
+    @SuppressWarnings("unchecked")
+    public int compacter() {
+        if (desactivees.size == 0) {
+            return 0;
+        }
+
+        // Détacher les entités à retirer et repérer le premier trou
+        int premierTrou = taille;
+        int retirees = 0;
+        for (int i = 0; i < desactivees.size; i++) {
+            Entite entite = desactivees.get(i);
+            // Réactivée entre-temps, ou déjà retirée (désactivée deux fois)
+            if (entite.estActive() || !contient(entite)) {
+                continue;
+            }
+            premierTrou = Math.min(premierTrou, indiceDeEmplacement[entite.getEmplacementStockage()]);
+            liberer(entite);
+            if (actionRetrait != null) {
+                actionRetrait.accept((T) entite);
+            }
+            retirees++;
+        }
+
+        // Tasser les entités restantes dans leur ordre d'origine
+        if (retirees > 0) {
+            int destination = premierTrou;
+            for (int i = premierTrou; i < taille; i++) {
+                Entite entite = (Entite) elements[i];
+                if (!contient(entite)) {
+                    continue;
+                }
+                elements[destination] = entite;
+                emplacementDeIndice[destination] = emplacementDeIndice[i];
+                indiceDeEmplacement[emplacementDeIndice[destination]] = destination;
+                destination++;
+            }
+            Arrays.fill(elements, destination, taille, null);
+            taille = destination;
+            modCount++;
+        }
+
+        desactivees.clear();
+        return retirees;
+    }
+
+    @Override
+    public void entiteDesactivee(Entite entite) {
+        desactivees.add(entite);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T retirerIndice(int indice) {
+        T entite = (T) elements[indice];
+        liberer(entite);
+
+        // Les éléments suivants reculent d'une place : l'ordre est conservé
+        int suivants = taille - indice - 1;
+        System.arraycopy(elements, indice + 1, elements, indice, suivants);
+        System.arraycopy(emplacementDeIndice, indice + 1, emplacementDeIndice, indice, suivants);
+        for (int i = indice; i < taille - 1; i++) {
+            indiceDeEmplacement[emplacementDeIndice[i]] = i;
+        }
+        elements[taille - 1] = null;
+        taille--;
+        modCount++;
+        return entite;
+    }
+
+    /**
+     * Libère l'emplacement d'une entité et la détache du stockage (le tableau dense n'est pas modifié)
+     * @param entite L'entité
+     */
+    private void liberer(Entite entite) {
+        int emplacement = entite.getEmplacementStockage();
+
+        // Les anciennes poignées deviennent invalides
+        generations[emplacement]++;
+        emplacementsLibres.add(emplacement);
+
+        entite.setEcouteurDesactivation(null);
+        entite.setEmplacementStockage(-1);
+    }
+
+    // ========== POIGNÉES ==========
+
+    /**
+     * Obtient la poignée d'une entité du stockage
+     * @param entite L'entité
+     * @return La poignée, ou -1 si l'entité n'appartient pas au stockage
+     */
+    public long getPoignee(T entite) {
+        return contient(entite) ? poignee(entite.getEmplacementStockage()) : -1;
+    }
+
+    /**
+     * Obtient l'entité désignée par une poignée
+     * @param poignee La poignée
+     * @return L'entité, ou null si elle a été retirée depuis
+     */
+    @SuppressWarnings("unchecked")
+    public T obtenir(long poignee) {
+        if (!estValide(poignee)) {
+            return null;
+        }
+        return (T) elements[indiceDeEmplacement[(int) poignee]];
+    }
+
+    /**
+     * Vérifie qu'une poignée désigne toujours une entité du stockage
+     * @param poignee La poignée
+     * @return true si la poignée est valide
+     */
+    public boolean estValide(long poignee) {
+        int emplacement = (int) poignee;
+        int generation = (int) (poignee >>> 32);
+        return poignee >= 0 && emplacement < nombreEmplacements && generations[emplacement] == generation;
+    }
+
+    private long poignee(int emplacement) {
+        return ((long) generations[emplacement] << 32) | (emplacement & 0xFFFFFFFFL);
+    }
+
+    private boolean contient(Entite entite) {
+        return entite != null && entite.getEcouteurDesactivation() == this;
+    }
+
+    // ========== ACCÈS ==========
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int indice) {
+        if (indice >= taille) {
+            throw new IndexOutOfBoundsException("Indice : " + indice + ", taille : " + taille);
+        }
+        return (T) elements[indice];
+    }
+
+    @Override
+    public int size() {
+        return taille;
+    }
+
+    @Override
+    public boolean contains(Object objet) {
+        return objet instanceof Entite && contient((Entite) objet);
+    }
+
+    /**
+     * Nombre d'entités signalées inactives en attente de compactage
+     * @return Le nombre d'entités en attente
+     */
+    public int getNombreDesactivees() {
+        return desactivees.size;
+    }
+}
@@ -0,0 +1,198 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.mypackage.projet.jeux.modele.niveau.DescriptionNiveau;
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+
+/**
+ * Chargement d'un niveau en deux temps.
+ * La préparation (ChargeurNiveau.preparerNiveau) lit le fichier, décode les images des tilesets
+ * et construit le niveau et ses entités sans contexte OpenGL : elle peut s'exécuter sur un thread
+ * d'arrière-plan. La finalisation (avancer) crée les textures et la carte Tiled sur le thread de rendu,
+ * par tranches de durée bornée pour ne jamais bloquer une frame entière, puis la confie au niveau.
+ */
+public class ChargementNiveau {
+
+    /**
+     * Étapes de la finalisation, dans l'ordre
+     */
+    private enum Etape {
+        TEXTURES,
+        TILESETS,
+        COUCHES,
+        TERMINE
+    }
+
+    private static final int LIGNES_PAR_TRANCHE = 4;
+
+    private final ChargeurNiveau chargeur;
+    private final String cheminFichier;
+    private final DescriptionNiveau description;
+    private final Pixmap[] images; // Une image par tileset (null sans rendu, ou si déjà dans le registre)
+    private final FileHandle[] fichiersImages; // Fichier de chaque image (null sans rendu)
+
+    private Etape etape;
+    private int indiceEtape;
+    private int ligneCouche;
+    private TiledMapTileLayer coucheEnCours;
+    private Texture[] textures;
+    private final Array<Disposable> ressourcesPossedees; // Textures propres ou groupe du registre
+    private GestionnaireRessources.Groupe groupe;
+    private TiledMap carte;
+    private final Niveau niveau; // Construit pendant la préparation, sans carte jusqu'à la fin
+
+    /**
+     * Constructeur (appelé par ChargeurNiveau.preparerNiveau)
+     * @param chargeur Le chargeur qui finalisera le niveau
+     * @param cheminFichier Chemin du fichier du niveau
+     * @param description La description lue
+     * @param niveau Le niveau construit à partir de la description (sans carte)
+     * @param images Les images décodées des tilesets (null sans rendu)
+     * @param fichiersImages Les fichiers de ces images (null sans rendu)
+     */
+    ChargementNiveau(ChargeurNiveau chargeur, String cheminFichier, DescriptionNiveau description,
+                     Niveau niveau, Pixmap[] images, FileHandle[] fichiersImages) {
+        this.chargeur = chargeur;
+        this.cheminFichier = cheminFichier;
+        this.description = description;
+        this.niveau = niveau;
+        this.images = images;
+        this.fichiersImages = fichiersImages;
+        this.etape = Etape.TEXTURES;
+        this.ressourcesPossedees = new Array<>();
+    }
+
+    /**
+     * Avance la finalisation sur le thread de rendu
+     * @param budgetNanos Durée maximale à consacrer à cet appel (en nanosecondes)
+     * @return true si le niveau est prêt (voir getNiveau)
+     */
+    public boolean avancer(long budgetNanos) {
+        long fin = System.nanoTime() + budgetNanos;
+        do {
+            switch (etape) {
+                case TEXTURES:
+                    avancerTextures();
+                    break;
+                case TILESETS:
+                    avancerTilesets();
+                    break;
+                case COUCHES:
+                    avancerCouches();
+                    break;
+                case TERMINE:
+                default:
+                    return true;
+            }
+        } while (System.nanoTime() < fin);
+        return etape == Etape.TERMINE;
+    }
+
+    private void avancerTextures() {
+        // Un envoi de texture au GPU par tranche
+        if (textures == null) {
+            textures = new Texture[description.getTilesets().size()];
+            carte = chargeur.creerCarte(description);
+            groupe = chargeur.creerGroupeRessources(cheminFichier, ressourcesPossedees);
+            carte.setOwnedResources(ressourcesPossedees); // Libérées avec la carte
+        }
+        if (images != null && indiceEtape < images.length) {
+            textures[indiceEtape] = chargeur.obtenirTextureTileset(groupe, ressourcesPossedees,
+                fichiersImages[indiceEtape], images[indiceEtape]);
+            images[indiceEtape] = null;
+            indiceEtape++;
+            return;
+        }
+        passerA(Etape.TILESETS);
+    }
+
+    private void avancerTilesets() {
+        if (indiceEtape < textures.length) {
+            chargeur.ajouterTileset(carte, description.getTilesets().get(indiceEtape), textures[indiceEtape]);
+            indiceEtape++;
+            return;
+        }
+        passerA(Etape.COUCHES);
+    }
+
+    private void avancerCouches() {
+        if (indiceEtape >= description.getCouchesTuiles().size()) {
+            niveau.setCarte(carte);
+            passerA(Etape.TERMINE);
+            return;
+        }
+
+        DescriptionNiveau.CoucheTuiles couche = description.getCouchesTuiles().get(indiceEtape);
+        if (coucheEnCours == null) {
+            coucheEnCours = chargeur.creerCoucheTuiles(description, couche);
+            ligneCouche = 0;
+        }
+        int ligneFin = Math.min(couche.getHauteur(), ligneCouche + LIGNES_PAR_TRANCHE);
+        chargeur.remplirCoucheTuiles(carte, couche, coucheEnCours, ligneCouche, ligneFin);
+        ligneCouche = ligneFin;
+
+        if (ligneCouche >= couche.getHauteur()) {
+            carte.getLayers().add(coucheEnCours);
+            coucheEnCours = null;
+            indiceEtape++;
+        }
+    }
+
+    private void passerA(Etape suivante) {
+        etape = suivante;
+        indiceEtape = 0;
+    }
+
+    /**
+     * Abandonne le chargement et libère ce qui a déjà été créé (images, textures, carte)
+     */
+    public void abandonner() {
+        if (images != null) {
+            for (int i = 0; i < images.length; i++) {
+                if (images[i] != null) {
+                    images[i].dispose();
+                    images[i] = null;
+                }
+            }
+        }
+        // Une fois confiée au niveau, la carte lui appartient
+        if (carte != null && niveau.getCarte() != carte) {
+            carte.dispose();
+        }
+        etape = Etape.TERMINE;
+    }
+
+    /**
+     * Retourne l'avancement de la finalisation (par étape)
+     * @return Valeur entre 0 et 1
+     */
+    public float getProgression() {
+        return etape.ordinal() / (float) Etape.TERMINE.ordinal();
+    }
+    
+    public boolean estTermine() {
+        return etape == Etape.TERMINE;
+    }
+
+    public String getCheminFichier() {
+        return cheminFichier;
+    }
+
+    public DescriptionNiveau getDescription() {
+        return description;
+    }
+
+    /**
+     * Obtient le niveau finalisé
+     * @return Le niveau, ou null tant que la finalisation n'est pas terminée
+     */
+    public Niveau getNiveau() {
+        return etape == Etape.TERMINE ? niveau : null;
+    }
+}
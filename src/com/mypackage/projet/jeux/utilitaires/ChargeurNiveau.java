@@ -1,13 +1,23 @@
 package com.mypackage.projet.jeux.utilitaires;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
 import com.mypackage.projet.jeux.modele.comportements.ComportementPatrouille;
 import com.mypackage.projet.jeux.modele.entites.Drapeau;
 import com.mypackage.projet.jeux.modele.entites.Ennemi;
@@ -16,68 +26,659 @@ import com.mypackage.projet.jeux.modele.entites.Joueur;
 import com.mypackage.projet.jeux.modele.entites.ObjetCollectable;
 import com.mypackage.projet.jeux.modele.entites.Obstacle;
 import com.mypackage.projet.jeux.modele.entites.PowerUp;
+import com.mypackage.projet.jeux.modele.niveau.CarteCollision;
+import com.mypackage.projet.jeux.modele.niveau.DescriptionNiveau;
 import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import com.mypackage.projet.jeux.modele.niveau.RegionsActivation;
+
+import java.io.IOException;
 
 /**
  * Classe utilitaire pour charger les niveaux depuis des fichiers Tiled (.tmx)
+ * ou depuis leur version compilée (.niv, voir CompilateurNiveau)
  */
 public class ChargeurNiveau {
     
+    /** Nom de la couche de tuiles qui décrit le terrain */
+    public static final String COUCHE_SOL = "Sol";
+    
+    /** Propriété de carte choisissant le mode de collision ("objets" ou "tuiles") */
+    public static final String PROPRIETE_MODE_COLLISION = "modeCollision";
+    
     private TmxMapLoader chargeurCarte;
+    private LecteurTmxSansTextures lecteurSansTextures; // Non null en mode sans rendu
+    private boolean composantsEntites; // Ranger ennemis et objets en tableaux parallèles
+    private RegionsActivation.ModeSommeil modeSommeil; // Fenêtre d'activation (null si désactivée)
+    private float largeurVueActivation;
+    private float margeActivation;
+    private int periodeTickLent;
+    private int seuilParallele; // Nombre d'ennemis à partir duquel paralléliser (0 : jamais)
+    private boolean niveauxCompiles; // Lire le niveau compilé (.niv) voisin s'il est à jour
+    private GestionnaireRessources ressources; // Registre des textures des tilesets (null : une texture par carte)
     
     /**
      * Constructeur
      */
     public ChargeurNiveau() {
-        this.chargeurCarte = new TmxMapLoader();
+        this(false);
+    }
+    
+    /**
+     * Constructeur
+     * @param sansRendu true pour lire les cartes sans créer de textures (pas de contexte OpenGL)
+     */
+    public ChargeurNiveau(boolean sansRendu) {
+        if (sansRendu) {
+            this.lecteurSansTextures = new LecteurTmxSansTextures();
+            this.chargeurCarte = lecteurSansTextures;
+        } else {
+            this.chargeurCarte = new TmxMapLoader();
+        }
+        this.composantsEntites = false;
+        this.modeSommeil = null;
+        this.seuilParallele = 0;
+        this.niveauxCompiles = true;
     }
     
     /**
-     * Charge un niveau depuis un fichier TMX
-     * @param cheminFichier Chemin vers le fichier .tmx
+     * Active le stockage en composants (tableaux parallèles) des niveaux chargés
+     * @param composantsEntites true pour ranger ennemis et objets en composants
+     */
+    public void setComposantsEntites(boolean composantsEntites) {
+        this.composantsEntites = composantsEntites;
+    }
+    
+    /**
+     * Définit le seuil de mise à jour parallèle des ennemis des niveaux chargés
+     * @param seuilParallele Nombre d'ennemis à partir duquel paralléliser (0 : jamais)
+     */
+    public void setSeuilParallele(int seuilParallele) {
+        this.seuilParallele = seuilParallele;
+    }
+    
+    /**
+     * Active la fenêtre d'activation de la simulation des niveaux chargés
+     * @param largeurVue Largeur de la vue de la caméra (en pixels)
+     * @param marge Marge autour de la vue dans laquelle les entités restent éveillées
+     * @param modeSommeil Traitement des entités hors de la fenêtre (null pour désactiver)
+     * @param periodeTickLent Nombre de pas entre deux mises à jour d'une entité endormie
+     */
+    public void setRegionsActivation(float largeurVue, float marge,
+                                     RegionsActivation.ModeSommeil modeSommeil, int periodeTickLent) {
+        this.largeurVueActivation = largeurVue;
+        this.margeActivation = marge;
+        this.modeSommeil = modeSommeil;
+        this.periodeTickLent = periodeTickLent;
+    }
+    
+    /**
+     * Active la lecture des niveaux compilés (.niv) voisins des fichiers TMX
+     * @param niveauxCompiles true pour préférer un niveau compilé à jour au fichier TMX
+     */
+    public void setNiveauxCompiles(boolean niveauxCompiles) {
+        this.niveauxCompiles = niveauxCompiles;
+    }
+    
+    /**
+     * Partage les textures des tilesets des niveaux compilés à travers le registre des ressources :
+     * chaque niveau acquiert un groupe libéré avec sa carte, et une image commune à plusieurs niveaux
+     * n'est envoyée qu'une fois au GPU
+     * @param ressources Le registre (null : chaque carte crée et libère ses propres textures)
+     */
+    public void setRessources(GestionnaireRessources ressources) {
+        this.ressources = ressources;
+    }
+    
+    /**
+     * Charge un niveau depuis un fichier TMX.
+     * Si un niveau compilé (.niv) à jour existe à côté du fichier, il est lu à la place du XML.
+     * @param cheminFichier Chemin vers le fichier .tmx (ou directement vers un fichier .niv)
      * @return Le niveau chargé
      */
     public Niveau chargerNiveau(String cheminFichier) {
         try {
-            // Charger la carte Tiled
-            TiledMap carte = chargeurCarte.load(cheminFichier);
-            
             // Extraire le nom du niveau
             String nomNiveau = extraireNomFichier(cheminFichier);
-            Niveau niveau = new Niveau(nomNiveau);
-            niveau.setCarte(carte);
             
-            // Définir les dimensions du niveau
-            MapProperties proprietes = carte.getProperties();
-            int largeurCarte = proprietes.get("width", Integer.class);
-            int hauteurCarte = proprietes.get("height", Integer.class);
-            int tailleTuile = proprietes.get("tilewidth", Integer.class);
+            TiledMap carte;
+            DescriptionNiveau description = niveauxCompiles ? lireNiveauCompile(cheminFichier, nomNiveau) : null;
+            if (description != null) {
+                carte = construireCarte(description, resoudre(LecteurNiveauCompile.cheminCompile(cheminFichier)), cheminFichier);
+            } else {
+                // Charger la carte Tiled
+                carte = lecteurSansTextures != null
+                    ? lecteurSansTextures.chargerSansTextures(cheminFichier)
+                    : chargeurCarte.load(cheminFichier);
+                description = decrireCarte(carte, nomNiveau);
+            }
             
-            niveau.setLargeur(largeurCarte * tailleTuile);
-            niveau.setHauteur(hauteurCarte * tailleTuile);
+            return construireNiveau(description, carte);
             
-            // Charger les différentes couches d'objets
-            chargerCoucheJoueur(carte, niveau);
-            chargerCoucheEnnemis(carte, niveau);
-            chargerCoucheObjets(carte, niveau);
-            chargerCouchePowerUps(carte, niveau);
-            chargerCoucheDrapeau(carte, niveau);
-            chargerCoucheObstacles(carte, niveau);
+        } catch (Exception e) {
+            Gdx.app.error("ChargeurNiveau", "Erreur lors du chargement du niveau : " + e.getMessage(), e);
+            return null;
+        }
+    }
+    
+    /**
+     * Prépare un niveau sans contexte OpenGL : lecture du fichier (compilé ou TMX sans textures),
+     * décodage des images des tilesets et construction du niveau et de ses entités.
+     * Peut être appelé depuis un thread d'arrière-plan ; la carte Tiled est ensuite créée
+     * sur le thread de rendu par ChargementNiveau.avancer.
+     * @param cheminFichier Chemin vers le fichier .tmx (ou .niv)
+     * @return Le chargement à finaliser, ou null si le niveau doit être chargé par chargerNiveau
+     */
+    public ChargementNiveau preparerNiveau(String cheminFichier) {
+        Pixmap[] images = null;
+        try {
+            String nomNiveau = extraireNomFichier(cheminFichier);
+            FileHandle fichierNiveau = resoudre(cheminFichier);
+            
+            DescriptionNiveau description = niveauxCompiles ? lireNiveauCompile(cheminFichier, nomNiveau) : null;
+            if (description != null) {
+                fichierNiveau = resoudre(LecteurNiveauCompile.cheminCompile(cheminFichier));
+            } else {
+                // Lecteur propre à l'appel : TmxMapLoader n'est pas réentrant
+                TiledMap carte = new LecteurTmxSansTextures().chargerSansTextures(fichierNiveau.path());
+                try {
+                    for (TiledMapTileSet tileset : carte.getTileSets()) {
+                        if (!tileset.getProperties().containsKey("imagesource")) {
+                            return null; // Collection d'images : non reconstructible depuis la description
+                        }
+                    }
+                    description = decrireCarte(carte, nomNiveau);
+                } finally {
+                    carte.dispose();
+                }
+            }
             
-            return niveau;
+            FileHandle[] fichiersImages = null;
+            if (lecteurSansTextures == null) {
+                images = new Pixmap[description.getTilesets().size()];
+                fichiersImages = new FileHandle[images.length];
+                for (int i = 0; i < images.length; i++) {
+                    String cheminImage = description.getTilesets().get(i).getCheminImage();
+                    fichiersImages[i] = LecteurTmxSansTextures.resoudreRelatif(fichierNiveau, cheminImage);
+                    // Image déjà sur le GPU pour un autre niveau : rien à décoder
+                    if (ressources == null || !ressources.estCharge(fichiersImages[i].path())) {
+                        images[i] = new Pixmap(fichiersImages[i]);
+                    }
+                }
+            }
+            // Le niveau ne dépend pas de la carte : ses entités sont créées ici, hors du thread de rendu
+            Niveau niveau = construireNiveau(description, null);
+            return new ChargementNiveau(this, cheminFichier, description, niveau, images, fichiersImages);
             
         } catch (Exception e) {
-            Gdx.app.error("ChargeurNiveau", "Erreur lors du chargement du niveau : " + e.getMessage(), e);
+            if (images != null) {
+                for (Pixmap image : images) {
+                    if (image != null) {
+                        image.dispose();
+                    }
+                }
+            }
+            Gdx.app.error("ChargeurNiveau", "Erreur lors de la préparation du niveau : " + e.getMessage(), e);
             return null;
         }
     }
     
     /**
-     * Charge la couche contenant le joueur
+     * Construit un niveau à partir de sa description
+     * @param description La description du niveau
+     * @param carte La carte Tiled correspondante (rendu des tuiles ; null si elle est confiée plus tard)
+     * @return Le niveau construit
+     */
+    public Niveau construireNiveau(DescriptionNiveau description, TiledMap carte) {
+        Niveau niveau = new Niveau(description.getNom());
+        niveau.setCarte(carte);
+        niveau.setDescription(description);
+        
+        // Définir les dimensions du niveau
+        niveau.setLargeur(description.getLargeurCarte() * description.getLargeurTuile());
+        niveau.setHauteur(description.getHauteurCarte() * description.getLargeurTuile());
+        
+        // Créer les entités des tables d'apparition
+        creerJoueur(description, niveau);
+        creerEnnemis(description, niveau);
+        creerObjets(description, niveau);
+        creerPowerUps(description, niveau);
+        creerDrapeau(description, niveau);
+        
+        // Mode TUILES : la solidité vient directement de la couche "Sol"
+        if (description.getModeCollision() == CarteCollision.ModeCollision.TUILES) {
+            creerCarteCollision(description, niveau);
+        } else {
+            creerObstacles(description, niveau);
+        }
+        
+        niveau.setSeuilParallele(seuilParallele);
+        if (composantsEntites) {
+            niveau.activerComposantsEntites();
+        }
+        if (modeSommeil != null) {
+            niveau.activerRegionsActivation(largeurVueActivation, margeActivation, modeSommeil, periodeTickLent);
+        }
+        
+        return niveau;
+    }
+    
+    /**
+     * Reconstruit un niveau déjà chargé à partir de sa description, sans accès au fichier :
+     * les tuiles détruites pendant la partie sont remises dans la carte, puis toutes les entités
+     * sont recréées à leur position d'apparition.
+     * @param description La description du niveau
+     * @param carte La carte Tiled du niveau (réutilisée)
+     * @return Le niveau reconstruit
+     */
+    public Niveau reconstruireNiveau(DescriptionNiveau description, TiledMap carte) {
+        if (carte != null) {
+            restaurerCouchesTuiles(description, carte);
+        }
+        return construireNiveau(description, carte);
+    }
+    
+    /**
+     * Remet dans la carte les cellules présentes dans la description mais retirées depuis
+     * (Niveau.detruireTuile) ; les cellules intactes sont conservées telles quelles
+     * @param description La description du niveau
      * @param carte La carte Tiled
-     * @param niveau Le niveau à remplir
      */
-    private void chargerCoucheJoueur(TiledMap carte, Niveau niveau) {
+    private void restaurerCouchesTuiles(DescriptionNiveau description, TiledMap carte) {
+        for (DescriptionNiveau.CoucheTuiles couche : description.getCouchesTuiles()) {
+            MapLayer calque = carte.getLayers().get(couche.getNom());
+            if (!(calque instanceof TiledMapTileLayer)) {
+                continue;
+            }
+            TiledMapTileLayer coucheTuiles = (TiledMapTileLayer) calque;
+            for (int ty = 0; ty < couche.getHauteur(); ty++) {
+                for (int tx = 0; tx < couche.getLargeur(); tx++) {
+                    if (couche.getCellule(tx, ty) != 0 && coucheTuiles.getCell(tx, ty) == null) {
+                        remplirCoucheTuiles(carte, couche, coucheTuiles, ty, ty + 1);
+                        break; // Toute la ligne est remplie d'un coup
+                    }
+                }
+            }
+        }
+    }
+    
+    // ========== NIVEAUX COMPILÉS ==========
+    
+    /**
+     * Lit le niveau compilé voisin d'un fichier TMX s'il existe et correspond au fichier source
+     * @param cheminFichier Chemin du fichier .tmx (ou .niv)
+     * @param nomNiveau Nom du niveau
+     * @return La description lue, ou null s'il faut analyser le fichier TMX
+     */
+    private DescriptionNiveau lireNiveauCompile(String cheminFichier, String nomNiveau) {
+        FileHandle fichierCompile = resoudre(LecteurNiveauCompile.cheminCompile(cheminFichier));
+        if (!fichierCompile.exists()) {
+            return null;
+        }
+        
+        try {
+            // Un niveau compilé plus ancien que son source est ignoré
+            FileHandle fichierSource = resoudre(cheminFichier);
+            if (!fichierSource.equals(fichierCompile) && fichierSource.exists()) {
+                Integer empreinte = LecteurNiveauCompile.lireEmpreinteSource(fichierCompile);
+                if (empreinte == null || empreinte != LecteurNiveauCompile.calculerEmpreinte(fichierSource)) {
+                    Gdx.app.log("ChargeurNiveau", "Niveau compilé périmé, lecture du TMX : " + fichierCompile.path());
+                    return null;
+                }
+            }
+            
+            DescriptionNiveau description = LecteurNiveauCompile.lire(fichierCompile, nomNiveau);
+            Gdx.app.log("ChargeurNiveau", "✅ Niveau compilé lu : " + fichierCompile.path());
+            return description;
+        } catch (IOException e) {
+            Gdx.app.error("ChargeurNiveau", "Niveau compilé illisible, lecture du TMX : " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Reconstruit la carte Tiled (tilesets et couches de tuiles) d'un niveau compilé.
+     * Sans rendu, les tuiles reçoivent une région vide comme avec LecteurTmxSansTextures.
+     * @param description La description du niveau
+     * @param fichierNiveau Fichier du niveau (les images sont relatives à ce fichier)
+     * @param cheminFichier Chemin du niveau (nom de son groupe de ressources)
+     * @return La carte
+     */
+    private TiledMap construireCarte(DescriptionNiveau description, FileHandle fichierNiveau, String cheminFichier) {
+        TiledMap carte = creerCarte(description);
+        
+        Array<Disposable> possedees = new Array<>();
+        GestionnaireRessources.Groupe groupe = creerGroupeRessources(cheminFichier, possedees);
+        carte.setOwnedResources(possedees);
+        for (DescriptionNiveau.Tileset tileset : description.getTilesets()) {
+            Texture texture = null;
+            if (lecteurSansTextures == null) {
+                FileHandle fichierImage = LecteurTmxSansTextures.resoudreRelatif(fichierNiveau, tileset.getCheminImage());
+                texture = obtenirTextureTileset(groupe, possedees, fichierImage, null);
+            }
+            ajouterTileset(carte, tileset, texture);
+        }
+        
+        for (DescriptionNiveau.CoucheTuiles couche : description.getCouchesTuiles()) {
+            TiledMapTileLayer coucheTuiles = creerCoucheTuiles(description, couche);
+            remplirCoucheTuiles(carte, couche, coucheTuiles, 0, couche.getHauteur());
+            carte.getLayers().add(coucheTuiles);
+        }
+        return carte;
+    }
+    
+    /**
+     * Crée le groupe de ressources d'un niveau, libéré avec sa carte
+     * @param cheminFichier Chemin du niveau (nom du groupe)
+     * @param possedees Ressources possédées par la carte (reçoit le groupe)
+     * @return Le groupe, ou null sans registre ou sans rendu
+     */
+    GestionnaireRessources.Groupe creerGroupeRessources(String cheminFichier, Array<Disposable> possedees) {
+        if (ressources == null || lecteurSansTextures != null) {
+            return null;
+        }
+        GestionnaireRessources.Groupe groupe = ressources.creerGroupe(cheminFichier);
+        possedees.add(groupe);
+        return groupe;
+    }
+    
+    /**
+     * Obtient la texture de l'image d'un tileset.
+     * Avec un registre, elle est acquise pour le groupe du niveau (partagée avec les autres niveaux) ;
+     * sans registre, elle est créée et ajoutée aux ressources possédées par la carte.
+     * @param groupe Groupe du niveau (null sans registre)
+     * @param possedees Ressources possédées par la carte
+     * @param fichierImage Fichier de l'image
+     * @param image L'image déjà décodée (null : lire le fichier), libérée par cet appel
+     * @return La texture
+     */
+    Texture obtenirTextureTileset(GestionnaireRessources.Groupe groupe, Array<Disposable> possedees,
+                                  FileHandle fichierImage, Pixmap image) {
+        String chemin = fichierImage.path();
+        if (groupe != null && (image == null || ressources.getNombreReferences(chemin) > 0)) {
+            if (image != null) {
+                image.dispose(); // Texture déjà présente : l'image décodée ne sert pas
+            }
+            return groupe.acquerir(chemin, Texture.class);
+        }
+        
+        Texture texture;
+        if (image != null) {
+            texture = new Texture(image);
+            image.dispose();
+        } else {
+            texture = new Texture(fichierImage);
+        }
+        if (groupe != null) {
+            return groupe.ajouter(chemin, Texture.class, texture);
+        }
+        possedees.add(texture);
+        return texture;
+    }
+    
+    /**
+     * Crée une carte Tiled vide portant les propriétés de la description
+     * @param description La description du niveau
+     * @return La carte, sans tileset ni couche
+     */
+    TiledMap creerCarte(DescriptionNiveau description) {
+        TiledMap carte = new TiledMap();
+        MapProperties proprietes = carte.getProperties();
+        proprietes.put("width", description.getLargeurCarte());
+        proprietes.put("height", description.getHauteurCarte());
+        proprietes.put("tilewidth", description.getLargeurTuile());
+        proprietes.put("tileheight", description.getHauteurTuile());
+        if (description.getModeCollision() == CarteCollision.ModeCollision.TUILES) {
+            proprietes.put(PROPRIETE_MODE_COLLISION, "tuiles");
+        }
+        return carte;
+    }
+    
+    /**
+     * Ajoute un tileset à la carte
+     * @param carte La carte
+     * @param tileset Le tileset décrit
+     * @param texture La texture de son image (null sans rendu)
+     */
+    void ajouterTileset(TiledMap carte, DescriptionNiveau.Tileset tileset, Texture texture) {
+        carte.getTileSets().addTileSet(construireTileset(tileset, texture));
+    }
+    
+    /**
+     * Crée une couche de tuiles vide
+     * @param description La description du niveau
+     * @param couche La couche décrite
+     * @return La couche, à remplir avec remplirCoucheTuiles
+     */
+    TiledMapTileLayer creerCoucheTuiles(DescriptionNiveau description, DescriptionNiveau.CoucheTuiles couche) {
+        TiledMapTileLayer coucheTuiles = new TiledMapTileLayer(couche.getLargeur(), couche.getHauteur(),
+            description.getLargeurTuile(), description.getHauteurTuile());
+        coucheTuiles.setName(couche.getNom());
+        coucheTuiles.setVisible(couche.estVisible());
+        coucheTuiles.setOpacity(couche.getOpacite());
+        return coucheTuiles;
+    }
+    
+    /**
+     * Remplit une plage de lignes d'une couche de tuiles (les tilesets doivent déjà être dans la carte)
+     * @param carte La carte
+     * @param couche La couche décrite
+     * @param coucheTuiles La couche à remplir
+     * @param ligneDebut Première ligne
+     * @param ligneFin Ligne de fin (exclue)
+     */
+    void remplirCoucheTuiles(TiledMap carte, DescriptionNiveau.CoucheTuiles couche, TiledMapTileLayer coucheTuiles,
+                             int ligneDebut, int ligneFin) {
+        for (int ty = ligneDebut; ty < ligneFin; ty++) {
+            for (int tx = 0; tx < couche.getLargeur(); tx++) {
+                int valeur = couche.getCellule(tx, ty);
+                TiledMapTile tuile = valeur != 0
+                    ? carte.getTileSets().getTile(valeur & DescriptionNiveau.MASQUE_ID_TUILE)
+                    : null;
+                if (tuile == null) {
+                    continue;
+                }
+                TiledMapTileLayer.Cell cellule = new TiledMapTileLayer.Cell();
+                cellule.setTile(tuile);
+                cellule.setFlipHorizontally((valeur & DescriptionNiveau.RETOURNEMENT_HORIZONTAL) != 0);
+                cellule.setFlipVertically((valeur & DescriptionNiveau.RETOURNEMENT_VERTICAL) != 0);
+                cellule.setRotation((valeur >>> DescriptionNiveau.DECALAGE_ROTATION) & 3);
+                coucheTuiles.setCell(tx, ty, cellule);
+            }
+        }
+    }
+    
+    /**
+     * Découpe les tuiles d'un tileset dans sa texture (même découpage que TmxMapLoader)
+     * @param tileset Le tileset décrit
+     * @param texture La texture de l'image (null sans rendu)
+     * @return Le tileset de la carte
+     */
+    private TiledMapTileSet construireTileset(DescriptionNiveau.Tileset tileset, Texture texture) {
+        TiledMapTileSet tilesetCarte = new TiledMapTileSet();
+        tilesetCarte.setName(tileset.getNom());
+        MapProperties proprietes = tilesetCarte.getProperties();
+        proprietes.put("firstgid", tileset.getPremierGid());
+        proprietes.put("imagesource", tileset.getCheminImage());
+        proprietes.put("imagewidth", tileset.getLargeurImage());
+        proprietes.put("imageheight", tileset.getHauteurImage());
+        proprietes.put("tilewidth", tileset.getLargeurTuile());
+        proprietes.put("tileheight", tileset.getHauteurTuile());
+        proprietes.put("margin", tileset.getMarge());
+        proprietes.put("spacing", tileset.getEspacement());
+        
+        int idLocal = 0;
+        for (int ligne = 0; ligne < tileset.getLignes(); ligne++) {
+            for (int colonne = 0; colonne < tileset.getColonnes(); colonne++) {
+                TextureRegion region = texture == null
+                    ? LecteurTmxSansTextures.REGION_VIDE
+                    : new TextureRegion(texture,
+                        tileset.getMarge() + colonne * (tileset.getLargeurTuile() + tileset.getEspacement()),
+                        tileset.getMarge() + ligne * (tileset.getHauteurTuile() + tileset.getEspacement()),
+                        tileset.getLargeurTuile(), tileset.getHauteurTuile());
+                
+                StaticTiledMapTile tuile = new StaticTiledMapTile(region);
+                tuile.setId(tileset.getPremierGid() + idLocal);
+                tuile.setOffsetX(tileset.getDecalageX());
+                tuile.setOffsetY(tileset.getDecalageY());
+                if (tileset.getNomTuile(idLocal) != null) {
+                    tuile.getProperties().put("nom", tileset.getNomTuile(idLocal));
+                }
+                if (tileset.getSolideTuile(idLocal) != DescriptionNiveau.Tileset.SOLIDE_NON_DEFINI) {
+                    tuile.getProperties().put("solide", tileset.getSolideTuile(idLocal) != 0);
+                }
+                tilesetCarte.putTile(tuile.getId(), tuile);
+                idLocal++;
+            }
+        }
+        return tilesetCarte;
+    }
+    
+    /**
+     * Lit une carte Tiled sans créer de textures (compilation des niveaux)
+     * @param cheminFichier Chemin du fichier .tmx
+     * @return La carte
+     */
+    TiledMap lireCarteSansTextures(String cheminFichier) {
+        LecteurTmxSansTextures lecteur = lecteurSansTextures != null ? lecteurSansTextures : new LecteurTmxSansTextures();
+        return lecteur.chargerSansTextures(cheminFichier);
+    }
+    
+    private FileHandle resoudre(String chemin) {
+        return lecteurSansTextures != null ? new FileHandle(chemin) : Gdx.files.internal(chemin);
+    }
+    
+    // ========== LECTURE DE LA CARTE TILED ==========
+    
+    /**
+     * Décrit une carte Tiled : dimensions, tilesets, couches de tuiles et tables d'apparition
+     * @param carte La carte Tiled
+     * @param nomNiveau Nom du niveau
+     * @return La description du niveau
+     */
+    public DescriptionNiveau decrireCarte(TiledMap carte, String nomNiveau) {
+        MapProperties proprietes = carte.getProperties();
+        int largeurCarte = proprietes.get("width", Integer.class);
+        int hauteurCarte = proprietes.get("height", Integer.class);
+        int tailleTuile = proprietes.get("tilewidth", Integer.class);
+        int hauteurTuile = proprietes.containsKey("tileheight") ? proprietes.get("tileheight", Integer.class) : tailleTuile;
+        
+        DescriptionNiveau description = new DescriptionNiveau(nomNiveau, largeurCarte, hauteurCarte,
+            tailleTuile, hauteurTuile, lireModeCollision(proprietes));
+        
+        decrireTilesets(carte, description);
+        decrireCouchesTuiles(carte, description);
+        
+        // Lire les différentes couches d'objets
+        lireCoucheJoueur(carte, description);
+        lireCoucheEnnemis(carte, description);
+        lireCoucheObjets(carte, description);
+        lireCouchePowerUps(carte, description);
+        lireCoucheDrapeau(carte, description);
+        if (description.getModeCollision() == CarteCollision.ModeCollision.OBJETS
+                || !(carte.getLayers().get(COUCHE_SOL) instanceof TiledMapTileLayer)) {
+            lireCoucheObstacles(carte, description);
+        }
+        
+        return description;
+    }
+    
+    /**
+     * Décrit les tilesets découpés dans une image unique (les collections d'images sont ignorées)
+     * @param carte La carte Tiled
+     * @param description La description à remplir
+     */
+    private void decrireTilesets(TiledMap carte, DescriptionNiveau description) {
+        for (TiledMapTileSet tilesetCarte : carte.getTileSets()) {
+            MapProperties props = tilesetCarte.getProperties();
+            if (!props.containsKey("imagesource")) {
+                continue;
+            }
+            
+            int premierGid = Integer.MAX_VALUE;
+            for (TiledMapTile tuile : tilesetCarte) {
+                premierGid = Math.min(premierGid, tuile.getId());
+            }
+            if (props.containsKey("firstgid")) {
+                premierGid = props.get("firstgid", Integer.class);
+            }
+            TiledMapTile premiere = tilesetCarte.getTile(premierGid);
+            
+            DescriptionNiveau.Tileset tileset = new DescriptionNiveau.Tileset(
+                tilesetCarte.getName(),
+                premierGid,
+                props.get("imagesource", String.class),
+                props.get("imagewidth", Integer.class),
+                props.get("imageheight", Integer.class),
+                props.get("tilewidth", Integer.class),
+                props.get("tileheight", Integer.class),
+                props.get("spacing", Integer.class),
+                props.get("margin", Integer.class),
+                premiere != null ? premiere.getOffsetX() : 0,
+                premiere != null ? premiere.getOffsetY() : 0
+            );
+            
+            for (TiledMapTile tuile : tilesetCarte) {
+                int idLocal = tuile.getId() - premierGid;
+                if (idLocal < 0 || idLocal >= tileset.getNombreTuiles()) {
+                    continue;
+                }
+                MapProperties proprietesTuile = tuile.getProperties();
+                Object solide = proprietesTuile.get("solide");
+                Object nom = proprietesTuile.get("nom");
+                tileset.definirProprietesTuile(
+                    idLocal,
+                    nom != null ? nom.toString() : null,
+                    solide == null ? DescriptionNiveau.Tileset.SOLIDE_NON_DEFINI
+                        : (byte) (Boolean.parseBoolean(solide.toString()) ? 1 : 0)
+                );
+            }
+            description.ajouterTileset(tileset);
+        }
+    }
+    
+    /**
+     * Décrit les couches de tuiles (identifiant global, retournements et rotation de chaque cellule)
+     * @param carte La carte Tiled
+     * @param description La description à remplir
+     */
+    private void decrireCouchesTuiles(TiledMap carte, DescriptionNiveau description) {
+        for (MapLayer couche : carte.getLayers()) {
+            if (!(couche instanceof TiledMapTileLayer)) {
+                continue;
+            }
+            TiledMapTileLayer coucheTuiles = (TiledMapTileLayer) couche;
+            int largeur = coucheTuiles.getWidth();
+            int hauteur = coucheTuiles.getHeight();
+            int[] cellules = new int[largeur * hauteur];
+            
+            for (int ty = 0; ty < hauteur; ty++) {
+                for (int tx = 0; tx < largeur; tx++) {
+                    TiledMapTileLayer.Cell cellule = coucheTuiles.getCell(tx, ty);
+                    if (cellule == null || cellule.getTile() == null) {
+                        continue;
+                    }
+                    int valeur = cellule.getTile().getId() & DescriptionNiveau.MASQUE_ID_TUILE;
+                    if (cellule.getFlipHorizontally()) {
+                        valeur |= DescriptionNiveau.RETOURNEMENT_HORIZONTAL;
+                    }
+                    if (cellule.getFlipVertically()) {
+                        valeur |= DescriptionNiveau.RETOURNEMENT_VERTICAL;
+                    }
+                    valeur |= (cellule.getRotation() & 3) << DescriptionNiveau.DECALAGE_ROTATION;
+                    cellules[ty * largeur + tx] = valeur;
+                }
+            }
+            description.ajouterCoucheTuiles(new DescriptionNiveau.CoucheTuiles(
+                couche.getName(), largeur, hauteur, couche.isVisible(), couche.getOpacity(), cellules));
+        }
+    }
+    
+    /**
+     * Lit la couche contenant le joueur
+     * @param carte La carte Tiled
+     * @param description La description à remplir
+     */
+    private void lireCoucheJoueur(TiledMap carte, DescriptionNiveau description) {
         MapLayer couche = carte.getLayers().get("Joueur");
         if (couche == null) {
             Gdx.app.log("ChargeurNiveau", "Avertissement : Aucune couche 'Joueur' trouvée");
@@ -89,27 +690,24 @@ public class ChargeurNiveau {
                 Rectangle rect = ((RectangleMapObject) objet).getRectangle();
                 // CORRECTION: Tiled utilise Y=0 en haut, LibGDX Y=0 en bas
                 // Pas besoin de convertir car TmxMapLoader fait déjà la conversion
-                Joueur joueur = new Joueur(rect.x, rect.y);
-                Gdx.app.log("ChargeurNiveau", "✅ Joueur chargé depuis Tiled à position: (" + rect.x + ", " + rect.y + ")");
-                niveau.setJoueur(joueur);
+                description.definirJoueur(rect.x, rect.y);
                 break; // Un seul joueur par niveau
             }
         }
     }
     
     /**
-     * Charge la couche contenant les ennemis
+     * Lit la couche contenant les ennemis
      * @param carte La carte Tiled
-     * @param niveau Le niveau à remplir
+     * @param description La description à remplir
      */
-    private void chargerCoucheEnnemis(TiledMap carte, Niveau niveau) {
+    private void lireCoucheEnnemis(TiledMap carte, DescriptionNiveau description) {
         MapLayer couche = carte.getLayers().get("Ennemis");
         if (couche == null) {
             Gdx.app.log("ChargeurNiveau", "Avertissement : Aucune couche 'Ennemis' trouvée");
             return;
         }
         
-        int nbEnnemis = 0;
         for (MapObject objet : couche.getObjects()) {
             if (objet instanceof RectangleMapObject) {
                 Rectangle rect = ((RectangleMapObject) objet).getRectangle();
@@ -118,66 +716,39 @@ public class ChargeurNiveau {
                 // Récupérer le type d'ennemi depuis les propriétés (avec valeur par défaut sécurisée)
                 String type = props.containsKey("type") ? props.get("type", String.class) : "terrestre";
                 
-                Ennemi ennemi = creerEnnemi(type, rect.x, rect.y, props);
-                if (ennemi != null) {
-                    niveau.ajouterEnnemi(ennemi);
-                    nbEnnemis++;
-                    Gdx.app.debug("ChargeurNiveau", "  → Ennemi " + type + " chargé à (" + rect.x + ", " + rect.y + ")");
+                // Comportement de patrouille par défaut (avec valeur par défaut sécurisée)
+                String comportement = props.containsKey("comportement") ? props.get("comportement", String.class) : "patrouille";
+                float distance = DescriptionNiveau.SANS_PATROUILLE;
+                if ("patrouille".equals(comportement)) {
+                    distance = props.containsKey("distancePatrouille") ? props.get("distancePatrouille", Float.class) : 100f;
                 }
+                
+                // Points de vie si spécifiés (sécurisé contre null)
+                int pointsVie = DescriptionNiveau.POINTS_VIE_DEFAUT;
+                if (props.containsKey("pointsVie")) {
+                    Integer pv = props.get("pointsVie", Integer.class);
+                    if (pv != null) {
+                        pointsVie = pv;
+                    }
+                }
+                
+                description.ajouterEnnemi(type, rect.x, rect.y, distance, pointsVie);
             }
         }
-        Gdx.app.log("ChargeurNiveau", "✅ " + nbEnnemis + " ennemi(s) chargé(s)");
-    }
-    
-    /**
-     * Crée un ennemi selon son type
-     * @param type Type de l'ennemi
-     * @param x Position X
-     * @param y Position Y
-     * @param props Propriétés additionnelles
-     * @return L'ennemi créé
-     */
-    private Ennemi creerEnnemi(String type, float x, float y, MapProperties props) {
-        Ennemi ennemi;
-        
-        switch (type.toLowerCase()) {
-            case "terrestre":
-            default:
-                ennemi = new EnnemiTerrestre(x, y);
-                break;
-        }
-        
-        // Configurer le comportement si spécifié (avec valeur par défaut sécurisée)
-        String comportement = props.containsKey("comportement") ? props.get("comportement", String.class) : "patrouille";
-        if ("patrouille".equals(comportement)) {
-            float distance = props.containsKey("distancePatrouille") ? props.get("distancePatrouille", Float.class) : 100f;
-            ennemi.setComportement(new ComportementPatrouille(distance));
-        }
-        
-        // Configurer les points de vie si spécifiés (sécurisé contre null)
-        if (props.containsKey("pointsVie")) {
-        Integer pv = props.get("pointsVie", Integer.class);
-        if (pv != null) {
-            ennemi.setPointsVie(pv);
-            }
-        }
-        
-        return ennemi;
     }
     
     /**
-     * Charge la couche contenant les objets collectables
+     * Lit la couche contenant les objets collectables
      * @param carte La carte Tiled
-     * @param niveau Le niveau à remplir
+     * @param description La description à remplir
      */
-    private void chargerCoucheObjets(TiledMap carte, Niveau niveau) {
+    private void lireCoucheObjets(TiledMap carte, DescriptionNiveau description) {
         MapLayer couche = carte.getLayers().get("Objets");
         if (couche == null) {
             Gdx.app.log("ChargeurNiveau", "Avertissement : Aucune couche 'Objets' trouvée");
             return;
         }
         
-        int nbObjets = 0;
         for (MapObject objet : couche.getObjects()) {
             if (objet instanceof RectangleMapObject) {
                 Rectangle rect = ((RectangleMapObject) objet).getRectangle();
@@ -187,27 +758,23 @@ public class ChargeurNiveau {
                 String type = props.containsKey("type") ? props.get("type", String.class) : "PIECE";
                 int valeur = props.containsKey("valeur") ? props.get("valeur", Integer.class) : 10;
                 
-                ObjetCollectable objetCollectable = new ObjetCollectable(rect.x, rect.y, type, valeur);
-                niveau.ajouterObjetCollectable(objetCollectable);
-                nbObjets++;
+                description.ajouterObjet(type, rect.x, rect.y, valeur);
             }
         }
-        Gdx.app.log("ChargeurNiveau", "✅ " + nbObjets + " objet(s) collectable(s) chargé(s)");
     }
     
     /**
-     * Charge la couche contenant les power-ups
+     * Lit la couche contenant les power-ups
      * @param carte La carte Tiled
-     * @param niveau Le niveau à remplir
+     * @param description La description à remplir
      */
-    private void chargerCouchePowerUps(TiledMap carte, Niveau niveau) {
+    private void lireCouchePowerUps(TiledMap carte, DescriptionNiveau description) {
         MapLayer couche = carte.getLayers().get("PowerUps");
         if (couche == null) {
             Gdx.app.debug("ChargeurNiveau", "ℹ️  Aucune couche 'PowerUps' trouvée (optionnel)");
             return;
         }
         
-        int nbPowerUps = 0;
         for (MapObject objet : couche.getObjects()) {
             if (objet instanceof RectangleMapObject) {
                 Rectangle rect = ((RectangleMapObject) objet).getRectangle();
@@ -246,28 +813,23 @@ public class ChargeurNiveau {
                     typePowerUp = PowerUp.TypePowerUp.CHAMPIGNON_MAGIQUE;
                 }
                 
-                PowerUp powerUp = new PowerUp(rect.x, rect.y, typePowerUp);
-                niveau.ajouterPowerUp(powerUp);
-                nbPowerUps++;
-                Gdx.app.debug("ChargeurNiveau", "  → Power-up " + typePowerUp + " chargé à (" + rect.x + ", " + rect.y + ")");
+                description.ajouterPowerUp(typePowerUp.ordinal(), rect.x, rect.y);
             }
         }
-        Gdx.app.log("ChargeurNiveau", "✅ " + nbPowerUps + " power-up(s) chargé(s)");
     }
     
     /**
-     * Charge la couche contenant les obstacles
+     * Lit la couche contenant les obstacles
      * @param carte La carte Tiled
-     * @param niveau Le niveau à remplir
+     * @param description La description à remplir
      */
-    private void chargerCoucheObstacles(TiledMap carte, Niveau niveau) {
+    private void lireCoucheObstacles(TiledMap carte, DescriptionNiveau description) {
         MapLayer couche = carte.getLayers().get("Obstacles");
         if (couche == null) {
             Gdx.app.log("ChargeurNiveau", "Avertissement : Aucune couche 'Obstacles' trouvée");
             return;
         }
         
-        int nbObstacles = 0;
         for (MapObject objet : couche.getObjects()) {
             if (objet instanceof RectangleMapObject) {
                 Rectangle rect = ((RectangleMapObject) objet).getRectangle();
@@ -277,22 +839,17 @@ public class ChargeurNiveau {
                 String type = props.containsKey("type") ? props.get("type", String.class) : "BLOC_NORMAL";
                 boolean destructible = props.containsKey("destructible") && props.get("destructible", Boolean.class);
                 
-                Obstacle obstacle = new Obstacle(rect.x, rect.y, rect.width, rect.height, type);
-                obstacle.setDestructible(destructible);
-                niveau.ajouterObstacle(obstacle);
-                nbObstacles++;
-                Gdx.app.debug("ChargeurNiveau", "  → Obstacle chargé à (" + rect.x + ", " + rect.y + ") taille " + rect.width + "x" + rect.height);
+                description.ajouterObstacle(type, rect.x, rect.y, rect.width, rect.height, destructible);
             }
         }
-        Gdx.app.log("ChargeurNiveau", "✅ " + nbObstacles + " obstacles chargés");
     }
     
     /**
-     * Charge la couche contenant le drapeau de fin
+     * Lit la couche contenant le drapeau de fin
      * @param carte La carte Tiled
-     * @param niveau Le niveau à remplir
+     * @param description La description à remplir
      */
-    private void chargerCoucheDrapeau(TiledMap carte, Niveau niveau) {
+    private void lireCoucheDrapeau(TiledMap carte, DescriptionNiveau description) {
         MapLayer couche = carte.getLayers().get("Drapeau");
         if (couche == null) {
             Gdx.app.debug("ChargeurNiveau", "ℹ️  Aucune couche 'Drapeau' trouvée (optionnel)");
@@ -313,16 +870,160 @@ public class ChargeurNiveau {
                     }
                 }
                 
-                // Créer le drapeau
-                Drapeau drapeau = new Drapeau(rect.x, rect.y, hauteur);
-                niveau.setDrapeau(drapeau);
-                
-                Gdx.app.log("ChargeurNiveau", "  → Drapeau de fin chargé à (" + rect.x + ", " + rect.y + ") hauteur=" + hauteur);
+                description.definirDrapeau(rect.x, rect.y, hauteur);
                 break; // Un seul drapeau par niveau
             }
         }
     }
     
+    /**
+     * Lit le mode de collision demandé par la carte (OBJETS par défaut)
+     * @param proprietes Les propriétés de la carte
+     * @return Le mode de collision
+     */
+    private CarteCollision.ModeCollision lireModeCollision(MapProperties proprietes) {
+        Object mode = proprietes.get(PROPRIETE_MODE_COLLISION);
+        if (mode != null && "tuiles".equalsIgnoreCase(mode.toString().trim())) {
+            return CarteCollision.ModeCollision.TUILES;
+        }
+        return CarteCollision.ModeCollision.OBJETS;
+    }
+    
+    // ========== CRÉATION DES ENTITÉS ==========
+    
+    private void creerJoueur(DescriptionNiveau description, Niveau niveau) {
+        if (description.estJoueurPresent()) {
+            Joueur joueur = new Joueur(description.getJoueurX(), description.getJoueurY());
+            Gdx.app.log("ChargeurNiveau", "✅ Joueur chargé depuis Tiled à position: ("
+                + description.getJoueurX() + ", " + description.getJoueurY() + ")");
+            niveau.setJoueur(joueur);
+        }
+    }
+    
+    private void creerEnnemis(DescriptionNiveau description, Niveau niveau) {
+        int nbEnnemis = 0;
+        for (int i = 0; i < description.getNombreEnnemis(); i++) {
+            Ennemi ennemi = creerEnnemi(description.getTypeEnnemi(i), description.getEnnemiX(i), description.getEnnemiY(i),
+                description.getDistancePatrouille(i), description.getPointsVieEnnemi(i));
+            if (ennemi != null) {
+                niveau.ajouterEnnemi(ennemi);
+                nbEnnemis++;
+                Gdx.app.debug("ChargeurNiveau", "  → Ennemi " + description.getTypeEnnemi(i) + " chargé à ("
+                    + description.getEnnemiX(i) + ", " + description.getEnnemiY(i) + ")");
+            }
+        }
+        Gdx.app.log("ChargeurNiveau", "✅ " + nbEnnemis + " ennemi(s) chargé(s)");
+    }
+    
+    /**
+     * Crée un ennemi selon son type
+     * @param type Type de l'ennemi
+     * @param x Position X
+     * @param y Position Y
+     * @param distancePatrouille Distance de patrouille (DescriptionNiveau.SANS_PATROUILLE : aucune)
+     * @param pointsVie Points de vie (DescriptionNiveau.POINTS_VIE_DEFAUT : ceux de l'ennemi)
+     * @return L'ennemi créé
+     */
+    private Ennemi creerEnnemi(String type, float x, float y, float distancePatrouille, int pointsVie) {
+        Ennemi ennemi;
+        
+        switch (type.toLowerCase()) {
+            case "terrestre":
+            default:
+                ennemi = new EnnemiTerrestre(x, y);
+                break;
+        }
+        
+        if (distancePatrouille != DescriptionNiveau.SANS_PATROUILLE) {
+            ennemi.setComportement(new ComportementPatrouille(distancePatrouille));
+        }
+        if (pointsVie != DescriptionNiveau.POINTS_VIE_DEFAUT) {
+            ennemi.setPointsVie(pointsVie);
+        }
+        
+        return ennemi;
+    }
+    
+    private void creerObjets(DescriptionNiveau description, Niveau niveau) {
+        for (int i = 0; i < description.getNombreObjets(); i++) {
+            niveau.ajouterObjetCollectable(new ObjetCollectable(description.getObjetX(i), description.getObjetY(i),
+                description.getTypeObjet(i), description.getValeurObjet(i)));
+        }
+        Gdx.app.log("ChargeurNiveau", "✅ " + description.getNombreObjets() + " objet(s) collectable(s) chargé(s)");
+    }
+    
+    private void creerPowerUps(DescriptionNiveau description, Niveau niveau) {
+        PowerUp.TypePowerUp[] types = PowerUp.TypePowerUp.values();
+        for (int i = 0; i < description.getNombrePowerUps(); i++) {
+            PowerUp.TypePowerUp typePowerUp = types[description.getTypePowerUp(i)];
+            niveau.ajouterPowerUp(new PowerUp(description.getPowerUpX(i), description.getPowerUpY(i), typePowerUp));
+            Gdx.app.debug("ChargeurNiveau", "  → Power-up " + typePowerUp + " chargé à ("
+                + description.getPowerUpX(i) + ", " + description.getPowerUpY(i) + ")");
+        }
+        Gdx.app.log("ChargeurNiveau", "✅ " + description.getNombrePowerUps() + " power-up(s) chargé(s)");
+    }
+    
+    private void creerObstacles(DescriptionNiveau description, Niveau niveau) {
+        for (int i = 0; i < description.getNombreObstacles(); i++) {
+            Obstacle obstacle = new Obstacle(description.getObstacleX(i), description.getObstacleY(i),
+                description.getObstacleLargeur(i), description.getObstacleHauteur(i), description.getTypeObstacle(i));
+            obstacle.setDestructible(description.estObstacleDestructible(i));
+            niveau.ajouterObstacle(obstacle);
+        }
+        Gdx.app.log("ChargeurNiveau", "✅ " + description.getNombreObstacles() + " obstacles chargés ("
+            + niveau.getGrilleObstacles().getNombreCellules() + " cellules dans la grille spatiale)");
+    }
+    
+    private void creerDrapeau(DescriptionNiveau description, Niveau niveau) {
+        if (description.estDrapeauPresent()) {
+            niveau.setDrapeau(new Drapeau(description.getDrapeauX(), description.getDrapeauY(), description.getDrapeauHauteur()));
+            Gdx.app.log("ChargeurNiveau", "  → Drapeau de fin chargé à (" + description.getDrapeauX() + ", "
+                + description.getDrapeauY() + ") hauteur=" + description.getDrapeauHauteur());
+        }
+    }
+    
+    /**
+     * Construit la carte de collision à partir de la couche de tuiles "Sol".
+     * Le type de chaque tuile est lu dans sa propriété "nom" du tileset
+     * (Bloc_Brique, Bloc_Mystere, ...) ; la propriété "solide" = false la rend traversable.
+     * @param description La description du niveau
+     * @param niveau Le niveau à remplir
+     */
+    private void creerCarteCollision(DescriptionNiveau description, Niveau niveau) {
+        DescriptionNiveau.CoucheTuiles coucheTuiles = description.getCoucheTuiles(COUCHE_SOL);
+        if (coucheTuiles == null) {
+            Gdx.app.log("ChargeurNiveau", "Avertissement : Aucune couche de tuiles '" + COUCHE_SOL + "', retour au mode OBJETS");
+            creerObstacles(description, niveau);
+            return;
+        }
+        
+        CarteCollision carteCollision = new CarteCollision(description.getLargeurCarte(), description.getHauteurCarte(),
+            description.getLargeurTuile(), COUCHE_SOL);
+        
+        for (int ty = 0; ty < coucheTuiles.getHauteur(); ty++) {
+            for (int tx = 0; tx < coucheTuiles.getLargeur(); tx++) {
+                int gid = coucheTuiles.getCellule(tx, ty) & DescriptionNiveau.MASQUE_ID_TUILE;
+                DescriptionNiveau.Tileset tileset = gid != 0 ? description.getTilesetDe(gid) : null;
+                if (tileset == null) {
+                    continue;
+                }
+                
+                int idLocal = gid - tileset.getPremierGid();
+                String nom = tileset.getNomTuile(idLocal) != null ? tileset.getNomTuile(idLocal) : "";
+                carteCollision.definirTuile(
+                    tx,
+                    ty,
+                    tileset.getSolideTuile(idLocal) != 0,
+                    "Bloc_Brique".equalsIgnoreCase(nom),
+                    "Bloc_Mystere".equalsIgnoreCase(nom)
+                );
+            }
+        }
+        
+        niveau.setCarteCollision(carteCollision);
+        Gdx.app.log("ChargeurNiveau", "✅ Carte de collision (tuiles) : " + carteCollision.getNombreTuilesSolides() + " tuiles solides");
+    }
+    
     /**
      * Extrait le nom du fichier sans l'extension
      * @param cheminFichier Chemin complet du fichier
@@ -0,0 +1,270 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.mypackage.projet.jeux.ApplicationSansRendu;
+import com.mypackage.projet.jeux.modele.niveau.DescriptionNiveau;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compilateur de niveaux : transforme un fichier Tiled (.tmx) en niveau compilé (.niv),
+ * écrit à côté du fichier source et relu par LecteurNiveauCompile (voir le format dans cette classe).
+ * Le fichier source est lu sans textures : la compilation ne demande aucun contexte OpenGL.
+ *
+ * <p>Utilisation :</p>
+ * <pre>
+ * java -cp bin:lib/* com.mypackage.projet.jeux.utilitaires.CompilateurNiveau [assets/cartes | fichier.tmx]...
+ * </pre>
+ */
+public class CompilateurNiveau {
+
+    private static final String DOSSIER_DEFAUT = "assets/cartes";
+
+    private final ChargeurNiveau chargeurSansRendu;
+
+    /**
+     * Constructeur
+     */
+    public CompilateurNiveau() {
+        this.chargeurSansRendu = new ChargeurNiveau(true);
+    }
+
+    /**
+     * Point d'entrée du compilateur
+     * @param args Fichiers .tmx ou dossiers à compiler (assets/cartes par défaut)
+     */
+    public static void main(String[] args) {
+        Gdx.app = new ApplicationSansRendu(Application.LOG_ERROR);
+
+        List<File> sources = new ArrayList<>();
+        for (String argument : args.length > 0 ? args : new String[] { DOSSIER_DEFAUT }) {
+            File fichier = new File(argument);
+            File[] contenu = fichier.isDirectory() ? fichier.listFiles((dossier, nom) -> nom.endsWith(".tmx")) : null;
+            if (contenu != null) {
+                for (File source : contenu) {
+                    sources.add(source);
+                }
+            } else {
+                sources.add(fichier);
+            }
+        }
+
+        CompilateurNiveau compilateur = new CompilateurNiveau();
+        int echecs = 0;
+        for (File source : sources) {
+            try {
+                File destination = compilateur.compiler(source.getPath());
+                System.out.println("✅ " + source.getPath() + " -> " + destination.getPath()
+                    + " (" + destination.length() + " octets)");
+            } catch (Exception e) {
+                System.err.println("❌ " + source.getPath() + " : " + e.getMessage());
+                echecs++;
+            }
+        }
+        if (echecs > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compile un fichier .tmx vers le fichier .niv voisin
+     * @param cheminSource Chemin du fichier .tmx
+     * @return Le fichier .niv écrit
+     * @throws IOException En cas d'erreur de lecture ou d'écriture
+     */
+    public File compiler(String cheminSource) throws IOException {
+        FileHandle fichierSource = new FileHandle(cheminSource);
+        if (!fichierSource.exists()) {
+            throw new IOException("Fichier introuvable");
+        }
+
+        TiledMap carte = chargeurSansRendu.lireCarteSansTextures(cheminSource);
+        try {
+            for (TiledMapTileSet tileset : carte.getTileSets()) {
+                if (!tileset.getProperties().containsKey("imagesource")) {
+                    throw new IOException("Le tileset '" + tileset.getName()
+                        + "' n'est pas découpé dans une image unique (non pris en charge)");
+                }
+            }
+            DescriptionNiveau description = chargeurSansRendu.decrireCarte(carte, fichierSource.nameWithoutExtension());
+
+            File destination = new File(LecteurNiveauCompile.cheminCompile(cheminSource));
+            ecrire(description, LecteurNiveauCompile.calculerEmpreinte(fichierSource),
+                (int) fichierSource.length(), destination);
+            return destination;
+        } finally {
+            carte.dispose();
+        }
+    }
+
+    /**
+     * Écrit une description de niveau au format compilé
+     * @param description La description
+     * @param empreinteSource CRC32 du fichier source
+     * @param tailleSource Taille du fichier source (en octets)
+     * @param destination Fichier à écrire
+     * @throws IOException En cas d'erreur d'écriture
+     */
+    public static void ecrire(DescriptionNiveau description, int empreinteSource, int tailleSource,
+                              File destination) throws IOException {
+        TableChaines chaines = new TableChaines(description);
+
+        try (DataOutputStream sortie = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(destination)))) {
+            // ========== EN-TÊTE ==========
+            sortie.writeInt(LecteurNiveauCompile.MAGIQUE);
+            sortie.writeShort(LecteurNiveauCompile.VERSION);
+            sortie.writeShort(0);
+            sortie.writeInt(empreinteSource);
+            sortie.writeInt(tailleSource);
+
+            sortie.writeInt(chaines.liste.size());
+            for (String chaine : chaines.liste) {
+                byte[] octets = chaine.getBytes(StandardCharsets.UTF_8);
+                sortie.writeShort(octets.length);
+                sortie.write(octets);
+            }
+
+            // ========== CARTE ==========
+            sortie.writeInt(description.getLargeurCarte());
+            sortie.writeInt(description.getHauteurCarte());
+            sortie.writeInt(description.getLargeurTuile());
+            sortie.writeInt(description.getHauteurTuile());
+            sortie.writeByte(description.getModeCollision().ordinal());
+
+            sortie.writeInt(description.getTilesets().size());
+            for (DescriptionNiveau.Tileset tileset : description.getTilesets()) {
+                sortie.writeInt(chaines.indice(tileset.getNom()));
+                sortie.writeInt(tileset.getPremierGid());
+                sortie.writeInt(chaines.indice(tileset.getCheminImage()));
+                sortie.writeInt(tileset.getLargeurImage());
+                sortie.writeInt(tileset.getHauteurImage());
+                sortie.writeInt(tileset.getLargeurTuile());
+                sortie.writeInt(tileset.getHauteurTuile());
+                sortie.writeInt(tileset.getEspacement());
+                sortie.writeInt(tileset.getMarge());
+                sortie.writeFloat(tileset.getDecalageX());
+                sortie.writeFloat(tileset.getDecalageY());
+                sortie.writeInt(tileset.getNombreTuiles());
+                for (int i = 0; i < tileset.getNombreTuiles(); i++) {
+                    sortie.writeInt(chaines.indice(tileset.getNomTuile(i)));
+                    sortie.writeByte(tileset.getSolideTuile(i));
+                }
+            }
+
+            sortie.writeInt(description.getCouchesTuiles().size());
+            for (DescriptionNiveau.CoucheTuiles couche : description.getCouchesTuiles()) {
+                sortie.writeInt(chaines.indice(couche.getNom()));
+                sortie.writeInt(couche.getLargeur());
+                sortie.writeInt(couche.getHauteur());
+                sortie.writeByte(couche.estVisible() ? 1 : 0);
+                sortie.writeFloat(couche.getOpacite());
+                for (int cellule : couche.getCellules()) {
+                    sortie.writeInt(cellule);
+                }
+            }
+
+            // ========== TABLES D'APPARITION ==========
+            sortie.writeByte(description.estJoueurPresent() ? 1 : 0);
+            sortie.writeFloat(description.getJoueurX());
+            sortie.writeFloat(description.getJoueurY());
+
+            sortie.writeByte(description.estDrapeauPresent() ? 1 : 0);
+            sortie.writeFloat(description.getDrapeauX());
+            sortie.writeFloat(description.getDrapeauY());
+            sortie.writeFloat(description.getDrapeauHauteur());
+
+            sortie.writeInt(description.getNombreEnnemis());
+            for (int i = 0; i < description.getNombreEnnemis(); i++) {
+                sortie.writeInt(chaines.indice(description.getTypeEnnemi(i)));
+                sortie.writeFloat(description.getEnnemiX(i));
+                sortie.writeFloat(description.getEnnemiY(i));
+                sortie.writeFloat(description.getDistancePatrouille(i));
+                sortie.writeInt(description.getPointsVieEnnemi(i));
+            }
+
+            sortie.writeInt(description.getNombreObjets());
+            for (int i = 0; i < description.getNombreObjets(); i++) {
+                sortie.writeInt(chaines.indice(description.getTypeObjet(i)));
+                sortie.writeFloat(description.getObjetX(i));
+                sortie.writeFloat(description.getObjetY(i));
+                sortie.writeInt(description.getValeurObjet(i));
+            }
+
+            sortie.writeInt(description.getNombrePowerUps());
+            for (int i = 0; i < description.getNombrePowerUps(); i++) {
+                sortie.writeInt(description.getTypePowerUp(i));
+                sortie.writeFloat(description.getPowerUpX(i));
+                sortie.writeFloat(description.getPowerUpY(i));
+            }
+
+            sortie.writeInt(description.getNombreObstacles());
+            for (int i = 0; i < description.getNombreObstacles(); i++) {
+                sortie.writeInt(chaines.indice(description.getTypeObstacle(i)));
+                sortie.writeFloat(description.getObstacleX(i));
+                sortie.writeFloat(description.getObstacleY(i));
+                sortie.writeFloat(description.getObstacleLargeur(i));
+                sortie.writeFloat(description.getObstacleHauteur(i));
+                sortie.writeByte(description.estObstacleDestructible(i) ? 1 : 0);
+            }
+        }
+    }
+
+    /**
+     * Table des chaînes du fichier : chaque chaîne distincte n'est écrite qu'une fois
+     */
+    private static class TableChaines {
+
+        private final List<String> liste;
+        private final Map<String, Integer> indices;
+
+        TableChaines(DescriptionNiveau description) {
+            this.liste = new ArrayList<>();
+            this.indices = new HashMap<>();
+
+            for (DescriptionNiveau.Tileset tileset : description.getTilesets()) {
+                ajouter(tileset.getNom());
+                ajouter(tileset.getCheminImage());
+                for (int i = 0; i < tileset.getNombreTuiles(); i++) {
+                    ajouter(tileset.getNomTuile(i));
+                }
+            }
+            for (DescriptionNiveau.CoucheTuiles couche : description.getCouchesTuiles()) {
+                ajouter(couche.getNom());
+            }
+            for (int i = 0; i < description.getNombreEnnemis(); i++) {
+                ajouter(description.getTypeEnnemi(i));
+            }
+            for (int i = 0; i < description.getNombreObjets(); i++) {
+                ajouter(description.getTypeObjet(i));
+            }
+            for (int i = 0; i < description.getNombreObstacles(); i++) {
+                ajouter(description.getTypeObstacle(i));
+            }
+        }
+
+        private void ajouter(String chaine) {
+            if (chaine != null && !indices.containsKey(chaine)) {
+                indices.put(chaine, liste.size());
+                liste.add(chaine);
+            }
+        }
+
+        int indice(String chaine) {
+            return chaine == null ? -1 : indices.get(chaine);
+        }
+    }
+}
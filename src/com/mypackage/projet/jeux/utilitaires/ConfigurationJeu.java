@@ -4,6 +4,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
+import com.mypackage.projet.jeux.modele.gestionnaires.GestionnaireNiveaux;
+import com.mypackage.projet.jeux.modele.niveau.RegionsActivation;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +21,25 @@ public class ConfigurationJeu {
     private boolean pleinEcran;
     private List<String> niveaux;
     
+    // Boucle de simulation
+    private boolean pasFixeActif;  // Simulation à pas fixe + interpolation du rendu
+    private float pasFixe;         // Durée d'un pas (en secondes)
+    private int sousPasMax;        // Nombre maximal de pas par frame
+    private boolean composantsEntites; // Ennemis et objets en tableaux parallèles
+    
+    // Fenêtre d'activation de la simulation
+    private boolean activationRegions; // Endormir les entités loin de la caméra
+    private float margeActivation;     // Marge autour de la vue (en pixels)
+    private String modeSommeil;        // "GELE" ou "TICK_LENT"
+    private int periodeTickLent;       // Pas entre deux mises à jour d'une entité endormie
+    
+    private int seuilParallele; // Nombre d'ennemis à partir duquel les répartir sur plusieurs cœurs (0 : jamais)
+    private boolean niveauxCompiles; // Lire les niveaux compilés (.niv) à la place du XML quand ils sont à jour
+    private int budgetCacheNiveauxMo; // Mémoire maximale des niveaux gardés en cache (en Mo)
+    private boolean statistiquesRendu; // Journaliser les appels de dessin et liaisons de texture par frame
+    private boolean profileur; // Mesurer les phases de chaque frame dès le démarrage (sinon : touche F3)
+    private boolean enregistrementEntrees; // Enregistrer les entrées de chaque pas (rejouables par LanceurSansRendu)
+    
     /**
      * Constructeur par défaut
      */
@@ -28,6 +49,20 @@ public class ConfigurationJeu {
         this.hauteurFenetre = 600;
         this.pleinEcran = false;
         this.niveaux = new ArrayList<>();
+        this.pasFixeActif = true;
+        this.pasFixe = 1f / 60f;
+        this.sousPasMax = 5;
+        this.composantsEntites = false;
+        this.activationRegions = false;
+        this.margeActivation = 128f;
+        this.modeSommeil = "GELE";
+        this.periodeTickLent = 8;
+        this.seuilParallele = 1024;
+        this.niveauxCompiles = true;
+        this.budgetCacheNiveauxMo = 64;
+        this.statistiquesRendu = false;
+        this.profileur = false;
+        this.enregistrementEntrees = false;
     }
     
     /**
@@ -36,8 +71,16 @@ public class ConfigurationJeu {
      * @return La configuration chargée
      */
     public static ConfigurationJeu chargerDepuisFichier(String cheminFichier) {
+        return chargerDepuisFichier(Gdx.files.internal(cheminFichier));
+    }
+    
+    /**
+     * Charge la configuration depuis un fichier JSON
+     * @param fichier Le fichier de configuration
+     * @return La configuration chargée
+     */
+    public static ConfigurationJeu chargerDepuisFichier(FileHandle fichier) {
         try {
-            FileHandle fichier = Gdx.files.internal(cheminFichier);
             if (!fichier.exists()) {
                 return new ConfigurationJeu();
             }
@@ -109,6 +152,145 @@ public class ConfigurationJeu {
     public void setNiveaux(List<String> niveaux) {
         this.niveaux = niveaux;
     }
+    
+    public boolean isPasFixeActif() {
+        return pasFixeActif;
+    }
+    
+    public void setPasFixeActif(boolean pasFixeActif) {
+        this.pasFixeActif = pasFixeActif;
+    }
+    
+    public float getPasFixe() {
+        return pasFixe;
+    }
+    
+    public void setPasFixe(float pasFixe) {
+        this.pasFixe = pasFixe;
+    }
+    
+    public int getSousPasMax() {
+        return sousPasMax;
+    }
+    
+    public void setSousPasMax(int sousPasMax) {
+        this.sousPasMax = sousPasMax;
+    }
+    
+    public boolean isComposantsEntites() {
+        return composantsEntites;
+    }
+    
+    public void setComposantsEntites(boolean composantsEntites) {
+        this.composantsEntites = composantsEntites;
+    }
+    
+    public boolean isActivationRegions() {
+        return activationRegions;
+    }
+    
+    public void setActivationRegions(boolean activationRegions) {
+        this.activationRegions = activationRegions;
+    }
+    
+    public float getMargeActivation() {
+        return margeActivation;
+    }
+    
+    public void setMargeActivation(float margeActivation) {
+        this.margeActivation = margeActivation;
+    }
+    
+    /**
+     * Obtient le mode de sommeil des entités hors de la fenêtre d'activation
+     * @return Le mode (GELE si la valeur du fichier est inconnue)
+     */
+    public RegionsActivation.ModeSommeil getModeSommeil() {
+        try {
+            return RegionsActivation.ModeSommeil.valueOf(modeSommeil.toUpperCase());
+        } catch (Exception e) {
+            return RegionsActivation.ModeSommeil.GELE;
+        }
+    }
+    
+    public void setModeSommeil(String modeSommeil) {
+        this.modeSommeil = modeSommeil;
+    }
+    
+    public int getPeriodeTickLent() {
+        return periodeTickLent;
+    }
+    
+    public void setPeriodeTickLent(int periodeTickLent) {
+        this.periodeTickLent = periodeTickLent;
+    }
+    
+    public int getSeuilParallele() {
+        return seuilParallele;
+    }
+    
+    public void setSeuilParallele(int seuilParallele) {
+        this.seuilParallele = seuilParallele;
+    }
+    
+    public boolean isNiveauxCompiles() {
+        return niveauxCompiles;
+    }
+    
+    public void setNiveauxCompiles(boolean niveauxCompiles) {
+        this.niveauxCompiles = niveauxCompiles;
+    }
+    
+    public int getBudgetCacheNiveauxMo() {
+        return budgetCacheNiveauxMo;
+    }
+    
+    public void setBudgetCacheNiveauxMo(int budgetCacheNiveauxMo) {
+        this.budgetCacheNiveauxMo = budgetCacheNiveauxMo;
+    }
+    
+    public boolean isStatistiquesRendu() {
+        return statistiquesRendu;
+    }
+    
+    public void setStatistiquesRendu(boolean statistiquesRendu) {
+        this.statistiquesRendu = statistiquesRendu;
+    }
+    
+    public boolean isProfileur() {
+        return profileur;
+    }
+    
+    public void setProfileur(boolean profileur) {
+        this.profileur = profileur;
+    }
+    
+    public boolean isEnregistrementEntrees() {
+        return enregistrementEntrees;
+    }
+    
+    public void setEnregistrementEntrees(boolean enregistrementEntrees) {
+        this.enregistrementEntrees = enregistrementEntrees;
+    }
+    
+    /**
+     * Applique les options de lecture, de stockage et d'activation des entités à un chargeur de niveaux
+     * @param chargeurNiveau Le chargeur à configurer
+     */
+    public void configurerChargeur(ChargeurNiveau chargeurNiveau) {
+        chargeurNiveau.setComposantsEntites(composantsEntites);
+        chargeurNiveau.setSeuilParallele(seuilParallele);
+        chargeurNiveau.setNiveauxCompiles(niveauxCompiles);
+        chargeurNiveau.setRegionsActivation(largeurFenetre, margeActivation,
+            activationRegions ? getModeSommeil() : null, periodeTickLent);
+    }
+    
+    /**
+     * Applique la configuration à un gestionnaire de niveaux (son chargeur et son cache)
+     * @param gestionnaireNiveaux Le gestionnaire à configurer
+     */
+    public void configurerGestionnaire(GestionnaireNiveaux gestionnaireNiveaux) {
+        configurerChargeur(gestionnaireNiveaux.getChargeurNiveau());
+        gestionnaireNiveaux.setBudgetCacheNiveaux(budgetCacheNiveauxMo * 1024L * 1024L);
+    }
 }
-
-
@@ -0,0 +1,226 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Empaqueteur d'atlas de textures : regroupe les images d'un dossier dans une ou plusieurs pages
+ * et écrit le fichier .atlas lu par TextureAtlas (même format que le TexturePacker de libGDX).
+ * Chaque image devient une région nommée d'après son fichier, sans extension ("mario_idle").
+ * Les images dont le nom commence par "tileset_" sont ignorées : elles sont dessinées par la carte Tiled.
+ * L'empaquetage n'utilise que java.awt : aucun contexte OpenGL n'est nécessaire.
+ *
+ * <p>Utilisation :</p>
+ * <pre>
+ * java -cp bin:lib/* com.mypackage.projet.jeux.utilitaires.EmpaqueteurAtlas [assets/textures [assets/textures/atlas]]
+ * </pre>
+ */
+public class EmpaqueteurAtlas {
+
+    /** Nom de l'atlas produit (fichier .atlas et pages .png) */
+    public static final String NOM_ATLAS = "entites";
+
+    private static final String DOSSIER_SOURCE_DEFAUT = "assets/textures";
+    private static final String DOSSIER_DESTINATION_DEFAUT = "assets/textures/atlas";
+    private static final String PREFIXE_IGNORE = "tileset_";
+    private static final int TAILLE_PAGE_MAX = 1024;
+    private static final int ESPACEMENT = 2; // Pixels vides entre deux régions (pas de débordement au filtrage)
+
+    /**
+     * Image à placer dans l'atlas
+     */
+    private static class Image {
+        final String nom;
+        final BufferedImage pixels;
+        int page;
+        int x;
+        int y;
+
+        Image(String nom, BufferedImage pixels) {
+            this.nom = nom;
+            this.pixels = pixels;
+        }
+    }
+
+    /**
+     * Point d'entrée de l'empaqueteur
+     * @param args Dossier des images puis dossier de l'atlas (facultatifs)
+     */
+    public static void main(String[] args) {
+        File source = new File(args.length > 0 ? args[0] : DOSSIER_SOURCE_DEFAUT);
+        File destination = new File(args.length > 1 ? args[1] : DOSSIER_DESTINATION_DEFAUT);
+        try {
+            File atlas = empaqueter(source, destination);
+            System.out.println("✅ " + source.getPath() + " -> " + atlas.getPath());
+        } catch (IOException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Empaquette les images .png d'un dossier
+     * @param dossierSource Dossier des images (non récursif)
+     * @param dossierDestination Dossier où écrire le fichier .atlas et ses pages
+     * @return Le fichier .atlas écrit
+     * @throws IOException Si une image est illisible, trop grande ou si l'écriture échoue
+     */
+    public static File empaqueter(File dossierSource, File dossierDestination) throws IOException {
+        File[] fichiers = dossierSource.listFiles((dossier, nom) ->
+            nom.endsWith(".png") && !nom.startsWith(PREFIXE_IGNORE));
+        if (fichiers == null || fichiers.length == 0) {
+            throw new IOException("Aucune image dans " + dossierSource.getPath());
+        }
+        Arrays.sort(fichiers); // Résultat identique d'une exécution à l'autre
+
+        List<Image> images = new ArrayList<>();
+        for (File fichier : fichiers) {
+            BufferedImage pixels = ImageIO.read(fichier);
+            if (pixels == null) {
+                throw new IOException("Image illisible : " + fichier.getPath());
+            }
+            if (pixels.getWidth() + 2 * ESPACEMENT > TAILLE_PAGE_MAX
+                    || pixels.getHeight() + 2 * ESPACEMENT > TAILLE_PAGE_MAX) {
+                throw new IOException("Image trop grande pour une page d'atlas : " + fichier.getPath());
+            }
+            String nom = fichier.getName();
+            images.add(new Image(nom.substring(0, nom.length() - ".png".length()), pixels));
+        }
+
+        List<int[]> pages = placer(images);
+
+        if (!dossierDestination.isDirectory() && !dossierDestination.mkdirs()) {
+            throw new IOException("Impossible de créer " + dossierDestination.getPath());
+        }
+        File fichierAtlas = new File(dossierDestination, NOM_ATLAS + ".atlas");
+        try (PrintWriter sortie = new PrintWriter(fichierAtlas, StandardCharsets.UTF_8.name())) {
+            for (int p = 0; p < pages.size(); p++) {
+                String nomPage = pages.size() == 1 ? NOM_ATLAS + ".png" : NOM_ATLAS + (p + 1) + ".png";
+                int largeur = pages.get(p)[0];
+                int hauteur = pages.get(p)[1];
+                ecrirePage(images, p, largeur, hauteur, new File(dossierDestination, nomPage));
+
+                sortie.print("\n" + nomPage + "\n");
+                sortie.print("size: " + largeur + "," + hauteur + "\n");
+                sortie.print("format: RGBA8888\n");
+                sortie.print("filter: Nearest,Nearest\n");
+                sortie.print("repeat: none\n");
+                for (Image image : images) {
+                    if (image.page != p) {
+                        continue;
+                    }
+                    int l = image.pixels.getWidth();
+                    int h = image.pixels.getHeight();
+                    sortie.print(image.nom + "\n");
+                    sortie.print("  rotate: false\n");
+                    sortie.print("  xy: " + image.x + ", " + image.y + "\n");
+                    sortie.print("  size: " + l + ", " + h + "\n");
+                    sortie.print("  orig: " + l + ", " + h + "\n");
+                    sortie.print("  offset: 0, 0\n");
+                    sortie.print("  index: -1\n");
+                }
+            }
+        }
+        return fichierAtlas;
+    }
+
+    /**
+     * Place les images en essayant chaque largeur de page et garde le placement le plus compact
+     * (le moins de pages, puis la plus petite surface)
+     * @param images Les images (page, x et y sont remplis)
+     * @return Les dimensions {largeur, hauteur} de chaque page
+     */
+    private static List<int[]> placer(List<Image> images) {
+        List<Image> parHauteur = new ArrayList<>(images);
+        parHauteur.sort(Comparator.comparingInt((Image image) -> image.pixels.getHeight()).reversed()
+            .thenComparing(image -> image.nom));
+
+        int meilleureLargeur = TAILLE_PAGE_MAX;
+        long meilleurCout = Long.MAX_VALUE;
+        for (int largeurPage = 64; largeurPage <= TAILLE_PAGE_MAX; largeurPage *= 2) {
+            List<int[]> pages = placer(parHauteur, largeurPage);
+            long surface = 0;
+            for (int[] dimensions : pages) {
+                surface += (long) dimensions[0] * dimensions[1];
+            }
+            long cout = pages.size() * (long) TAILLE_PAGE_MAX * TAILLE_PAGE_MAX + surface;
+            if (cout < meilleurCout) {
+                meilleurCout = cout;
+                meilleureLargeur = largeurPage;
+            }
+        }
+        return placer(parHauteur, meilleureLargeur);
+    }
+
+    /**
+     * Place les images par étagères sur des pages de taille puissance de deux
+     * @param parHauteur Les images, les plus hautes d'abord (page, x et y sont remplis)
+     * @param largeurPage Largeur maximale d'une page
+     * @return Les dimensions {largeur, hauteur} de chaque page
+     */
+    private static List<int[]> placer(List<Image> parHauteur, int largeurPage) {
+        List<int[]> pages = new ArrayList<>();
+        int page = 0;
+        int x = ESPACEMENT;
+        int y = ESPACEMENT;
+        int hauteurEtagere = 0;
+        int largeurUtilisee = 0;
+        for (Image image : parHauteur) {
+            int l = image.pixels.getWidth();
+            int h = image.pixels.getHeight();
+            if (x + l + ESPACEMENT > largeurPage) { // Étagère suivante
+                x = ESPACEMENT;
+                y += hauteurEtagere + ESPACEMENT;
+                hauteurEtagere = 0;
+            }
+            if (y + h + ESPACEMENT > TAILLE_PAGE_MAX) { // Page suivante
+                pages.add(new int[] { puissanceDeDeux(largeurUtilisee), puissanceDeDeux(y) });
+                page++;
+                x = ESPACEMENT;
+                y = ESPACEMENT;
+                hauteurEtagere = 0;
+                largeurUtilisee = 0;
+            }
+            image.page = page;
+            image.x = x;
+            image.y = y;
+            x += l + ESPACEMENT;
+            hauteurEtagere = Math.max(hauteurEtagere, h);
+            largeurUtilisee = Math.max(largeurUtilisee, x);
+        }
+        pages.add(new int[] { puissanceDeDeux(largeurUtilisee), puissanceDeDeux(y + hauteurEtagere + ESPACEMENT) });
+        return pages;
+    }
+
+    private static int puissanceDeDeux(int valeur) {
+        int resultat = 1;
+        while (resultat < valeur) {
+            resultat *= 2;
+        }
+        return resultat;
+    }
+
+    private static void ecrirePage(List<Image> images, int page, int largeur, int hauteur, File fichier)
+            throws IOException {
+        BufferedImage pixels = new BufferedImage(largeur, hauteur, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D dessin = pixels.createGraphics();
+        for (Image image : images) {
+            if (image.page == page) {
+                dessin.drawImage(image.pixels, image.x, image.y, null);
+            }
+        }
+        dessin.dispose();
+        if (!ImageIO.write(pixels, "png", fichier)) {
+            throw new IOException("Impossible d'écrire " + fichier.getPath());
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineMetrics;
+import java.awt.font.TextAttribute;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Générateur des polices de l'interface : rastérise une police TrueType à chaque taille
+ * de GestionnairePolices.Taille et écrit un fichier .fnt (format texte BMFont, lu par BitmapFont)
+ * par taille. Toutes les tailles partagent une seule page PNG.
+ * La rastérisation n'utilise que java.awt : ni FreeType ni contexte OpenGL ne sont nécessaires,
+ * et le jeu charge les pages produites sur toutes les plateformes.
+ *
+ * <p>Comme pour la police intégrée arial-15, la taille en pixels d'une police est celle de son
+ * cadratin : les textes gardent à peu près les dimensions qu'ils avaient avec la police intégrée.</p>
+ *
+ * <p>Utilisation :</p>
+ * <pre>
+ * java -cp bin:lib/* com.mypackage.projet.jeux.utilitaires.GenerateurPolices [assets/polices/DejaVuSans.ttf [assets/polices]]
+ * </pre>
+ */
+public class GenerateurPolices {
+
+    private static final String FICHIER_SOURCE_DEFAUT = GestionnairePolices.DOSSIER_POLICES + "/DejaVuSans.ttf";
+    private static final String DOSSIER_DESTINATION_DEFAUT = GestionnairePolices.DOSSIER_POLICES;
+    private static final int LARGEUR_PAGE = 1024;
+    private static final int HAUTEUR_PAGE_MAX = 1024;
+    private static final int ESPACEMENT = 2; // Pixels vides entre deux glyphes (pas de débordement au filtrage)
+
+    /** ASCII imprimable, Latin-1 (accents français) et symboles des menus */
+    private static final String CARACTERES;
+
+    static {
+        StringBuilder caracteres = new StringBuilder();
+        for (char c = 32; c < 127; c++) {
+            caracteres.append(c);
+        }
+        for (char c = 0xA0; c <= 0xFF; c++) {
+            caracteres.append(c);
+        }
+        caracteres.append("€•★☆▶◀");
+        CARACTERES = caracteres.toString();
+    }
+
+    /**
+     * Glyphe rastérisé d'une taille
+     */
+    private static class Glyphe {
+        final int pixelsTaille;
+        final char caractere;
+        final BufferedImage pixels; // null pour un glyphe vide (espace)
+        final int decalageX;
+        final int decalageY;        // Depuis le haut de la ligne
+        final int avance;
+        int x;
+        int y;
+
+        Glyphe(int pixelsTaille, char caractere, BufferedImage pixels, int decalageX, int decalageY, int avance) {
+            this.pixelsTaille = pixelsTaille;
+            this.caractere = caractere;
+            this.pixels = pixels;
+            this.decalageX = decalageX;
+            this.decalageY = decalageY;
+            this.avance = avance;
+        }
+
+        int getLargeur() {
+            return pixels != null ? pixels.getWidth() : 0;
+        }
+
+        int getHauteur() {
+            return pixels != null ? pixels.getHeight() : 0;
+        }
+    }
+
+    /**
+     * Point d'entrée du générateur
+     * @param args Fichier TTF puis dossier de destination (facultatifs)
+     */
+    public static void main(String[] args) {
+        File source = new File(args.length > 0 ? args[0] : FICHIER_SOURCE_DEFAUT);
+        File destination = new File(args.length > 1 ? args[1] : DOSSIER_DESTINATION_DEFAUT);
+        try {
+            File page = generer(source, destination);
+            System.out.println("✅ " + source.getPath() + " -> " + page.getPath());
+        } catch (IOException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Rastérise la police à chaque taille de l'interface
+     * @param fichierSource Fichier TTF
+     * @param dossierDestination Dossier où écrire la page et les fichiers .fnt
+     * @return La page PNG écrite
+     * @throws IOException Si la police est illisible, si les glyphes ne tiennent pas sur une page
+     *                     ou si l'écriture échoue
+     */
+    public static File generer(File fichierSource, File dossierDestination) throws IOException {
+        Font police;
+        try {
+            police = Font.createFont(Font.TRUETYPE_FONT, fichierSource);
+        } catch (FontFormatException e) {
+            throw new IOException("Police illisible : " + fichierSource.getPath(), e);
+        }
+        FontRenderContext contexte = new FontRenderContext(null, true, false);
+
+        // Une seule fois par taille en pixels, même si plusieurs tailles de l'interface la partagent
+        List<Integer> tailles = new ArrayList<>();
+        for (GestionnairePolices.Taille taille : GestionnairePolices.Taille.values()) {
+            if (!tailles.contains(taille.getPixels())) {
+                tailles.add(taille.getPixels());
+            }
+        }
+
+        List<Font> polices = new ArrayList<>();
+        List<Glyphe> glyphes = new ArrayList<>();
+        for (int pixels : tailles) {
+            Font policeTaille = police.deriveFont((float) pixels);
+            polices.add(policeTaille);
+            rasteriser(policeTaille, pixels, contexte, glyphes);
+        }
+
+        int hauteurPage = placer(glyphes);
+
+        if (!dossierDestination.isDirectory() && !dossierDestination.mkdirs()) {
+            throw new IOException("Impossible de créer " + dossierDestination.getPath());
+        }
+        File fichierPage = new File(dossierDestination, GestionnairePolices.FICHIER_PAGE);
+        ecrirePage(glyphes, hauteurPage, fichierPage);
+        for (int i = 0; i < tailles.size(); i++) {
+            int pixels = tailles.get(i);
+            ecrireDescription(polices.get(i), pixels, contexte, glyphes, hauteurPage,
+                new File(dossierDestination, GestionnairePolices.getNomDescription(pixels)));
+        }
+        return fichierPage;
+    }
+
+    /**
+     * Rastérise chaque caractère en blanc sur fond transparent (la couleur est celle de la BitmapFont)
+     */
+    private static void rasteriser(Font police, int pixels, FontRenderContext contexte, List<Glyphe> glyphes) {
+        int base = Math.round(police.getLineMetrics(CARACTERES, contexte).getAscent());
+        for (int i = 0; i < CARACTERES.length(); i++) {
+            char caractere = CARACTERES.charAt(i);
+            if (!police.canDisplay(caractere)) {
+                continue;
+            }
+            GlyphVector vecteur = police.createGlyphVector(contexte, String.valueOf(caractere));
+            int avance = Math.round(vecteur.getGlyphMetrics(0).getAdvanceX());
+            Rectangle cadre = vecteur.getPixelBounds(contexte, 0, 0);
+            if (cadre.width == 0 || cadre.height == 0) {
+                glyphes.add(new Glyphe(pixels, caractere, null, 0, base, avance));
+                continue;
+            }
+            BufferedImage image = new BufferedImage(cadre.width, cadre.height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D dessin = image.createGraphics();
+            dessin.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            dessin.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_OFF);
+            dessin.setColor(Color.WHITE);
+            dessin.drawGlyphVector(vecteur, -cadre.x, -cadre.y);
+            dessin.dispose();
+            glyphes.add(new Glyphe(pixels, caractere, image, cadre.x, base + cadre.y, avance));
+        }
+    }
+
+    /**
+     * Place les glyphes par étagères, les plus hauts d'abord, sur une page de LARGEUR_PAGE pixels de large
+     * @param glyphes Les glyphes (x et y sont remplis)
+     * @return La hauteur de la page (puissance de deux)
+     * @throws IOException Si les glyphes ne tiennent pas sur une page
+     */
+    private static int placer(List<Glyphe> glyphes) throws IOException {
+        List<Glyphe> parHauteur = new ArrayList<>(glyphes);
+        Collections.sort(parHauteur, Comparator.comparingInt(Glyphe::getHauteur).reversed());
+        int x = ESPACEMENT;
+        int y = ESPACEMENT;
+        int hauteurEtagere = 0;
+        for (Glyphe glyphe : parHauteur) {
+            if (glyphe.pixels == null) {
+                continue;
+            }
+            if (x + glyphe.getLargeur() + ESPACEMENT > LARGEUR_PAGE) { // Étagère suivante
+                x = ESPACEMENT;
+                y += hauteurEtagere + ESPACEMENT;
+                hauteurEtagere = 0;
+            }
+            glyphe.x = x;
+            glyphe.y = y;
+            x += glyphe.getLargeur() + ESPACEMENT;
+            hauteurEtagere = Math.max(hauteurEtagere, glyphe.getHauteur());
+        }
+        int hauteur = 1;
+        while (hauteur < y + hauteurEtagere + ESPACEMENT) {
+            hauteur *= 2;
+        }
+        if (hauteur > HAUTEUR_PAGE_MAX) {
+            throw new IOException("Les glyphes ne tiennent pas sur une page de " + LARGEUR_PAGE + "x" + HAUTEUR_PAGE_MAX);
+        }
+        return hauteur;
+    }
+
+    private static void ecrirePage(List<Glyphe> glyphes, int hauteur, File fichier) throws IOException {
+        BufferedImage pixels = new BufferedImage(LARGEUR_PAGE, hauteur, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D dessin = pixels.createGraphics();
+        for (Glyphe glyphe : glyphes) {
+            if (glyphe.pixels != null) {
+                dessin.drawImage(glyphe.pixels, glyphe.x, glyphe.y, null);
+            }
+        }
+        dessin.dispose();
+        if (!ImageIO.write(pixels, "png", fichier)) {
+            throw new IOException("Impossible d'écrire " + fichier.getPath());
+        }
+    }
+
+    /**
+     * Écrit le fichier .fnt d'une taille : métriques, glyphes sur la page commune et crénage
+     */
+    private static void ecrireDescription(Font police, int pixels, FontRenderContext contexte, List<Glyphe> glyphes,
+                                          int hauteurPage, File fichier) throws IOException {
+        List<Glyphe> glyphesTaille = new ArrayList<>();
+        for (Glyphe glyphe : glyphes) {
+            if (glyphe.pixelsTaille == pixels) {
+                glyphesTaille.add(glyphe);
+            }
+        }
+        LineMetrics metriques = police.getLineMetrics(CARACTERES, contexte);
+        int base = Math.round(metriques.getAscent());
+        int hauteurLigne = Math.round(metriques.getAscent() + metriques.getDescent() + metriques.getLeading());
+
+        try (PrintWriter sortie = new PrintWriter(fichier, StandardCharsets.UTF_8.name())) {
+            sortie.print("info face=\"" + police.getFamily() + "\" size=-" + pixels
+                + " bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1 padding=0,0,0,0 spacing="
+                + ESPACEMENT + "," + ESPACEMENT + "\n");
+            sortie.print("common lineHeight=" + hauteurLigne + " base=" + base + " scaleW=" + LARGEUR_PAGE
+                + " scaleH=" + hauteurPage + " pages=1 packed=0\n");
+            sortie.print("page id=0 file=\"" + GestionnairePolices.FICHIER_PAGE + "\"\n");
+            sortie.print("chars count=" + glyphesTaille.size() + "\n");
+            for (Glyphe glyphe : glyphesTaille) {
+                sortie.print("char id=" + (int) glyphe.caractere + " x=" + glyphe.x + " y=" + glyphe.y
+                    + " width=" + glyphe.getLargeur() + " height=" + glyphe.getHauteur()
+                    + " xoffset=" + glyphe.decalageX + " yoffset=" + glyphe.decalageY
+                    + " xadvance=" + glyphe.avance + " page=0 chnl=15\n");
+            }
+
+            List<String> crenages = calculerCrenages(police, contexte, glyphesTaille);
+            sortie.print("kernings count=" + crenages.size() + "\n");
+            for (String crenage : crenages) {
+                sortie.print(crenage);
+            }
+        }
+    }
+
+    /**
+     * Mesure le crénage de chaque paire de caractères : avance de la paire crénée
+     * moins la somme des avances, arrondie au pixel (seules les paires non nulles sont gardées)
+     */
+    private static List<String> calculerCrenages(Font police, FontRenderContext contexte, List<Glyphe> glyphes) {
+        Font policeCrenee = police.deriveFont(Collections.singletonMap(TextAttribute.KERNING, TextAttribute.KERNING_ON));
+        float[] avances = new float[glyphes.size()];
+        for (int i = 0; i < avances.length; i++) {
+            avances[i] = (float) police.getStringBounds(String.valueOf(glyphes.get(i).caractere), contexte).getWidth();
+        }
+        List<String> crenages = new ArrayList<>();
+        char[] paire = new char[2];
+        for (int i = 0; i < avances.length; i++) {
+            paire[0] = glyphes.get(i).caractere;
+            for (int j = 0; j < avances.length; j++) {
+                paire[1] = glyphes.get(j).caractere;
+                float avancePaire = (float) policeCrenee.getStringBounds(paire, 0, 2, contexte).getWidth();
+                int montant = Math.round(avancePaire - avances[i] - avances[j]);
+                if (montant != 0) {
+                    crenages.add("kerning first=" + (int) paire[0] + " second=" + (int) paire[1]
+                        + " amount=" + montant + "\n");
+                }
+            }
+        }
+        return crenages;
+    }
+}
@@ -0,0 +1,177 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Service des polices de l'interface (HUD, transitions, menus, écrans de chargement et de profilage).
+ * Chaque taille utilisée est chargée une seule fois au démarrage, à sa taille réelle en pixels,
+ * et toutes les tailles partagent une seule texture : les textes de tailles différentes
+ * se dessinent sans changer de texture, et personne n'appelle plus setScale.
+ *
+ * <p>Les glyphes sont rastérisés d'avance par GenerateurPolices (DejaVu Sans, licence dans
+ * DOSSIER_POLICES) : un fichier .fnt par taille, tous sur la page FICHIER_PAGE, nets à chaque taille
+ * sans FreeType ni bibliothèque native. Si ces fichiers manquent, la police intégrée à libGDX
+ * (arial-15) est chargée une fois et chaque taille reçoit ses propres métriques,
+ * mises à l'échelle une fois pour toutes, sur la même texture.</p>
+ *
+ * <p>creerPolice retourne une police propre à l'appelant (couleur, cache de texte),
+ * mais dont les glyphes et la texture appartiennent au service : seul libererRessources les libère.</p>
+ */
+public class GestionnairePolices {
+
+    /**
+     * Tailles de police de l'interface (échelle par rapport à la police intégrée de 15 pixels)
+     */
+    public enum Taille {
+        TEXTE(1.0f),      // Surcouche du profileur
+        PETIT(1.2f),      // Objectifs du niveau
+        INDICATION(1.3f), // Indications secondaires
+        NORMAL(1.5f),     // Nom du niveau, textes courants
+        VALEUR(1.8f),     // Valeurs du HUD, statistiques de fin de niveau
+        GRAND(2.0f),      // Écran de chargement
+        LABEL(2.2f),      // Labels du HUD (MARIO, WORLD)
+        BOUTON(2.5f),     // Boutons des menus, étoiles
+        TITRE(3.0f),      // Titres des transitions
+        TITRE_MENU(4.0f); // Titre des menus de fin
+
+        private final float echelle;
+
+        Taille(float echelle) {
+            this.echelle = echelle;
+        }
+
+        public float getEchelle() {
+            return echelle;
+        }
+
+        /**
+         * Retourne la hauteur de la police en pixels
+         * @return Taille du cadratin en pixels, comme pour arial-15
+         */
+        public int getPixels() {
+            return Math.round(TAILLE_BASE * echelle);
+        }
+    }
+
+    /** Dossier des polices pré-générées (voir GenerateurPolices) */
+    public static final String DOSSIER_POLICES = "assets/polices";
+    /** Page commune à toutes les tailles pré-générées */
+    public static final String FICHIER_PAGE = "interface.png";
+
+    private static final String FICHIER_POLICE_INTEGREE = "com/badlogic/gdx/utils/arial-15.fnt";
+    private static final int TAILLE_BASE = 15;
+    private static final Taille[] TAILLES = Taille.values();
+
+    private final BitmapFont.BitmapFontData[] donnees = new BitmapFont.BitmapFontData[TAILLES.length];
+    private Array<TextureRegion> regions; // Région de la texture commune, partagée par toutes les tailles
+    private Texture page;                 // Page des polices pré-générées (null avec la police intégrée)
+    private BitmapFont policeIntegree;    // Propriétaire de la texture de la police intégrée
+    private boolean pregeneree;
+
+    /**
+     * Constructeur : charge toutes les tailles
+     */
+    public GestionnairePolices() {
+        pregeneree = chargerPolicesPregenerees();
+        if (!pregeneree) {
+            chargerPoliceIntegree();
+        }
+        Gdx.app.log("GestionnairePolices", TAILLES.length + " tailles de police prêtes ("
+            + (pregeneree ? "pré-générées, " + FICHIER_PAGE : "police intégrée") + ")");
+    }
+
+    /**
+     * Retourne le nom du fichier .fnt d'une taille en pixels
+     * @param pixels Taille de la police en pixels (Taille.getPixels)
+     * @return Le nom du fichier, sans dossier
+     */
+    public static String getNomDescription(int pixels) {
+        return "interface-" + pixels + ".fnt";
+    }
+
+    /**
+     * Charge la page commune puis le fichier .fnt de chaque taille
+     * @return true si toutes les tailles ont été chargées
+     */
+    private boolean chargerPolicesPregenerees() {
+        FileHandle fichierPage = Gdx.files.internal(DOSSIER_POLICES + "/" + FICHIER_PAGE);
+        if (!fichierPage.exists()) {
+            return false;
+        }
+        try {
+            for (Taille taille : TAILLES) {
+                donnees[taille.ordinal()] = new BitmapFont.BitmapFontData(
+                    Gdx.files.internal(DOSSIER_POLICES + "/" + getNomDescription(taille.getPixels())), false);
+            }
+            page = new Texture(fichierPage);
+            page.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            regions = new Array<>(1);
+            regions.add(new TextureRegion(page));
+            return true;
+        } catch (GdxRuntimeException e) { // Fichier .fnt manquant ou illisible
+            Gdx.app.error("GestionnairePolices", "⚠️ Polices de " + DOSSIER_POLICES
+                + " inutilisables, police intégrée utilisée : " + e.getMessage());
+            libererPage();
+            return false;
+        }
+    }
+
+    /**
+     * Charge la police intégrée une fois et prépare des métriques mises à l'échelle pour chaque taille
+     */
+    private void chargerPoliceIntegree() {
+        policeIntegree = new BitmapFont();
+        regions = policeIntegree.getRegions();
+        for (Taille taille : TAILLES) {
+            BitmapFont.BitmapFontData donneesTaille = new BitmapFont.BitmapFontData(
+                Gdx.files.classpath(FICHIER_POLICE_INTEGREE), false);
+            donneesTaille.setScale(taille.getEchelle());
+            donnees[taille.ordinal()] = donneesTaille;
+        }
+    }
+
+    /**
+     * Crée une police d'une taille donnée, qui partage glyphes et texture avec toutes les autres.
+     * Sa couleur lui est propre ; libérer la police ne libère pas la texture.
+     * @param taille La taille voulue
+     * @return La police
+     */
+    public BitmapFont creerPolice(Taille taille) {
+        return new BitmapFont(donnees[taille.ordinal()], regions, true);
+    }
+
+    /**
+     * Indique si les polices pré-générées sont utilisées (sinon, police intégrée mise à l'échelle)
+     * @return true si les fichiers de DOSSIER_POLICES sont utilisés
+     */
+    public boolean estPregeneree() {
+        return pregeneree;
+    }
+
+    /**
+     * Libère la page des polices pré-générées
+     */
+    private void libererPage() {
+        if (page != null) {
+            page.dispose();
+            page = null;
+        }
+    }
+
+    /**
+     * Libère la texture partagée (à appeler après les rendus qui utilisent les polices)
+     */
+    public void libererRessources() {
+        libererPage();
+        if (policeIntegree != null) {
+            policeIntegree.dispose();
+            policeIntegree = null;
+        }
+    }
+}
@@ -1,51 +1,232 @@
 package com.mypackage.projet.jeux.utilitaires;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Classe pour gérer le chargement et la libération des ressources du jeu
+ * Registre unique des ressources du jeu (textures, atlas), construit sur l'AssetManager de libGDX.
+ * Chaque ressource est chargée une seule fois, quel que soit le nombre de rendus qui l'utilisent :
+ * chaque acquisition incrémente un compteur de références, chaque libération le décrémente,
+ * et la ressource est libérée du GPU quand plus personne ne l'utilise.
+ * Le registre tient ses propres compteurs (l'AssetManager ne détient qu'une référence par fichier) :
+ * ils sont exacts immédiatement, sans attendre le prochain mettreAJour.
+ * À utiliser depuis le thread de rendu (seul estCharge peut être appelé depuis un autre thread).
+ *
+ * <p>Les ressources sont regroupées : le groupe commun (atlas des entités) vit aussi longtemps que le jeu,
+ * et chaque niveau chargé possède un groupe (textures de ses tilesets) libéré avec sa carte.
+ * Un groupe peut être chargé de façon asynchrone (demander, puis mettreAJour à chaque frame).</p>
  */
 public class GestionnaireRessources {
-    
-    private AssetManager gestionnaire;
-    
+
+    /** Nom du groupe des ressources partagées par tous les niveaux */
+    public static final String GROUPE_COMMUN = "commun";
+
+    /** Atlas des textures des entités (généré par EmpaqueteurAtlas) */
+    public static final String FICHIER_ATLAS_ENTITES = "assets/textures/atlas/" + EmpaqueteurAtlas.NOM_ATLAS + ".atlas";
+
+    /**
+     * AssetManager qui accepte des ressources créées ailleurs
+     * (textures envoyées au GPU à partir d'images décodées en arrière-plan)
+     */
+    private static class Registre extends AssetManager {
+        <T> void enregistrer(String chemin, Class<T> type, T ressource) {
+            addAsset(chemin, type, ressource);
+        }
+    }
+
+    /**
+     * Ensemble de ressources acquises et libérées ensemble.
+     * Donné à TiledMap.setOwnedResources, un groupe est libéré en même temps que la carte.
+     */
+    public class Groupe implements Disposable {
+        private final String nom;
+        private final Array<String> chemins; // Une entrée par référence détenue
+        private boolean libere;
+
+        private Groupe(String nom) {
+            this.nom = nom;
+            this.chemins = new Array<>();
+        }
+
+        /**
+         * Acquiert une ressource pour ce groupe, en la chargeant immédiatement si nécessaire
+         * @param chemin Chemin de la ressource
+         * @param type Type de la ressource (Texture.class, TextureAtlas.class...)
+         * @return La ressource
+         */
+        public <T> T acquerir(String chemin, Class<T> type) {
+            T ressource = GestionnaireRessources.this.acquerir(chemin, type);
+            chemins.add(chemin);
+            return ressource;
+        }
+
+        /**
+         * Demande le chargement asynchrone d'une ressource pour ce groupe (voir mettreAJour)
+         * @param chemin Chemin de la ressource
+         * @param type Type de la ressource
+         */
+        public void demander(String chemin, Class<?> type) {
+            if (ajouterReference(chemin)) {
+                gestionnaire.load(chemin, type);
+            }
+            chemins.add(chemin);
+        }
+
+        /**
+         * Enregistre une ressource créée hors du registre.
+         * Si la ressource est déjà chargée (ou demandée), l'exemplaire du registre est acquis
+         * et celui fourni est libéré.
+         * @param chemin Chemin de la ressource (clé du registre)
+         * @param type Type de la ressource
+         * @param ressource La ressource créée par l'appelant (le registre en devient propriétaire)
+         * @return L'exemplaire du registre, à utiliser à la place de celui fourni
+         */
+        public <T extends Disposable> T ajouter(String chemin, Class<T> type, T ressource) {
+            if (references.containsKey(chemin)) { // Chargée ou demandée par ailleurs
+                ressource.dispose();
+                return acquerir(chemin, type);
+            }
+            gestionnaire.enregistrer(chemin, type, ressource);
+            references.put(chemin, 1);
+            chemins.add(chemin);
+            return ressource;
+        }
+
+        /**
+         * Vérifie si toutes les ressources demandées pour ce groupe sont chargées
+         * @return true si le groupe est prêt
+         */
+        public boolean estCharge() {
+            for (String chemin : chemins) {
+                if (!gestionnaire.isLoaded(chemin)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public String getNom() {
+            return nom;
+        }
+
+        /**
+         * Libère une référence sur chaque ressource du groupe
+         */
+        @Override
+        public void dispose() {
+            if (libere) {
+                return;
+            }
+            libere = true;
+            for (String chemin : chemins) {
+                libererRessource(chemin);
+            }
+            chemins.clear();
+            groupes.removeValue(this, true);
+        }
+    }
+
+    private final Registre gestionnaire;
+    private final Map<String, Integer> references; // Références détenues par ressource
+    private final Array<Groupe> groupes; // Groupes non libérés
+    private Groupe groupeCommun;
+    private boolean libere;
+
     /**
      * Constructeur
      */
     public GestionnaireRessources() {
-        this.gestionnaire = new AssetManager();
+        this.gestionnaire = new Registre();
+        this.references = new HashMap<>();
+        this.groupes = new Array<>();
     }
-    
+
     /**
-     * Charge toutes les ressources nécessaires au jeu
+     * Charge les ressources communes à tous les niveaux (atlas des entités) et attend la fin du chargement
      */
     public void chargerRessources() {
-        // Charger les textures
-        chargerTexture("assets/textures/joueur.png");
-        chargerTexture("assets/textures/ennemi_terrestre.png");
-        chargerTexture("assets/textures/piece.png");
-        chargerTexture("assets/textures/champignon.png");
-        
-        // Attendre que toutes les ressources soient chargées
+        demanderRessourcesCommunes();
         gestionnaire.finishLoading();
     }
-    
+
+    /**
+     * Demande le chargement asynchrone des ressources communes (voir mettreAJour)
+     * @return Le groupe commun
+     */
+    public Groupe demanderRessourcesCommunes() {
+        if (groupeCommun == null) {
+            groupeCommun = creerGroupe(GROUPE_COMMUN);
+            if (Gdx.files.internal(FICHIER_ATLAS_ENTITES).exists()) {
+                groupeCommun.demander(FICHIER_ATLAS_ENTITES, TextureAtlas.class);
+            }
+        }
+        return groupeCommun;
+    }
+
+    /**
+     * Crée un groupe vide
+     * @param nom Nom du groupe (journalisation), par exemple le chemin du niveau
+     * @return Le groupe
+     */
+    public Groupe creerGroupe(String nom) {
+        Groupe groupe = new Groupe(nom);
+        groupes.add(groupe);
+        return groupe;
+    }
+
+    /**
+     * Acquiert une ressource (compteur de références + 1), en la chargeant immédiatement si nécessaire.
+     * Chaque acquisition doit être suivie d'une libération (libererRessource).
+     * @param chemin Chemin de la ressource
+     * @param type Type de la ressource (Texture.class, TextureAtlas.class...)
+     * @return La ressource
+     */
+    public <T> T acquerir(String chemin, Class<T> type) {
+        if (ajouterReference(chemin)) {
+            gestionnaire.load(chemin, type);
+        }
+        try {
+            return gestionnaire.finishLoadingAsset(chemin); // Immédiat si déjà chargée
+        } catch (RuntimeException e) {
+            libererRessource(chemin); // Fichier absent ou illisible : la référence n'est pas gardée
+            throw e;
+        }
+    }
+
     /**
-     * Charge une texture
+     * Incrémente le compteur de références d'une ressource
+     * @param chemin Chemin de la ressource
+     * @return true si c'est la première référence (la ressource doit être chargée)
+     */
+    private boolean ajouterReference(String chemin) {
+        Integer nombre = references.get(chemin);
+        references.put(chemin, nombre == null ? 1 : nombre + 1);
+        return nombre == null;
+    }
+
+    /**
+     * Charge une texture de façon asynchrone (compteur de références + 1)
      * @param chemin Chemin vers la texture
      */
     public void chargerTexture(String chemin) {
         try {
-            gestionnaire.load(chemin, Texture.class);
+            if (ajouterReference(chemin)) {
+                gestionnaire.load(chemin, Texture.class);
+            }
         } catch (Exception e) {
             System.err.println("Erreur lors du chargement de la texture " + chemin + " : " + e.getMessage());
         }
     }
-    
+
     /**
-     * Récupère une texture chargée
+     * Récupère une texture chargée, sans acquérir de référence
      * @param chemin Chemin de la texture
      * @return La texture
      */
@@ -56,7 +237,26 @@ public class GestionnaireRessources {
         System.err.println("Texture non chargée : " + chemin);
         return null;
     }
-    
+
+    /**
+     * Vérifie si une ressource est chargée
+     * @param chemin Chemin de la ressource
+     * @return true si elle est dans le registre
+     */
+    public boolean estCharge(String chemin) {
+        return gestionnaire.isLoaded(chemin);
+    }
+
+    /**
+     * Retourne le nombre de références détenues sur une ressource
+     * @param chemin Chemin de la ressource
+     * @return Nombre de références (0 si elle n'est pas chargée)
+     */
+    public int getNombreReferences(String chemin) {
+        Integer nombre = references.get(chemin);
+        return nombre == null ? 0 : nombre;
+    }
+
     /**
      * Met à jour le gestionnaire (pour le chargement asynchrone)
      * @return true si le chargement est terminé
@@ -64,7 +264,16 @@ public class GestionnaireRessources {
     public boolean mettreAJour() {
         return gestionnaire.update();
     }
-    
+
+    /**
+     * Avance le chargement asynchrone pendant une durée bornée
+     * @param dureeMs Durée maximale de l'appel (en millisecondes)
+     * @return true si le chargement est terminé
+     */
+    public boolean mettreAJour(int dureeMs) {
+        return gestionnaire.update(dureeMs);
+    }
+
     /**
      * Obtient le progrès du chargement
      * @return Valeur entre 0 et 1
@@ -72,23 +281,49 @@ public class GestionnaireRessources {
     public float obtenirProgresChargement() {
         return gestionnaire.getProgress();
     }
-    
+
+    /**
+     * Retourne le nombre de ressources chargées
+     * @return Nombre de ressources dans le registre (une par fichier, quel que soit le nombre de références)
+     */
+    public int getNombreRessources() {
+        return gestionnaire.getLoadedAssets();
+    }
+
+    public int getNombreGroupes() {
+        return groupes.size;
+    }
+
     /**
      * Libère toutes les ressources
      */
     public void libererRessources() {
+        libere = true;
+        groupes.clear();
+        references.clear();
+        groupeCommun = null;
         gestionnaire.dispose();
     }
-    
+
     /**
-     * Libère une ressource spécifique
+     * Libère une référence sur une ressource (elle est déchargée quand plus personne ne l'utilise)
      * @param chemin Chemin de la ressource
      */
     public void libererRessource(String chemin) {
-        if (gestionnaire.isLoaded(chemin)) {
+        if (libere) {
+            return; // Tout a déjà été libéré avec le registre
+        }
+        Integer nombre = references.get(chemin);
+        if (nombre == null) {
+            return;
+        }
+        if (nombre > 1) {
+            references.put(chemin, nombre - 1);
+            return;
+        }
+        references.remove(chemin);
+        if (gestionnaire.contains(chemin)) { // Chargée, en cours de chargement ou en attente
             gestionnaire.unload(chemin);
         }
     }
 }
-
-
@@ -0,0 +1,225 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.mypackage.projet.jeux.modele.niveau.CarteCollision;
+import com.mypackage.projet.jeux.modele.niveau.DescriptionNiveau;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Lecteur des niveaux compilés (.niv) produits par CompilateurNiveau.
+ * Le fichier est projeté en mémoire (FileChannel.map) puis lu séquentiellement :
+ * aucune analyse XML, aucune table de propriétés, les couches de tuiles sont copiées en bloc.
+ *
+ * <p>Format (entiers et flottants gros-boutistes) :</p>
+ * <pre>
+ * en-tête    : magique "NIV1", version (short), réservé (short), CRC32 et taille du .tmx source
+ * chaînes    : nombre, puis (longueur short + octets UTF-8) ; les enregistrements y font référence par indice (-1 : null)
+ * carte      : largeur, hauteur (tuiles), largeur et hauteur d'une tuile, mode de collision (octet)
+ * tilesets   : nombre, puis nom, premier gid, image, dimensions, espacement, marge, décalage,
+ *              nombre de tuiles et (nom int + solide octet) par tuile
+ * couches    : nombre, puis nom, largeur, hauteur, visible (octet), opacité, cellules (int[largeur * hauteur])
+ * joueur     : présent (octet), x, y
+ * drapeau    : présent (octet), x, y, hauteur
+ * ennemis    : nombre, puis enregistrements de 20 octets (type, x, y, distance de patrouille, points de vie)
+ * objets     : nombre, puis enregistrements de 16 octets (type, x, y, valeur)
+ * power-ups  : nombre, puis enregistrements de 12 octets (type, x, y)
+ * obstacles  : nombre, puis enregistrements de 21 octets (type, x, y, largeur, hauteur, destructible)
+ * </pre>
+ */
+public class LecteurNiveauCompile {
+
+    /** Extension des niveaux compilés */
+    public static final String EXTENSION = ".niv";
+
+    static final int MAGIQUE = 0x4E495631; // "NIV1"
+    static final short VERSION = 1;
+
+    private LecteurNiveauCompile() {
+    }
+
+    /**
+     * Donne le chemin du niveau compilé correspondant à un fichier .tmx
+     * @param cheminSource Chemin du fichier .tmx
+     * @return Le chemin du fichier .niv voisin
+     */
+    public static String cheminCompile(String cheminSource) {
+        int dernierPoint = cheminSource.lastIndexOf('.');
+        int dernierSlash = Math.max(cheminSource.lastIndexOf('/'), cheminSource.lastIndexOf('\\'));
+        String base = dernierPoint > dernierSlash ? cheminSource.substring(0, dernierPoint) : cheminSource;
+        return base + EXTENSION;
+    }
+
+    /**
+     * Calcule l'empreinte (CRC32) d'un fichier source
+     * @param fichierSource Le fichier .tmx
+     * @return L'empreinte
+     */
+    public static int calculerEmpreinte(FileHandle fichierSource) {
+        CRC32 crc = new CRC32();
+        crc.update(fichierSource.readBytes());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Lit l'empreinte du fichier source enregistrée dans l'en-tête d'un niveau compilé
+     * @param fichierCompile Le fichier .niv
+     * @return L'empreinte, ou null si l'en-tête est invalide
+     * @throws IOException En cas d'erreur de lecture
+     */
+    public static Integer lireEmpreinteSource(FileHandle fichierCompile) throws IOException {
+        ByteBuffer tampon = projeter(fichierCompile);
+        if (tampon.remaining() < 16 || tampon.getInt() != MAGIQUE || tampon.getShort() != VERSION) {
+            return null;
+        }
+        tampon.getShort();
+        return tampon.getInt();
+    }
+
+    /**
+     * Lit un niveau compilé
+     * @param fichierCompile Le fichier .niv
+     * @param nom Nom du niveau
+     * @return La description du niveau
+     * @throws IOException Si le fichier est illisible, tronqué ou d'une autre version
+     */
+    public static DescriptionNiveau lire(FileHandle fichierCompile, String nom) throws IOException {
+        ByteBuffer tampon = projeter(fichierCompile);
+        try {
+            return lire(tampon, nom);
+        } catch (RuntimeException e) {
+            throw new IOException("Niveau compilé corrompu : " + fichierCompile.path(), e);
+        }
+    }
+
+    private static DescriptionNiveau lire(ByteBuffer tampon, String nom) throws IOException {
+        // ========== EN-TÊTE ==========
+        if (tampon.getInt() != MAGIQUE) {
+            throw new IOException("Ce fichier n'est pas un niveau compilé");
+        }
+        short version = tampon.getShort();
+        if (version != VERSION) {
+            throw new IOException("Version de niveau compilé non prise en charge : " + version);
+        }
+        tampon.getShort();
+        tampon.getInt(); // empreinte du source
+        tampon.getInt(); // taille du source
+
+        String[] chaines = new String[tampon.getInt()];
+        for (int i = 0; i < chaines.length; i++) {
+            byte[] octets = new byte[tampon.getShort() & 0xFFFF];
+            tampon.get(octets);
+            chaines[i] = new String(octets, StandardCharsets.UTF_8);
+        }
+
+        // ========== CARTE ==========
+        int largeurCarte = tampon.getInt();
+        int hauteurCarte = tampon.getInt();
+        int largeurTuile = tampon.getInt();
+        int hauteurTuile = tampon.getInt();
+        CarteCollision.ModeCollision modeCollision = CarteCollision.ModeCollision.values()[tampon.get()];
+        DescriptionNiveau description = new DescriptionNiveau(nom, largeurCarte, hauteurCarte,
+            largeurTuile, hauteurTuile, modeCollision);
+
+        int nombreTilesets = tampon.getInt();
+        for (int t = 0; t < nombreTilesets; t++) {
+            DescriptionNiveau.Tileset tileset = new DescriptionNiveau.Tileset(
+                chaine(chaines, tampon.getInt()),
+                tampon.getInt(),
+                chaine(chaines, tampon.getInt()),
+                tampon.getInt(), tampon.getInt(),
+                tampon.getInt(), tampon.getInt(),
+                tampon.getInt(), tampon.getInt(),
+                tampon.getFloat(), tampon.getFloat()
+            );
+            int nombreTuiles = tampon.getInt();
+            if (nombreTuiles != tileset.getNombreTuiles()) {
+                throw new IOException("Tileset '" + tileset.getNom() + "' : " + nombreTuiles + " tuiles au lieu de "
+                    + tileset.getNombreTuiles());
+            }
+            for (int i = 0; i < nombreTuiles; i++) {
+                tileset.definirProprietesTuile(i, chaine(chaines, tampon.getInt()), tampon.get());
+            }
+            description.ajouterTileset(tileset);
+        }
+
+        int nombreCouches = tampon.getInt();
+        for (int c = 0; c < nombreCouches; c++) {
+            String nomCouche = chaine(chaines, tampon.getInt());
+            int largeur = tampon.getInt();
+            int hauteur = tampon.getInt();
+            boolean visible = tampon.get() != 0;
+            float opacite = tampon.getFloat();
+
+            // Copie en bloc des cellules, puis saut de la zone lue
+            int[] cellules = new int[largeur * hauteur];
+            tampon.asIntBuffer().get(cellules);
+            tampon.position(tampon.position() + cellules.length * Integer.BYTES);
+            description.ajouterCoucheTuiles(
+                new DescriptionNiveau.CoucheTuiles(nomCouche, largeur, hauteur, visible, opacite, cellules));
+        }
+
+        // ========== TABLES D'APPARITION ==========
+        if (tampon.get() != 0) {
+            description.definirJoueur(tampon.getFloat(), tampon.getFloat());
+        } else {
+            tampon.position(tampon.position() + 2 * Float.BYTES);
+        }
+        if (tampon.get() != 0) {
+            description.definirDrapeau(tampon.getFloat(), tampon.getFloat(), tampon.getFloat());
+        } else {
+            tampon.position(tampon.position() + 3 * Float.BYTES);
+        }
+
+        int nombreEnnemis = tampon.getInt();
+        for (int i = 0; i < nombreEnnemis; i++) {
+            description.ajouterEnnemi(chaine(chaines, tampon.getInt()),
+                tampon.getFloat(), tampon.getFloat(), tampon.getFloat(), tampon.getInt());
+        }
+
+        int nombreObjets = tampon.getInt();
+        for (int i = 0; i < nombreObjets; i++) {
+            description.ajouterObjet(chaine(chaines, tampon.getInt()),
+                tampon.getFloat(), tampon.getFloat(), tampon.getInt());
+        }
+
+        int nombrePowerUps = tampon.getInt();
+        for (int i = 0; i < nombrePowerUps; i++) {
+            description.ajouterPowerUp(tampon.getInt(), tampon.getFloat(), tampon.getFloat());
+        }
+
+        int nombreObstacles = tampon.getInt();
+        for (int i = 0; i < nombreObstacles; i++) {
+            description.ajouterObstacle(chaine(chaines, tampon.getInt()),
+                tampon.getFloat(), tampon.getFloat(), tampon.getFloat(), tampon.getFloat(), tampon.get() != 0);
+        }
+
+        return description;
+    }
+
+    private static String chaine(String[] chaines, int indice) {
+        return indice < 0 ? null : chaines[indice];
+    }
+
+    /**
+     * Projette un fichier en mémoire ; les fichiers internes empaquetés (classpath)
+     * sont lus dans un tampon ordinaire
+     */
+    private static ByteBuffer projeter(FileHandle fichier) throws IOException {
+        File fichierDisque = fichier.type() == Files.FileType.Classpath ? null : fichier.file();
+        if (fichierDisque == null || !fichierDisque.isFile()) {
+            return ByteBuffer.wrap(fichier.readBytes());
+        }
+        try (FileChannel canal = FileChannel.open(fichierDisque.toPath(), StandardOpenOption.READ)) {
+            // La projection reste valide après la fermeture du canal
+            return canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+    }
+}
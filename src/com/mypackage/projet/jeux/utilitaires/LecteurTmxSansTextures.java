@@ -0,0 +1,95 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.XmlReader.Element;
+
+/**
+ * Lecteur de cartes Tiled (.tmx) qui ne charge aucune texture.
+ * Les tuiles reçoivent une région vide : la structure de la carte (couches, objets,
+ * propriétés des tuiles) est identique, mais aucun contexte OpenGL n'est nécessaire.
+ * Les fichiers sont lus directement sur le disque, sans passer par Gdx.files.
+ */
+public class LecteurTmxSansTextures extends TmxMapLoader {
+
+    /** Région partagée par toutes les tuiles (aucune texture associée) */
+    static final TextureRegion REGION_VIDE = new TextureRegion();
+
+    private final ImageResolver resolveurImagesVide;
+
+    /**
+     * Constructeur
+     */
+    public LecteurTmxSansTextures() {
+        super(chemin -> new FileHandle(chemin));
+        this.resolveurImagesVide = chemin -> REGION_VIDE;
+    }
+
+    /**
+     * Charge une carte sans créer de texture
+     * @param cheminFichier Chemin vers le fichier .tmx
+     * @return La carte chargée
+     */
+    public TiledMap chargerSansTextures(String cheminFichier) {
+        FileHandle fichier = resolve(cheminFichier);
+        this.root = xml.parse(fichier);
+        return loadTiledMap(fichier, new Parameters(), resolveurImagesVide);
+    }
+
+    /**
+     * Résout un chemin relatif au fichier d'un niveau (les ".." sont interprétés comme dans Tiled)
+     * @param fichierNiveau Fichier du niveau
+     * @param chemin Chemin relatif (par exemple "../textures/tileset_mario.png")
+     * @return Le fichier désigné
+     */
+    static FileHandle resoudreRelatif(FileHandle fichierNiveau, String chemin) {
+        return getRelativeFileHandle(fichierNiveau, chemin);
+    }
+
+    /**
+     * Crée les tuiles d'un tileset à partir des dimensions déclarées dans le fichier
+     * (l'image n'est jamais ouverte).
+     */
+    @Override
+    protected void addStaticTiles(FileHandle fichierTmx, ImageResolver resolveurImages, TiledMapTileSet tileset,
+                                  Element element, Array<Element> elementsTuiles, String nom, int premierGid,
+                                  int largeurTuile, int hauteurTuile, int espacement, int marge, String source,
+                                  int decalageX, int decalageY, String sourceImage, int largeurImage,
+                                  int hauteurImage, FileHandle image) {
+        MapProperties proprietes = tileset.getProperties();
+
+        if (image != null) {
+            // Tileset à image unique : découper la grille déclarée
+            proprietes.put("imagesource", sourceImage);
+            proprietes.put("imagewidth", largeurImage);
+            proprietes.put("imageheight", hauteurImage);
+            proprietes.put("tilewidth", largeurTuile);
+            proprietes.put("tileheight", hauteurTuile);
+            proprietes.put("margin", marge);
+            proprietes.put("spacing", espacement);
+
+            int colonnes = (largeurImage - 2 * marge + espacement) / (largeurTuile + espacement);
+            int lignes = (hauteurImage - 2 * marge + espacement) / (hauteurTuile + espacement);
+            int id = premierGid;
+            for (int ligne = 0; ligne < lignes; ligne++) {
+                for (int colonne = 0; colonne < colonnes; colonne++) {
+                    addStaticTiledMapTile(tileset, REGION_VIDE, id++, decalageX, decalageY);
+                }
+            }
+        } else {
+            // Collection d'images : une tuile par élément <tile> possédant une image
+            for (Element elementTuile : elementsTuiles) {
+                if (elementTuile.getChildByName("image") != null) {
+                    int id = premierGid + elementTuile.getIntAttribute("id");
+                    addStaticTiledMapTile(tileset, REGION_VIDE, id, decalageX, decalageY);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Profileur des phases d'une frame (entrées, simulation, collisions, rendu...).
+ * Chaque phase est chronométrée entre debut et fin ; les durées d'une frame sont cumulées
+ * (une phase peut s'exécuter à chaque pas fixe) puis rangées par finFrame dans un historique
+ * circulaire des dernières frames, d'où sont tirés médiane, 99e centile et maximum.
+ * Chaque mesure est aussi gardée comme événement de trace, exportable au format
+ * Chrome Trace (chrome://tracing, Perfetto).
+ *
+ * <p>Tous les tableaux sont alloués une fois : mesurer n'alloue rien, et un profileur inactif
+ * ne coûte qu'un test de booléen par appel. À utiliser depuis le thread de la boucle de jeu
+ * (les lots de TraitementParallele sont mesurés globalement, par l'appelant).</p>
+ */
+public final class Profileur {
+
+    /**
+     * Phases mesurées (la profondeur sert à l'indentation de l'affichage)
+     */
+    public enum Phase {
+        FRAME("frame", 0),
+        ENTREES("entrées", 1),
+        SIMULATION("simulation", 1),
+        NIVEAU("niveau", 2),
+        COLLISIONS_TERRAIN("collisions terrain", 2),
+        COLLISIONS_ENNEMIS("collisions ennemis", 2),
+        COLLISIONS_OBJETS("collisions objets", 2),
+        COLLISIONS_POWERUPS("collisions power-ups", 2),
+        COLLISIONS_DRAPEAU("collisions drapeau", 2),
+        ENNEMIS_TERRAIN("ennemis / terrain", 2),
+        POWERUPS_TERRAIN("power-ups / terrain", 2),
+        NETTOYAGE("nettoyage", 2),
+        RENDU_CARTE("rendu carte", 1),
+        RENDU_ENTITES("rendu entités", 1),
+        RENDU_HUD("rendu HUD", 1),
+        RENDU_MENUS("rendu menus", 1);
+
+        private final String libelle;
+        private final int profondeur;
+
+        Phase(String libelle, int profondeur) {
+            this.libelle = libelle;
+            this.profondeur = profondeur;
+        }
+
+        public String getLibelle() {
+            return libelle;
+        }
+
+        public int getProfondeur() {
+            return profondeur;
+        }
+    }
+
+    /** Nombre de frames gardées pour les statistiques (sous le seuil où Arrays.sort alloue) */
+    public static final int TAILLE_HISTORIQUE = 256;
+
+    /** Nombre d'événements gardés pour la trace (les plus anciens sont écrasés) */
+    public static final int TAILLE_TRACE = 1 << 16;
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final int NOMBRE_PHASES = PHASES.length;
+    private static final long AUCUN_DEBUT = Long.MIN_VALUE; // Phase non démarrée
+
+    private static boolean actif;
+    private static long origineNanos; // Instant zéro de la trace
+
+    // Frame en cours
+    private static final long[] debuts = new long[NOMBRE_PHASES];
+    static {
+        Arrays.fill(debuts, AUCUN_DEBUT);
+    }
+    private static final long[] cumuls = new long[NOMBRE_PHASES];
+
+    // Historique circulaire : durée cumulée de chaque phase, par frame
+    private static final long[][] historique = new long[NOMBRE_PHASES][TAILLE_HISTORIQUE];
+    private static int positionHistorique;
+    private static int nombreFrames;
+
+    // Statistiques calculées par calculerStatistiques
+    private static final long[] medianes = new long[NOMBRE_PHASES];
+    private static final long[] centiles99 = new long[NOMBRE_PHASES];
+    private static final long[] maximums = new long[NOMBRE_PHASES];
+    private static final long[] tri = new long[TAILLE_HISTORIQUE];
+
+    // Trace circulaire
+    private static final byte[] phasesTrace = new byte[TAILLE_TRACE];
+    private static final long[] debutsTrace = new long[TAILLE_TRACE];
+    private static final long[] dureesTrace = new long[TAILLE_TRACE];
+    private static int positionTrace;
+    private static int nombreEvenements;
+
+    private Profileur() {
+    }
+
+    /**
+     * Active ou désactive les mesures (l'activation repart d'un historique vide)
+     * @param actif true pour mesurer
+     */
+    public static void setActif(boolean actif) {
+        if (actif && !Profileur.actif) {
+            reinitialiser();
+        }
+        Profileur.actif = actif;
+    }
+
+    public static boolean estActif() {
+        return actif;
+    }
+
+    /**
+     * Vide l'historique et la trace
+     */
+    public static void reinitialiser() {
+        origineNanos = System.nanoTime();
+        Arrays.fill(debuts, AUCUN_DEBUT);
+        Arrays.fill(cumuls, 0L);
+        for (long[] durees : historique) {
+            Arrays.fill(durees, 0L);
+        }
+        positionHistorique = 0;
+        nombreFrames = 0;
+        positionTrace = 0;
+        nombreEvenements = 0;
+        Arrays.fill(medianes, 0L);
+        Arrays.fill(centiles99, 0L);
+        Arrays.fill(maximums, 0L);
+    }
+
+    // ========== MESURES ==========
+
+    /**
+     * Démarre la mesure d'une phase
+     * @param phase La phase
+     */
+    public static void debut(Phase phase) {
+        if (actif) {
+            debuts[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Termine la mesure d'une phase : la durée est ajoutée à la frame et à la trace
+     * @param phase La phase (démarrée par debut)
+     */
+    public static void fin(Phase phase) {
+        if (!actif) {
+            return;
+        }
+        int indice = phase.ordinal();
+        long debut = debuts[indice];
+        if (debut == AUCUN_DEBUT) {
+            return; // Profileur activé pendant la phase
+        }
+        long duree = System.nanoTime() - debut;
+        debuts[indice] = AUCUN_DEBUT;
+        cumuls[indice] += duree;
+
+        phasesTrace[positionTrace] = (byte) indice;
+        debutsTrace[positionTrace] = debut;
+        dureesTrace[positionTrace] = duree;
+        positionTrace = (positionTrace + 1) % TAILLE_TRACE;
+        if (nombreEvenements < TAILLE_TRACE) {
+            nombreEvenements++;
+        }
+    }
+
+    /**
+     * Démarre une frame (mesure de la phase FRAME)
+     */
+    public static void debutFrame() {
+        debut(Phase.FRAME);
+    }
+
+    /**
+     * Termine la frame : les durées cumulées de chaque phase entrent dans l'historique
+     */
+    public static void finFrame() {
+        if (!actif) {
+            return;
+        }
+        fin(Phase.FRAME);
+        for (int i = 0; i < NOMBRE_PHASES; i++) {
+            historique[i][positionHistorique] = cumuls[i];
+            cumuls[i] = 0L;
+        }
+        positionHistorique = (positionHistorique + 1) % TAILLE_HISTORIQUE;
+        if (nombreFrames < TAILLE_HISTORIQUE) {
+            nombreFrames++;
+        }
+    }
+
+    // ========== STATISTIQUES ==========
+
+    /**
+     * Calcule médiane, 99e centile et maximum de chaque phase sur l'historique
+     * (sans allocation ; à appeler au rythme de l'affichage, pas à chaque phase)
+     */
+    public static void calculerStatistiques() {
+        int n = nombreFrames;
+        if (n == 0) {
+            return;
+        }
+        for (int i = 0; i < NOMBRE_PHASES; i++) {
+            System.arraycopy(historique[i], 0, tri, 0, n);
+            Arrays.sort(tri, 0, n);
+            medianes[i] = tri[(n - 1) / 2];
+            centiles99[i] = tri[(int) Math.ceil(n * 0.99) - 1];
+            maximums[i] = tri[n - 1];
+        }
+    }
+
+    /**
+     * Retourne la médiane d'une phase (dernier calculerStatistiques)
+     * @param phase La phase
+     * @return Durée par frame, en nanosecondes
+     */
+    public static long getMedianeNanos(Phase phase) {
+        return medianes[phase.ordinal()];
+    }
+
+    /**
+     * Retourne le 99e centile d'une phase (dernier calculerStatistiques)
+     * @param phase La phase
+     * @return Durée par frame, en nanosecondes
+     */
+    public static long getCentile99Nanos(Phase phase) {
+        return centiles99[phase.ordinal()];
+    }
+
+    /**
+     * Retourne le maximum d'une phase (dernier calculerStatistiques)
+     * @param phase La phase
+     * @return Durée par frame, en nanosecondes
+     */
+    public static long getMaximumNanos(Phase phase) {
+        return maximums[phase.ordinal()];
+    }
+
+    /**
+     * Retourne le nombre de frames de l'historique
+     * @return Nombre de frames (au plus TAILLE_HISTORIQUE)
+     */
+    public static int getNombreFrames() {
+        return nombreFrames;
+    }
+
+    public static int getNombreEvenements() {
+        return nombreEvenements;
+    }
+
+    /**
+     * Écrit un tableau des statistiques (une ligne par phase), par exemple en fin de partie sans rendu
+     * @param sortie Destination du texte
+     * @throws IOException Si l'écriture échoue
+     */
+    public static void ecrireResume(Appendable sortie) throws IOException {
+        calculerStatistiques();
+        sortie.append(String.format("%-24s %10s %10s %10s%n", "phase (" + nombreFrames + " frames)",
+            "p50 ms", "p99 ms", "max ms"));
+        for (Phase phase : PHASES) {
+            int i = phase.ordinal();
+            if (maximums[i] == 0L) {
+                continue; // Phase jamais exécutée
+            }
+            String libelle = "                ".substring(0, 2 * phase.getProfondeur()) + phase.getLibelle();
+            sortie.append(String.format("%-24s %10.3f %10.3f %10.3f%n", libelle,
+                medianes[i] / 1e6, centiles99[i] / 1e6, maximums[i] / 1e6));
+        }
+    }
+
+    // ========== TRACE ==========
+
+    /**
+     * Exporte les derniers événements au format Chrome Trace (JSON)
+     * @param chemin Fichier à écrire (les dossiers manquants sont créés)
+     * @throws IOException Si l'écriture échoue
+     */
+    public static void exporterTrace(String chemin) throws IOException {
+        Path fichier = Paths.get(chemin);
+        if (fichier.getParent() != null) {
+            Files.createDirectories(fichier.getParent());
+        }
+        try (Writer sortie = new BufferedWriter(Files.newBufferedWriter(fichier, StandardCharsets.UTF_8))) {
+            ecrireTrace(sortie);
+        }
+    }
+
+    /**
+     * Écrit les derniers événements au format Chrome Trace, du plus ancien au plus récent.
+     * Chaque mesure devient un événement complet ("ph":"X") ; les phases imbriquées
+     * (collisions dans la simulation, simulation dans la frame) s'affichent empilées.
+     * @param sortie Destination du JSON
+     * @throws IOException Si l'écriture échoue
+     */
+    public static void ecrireTrace(Writer sortie) throws IOException {
+        sortie.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+        int premier = (positionTrace - nombreEvenements + TAILLE_TRACE) % TAILLE_TRACE;
+        for (int k = 0; k < nombreEvenements; k++) {
+            int e = (premier + k) % TAILLE_TRACE;
+            if (k > 0) {
+                sortie.write(",\n");
+            }
+            sortie.write("{\"name\":\"");
+            sortie.write(PHASES[phasesTrace[e]].getLibelle());
+            sortie.write("\",\"cat\":\"jeu\",\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":");
+            sortie.write(microsecondes(debutsTrace[e] - origineNanos));
+            sortie.write(",\"dur\":");
+            sortie.write(microsecondes(dureesTrace[e]));
+            sortie.write('}');
+        }
+        sortie.write("\n]}\n");
+    }
+
+    private static String microsecondes(long nanos) {
+        long entier = nanos / 1000;
+        long fraction = Math.abs(nanos % 1000);
+        return entier + "." + (fraction < 10 ? "00" : fraction < 100 ? "0" : "") + fraction;
+    }
+}
@@ -2,23 +2,50 @@ package com.mypackage.projet.jeux.utilitaires;
 
 import com.mypackage.projet.jeux.modele.niveau.ProgressionNiveau;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.CRC32;
 
 /**
  * Classe utilitaire pour sauvegarder et charger la progression du joueur
+ *
+ * <p>Format binaire (version 1) :</p>
+ * <pre>
+ * en-tête      : magique "SAV1" (4 octets), version (1 octet)
+ * sauvegarde   : index du niveau, score total, date de création, nom du joueur
+ * progressions : nombre, puis clé, nom du niveau, score, pièces, ennemis vaincus,
+ *                temps écoulé (float 4 octets), drapeaux (terminé, parfait), tentatives, étoiles
+ * fin          : CRC32 de tout ce qui précède (4 octets)
+ * </pre>
+ * <p>Les entiers sont en ZigZag + varint, les chaînes en longueur (varint, -1 pour null) + UTF-8,
+ * les valeurs sur 4 octets en gros-boutiste.</p>
  */
 public class SauvegardeProgression {
     
     private static final String FICHIER_SAUVEGARDE = "sauvegarde_progression.dat";
     private static final String DOSSIER_SAUVEGARDE = "saves";
+    private static final String EXTENSION_TEMPORAIRE = ".tmp";
+    
+    private static final int MAGIQUE = 0x53415631; // "SAV1"
+    private static final int VERSION = 1;
+    private static final int TAILLE_MINIMALE = 4 + 1 + 4;
+    private static final int DRAPEAU_TERMINE = 1;
+    private static final int DRAPEAU_PARFAIT = 2;
     
     /**
      * Classe représentant une sauvegarde complète
@@ -84,7 +111,9 @@ public class SauvegardeProgression {
     }
     
     /**
-     * Sauvegarde la progression dans un fichier
+     * Sauvegarde la progression dans un fichier.
+     * Le contenu est d'abord écrit dans un fichier temporaire, forcé sur le disque,
+     * puis renommé atomiquement : une interruption laisse toujours l'ancienne sauvegarde intacte.
      * @param sauvegarde Données à sauvegarder
      * @param nomFichier Nom du fichier (optionnel, utilise le nom par défaut si null)
      * @return true si succès, false sinon
@@ -98,12 +127,23 @@ public class SauvegardeProgression {
             }
             
             String fichier = nomFichier != null ? nomFichier : FICHIER_SAUVEGARDE;
-            String cheminComplet = DOSSIER_SAUVEGARDE + File.separator + fichier;
+            Path destination = Paths.get(DOSSIER_SAUVEGARDE, fichier);
+            Path temporaire = Paths.get(DOSSIER_SAUVEGARDE, fichier + EXTENSION_TEMPORAIRE);
             
-            // Écrire la sauvegarde
-            try (ObjectOutputStream oos = new ObjectOutputStream(
-                    new FileOutputStream(cheminComplet))) {
-                oos.writeObject(sauvegarde);
+            // Écrire la sauvegarde à côté, puis remplacer l'ancienne d'un coup
+            byte[] contenu = encoder(sauvegarde);
+            try (FileChannel canal = FileChannel.open(temporaire, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer tampon = ByteBuffer.wrap(contenu);
+                while (tampon.hasRemaining()) {
+                    canal.write(tampon);
+                }
+                canal.force(true);
+            }
+            try {
+                Files.move(temporaire, destination, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaire, destination, StandardCopyOption.REPLACE_EXISTING);
             }
             
             return true;
@@ -125,25 +165,26 @@ public class SauvegardeProgression {
     }
     
     /**
-     * Charge la progression depuis un fichier
+     * Charge la progression depuis un fichier.
+     * Les anciennes sauvegardes (sérialisation Java) sont encore lues ; elles sont réécrites
+     * au format binaire à la sauvegarde suivante.
      * @param nomFichier Nom du fichier (optionnel, utilise le nom par défaut si null)
      * @return La sauvegarde chargée ou null
      */
     public static Sauvegarde charger(String nomFichier) {
         try {
             String fichier = nomFichier != null ? nomFichier : FICHIER_SAUVEGARDE;
-            String cheminComplet = DOSSIER_SAUVEGARDE + File.separator + fichier;
+            Path chemin = Paths.get(DOSSIER_SAUVEGARDE, fichier);
             
-            File file = new File(cheminComplet);
-            if (!file.exists()) {
+            if (!Files.exists(chemin)) {
                 return null;
             }
             
-            try (ObjectInputStream ois = new ObjectInputStream(
-                    new FileInputStream(cheminComplet))) {
-                Sauvegarde sauvegarde = (Sauvegarde) ois.readObject();
-                return sauvegarde;
+            byte[] contenu = Files.readAllBytes(chemin);
+            if (contenu.length >= 2 && (contenu[0] & 0xFF) == 0xAC && (contenu[1] & 0xFF) == 0xED) {
+                return chargerAncienFormat(contenu);
             }
+            return decoder(contenu);
             
         } catch (IOException | ClassNotFoundException e) {
             System.err.println("❌ Erreur lors du chargement : " + e.getMessage());
@@ -152,6 +193,15 @@ public class SauvegardeProgression {
         }
     }
     
+    /**
+     * Lit une sauvegarde écrite par sérialisation Java (ancien format)
+     */
+    private static Sauvegarde chargerAncienFormat(byte[] contenu) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(contenu))) {
+            return (Sauvegarde) ois.readObject();
+        }
+    }
+    
     /**
      * Charge avec le nom par défaut
      * @return La sauvegarde chargée ou null
@@ -160,6 +210,210 @@ public class SauvegardeProgression {
         return charger(null);
     }
     
+    // ========== FORMAT BINAIRE ==========
+    
+    /**
+     * Encode une sauvegarde au format binaire
+     * @param sauvegarde Données à encoder
+     * @return Le contenu du fichier (en-tête, données et somme de contrôle)
+     */
+    public static byte[] encoder(Sauvegarde sauvegarde) {
+        Encodeur encodeur = new Encodeur(64 + sauvegarde.progressions.size() * 48);
+        encodeur.ecrireEntierFixe(MAGIQUE);
+        encodeur.ecrireOctet(VERSION);
+        
+        encodeur.ecrireEntier(sauvegarde.niveauActuelIndex);
+        encodeur.ecrireEntier(sauvegarde.scoreTotal);
+        encodeur.ecrireLong(sauvegarde.dateCreation);
+        encodeur.ecrireChaine(sauvegarde.nomJoueur);
+        
+        encodeur.ecrireEntier(sauvegarde.progressions.size());
+        for (Map.Entry<String, DonneesProgression> entree : sauvegarde.progressions.entrySet()) {
+            DonneesProgression donnees = entree.getValue();
+            encodeur.ecrireChaine(entree.getKey());
+            encodeur.ecrireChaine(donnees.nomNiveau);
+            encodeur.ecrireEntier(donnees.score);
+            encodeur.ecrireEntier(donnees.pieces);
+            encodeur.ecrireEntier(donnees.ennemisVaincus);
+            encodeur.ecrireEntierFixe(Float.floatToIntBits(donnees.tempsEcoule));
+            encodeur.ecrireOctet((donnees.termine ? DRAPEAU_TERMINE : 0) | (donnees.parfait ? DRAPEAU_PARFAIT : 0));
+            encodeur.ecrireEntier(donnees.tentatives);
+            encodeur.ecrireEntier(donnees.etoiles);
+        }
+        
+        CRC32 crc = new CRC32();
+        crc.update(encodeur.octets, 0, encodeur.taille);
+        encodeur.ecrireEntierFixe((int) crc.getValue());
+        return encodeur.versTableau();
+    }
+    
+    /**
+     * Décode une sauvegarde au format binaire
+     * @param contenu Le contenu du fichier
+     * @return La sauvegarde
+     * @throws IOException Si le contenu est tronqué, corrompu ou d'une autre version
+     */
+    public static Sauvegarde decoder(byte[] contenu) throws IOException {
+        if (contenu.length < TAILLE_MINIMALE) {
+            throw new IOException("Sauvegarde tronquée");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(contenu, 0, contenu.length - 4);
+        if ((int) crc.getValue() != lireEntierFixe(contenu, contenu.length - 4)) {
+            throw new IOException("Sauvegarde corrompue (somme de contrôle invalide)");
+        }
+        
+        Decodeur decodeur = new Decodeur(contenu, contenu.length - 4);
+        if (decodeur.lireEntierFixe() != MAGIQUE) {
+            throw new IOException("Ce fichier n'est pas une sauvegarde");
+        }
+        int version = decodeur.lireOctet();
+        if (version != VERSION) {
+            throw new IOException("Version de sauvegarde non prise en charge : " + version);
+        }
+        
+        Sauvegarde sauvegarde = new Sauvegarde();
+        sauvegarde.niveauActuelIndex = decodeur.lireEntier();
+        sauvegarde.scoreTotal = decodeur.lireEntier();
+        sauvegarde.dateCreation = decodeur.lireLong();
+        sauvegarde.nomJoueur = decodeur.lireChaine();
+        
+        int nombreProgressions = decodeur.lireEntier();
+        for (int i = 0; i < nombreProgressions; i++) {
+            String cle = decodeur.lireChaine();
+            DonneesProgression donnees = new DonneesProgression();
+            donnees.nomNiveau = decodeur.lireChaine();
+            donnees.score = decodeur.lireEntier();
+            donnees.pieces = decodeur.lireEntier();
+            donnees.ennemisVaincus = decodeur.lireEntier();
+            donnees.tempsEcoule = Float.intBitsToFloat(decodeur.lireEntierFixe());
+            int drapeaux = decodeur.lireOctet();
+            donnees.termine = (drapeaux & DRAPEAU_TERMINE) != 0;
+            donnees.parfait = (drapeaux & DRAPEAU_PARFAIT) != 0;
+            donnees.tentatives = decodeur.lireEntier();
+            donnees.etoiles = decodeur.lireEntier();
+            sauvegarde.progressions.put(cle, donnees);
+        }
+        return sauvegarde;
+    }
+    
+    private static int lireEntierFixe(byte[] octets, int position) {
+        return (octets[position] & 0xFF) << 24 | (octets[position + 1] & 0xFF) << 16
+            | (octets[position + 2] & 0xFF) << 8 | (octets[position + 3] & 0xFF);
+    }
+    
+    /**
+     * Écriture dans un tableau d'octets extensible.
+     * Les entiers sont encodés en ZigZag + varint (1 octet pour les petites valeurs, même négatives).
+     */
+    private static class Encodeur {
+        private byte[] octets;
+        private int taille;
+        
+        Encodeur(int capacite) {
+            this.octets = new byte[capacite];
+            this.taille = 0;
+        }
+        
+        void ecrireOctet(int valeur) {
+            if (taille == octets.length) {
+                octets = Arrays.copyOf(octets, octets.length * 2);
+            }
+            octets[taille++] = (byte) valeur;
+        }
+        
+        void ecrireEntierFixe(int valeur) {
+            ecrireOctet(valeur >>> 24);
+            ecrireOctet(valeur >>> 16);
+            ecrireOctet(valeur >>> 8);
+            ecrireOctet(valeur);
+        }
+        
+        void ecrireEntier(int valeur) {
+            ecrireLong(valeur);
+        }
+        
+        void ecrireLong(long valeur) {
+            long zigzag = (valeur << 1) ^ (valeur >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                ecrireOctet((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            ecrireOctet((int) zigzag);
+        }
+        
+        void ecrireChaine(String chaine) {
+            if (chaine == null) {
+                ecrireEntier(-1);
+                return;
+            }
+            byte[] utf8 = chaine.getBytes(StandardCharsets.UTF_8);
+            ecrireEntier(utf8.length);
+            for (byte octet : utf8) {
+                ecrireOctet(octet);
+            }
+        }
+        
+        byte[] versTableau() {
+            return Arrays.copyOf(octets, taille);
+        }
+    }
+    
+    /**
+     * Lecture d'un tableau d'octets produit par Encodeur
+     */
+    private static class Decodeur {
+        private final byte[] octets;
+        private final int fin;
+        private int position;
+        
+        Decodeur(byte[] octets, int fin) {
+            this.octets = octets;
+            this.fin = fin;
+            this.position = 0;
+        }
+        
+        int lireOctet() throws IOException {
+            if (position >= fin) {
+                throw new IOException("Sauvegarde tronquée");
+            }
+            return octets[position++] & 0xFF;
+        }
+        
+        int lireEntierFixe() throws IOException {
+            return lireOctet() << 24 | lireOctet() << 16 | lireOctet() << 8 | lireOctet();
+        }
+        
+        int lireEntier() throws IOException {
+            return (int) lireLong();
+        }
+        
+        long lireLong() throws IOException {
+            long zigzag = 0;
+            for (int decalage = 0; decalage < 64; decalage += 7) {
+                int octet = lireOctet();
+                zigzag |= (long) (octet & 0x7F) << decalage;
+                if ((octet & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IOException("Entier mal encodé");
+        }
+        
+        String lireChaine() throws IOException {
+            int longueur = lireEntier();
+            if (longueur < 0) {
+                return null;
+            }
+            if (longueur > fin - position) {
+                throw new IOException("Sauvegarde tronquée");
+            }
+            String chaine = new String(octets, position, longueur, StandardCharsets.UTF_8);
+            position += longueur;
+            return chaine;
+        }
+    }
+    
     /**
      * Supprime une sauvegarde
      * @param nomFichier Nom du fichier (optionnel)
@@ -0,0 +1,159 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import com.badlogic.gdx.Gdx;
+import com.mypackage.projet.jeux.modele.niveau.ProgressionNiveau;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service d'écriture des sauvegardes sur un thread dédié.
+ * Chaque demande copie la progression sur le thread appelant (instantané immuable),
+ * puis l'écriture se fait en arrière-plan : la boucle de jeu ne touche jamais le disque.
+ * Les demandes rapprochées sont regroupées : seul le dernier instantané en attente est écrit.
+ */
+public class ServiceSauvegarde {
+
+    private static final long DELAI_FERMETURE_MS = 2000;
+
+    private final String nomFichier;
+    private final AtomicReference<SauvegardeProgression.Sauvegarde> enAttente;
+    private final AtomicBoolean ecritureProgrammee;
+    private ExecutorService executeurEcriture; // Créé à la première demande
+    private volatile int nombreDemandes;
+    private volatile int nombreEcritures;
+
+    /**
+     * Constructeur (fichier de sauvegarde par défaut)
+     */
+    public ServiceSauvegarde() {
+        this(null);
+    }
+
+    /**
+     * Constructeur
+     * @param nomFichier Nom du fichier de sauvegarde (null : nom par défaut)
+     */
+    public ServiceSauvegarde(String nomFichier) {
+        this.nomFichier = nomFichier;
+        this.enAttente = new AtomicReference<>();
+        this.ecritureProgrammee = new AtomicBoolean(false);
+    }
+
+    /**
+     * Demande l'écriture d'une sauvegarde.
+     * La progression est copiée immédiatement ; l'appelant peut continuer à la modifier.
+     * @param niveauActuelIndex Index du niveau en cours
+     * @param scoreTotal Score total
+     * @param historique Progression de chaque niveau (GestionnaireNiveaux.getHistoriqueProgressions)
+     */
+    public void demander(int niveauActuelIndex, int scoreTotal, Map<String, ProgressionNiveau> historique) {
+        SauvegardeProgression.Sauvegarde sauvegarde = new SauvegardeProgression.Sauvegarde();
+        sauvegarde.niveauActuelIndex = niveauActuelIndex;
+        sauvegarde.scoreTotal = scoreTotal;
+
+        Map<String, SauvegardeProgression.DonneesProgression> progressions = new HashMap<>(historique.size() * 2);
+        for (Map.Entry<String, ProgressionNiveau> entree : historique.entrySet()) {
+            progressions.put(entree.getKey(), new SauvegardeProgression.DonneesProgression(entree.getValue()));
+        }
+        sauvegarde.progressions = Collections.unmodifiableMap(progressions);
+
+        demander(sauvegarde);
+    }
+
+    /**
+     * Demande l'écriture d'une sauvegarde déjà copiée (elle ne doit plus être modifiée)
+     * @param sauvegarde L'instantané à écrire
+     */
+    public synchronized void demander(SauvegardeProgression.Sauvegarde sauvegarde) {
+        nombreDemandes++;
+        enAttente.set(sauvegarde); // Remplace un instantané pas encore écrit
+        if (ecritureProgrammee.compareAndSet(false, true)) {
+            executeur().execute(this::ecrireEnAttente);
+        }
+    }
+
+    /**
+     * Écrit le dernier instantané en attente (thread d'écriture)
+     */
+    private void ecrireEnAttente() {
+        // Une demande arrivée après cette ligne programme une nouvelle écriture
+        ecritureProgrammee.set(false);
+        SauvegardeProgression.Sauvegarde sauvegarde = enAttente.getAndSet(null);
+        if (sauvegarde != null) {
+            SauvegardeProgression.sauvegarder(sauvegarde, nomFichier);
+            nombreEcritures++;
+        }
+    }
+
+    private ExecutorService executeur() {
+        if (executeurEcriture == null) {
+            executeurEcriture = Executors.newSingleThreadExecutor(tache -> {
+                Thread thread = new Thread(tache, "sauvegarde-progression");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executeurEcriture;
+    }
+
+    /**
+     * Attend que la dernière sauvegarde demandée soit sur le disque
+     * @param delaiMs Attente maximale (en millisecondes)
+     * @return true si plus rien n'est en attente
+     */
+    public boolean vider(long delaiMs) {
+        ExecutorService executeur;
+        synchronized (this) {
+            if (executeurEcriture == null) {
+                return enAttente.get() == null;
+            }
+            executeur = executeurEcriture;
+        }
+        try {
+            // Les tâches s'exécutent dans l'ordre : celle-ci passe après les écritures programmées
+            executeur.submit(this::ecrireEnAttente).get(delaiMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            Gdx.app.error("ServiceSauvegarde", "Sauvegarde non terminée : " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Écrit la sauvegarde en attente puis arrête le thread d'écriture.
+     * À appeler à la fermeture du jeu.
+     */
+    public void fermer() {
+        vider(DELAI_FERMETURE_MS);
+        synchronized (this) {
+            if (executeurEcriture != null) {
+                executeurEcriture.shutdown();
+                executeurEcriture = null;
+            }
+        }
+    }
+
+    public int getNombreDemandes() {
+        return nombreDemandes;
+    }
+
+    /**
+     * Retourne le nombre d'écritures effectuées (inférieur au nombre de demandes quand elles ont été regroupées)
+     * @return Nombre d'écritures sur le disque
+     */
+    public int getNombreEcritures() {
+        return nombreEcritures;
+    }
+}
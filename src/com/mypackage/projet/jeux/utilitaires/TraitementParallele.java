@@ -0,0 +1,183 @@
+package com.mypackage.projet.jeux.utilitaires;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Découpe un traitement sur des indices [0, nombre) en lots de taille fixe
+ * répartis entre le thread appelant et des threads de travail permanents.
+ * Réservé aux phases où chaque élément ne lit que des données figées pendant la phase
+ * (obstacles, carte de collision) et n'écrit que son propre état : le résultat ne dépend
+ * alors ni de l'ordre d'exécution des lots ni du nombre de cœurs.
+ *
+ * <p>Une exécution n'alloue rien : chaque thread réclame le lot suivant sur un compteur partagé,
+ * et l'appelant attend (LockSupport.park) que le dernier lot soit terminé. Les lots sont des plages
+ * d'indices du stockage, pas une partition de l'espace : les entités d'un lot ne sont voisines
+ * que si l'ordre du stockage l'est.</p>
+ */
+public final class TraitementParallele {
+
+    /**
+     * Traitement d'une plage d'indices
+     */
+    public interface TraitementPlage {
+        /**
+         * Traite les éléments d'indices debut (inclus) à fin (exclu)
+         * @param debut Premier indice
+         * @param fin Indice de fin (exclu)
+         */
+        void traiter(int debut, int fin);
+    }
+
+    /** Nombre d'éléments d'un lot (les bornes des lots sont toujours des multiples de cette taille) */
+    public static final int TAILLE_LOT = 256;
+
+    /** Threads de travail en plus de l'appelant */
+    private static final int NOMBRE_TRAVAILLEURS = Math.max(0, Runtime.getRuntime().availableProcessors() - 1);
+
+    // Exécution en cours : écrits par l'appelant avant de la publier dans lotSuivant
+    private static TraitementPlage traitementCourant;
+    private static int nombreCourant;
+    private static Thread appelant;
+
+    // État des lots en un seul mot : génération (16 bits), nombre de lots (24 bits), prochain lot (24 bits).
+    // Réclamer un lot est un compareAndSet sur ce mot : il échoue si une autre exécution a été publiée entre-temps
+    private static final int BITS_LOT = 24;
+    private static final long MASQUE_LOT = (1L << BITS_LOT) - 1;
+    private static final AtomicLong lotSuivant = new AtomicLong();
+    private static final AtomicInteger lotsTermines = new AtomicInteger();
+    private static volatile Throwable erreur;
+    private static int generation;
+    private static Thread[] travailleurs;
+
+    private TraitementParallele() {
+    }
+
+    /**
+     * Exécute un traitement sur [0, nombre), en parallèle à partir du seuil donné
+     * @param nombre Nombre d'éléments
+     * @param seuil Nombre minimal d'éléments pour paralléliser (0 ou moins : toujours séquentiel)
+     * @param traitement Le traitement d'une plage
+     */
+    public static void executer(int nombre, int seuil, TraitementPlage traitement) {
+        if (seuil <= 0 || nombre < seuil || nombre <= TAILLE_LOT || NOMBRE_TRAVAILLEURS == 0) {
+            traitement.traiter(0, nombre);
+            return;
+        }
+        executerEnParallele(nombre, traitement);
+    }
+
+    private static synchronized void executerEnParallele(int nombre, TraitementPlage traitement) {
+        if (travailleurs == null) {
+            demarrerTravailleurs();
+        }
+
+        // Publier l'exécution : les champs sont visibles de qui lit le nouveau mot de lotSuivant
+        int nombreLots = (nombre + TAILLE_LOT - 1) / TAILLE_LOT;
+        traitementCourant = traitement;
+        nombreCourant = nombre;
+        appelant = Thread.currentThread();
+        lotsTermines.set(0);
+        generation = (generation + 1) & 0xFFFF;
+        lotSuivant.set(((long) generation << (2 * BITS_LOT)) | ((long) nombreLots << BITS_LOT));
+        for (Thread travailleur : travailleurs) {
+            LockSupport.unpark(travailleur);
+        }
+
+        // L'appelant traite des lots comme les autres, puis attend le dernier
+        traiterLots();
+        while (lotsTermines.get() < nombreLots) {
+            LockSupport.park(TraitementParallele.class);
+        }
+        traitementCourant = null;
+
+        Throwable echec = erreur;
+        if (echec != null) {
+            erreur = null;
+            if (echec instanceof RuntimeException) {
+                throw (RuntimeException) echec;
+            }
+            if (echec instanceof Error) {
+                throw (Error) echec;
+            }
+            throw new IllegalStateException("Échec d'un lot du traitement parallèle", echec);
+        }
+    }
+
+    /**
+     * Réclame et traite des lots de l'exécution en cours jusqu'à ce qu'il n'en reste plus
+     */
+    private static void traiterLots() {
+        while (true) {
+            long valeur = lotSuivant.get();
+            int lot = (int) (valeur & MASQUE_LOT);
+            int nombreLots = (int) ((valeur >>> BITS_LOT) & MASQUE_LOT);
+            if (lot >= nombreLots) {
+                return;
+            }
+            // Tant que ce lot n'est pas réclamé, son exécution ne peut pas se terminer :
+            // si la réclamation réussit, les champs lus ici sont bien les siens
+            TraitementPlage traitement = traitementCourant;
+            int nombre = nombreCourant;
+            if (!lotSuivant.compareAndSet(valeur, valeur + 1)) {
+                continue;
+            }
+
+            int debut = lot * TAILLE_LOT;
+            try {
+                traitement.traiter(debut, Math.min(nombre, debut + TAILLE_LOT));
+            } catch (Throwable e) {
+                erreur = e;
+            }
+            if (lotsTermines.incrementAndGet() == nombreLots) {
+                LockSupport.unpark(appelant);
+            }
+        }
+    }
+
+    private static void demarrerTravailleurs() {
+        travailleurs = new Thread[NOMBRE_TRAVAILLEURS];
+        for (int i = 0; i < NOMBRE_TRAVAILLEURS; i++) {
+            Thread travailleur = new Thread(TraitementParallele::attendreLots, "TraitementParallele-" + (i + 1));
+            travailleur.setDaemon(true);
+            travailleurs[i] = travailleur;
+            travailleur.start();
+        }
+    }
+
+    /**
+     * Boucle d'un thread de travail : traite les lots publiés, puis dort jusqu'à l'exécution suivante
+     */
+    private static void attendreLots() {
+        while (true) {
+            traiterLots();
+            LockSupport.park(TraitementParallele.class);
+        }
+    }
+
+    /**
+     * Nombre de threads de travail démarrés (aucun avant la première exécution parallèle)
+     * @return Le nombre de threads de travail
+     */
+    public static synchronized int getNombreTravailleursDemarres() {
+        return travailleurs != null ? travailleurs.length : 0;
+    }
+
+    /**
+     * Retourne un thread de travail (mesure des allocations par thread)
+     * @param indice Indice du thread, inférieur à getNombreTravailleursDemarres()
+     * @return Le thread
+     */
+    public static synchronized Thread getTravailleur(int indice) {
+        return travailleurs[indice];
+    }
+
+    /**
+     * Nombre de threads qui se partagent les lots (appelant compris)
+     * @return Le parallélisme
+     */
+    public static int getParallelisme() {
+        return NOMBRE_TRAVAILLEURS + 1;
+    }
+}
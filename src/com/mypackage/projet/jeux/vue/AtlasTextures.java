@@ -0,0 +1,103 @@
+package com.mypackage.projet.jeux.vue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.mypackage.projet.jeux.utilitaires.GestionnaireRessources;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Atlas des textures des entités, partagé par tous les rendus.
+ * Les images de assets/textures sont regroupées sur une seule page (voir EmpaqueteurAtlas) :
+ * tout le passage des entités se dessine avec une seule texture liée, donc un seul envoi au GPU.
+ * Si l'atlas ou une région est absent, l'image d'origine est chargée comme texture séparée.
+ * L'atlas et les textures de secours sont acquis auprès du GestionnaireRessources :
+ * une image demandée par plusieurs rendus n'est chargée qu'une fois.
+ */
+public class AtlasTextures {
+
+    private final GestionnaireRessources.Groupe groupe; // Atlas et textures de secours acquis
+    private TextureAtlas atlas;
+    private final Map<String, TextureRegion> regionsSecours; // Textures chargées hors atlas, par chemin
+
+    /**
+     * Constructeur (atlas par défaut, généré par scripts/empaqueter_atlas.sh)
+     * @param ressources Le registre des ressources du jeu
+     */
+    public AtlasTextures(GestionnaireRessources ressources) {
+        this(ressources, GestionnaireRessources.FICHIER_ATLAS_ENTITES);
+    }
+
+    /**
+     * Constructeur
+     * @param ressources Le registre des ressources du jeu
+     * @param cheminAtlas Chemin du fichier .atlas
+     */
+    public AtlasTextures(GestionnaireRessources ressources, String cheminAtlas) {
+        this.groupe = ressources.creerGroupe("rendu des entités");
+        this.regionsSecours = new HashMap<>();
+
+        if (Gdx.files.internal(cheminAtlas).exists()) {
+            try {
+                atlas = groupe.acquerir(cheminAtlas, TextureAtlas.class);
+            } catch (Exception e) {
+                Gdx.app.error("AtlasTextures", "⚠️ Atlas illisible " + cheminAtlas + " : " + e.getMessage());
+            }
+        } else {
+            Gdx.app.log("AtlasTextures", "Atlas absent (" + cheminAtlas + "), textures séparées");
+        }
+    }
+
+    /**
+     * Obtient la région d'une image
+     * @param cheminTexture Chemin de l'image ("assets/textures/goomba.png") ou nom de la région ("goomba")
+     * @return La région, partagée : la copier (new TextureRegion) avant de la retourner avec flip
+     * @throws com.badlogic.gdx.utils.GdxRuntimeException Si l'image n'est ni dans l'atlas ni sur le disque
+     */
+    public TextureRegion obtenirRegion(String cheminTexture) {
+        if (atlas != null) {
+            TextureRegion region = atlas.findRegion(nomRegion(cheminTexture));
+            if (region != null) {
+                return region;
+            }
+        }
+
+        TextureRegion region = regionsSecours.get(cheminTexture);
+        if (region == null) {
+            region = new TextureRegion(groupe.acquerir(cheminTexture, Texture.class));
+            regionsSecours.put(cheminTexture, region);
+        }
+        return region;
+    }
+
+    /**
+     * Convertit un chemin d'image en nom de région : "assets/textures/goomba.png" devient "goomba"
+     * @param cheminTexture Chemin de l'image ou nom de région
+     * @return Le nom de la région
+     */
+    static String nomRegion(String cheminTexture) {
+        int debut = cheminTexture.lastIndexOf('/') + 1;
+        int fin = cheminTexture.endsWith(".png") ? cheminTexture.length() - ".png".length() : cheminTexture.length();
+        return cheminTexture.substring(debut, fin);
+    }
+
+    /**
+     * Vérifie si l'atlas a été chargé
+     * @return true si les régions viennent de l'atlas (sinon, une texture par image)
+     */
+    public boolean estCharge() {
+        return atlas != null;
+    }
+
+    /**
+     * Rend l'atlas et les textures chargées hors atlas au registre
+     */
+    public void libererRessources() {
+        groupe.dispose();
+        atlas = null;
+        regionsSecours.clear();
+    }
+}
@@ -0,0 +1,88 @@
+package com.mypackage.projet.jeux.vue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.mypackage.projet.jeux.utilitaires.GestionnairePolices;
+
+/**
+ * Écran affiché pendant le démarrage du jeu, avec une barre de progression.
+ * Il ne dépend d'aucune ressource chargée par le registre (police du GestionnairePolices, formes pleines) :
+ * il peut être dessiné dès la première frame, pendant que le reste se charge.
+ */
+public class EcranChargement {
+
+    private static final float LARGEUR_BARRE = 400f;
+    private static final float HAUTEUR_BARRE = 24f;
+
+    private final OrthographicCamera cameraUI;
+    private final SpriteBatch batch;
+    private final ShapeRenderer shapeRenderer;
+    private final BitmapFont police;
+    private final GlyphLayout layout;
+    private float progressionAffichee;
+
+    /**
+     * Constructeur
+     * @param largeur Largeur de la vue (en pixels)
+     * @param hauteur Hauteur de la vue (en pixels)
+     * @param polices Le service des polices
+     */
+    public EcranChargement(float largeur, float hauteur, GestionnairePolices polices) {
+        this.cameraUI = new OrthographicCamera();
+        this.cameraUI.setToOrtho(false, largeur, hauteur);
+        this.batch = new SpriteBatch();
+        this.shapeRenderer = new ShapeRenderer();
+        this.police = polices.creerPolice(GestionnairePolices.Taille.GRAND);
+        this.police.setColor(Color.WHITE);
+        this.layout = new GlyphLayout();
+        this.progressionAffichee = 0f;
+    }
+
+    /**
+     * Dessine l'écran de chargement
+     * @param progression Avancement du chargement (entre 0 et 1)
+     */
+    public void dessiner(float progression) {
+        // La barre ne recule jamais, même si une étape estime mal son avancement
+        progressionAffichee = Math.max(progressionAffichee, Math.min(1f, progression));
+
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float largeur = cameraUI.viewportWidth;
+        float hauteur = cameraUI.viewportHeight;
+        float barreX = (largeur - LARGEUR_BARRE) / 2f;
+        float barreY = hauteur / 2f - HAUTEUR_BARRE;
+
+        cameraUI.update();
+        shapeRenderer.setProjectionMatrix(cameraUI.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0.25f, 0.25f, 0.25f, 1f);
+        shapeRenderer.rect(barreX, barreY, LARGEUR_BARRE, HAUTEUR_BARRE);
+        shapeRenderer.setColor(0.9f, 0.2f, 0.1f, 1f); // Rouge Mario
+        shapeRenderer.rect(barreX, barreY, LARGEUR_BARRE * progressionAffichee, HAUTEUR_BARRE);
+        shapeRenderer.end();
+
+        batch.setProjectionMatrix(cameraUI.combined);
+        batch.begin();
+        String texte = "CHARGEMENT... " + (int) (progressionAffichee * 100) + "%";
+        layout.setText(police, texte);
+        police.draw(batch, texte, (largeur - layout.width) / 2f, barreY + HAUTEUR_BARRE + 20f + layout.height);
+        batch.end();
+    }
+
+    /**
+     * Libère les ressources (à appeler dès la fin du chargement)
+     */
+    public void libererRessources() {
+        batch.dispose();
+        shapeRenderer.dispose();
+        // La texture de la police appartient au GestionnairePolices
+    }
+}
@@ -9,6 +9,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
+import com.mypackage.projet.jeux.utilitaires.GestionnairePolices;
 
 /**
  * Menu de fin de niveau professionnel style Super Mario
@@ -63,22 +64,21 @@ public class MenuFinNiveau {
     /**
      * Constructeur
      * @param camera La caméra du jeu (pour les coordonnées relatives)
+     * @param polices Le service des polices
      * @param niveauReussi true si le niveau est réussi, false si Game Over
      * @param aDesNiveauxRestants true s'il reste des niveaux à jouer
      */
-    public MenuFinNiveau(OrthographicCamera camera, boolean niveauReussi, boolean aDesNiveauxRestants) {
+    public MenuFinNiveau(OrthographicCamera camera, GestionnairePolices polices, boolean niveauReussi, boolean aDesNiveauxRestants) {
         this.camera = camera;
         this.niveauReussi = niveauReussi;
         this.shapeRenderer = new ShapeRenderer();
         this.layout = new GlyphLayout();
         
         // Police pour le titre (grande)
-        policeTitre = new BitmapFont();
-        policeTitre.getData().setScale(4.0f);
+        policeTitre = polices.creerPolice(GestionnairePolices.Taille.TITRE_MENU);
         
         // Police pour les boutons
-        policeBouton = new BitmapFont();
-        policeBouton.getData().setScale(2.5f);
+        policeBouton = polices.creerPolice(GestionnairePolices.Taille.BOUTON);
         
         initialiserBoutons(aDesNiveauxRestants);
     }
@@ -319,11 +319,6 @@ public class MenuFinNiveau {
         if (shapeRenderer != null) {
             shapeRenderer.dispose();
         }
-        if (policeTitre != null) {
-            policeTitre.dispose();
-        }
-        if (policeBouton != null) {
-            policeBouton.dispose();
-        }
+        // La texture des polices appartient au GestionnairePolices
     }
 }
@@ -0,0 +1,373 @@
+package com.mypackage.projet.jeux.vue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+import com.mypackage.projet.jeux.modele.niveau.Niveau;
+
+/**
+ * Rendu des couches de tuiles d'un niveau, précalculé par blocs.
+ * Les sommets de chaque bloc de TAILLE_BLOC x TAILLE_BLOC tuiles sont envoyés une seule fois au GPU
+ * (SpriteCache) au chargement du niveau ; chaque frame ne fait que dessiner les blocs visibles,
+ * sans reparcourir les cellules. Un bloc n'est recalculé que lorsqu'une de ses tuiles est détruite
+ * (Niveau.detruireTuile), au plus une fois par frame.
+ *
+ * <p>Les couches sont supposées statiques : une tuile animée est figée sur son image courante
+ * (ChargeurNiveau ne crée que des tuiles fixes).</p>
+ */
+public class RenduCarteTuiles implements Niveau.EcouteurTuiles {
+
+    /** Côté d'un bloc, en tuiles */
+    public static final int TAILLE_BLOC = 16;
+
+    private static final int SOMMETS_PAR_TUILE = 20; // 4 sommets x (x, y, couleur, u, v)
+    private static final int TUILES_MAX_INDEXEES = 8191; // Au-delà, SpriteCache n'utilise pas d'indices
+
+    /**
+     * Bloc de tuiles d'une couche, dessiné d'un seul appel
+     */
+    private static class Bloc {
+        final TiledMapTileLayer couche;
+        final int colonne; // Première colonne de tuiles du bloc
+        final int ligne;   // Première ligne de tuiles du bloc
+        int idCache;
+        int nombreTuiles;
+        boolean aRecalculer;
+
+        Bloc(TiledMapTileLayer couche, int colonne, int ligne) {
+            this.couche = couche;
+            this.colonne = colonne;
+            this.ligne = ligne;
+        }
+    }
+
+    private final OrthographicCamera camera;
+    private final float[] sommets;
+    private final Array<Bloc> blocs; // Par couche, puis par ligne et colonne de blocs
+    private SpriteCache cache;
+    private int capacite; // Nombre de tuiles que le cache peut contenir
+    private Niveau niveau; // Niveau affiché (écouté pour les tuiles détruites)
+    private int blocsParLigne;
+    private int lignesDeBlocs;
+    private boolean blocsARecalculer;
+
+    // Statistiques
+    private int blocsDessines;
+    private int blocsRecalcules;
+
+    /**
+     * Constructeur
+     * @param camera La caméra du jeu
+     */
+    public RenduCarteTuiles(OrthographicCamera camera) {
+        this.camera = camera;
+        this.sommets = new float[SOMMETS_PAR_TUILE];
+        this.blocs = new Array<>();
+    }
+
+    /**
+     * Prépare les blocs d'un niveau (ne fait rien si c'est déjà le niveau affiché).
+     * Un nouveau Niveau sur la même carte (recommencement) est entièrement recalculé,
+     * car ses briques ont été remises en place.
+     * @param niveau Le niveau à afficher
+     */
+    public void initialiserPourNiveau(Niveau niveau) {
+        if (niveau == this.niveau) {
+            return;
+        }
+        if (this.niveau != null && this.niveau.getEcouteurTuiles() == this) {
+            this.niveau.setEcouteurTuiles(null);
+        }
+        this.niveau = niveau;
+        blocs.clear();
+        blocsARecalculer = false;
+
+        TiledMap carte = niveau.getCarte();
+        if (carte == null) {
+            return;
+        }
+        niveau.setEcouteurTuiles(this);
+
+        // Découper chaque couche de tuiles en blocs et compter les tuiles à mettre en cache
+        int nombreTuiles = 0;
+        int largeurMax = 0;
+        int hauteurMax = 0;
+        for (MapLayer calque : carte.getLayers()) {
+            if (calque instanceof TiledMapTileLayer) {
+                TiledMapTileLayer couche = (TiledMapTileLayer) calque;
+                largeurMax = Math.max(largeurMax, couche.getWidth());
+                hauteurMax = Math.max(hauteurMax, couche.getHeight());
+            }
+        }
+        blocsParLigne = (largeurMax + TAILLE_BLOC - 1) / TAILLE_BLOC;
+        lignesDeBlocs = (hauteurMax + TAILLE_BLOC - 1) / TAILLE_BLOC;
+        for (MapLayer calque : carte.getLayers()) {
+            if (!(calque instanceof TiledMapTileLayer)) {
+                continue;
+            }
+            TiledMapTileLayer couche = (TiledMapTileLayer) calque;
+            for (int ligne = 0; ligne < lignesDeBlocs; ligne++) {
+                for (int colonne = 0; colonne < blocsParLigne; colonne++) {
+                    blocs.add(new Bloc(couche, colonne * TAILLE_BLOC, ligne * TAILLE_BLOC));
+                }
+            }
+            nombreTuiles += compterTuiles(couche);
+        }
+
+        // Le cache est réutilisé d'un niveau à l'autre tant qu'il est assez grand
+        if (cache == null || nombreTuiles > capacite) {
+            if (cache != null) {
+                cache.dispose();
+            }
+            capacite = Math.max(nombreTuiles, 1);
+            cache = new SpriteCache(capacite, capacite <= TUILES_MAX_INDEXEES);
+        } else {
+            cache.clear();
+        }
+
+        for (Bloc bloc : blocs) {
+            cache.beginCache();
+            bloc.nombreTuiles = ajouterTuiles(bloc);
+            bloc.idCache = cache.endCache();
+        }
+        Gdx.app.log("RenduCarteTuiles", "Carte précalculée : " + nombreTuiles + " tuiles en "
+            + blocs.size + " blocs de " + TAILLE_BLOC + "x" + TAILLE_BLOC);
+    }
+
+    /**
+     * Marque le bloc qui contient une tuile modifiée ; il sera recalculé avant la prochaine frame
+     * @param nomCouche Nom de la couche modifiée
+     * @param tx Colonne de la tuile
+     * @param ty Ligne de la tuile
+     */
+    @Override
+    public void tuileModifiee(String nomCouche, int tx, int ty) {
+        int colonne = tx / TAILLE_BLOC;
+        int ligne = ty / TAILLE_BLOC;
+        if (tx < 0 || ty < 0 || colonne >= blocsParLigne || ligne >= lignesDeBlocs) {
+            return;
+        }
+        int blocsParCouche = blocsParLigne * lignesDeBlocs;
+        for (int debut = 0; debut < blocs.size; debut += blocsParCouche) {
+            Bloc bloc = blocs.get(debut + ligne * blocsParLigne + colonne);
+            if (nomCouche == null || nomCouche.equals(bloc.couche.getName())) {
+                bloc.aRecalculer = true;
+                blocsARecalculer = true;
+            }
+        }
+    }
+
+    /**
+     * Dessine les blocs visibles par la caméra, couche par couche
+     */
+    public void dessiner() {
+        blocsDessines = 0;
+        if (cache == null || blocs.size == 0) {
+            return;
+        }
+        if (blocsARecalculer) {
+            recalculerBlocs();
+        }
+
+        // Zone visible, en tuiles (la caméra peut être zoomée)
+        TiledMapTileLayer premiere = blocs.first().couche;
+        float largeurTuile = premiere.getTileWidth();
+        float hauteurTuile = premiere.getTileHeight();
+        float demiLargeur = camera.viewportWidth * camera.zoom / 2f;
+        float demiHauteur = camera.viewportHeight * camera.zoom / 2f;
+        int colonneMin = Math.max(0, (int) ((camera.position.x - demiLargeur) / largeurTuile) / TAILLE_BLOC);
+        int colonneMax = Math.min(blocsParLigne - 1, (int) ((camera.position.x + demiLargeur) / largeurTuile) / TAILLE_BLOC);
+        int ligneMin = Math.max(0, (int) ((camera.position.y - demiHauteur) / hauteurTuile) / TAILLE_BLOC);
+        int ligneMax = Math.min(lignesDeBlocs - 1, (int) ((camera.position.y + demiHauteur) / hauteurTuile) / TAILLE_BLOC);
+        if (colonneMin > colonneMax || ligneMin > ligneMax) {
+            return;
+        }
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(camera.combined);
+        cache.begin();
+        int blocsParCouche = blocsParLigne * lignesDeBlocs;
+        for (int debut = 0; debut < blocs.size; debut += blocsParCouche) {
+            if (!blocs.get(debut).couche.isVisible()) {
+                continue;
+            }
+            for (int ligne = ligneMin; ligne <= ligneMax; ligne++) {
+                for (int colonne = colonneMin; colonne <= colonneMax; colonne++) {
+                    Bloc bloc = blocs.get(debut + ligne * blocsParLigne + colonne);
+                    if (bloc.nombreTuiles > 0) {
+                        cache.draw(bloc.idCache);
+                        blocsDessines++;
+                    }
+                }
+            }
+        }
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * Recalcule les blocs marqués (une brique détruite ne fait que retirer des tuiles :
+     * le bloc tient toujours dans la place réservée à sa création)
+     */
+    private void recalculerBlocs() {
+        for (Bloc bloc : blocs) {
+            if (bloc.aRecalculer) {
+                bloc.aRecalculer = false;
+                cache.beginCache(bloc.idCache);
+                bloc.nombreTuiles = ajouterTuiles(bloc);
+                cache.endCache();
+                blocsRecalcules++;
+            }
+        }
+        blocsARecalculer = false;
+    }
+
+    private static int compterTuiles(TiledMapTileLayer couche) {
+        int nombre = 0;
+        for (int ty = 0; ty < couche.getHeight(); ty++) {
+            for (int tx = 0; tx < couche.getWidth(); tx++) {
+                TiledMapTileLayer.Cell cellule = couche.getCell(tx, ty);
+                if (cellule != null && cellule.getTile() != null) {
+                    nombre++;
+                }
+            }
+        }
+        return nombre;
+    }
+
+    /**
+     * Ajoute au cache en cours les tuiles d'un bloc
+     * (mêmes coordonnées de texture qu'OrthogonalTiledMapRenderer, retournements et rotations compris)
+     * @param bloc Le bloc
+     * @return Nombre de tuiles ajoutées
+     */
+    private int ajouterTuiles(Bloc bloc) {
+        TiledMapTileLayer couche = bloc.couche;
+        float largeurTuile = couche.getTileWidth();
+        float hauteurTuile = couche.getTileHeight();
+        float couleur = Color.toFloatBits(1f, 1f, 1f, couche.getOpacity());
+        int colonneFin = Math.min(bloc.colonne + TAILLE_BLOC, couche.getWidth());
+        int ligneFin = Math.min(bloc.ligne + TAILLE_BLOC, couche.getHeight());
+
+        int nombre = 0;
+        for (int ty = bloc.ligne; ty < ligneFin; ty++) {
+            for (int tx = bloc.colonne; tx < colonneFin; tx++) {
+                TiledMapTileLayer.Cell cellule = couche.getCell(tx, ty);
+                if (cellule == null) {
+                    continue;
+                }
+                TiledMapTile tuile = cellule.getTile();
+                if (tuile == null) {
+                    continue;
+                }
+                TextureRegion region = tuile.getTextureRegion();
+                float x1 = tx * largeurTuile + tuile.getOffsetX();
+                float y1 = ty * hauteurTuile + tuile.getOffsetY();
+                remplirSommets(region, x1, y1, couleur,
+                    cellule.getFlipHorizontally(), cellule.getFlipVertically(), cellule.getRotation());
+                cache.add(region.getTexture(), sommets, 0, SOMMETS_PAR_TUILE);
+                nombre++;
+            }
+        }
+        return nombre;
+    }
+
+    /**
+     * Remplit les quatre sommets d'une tuile (bas gauche, haut gauche, haut droit, bas droit)
+     */
+    private void remplirSommets(TextureRegion region, float x1, float y1, float couleur,
+                                boolean retournementX, boolean retournementY, int rotation) {
+        float x2 = x1 + region.getRegionWidth();
+        float y2 = y1 + region.getRegionHeight();
+        float u1 = region.getU();
+        float v1 = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+
+        float[] s = sommets;
+        s[0] = x1;  s[1] = y1;  s[2] = couleur;  s[3] = u1;  s[4] = v1;
+        s[5] = x1;  s[6] = y2;  s[7] = couleur;  s[8] = u1;  s[9] = v2;
+        s[10] = x2; s[11] = y2; s[12] = couleur; s[13] = u2; s[14] = v2;
+        s[15] = x2; s[16] = y1; s[17] = couleur; s[18] = u2; s[19] = v1;
+
+        if (retournementX) {
+            echanger(s, 3, 13);
+            echanger(s, 8, 18);
+        }
+        if (retournementY) {
+            echanger(s, 4, 9);
+            echanger(s, 14, 19);
+        }
+        switch (rotation) {
+            case TiledMapTileLayer.Cell.ROTATE_90: {
+                float v = s[4];
+                s[4] = s[9]; s[9] = s[14]; s[14] = s[19]; s[19] = v;
+                float u = s[3];
+                s[3] = s[8]; s[8] = s[13]; s[13] = s[18]; s[18] = u;
+                break;
+            }
+            case TiledMapTileLayer.Cell.ROTATE_180: {
+                echanger(s, 3, 13);
+                echanger(s, 8, 18);
+                echanger(s, 4, 14);
+                echanger(s, 9, 19);
+                break;
+            }
+            case TiledMapTileLayer.Cell.ROTATE_270: {
+                float v = s[4];
+                s[4] = s[19]; s[19] = s[14]; s[14] = s[9]; s[9] = v;
+                float u = s[3];
+                s[3] = s[18]; s[18] = s[13]; s[13] = s[8]; s[8] = u;
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    private static void echanger(float[] tableau, int i, int j) {
+        float temp = tableau[i];
+        tableau[i] = tableau[j];
+        tableau[j] = temp;
+    }
+
+    /**
+     * Retourne le nombre de blocs dessinés à la dernière frame
+     * @return Nombre d'appels SpriteCache.draw de la carte
+     */
+    public int getBlocsDessines() {
+        return blocsDessines;
+    }
+
+    /**
+     * Retourne le nombre de blocs recalculés depuis la création (briques détruites)
+     * @return Nombre de recalculs
+     */
+    public int getBlocsRecalcules() {
+        return blocsRecalcules;
+    }
+
+    /**
+     * Libère le cache (les textures des tilesets appartiennent à la carte)
+     */
+    public void libererRessources() {
+        if (niveau != null && niveau.getEcouteurTuiles() == this) {
+            niveau.setEcouteurTuiles(null);
+        }
+        niveau = null;
+        blocs.clear();
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+    }
+}
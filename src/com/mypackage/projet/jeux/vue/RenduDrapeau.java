@@ -1,7 +1,7 @@
 package com.mypackage.projet.jeux.vue;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.mypackage.projet.jeux.modele.entites.Drapeau;
 import com.mypackage.projet.jeux.modele.entites.Entite;
 
@@ -10,42 +10,44 @@ import com.mypackage.projet.jeux.modele.entites.Entite;
  */
 public class RenduDrapeau implements RenduEntite {
     
-    private Texture textureDrapeau;
-    private Texture textureMat;
-    private Texture textureBase;
-    private Texture textureChateau;
+    private TextureRegion textureDrapeau;
+    private TextureRegion textureMat;
+    private TextureRegion textureBase;
+    private TextureRegion textureChateau;
     
     /**
      * Constructeur
+     * @param atlas L'atlas des textures des entités (libéré par RenduNiveau)
      */
-    public RenduDrapeau() {
-        chargerTextures();
+    public RenduDrapeau(AtlasTextures atlas) {
+        chargerTextures(atlas);
     }
     
     /**
-     * Charge toutes les textures du drapeau
+     * Obtient toutes les régions du drapeau dans l'atlas
+     * @param atlas L'atlas des textures des entités
      */
-    private void chargerTextures() {
+    private void chargerTextures(AtlasTextures atlas) {
         try {
-            textureDrapeau = new Texture("assets/textures/flag.png");
+            textureDrapeau = atlas.obtenirRegion("assets/textures/flag.png");
         } catch (Exception e) {
             System.err.println("⚠️ Erreur lors du chargement de la texture du drapeau : " + e.getMessage());
         }
         
         try {
-            textureMat = new Texture("assets/textures/flag_pole.png");
+            textureMat = atlas.obtenirRegion("assets/textures/flag_pole.png");
         } catch (Exception e) {
             System.err.println("⚠️ Erreur lors du chargement de la texture du mât");
         }
         
         try {
-            textureBase = new Texture("assets/textures/flag_pole_base.png");
+            textureBase = atlas.obtenirRegion("assets/textures/flag_pole_base.png");
         } catch (Exception e) {
             System.err.println("⚠️ Erreur lors du chargement de la texture de la base");
         }
         
         try {
-            textureChateau = new Texture("assets/textures/castle.png");
+            textureChateau = atlas.obtenirRegion("assets/textures/castle.png");
         } catch (Exception e) {
             System.err.println("⚠️ Erreur lors du chargement de la texture du château");
         }
@@ -133,18 +135,6 @@ public class RenduDrapeau implements RenduEntite {
     
     @Override
     public void libererRessources() {
-        if (textureDrapeau != null) {
-            textureDrapeau.dispose();
-        }
-        if (textureMat != null) {
-            textureMat.dispose();
-        }
-        if (textureBase != null) {
-            textureBase.dispose();
-        }
-        if (textureChateau != null) {
-            textureChateau.dispose();
-        }
+        // Les régions appartiennent à l'atlas partagé, libéré par RenduNiveau
     }
 }
-
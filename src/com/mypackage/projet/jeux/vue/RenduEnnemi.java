@@ -1,6 +1,5 @@
 package com.mypackage.projet.jeux.vue;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -17,31 +16,30 @@ import java.util.Map;
  */
 public class RenduEnnemi implements RenduEntite {
     
-    private Map<String, Texture> texturesEnnemis;
+    private final AtlasTextures atlas;
     private Map<String, Animation<TextureRegion>> animationsEnnemis;
     private float tempsEcoule = 0f;
     
     /**
      * Constructeur
+     * @param atlas L'atlas des textures des entités (libéré par RenduNiveau)
      */
-    public RenduEnnemi() {
-        texturesEnnemis = new HashMap<>();
+    public RenduEnnemi(AtlasTextures atlas) {
+        this.atlas = atlas;
         animationsEnnemis = new HashMap<>();
     }
     
     /**
-     * Charge une texture pour un type d'ennemi et crée son animation
+     * Charge la région d'un type d'ennemi et crée son animation
      * @param type Type de l'ennemi
-     * @param cheminTexture Chemin vers la texture
+     * @param cheminTexture Chemin vers la texture (nom de la région dans l'atlas)
      */
     public void chargerTexture(String type, String cheminTexture) {
         try {
-            Texture texture = new Texture(cheminTexture);
-            texturesEnnemis.put(type, texture);
-            
             // Créer une animation simple de marche
+            // (copie de la région : le flip horizontal ne modifie pas l'atlas)
             Array<TextureRegion> frames = new Array<>();
-            TextureRegion region = new TextureRegion(texture);
+            TextureRegion region = new TextureRegion(atlas.obtenirRegion(cheminTexture));
             frames.add(region);
             
             // Animation avec légère oscillation (simule la marche)
@@ -85,8 +83,8 @@ public class RenduEnnemi implements RenduEntite {
             float offsetY = (float) Math.sin(tempsEcoule * 8) * 1.5f;
             
             batch.draw(frame,
-                      ennemi.getPosition().x,
-                      ennemi.getPosition().y + offsetY,
+                      ennemi.getPositionRendu().x,
+                      ennemi.getPositionRendu().y + offsetY,
                       ennemi.getLargeur(),
                       ennemi.getHauteur());
         }
@@ -94,12 +92,8 @@ public class RenduEnnemi implements RenduEntite {
     
     @Override
     public void libererRessources() {
-        for (Texture texture : texturesEnnemis.values()) {
-            if (texture != null) {
-                texture.dispose();
-            }
-        }
-        texturesEnnemis.clear();
+        // Les régions appartiennent à l'atlas partagé, libéré par RenduNiveau
+        animationsEnnemis.clear();
     }
 }
 
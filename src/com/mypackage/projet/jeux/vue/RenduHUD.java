@@ -3,17 +3,25 @@ package com.mypackage.projet.jeux.vue;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.StringBuilder;
 import com.mypackage.projet.jeux.modele.entites.Joueur;
 import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import com.mypackage.projet.jeux.utilitaires.GestionnairePolices;
 
 /**
  * HUD refait avec approche "Pixel Perfect" et grille stricte
  * Layout à 3 colonnes : GAUCHE (Score/Vies/Pièces) | CENTRE (World) | DROITE (Time)
+ *
+ * <p>Les textes sont mis en page une fois dans des BitmapFontCache (sommets prêts à envoyer) :
+ * les libellés ne sont recalculés qu'au redimensionnement, les valeurs quand le score, les pièces,
+ * les vies ou le niveau changent. Une frame ordinaire ne fait que redessiner les caches.</p>
  */
 public class RenduHUD {
     
@@ -31,60 +39,85 @@ public class RenduHUD {
     private OrthographicCamera cameraHUD;
     private ShapeRenderer shapeRenderer;
     private GlyphLayout layout;          // Pour mesurer et centrer les textes
+    private final StringBuilder texte = new StringBuilder(16); // Tampon des valeurs (aucune allocation par frame)
     
-    // Icônes
-    private Texture iconePiece;
-    private Texture iconeVie;
-    private Texture iconeEtoile;
+    // ========== TEXTES MIS EN CACHE ==========
+    private BitmapFontCache cacheLabels;   // MARIO, WORLD (police des labels)
+    private BitmapFontCache cacheValeurs;  // Score, pièces, vies, niveau (police des valeurs)
+    private boolean miseEnPageInvalide;    // Taille de l'écran changée : tout est à refaire
+    private int scoreAffiche;
+    private int piecesAffichees;
+    private int viesAffichees;
+    private int niveauAffiche;
+    
+    // Icônes (régions de l'atlas partagé)
+    private TextureRegion iconePiece;
+    private TextureRegion iconeVie;
+    private TextureRegion iconeEtoile;
     
     /**
      * Constructeur
+     * @param atlas L'atlas des textures des entités (libéré par RenduNiveau)
+     * @param polices Le service des polices (propriétaire de leur texture)
      */
-    public RenduHUD() {
+    public RenduHUD(AtlasTextures atlas, GestionnairePolices polices) {
         // Police pour les labels (MARIO, WORLD, TIME) - Grande
-        policeLabel = new BitmapFont();
+        policeLabel = polices.creerPolice(GestionnairePolices.Taille.LABEL);
         policeLabel.setColor(Color.WHITE);
-        policeLabel.getData().setScale(2.2f);
         
         // Police pour les valeurs (score, temps, pièces, vies) - Moyenne
-        policeValeur = new BitmapFont();
+        policeValeur = polices.creerPolice(GestionnairePolices.Taille.VALEUR);
         policeValeur.setColor(Color.WHITE);
-        policeValeur.getData().setScale(1.8f);
         
         shapeRenderer = new ShapeRenderer();
         layout = new GlyphLayout();
+        cacheLabels = policeLabel.newFontCache();
+        cacheValeurs = policeValeur.newFontCache();
         
-        // Caméra fixe pour le HUD (ne suit pas le joueur)
+        // Caméra fixe pour le HUD (ne suit pas le joueur), ajustée par redimensionner
         cameraHUD = new OrthographicCamera();
-        cameraHUD.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        redimensionner(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         
         // Charger les icônes
-        chargerIcones();
+        chargerIcones(atlas);
     }
     
     /**
-     * Charge toutes les icônes du HUD
+     * Obtient toutes les icônes du HUD dans l'atlas
+     * @param atlas L'atlas des textures des entités
      */
-    private void chargerIcones() {
+    private void chargerIcones(AtlasTextures atlas) {
         try {
-            iconePiece = new Texture("assets/textures/coin_hud.png");
+            iconePiece = atlas.obtenirRegion("assets/textures/coin_hud.png");
         } catch (Exception e) {
             Gdx.app.error("RenduHUD", "⚠️ Icône pièce manquante");
         }
         
         try {
-            iconeVie = new Texture("assets/textures/hud_life_icon.png");
+            iconeVie = atlas.obtenirRegion("assets/textures/hud_life_icon.png");
         } catch (Exception e) {
             Gdx.app.error("RenduHUD", "⚠️ Icône vie manquante");
         }
         
         try {
-            iconeEtoile = new Texture("assets/textures/hud_star_icon.png");
+            iconeEtoile = atlas.obtenirRegion("assets/textures/hud_star_icon.png");
         } catch (Exception e) {
             Gdx.app.error("RenduHUD", "⚠️ Icône étoile manquante");
         }
     }
     
+    /**
+     * Adapte la caméra du HUD à la nouvelle taille de l'écran (plein écran, redimensionnement)
+     * et demande une nouvelle mise en page des textes
+     * @param largeur Largeur de l'écran (en pixels)
+     * @param hauteur Hauteur de l'écran (en pixels)
+     */
+    public void redimensionner(int largeur, int hauteur) {
+        cameraHUD.setToOrtho(false, largeur, hauteur);
+        cameraHUD.update();
+        miseEnPageInvalide = true;
+    }
+    
     /**
      * Dessine le HUD simple (sans niveau)
      * @param batch Le SpriteBatch
@@ -106,12 +139,8 @@ public class RenduHUD {
             return;
         }
         
-        // IMPORTANT : Mettre à jour la caméra HUD avec les dimensions actuelles
-        // (pour supporter le plein écran et le redimensionnement)
-        float largeurEcran = Gdx.graphics.getWidth();
-        float hauteurEcran = Gdx.graphics.getHeight();
-        cameraHUD.setToOrtho(false, largeurEcran, hauteurEcran);
-        cameraHUD.update();
+        float largeurEcran = cameraHUD.viewportWidth;
+        float hauteurEcran = cameraHUD.viewportHeight;
         
         // 1. Dessiner le fond noir de la Top Bar
         dessinerFondHUD(largeurEcran, hauteurEcran);
@@ -119,26 +148,32 @@ public class RenduHUD {
         // 2. Calculer les coordonnées des 3 colonnes
         float colGaucheX = MARGIN_HORIZONTAL;
         float colCentreX = largeurEcran / 2f;
-        float colDroiteX = largeurEcran - MARGIN_HORIZONTAL;
         
         // 3. Calculer les lignes verticales
         float ligneHaute = hauteurEcran - MARGIN_TOP;
         float ligneMoyenne = ligneHaute - LINE_SPACING;
         float ligneBasse = ligneMoyenne - LINE_SPACING;
         
-        // 4. Dessiner les 3 colonnes
+        // 4. Refaire la mise en page seulement si l'écran ou une valeur affichée a changé
+        if (miseEnPageInvalide) {
+            construireLabels(colGaucheX, colCentreX, ligneHaute);
+        }
+        if (miseEnPageInvalide || joueur.getScore() != scoreAffiche || joueur.getPieces() != piecesAffichees
+                || joueur.getVies() != viesAffichees || numeroNiveau != niveauAffiche) {
+            construireValeurs(joueur, numeroNiveau, colGaucheX, colCentreX, ligneMoyenne, ligneBasse);
+        }
+        miseEnPageInvalide = false;
+        
+        // 5. Dessiner les caches et les icônes
         batch.setProjectionMatrix(cameraHUD.combined);
         batch.begin();
-        
-        // ========== COLONNE GAUCHE : MARIO, Score, Pièces, Vies ==========
-        dessinerColonneGauche(batch, joueur, colGaucheX, ligneHaute, ligneMoyenne, ligneBasse);
-        
-        // ========== COLONNE CENTRE : WORLD, Niveau ==========
-        dessinerColonneCentre(batch, colCentreX, ligneHaute, ligneMoyenne, numeroNiveau);
+        cacheLabels.draw(batch);
+        dessinerIcones(batch, colGaucheX, ligneBasse);
+        cacheValeurs.draw(batch);
         
         // ========== COLONNE DROITE : TIME, Temps ========== 
         // Timer désactivé sur demande de l'utilisateur
-        // dessinerColonneDroite(batch, niveau, colDroiteX, ligneHaute, ligneMoyenne);
+        // dessinerColonneDroite(batch, niveau, largeurEcran - MARGIN_HORIZONTAL, ligneHaute, ligneMoyenne);
         
         batch.end();
     }
@@ -166,59 +201,61 @@ public class RenduHUD {
     }
     
     /**
-     * Dessine la colonne gauche : MARIO, Score, Pièces, Vies
-     * Alignement : GAUCHE
+     * Met en page les labels fixes : MARIO (aligné à gauche) et WORLD (centré)
      */
-    private void dessinerColonneGauche(SpriteBatch batch, Joueur joueur, float x, float y1, float y2, float y3) {
-        // Ligne 1 : Label "MARIO"
-        policeLabel.setColor(Color.WHITE);
-        policeLabel.draw(batch, "MARIO", x, y1);
+    private void construireLabels(float gaucheX, float centreX, float y1) {
+        cacheLabels.clear();
+        cacheLabels.setColor(Color.WHITE);
+        cacheLabels.addText("MARIO", gaucheX, y1);
+        cacheLabels.addText("WORLD", centreX, y1, 0f, Align.center, false);
+    }
+    
+    /**
+     * Met en page les valeurs : score (6 chiffres, jaune), pièces et vies à côté de leurs icônes,
+     * numéro de niveau centré, puis mémorise les valeurs affichées
+     */
+    private void construireValeurs(Joueur joueur, int numeroNiveau, float gaucheX, float centreX, float y2, float y3) {
+        cacheValeurs.clear();
         
-        // Ligne 2 : Score (6 chiffres, jaune)
-        String scoreStr = String.format("%06d", joueur.getScore());
-        policeValeur.setColor(Color.YELLOW);
-        policeValeur.draw(batch, scoreStr, x, y2);
+        // Colonne gauche, ligne 2 : Score
+        cacheValeurs.setColor(Color.YELLOW);
+        cacheValeurs.addText(nombreComplete(joueur.getScore(), 6), gaucheX, y2);
         
-        // Ligne 3 : Pièces (icône + texte) ET Vies (icône + texte) sur la même ligne
-        // Pièces à gauche
+        // Colonne gauche, ligne 3 : Pièces à gauche, vies décalées de 100px
+        cacheValeurs.setColor(Color.WHITE);
         if (iconePiece != null) {
-            float iconY = y3 - ICON_SIZE / 2;
-            batch.draw(iconePiece, x, iconY, ICON_SIZE, ICON_SIZE);
-            
-            String piecesStr = "x" + joueur.getPieces();
-            policeValeur.setColor(Color.WHITE);
-            policeValeur.draw(batch, piecesStr, x + ICON_SIZE + ICON_TEXT_SPACING, y3);
+            texte.setLength(0);
+            texte.append('x').append(joueur.getPieces());
+            cacheValeurs.addText(texte, gaucheX + ICON_SIZE + ICON_TEXT_SPACING, y3);
         }
-        
-        // Vies à droite (décalées de 100px)
         if (iconeVie != null) {
-            float vieX = x + 100f;
-            float iconY = y3 - ICON_SIZE / 2;
-            batch.draw(iconeVie, vieX, iconY, ICON_SIZE, ICON_SIZE);
-            
-            String viesStr = "x" + joueur.getVies();
-            policeValeur.setColor(Color.WHITE);
-            policeValeur.draw(batch, viesStr, vieX + ICON_SIZE + ICON_TEXT_SPACING, y3);
+            texte.setLength(0);
+            texte.append('x').append(joueur.getVies());
+            cacheValeurs.addText(texte, gaucheX + 100f + ICON_SIZE + ICON_TEXT_SPACING, y3);
         }
+        
+        // Colonne centre, ligne 2 : Numéro de niveau "1-1"
+        texte.setLength(0);
+        texte.append("1-").append(numeroNiveau);
+        cacheValeurs.addText(texte, centreX, y2, 0f, Align.center, false);
+        
+        scoreAffiche = joueur.getScore();
+        piecesAffichees = joueur.getPieces();
+        viesAffichees = joueur.getVies();
+        niveauAffiche = numeroNiveau;
     }
     
     /**
-     * Dessine la colonne centre : WORLD, Niveau
-     * Alignement : CENTRE (utilise GlyphLayout pour centrage parfait)
+     * Dessine les icônes de la ligne 3 (pièces, vies)
      */
-    private void dessinerColonneCentre(SpriteBatch batch, float centerX, float y1, float y2, int numeroNiveau) {
-        // Ligne 1 : Label "WORLD" (centré)
-        policeLabel.setColor(Color.WHITE);
-        layout.setText(policeLabel, "WORLD");
-        float worldX = centerX - layout.width / 2;
-        policeLabel.draw(batch, "WORLD", worldX, y1);
-        
-        // Ligne 2 : Numéro de niveau "1-1" (centré)
-        String niveauStr = "1-" + numeroNiveau;
-        policeValeur.setColor(Color.WHITE);
-        layout.setText(policeValeur, niveauStr);
-        float niveauX = centerX - layout.width / 2;
-        policeValeur.draw(batch, niveauStr, niveauX, y2);
+    private void dessinerIcones(SpriteBatch batch, float x, float y3) {
+        float iconY = y3 - ICON_SIZE / 2;
+        if (iconePiece != null) {
+            batch.draw(iconePiece, x, iconY, ICON_SIZE, ICON_SIZE);
+        }
+        if (iconeVie != null) {
+            batch.draw(iconeVie, x + 100f, iconY, ICON_SIZE, ICON_SIZE);
+        }
     }
     
     /**
@@ -239,13 +276,31 @@ public class RenduHUD {
             tempsAffiche = Math.max(0, 999 - tempsSecondes);
         }
         
-        String tempsStr = String.format("%03d", tempsAffiche);
+        StringBuilder tempsStr = nombreComplete(tempsAffiche, 3);
         policeValeur.setColor(Color.WHITE);
         layout.setText(policeValeur, tempsStr);
         float tempsX = rightX - layout.width;
         policeValeur.draw(batch, tempsStr, tempsX, y2);
     }
     
+    /**
+     * Écrit un nombre complété par des zéros à gauche dans le tampon du HUD
+     * (équivalent de String.format("%06d"), sans allocation)
+     * @param valeur Le nombre (positif)
+     * @param chiffres Nombre minimal de chiffres
+     * @return Le tampon, valable jusqu'au prochain texte du HUD
+     */
+    private StringBuilder nombreComplete(int valeur, int chiffres) {
+        texte.setLength(0);
+        for (int seuil = 10, i = 1; i < chiffres; i++, seuil *= 10) {
+            if (valeur < seuil) {
+                texte.append('0');
+            }
+        }
+        texte.append(valeur);
+        return texte;
+    }
+    
     /**
      * Dessine un message d'information temporaire
      * @param batch Le SpriteBatch
@@ -254,10 +309,6 @@ public class RenduHUD {
      * @param y Position Y
      */
     public void dessinerMessage(SpriteBatch batch, String message, float x, float y) {
-        // Mettre à jour la caméra pour supporter le plein écran
-        cameraHUD.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        cameraHUD.update();
-        
         batch.setProjectionMatrix(cameraHUD.combined);
         batch.begin();
         policeValeur.setColor(Color.YELLOW);
@@ -272,10 +323,6 @@ public class RenduHUD {
      * @param menuFinNiveau Le menu de fin de niveau à dessiner
      */
     public void dessinerEcranFin(SpriteBatch batch, boolean niveauReussi, MenuFinNiveau menuFinNiveau) {
-        // Mettre à jour la caméra pour supporter le plein écran
-        cameraHUD.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        cameraHUD.update();
-        
         batch.setProjectionMatrix(cameraHUD.combined);
         
         if (menuFinNiveau != null) {
@@ -293,11 +340,8 @@ public class RenduHUD {
      * @param niveauReussi true si le niveau est réussi
      */
     private void dessinerEcranFinSimple(SpriteBatch batch, boolean niveauReussi) {
-        // Mettre à jour la caméra pour supporter le plein écran
-        float largeur = Gdx.graphics.getWidth();
-        float hauteur = Gdx.graphics.getHeight();
-        cameraHUD.setToOrtho(false, largeur, hauteur);
-        cameraHUD.update();
+        float largeur = cameraHUD.viewportWidth;
+        float hauteur = cameraHUD.viewportHeight;
         
         // Fond noir semi-transparent
         Gdx.gl.glEnable(Gdx.gl.GL_BLEND);
@@ -331,23 +375,10 @@ public class RenduHUD {
      * Libère les ressources
      */
     public void libererRessources() {
-        if (policeLabel != null) {
-            policeLabel.dispose();
-        }
-        if (policeValeur != null) {
-            policeValeur.dispose();
-        }
         if (shapeRenderer != null) {
             shapeRenderer.dispose();
         }
-        if (iconePiece != null) {
-            iconePiece.dispose();
-        }
-        if (iconeVie != null) {
-            iconeVie.dispose();
-        }
-        if (iconeEtoile != null) {
-            iconeEtoile.dispose();
+        // Les icônes appartiennent à l'atlas partagé, libéré par RenduNiveau,
+        // et la texture des polices au GestionnairePolices
     }
 }
-}
@@ -1,6 +1,5 @@
 package com.mypackage.projet.jeux.vue;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -13,17 +12,17 @@ import com.mypackage.projet.jeux.modele.entites.Joueur;
  */
 public class RenduJoueur implements RenduEntite {
     
-    // ========== TEXTURES MARIO PETIT ==========
-    private Texture texturePetitIdle;
-    private Texture texturePetitJump;
-    private Texture texturePetitRun1;
-    private Texture texturePetitRun2;
+    // ========== RÉGIONS MARIO PETIT (atlas partagé) ==========
+    private TextureRegion regionPetitIdle;
+    private TextureRegion regionPetitJump;
+    private TextureRegion regionPetitRun1;
+    private TextureRegion regionPetitRun2;
     
-    // ========== TEXTURES MARIO GRAND ==========
-    private Texture textureGrandIdle;
-    private Texture textureGrandJump;
-    private Texture textureGrandRun1;
-    private Texture textureGrandRun2;
+    // ========== RÉGIONS MARIO GRAND (atlas partagé) ==========
+    private TextureRegion regionGrandIdle;
+    private TextureRegion regionGrandJump;
+    private TextureRegion regionGrandRun1;
+    private TextureRegion regionGrandRun2;
     
     // ========== ANIMATIONS MARIO PETIT ==========
     private Animation<TextureRegion> animationPetitImmobile;
@@ -35,9 +34,6 @@ public class RenduJoueur implements RenduEntite {
     private Animation<TextureRegion> animationGrandCourse;
     private Animation<TextureRegion> animationGrandSaut;
     
-    // Textures legacy (pour compatibilité)
-    private Texture textureSpritesheet;
-    
     // Temps d'animation
     private float tempsEcoule = 0f;
     
@@ -46,37 +42,38 @@ public class RenduJoueur implements RenduEntite {
     
     /**
      * Constructeur
-     * @param cheminTexture Chemin vers la texture du joueur (non utilisé, on charge les sprites Mario)
+     * @param atlas L'atlas des textures des entités (libéré par RenduNiveau)
      */
-    public RenduJoueur(String cheminTexture) {
-        chargerTextures();
+    public RenduJoueur(AtlasTextures atlas) {
+        chargerRegions(atlas);
         creerAnimations();
     }
     
     /**
-     * Charge toutes les textures de Mario (PETIT et GRAND)
+     * Obtient toutes les régions de Mario (PETIT et GRAND) dans l'atlas
+     * @param atlas L'atlas des textures des entités
      */
-    private void chargerTextures() {
+    private void chargerRegions(AtlasTextures atlas) {
         try {
-            // ========== CHARGER MARIO GRAND (versions "_big") ==========
-            textureGrandIdle = new Texture("assets/textures/mario_idle_big.png");
-            textureGrandJump = new Texture("assets/textures/mario_jump_big.png");
-            textureGrandRun1 = new Texture("assets/textures/mario_run1_big.png");
-            textureGrandRun2 = new Texture("assets/textures/mario_run2_big.png");
+            // ========== MARIO GRAND (versions "_big") ==========
+            regionGrandIdle = atlas.obtenirRegion("assets/textures/mario_idle_big.png");
+            regionGrandJump = atlas.obtenirRegion("assets/textures/mario_jump_big.png");
+            regionGrandRun1 = atlas.obtenirRegion("assets/textures/mario_run1_big.png");
+            regionGrandRun2 = atlas.obtenirRegion("assets/textures/mario_run2_big.png");
             
-            // ========== CHARGER MARIO PETIT (versions sans "_big") ==========
-            // Note : Si les fichiers n'existent pas, on utilisera les versions "_big" en fallback
+            // ========== MARIO PETIT (versions sans "_big") ==========
+            // Note : Si les images n'existent pas, on utilisera les versions "_big" en fallback
             try {
-                texturePetitIdle = new Texture("assets/textures/mario_idle.png");
-                texturePetitJump = new Texture("assets/textures/mario_jump.png");
-                texturePetitRun1 = new Texture("assets/textures/mario_run1.png");
-                texturePetitRun2 = new Texture("assets/textures/mario_run2.png");
+                regionPetitIdle = atlas.obtenirRegion("assets/textures/mario_idle.png");
+                regionPetitJump = atlas.obtenirRegion("assets/textures/mario_jump.png");
+                regionPetitRun1 = atlas.obtenirRegion("assets/textures/mario_run1.png");
+                regionPetitRun2 = atlas.obtenirRegion("assets/textures/mario_run2.png");
             } catch (Exception e) {
-                // Fallback : Utiliser les textures GRAND pour PETIT (redimensionnées)
-                texturePetitIdle = textureGrandIdle;
-                texturePetitJump = textureGrandJump;
-                texturePetitRun1 = textureGrandRun1;
-                texturePetitRun2 = textureGrandRun2;
+                // Fallback : Utiliser les régions GRAND pour PETIT (redimensionnées)
+                regionPetitIdle = regionGrandIdle;
+                regionPetitJump = regionGrandJump;
+                regionPetitRun1 = regionGrandRun1;
+                regionPetitRun2 = regionGrandRun2;
             }
         } catch (Exception e) {
             System.err.println("❌ Erreur lors du chargement des textures Mario : " + e.getMessage());
@@ -89,36 +86,37 @@ public class RenduJoueur implements RenduEntite {
      */
     private void creerAnimations() {
         try {
+            // Chaque frame est une copie : le flip horizontal ne modifie pas les régions de l'atlas
             // ========== ANIMATIONS MARIO GRAND ==========
             Array<TextureRegion> framesGrandImmobile = new Array<>();
-            framesGrandImmobile.add(new TextureRegion(textureGrandIdle));
+            framesGrandImmobile.add(new TextureRegion(regionGrandIdle));
             animationGrandImmobile = new Animation<>(0.2f, framesGrandImmobile, Animation.PlayMode.LOOP);
             
             Array<TextureRegion> framesGrandCourse = new Array<>();
-            framesGrandCourse.add(new TextureRegion(textureGrandRun1));
-            framesGrandCourse.add(new TextureRegion(textureGrandRun2));
-            framesGrandCourse.add(new TextureRegion(textureGrandRun1));
-            framesGrandCourse.add(new TextureRegion(textureGrandIdle));
+            framesGrandCourse.add(new TextureRegion(regionGrandRun1));
+            framesGrandCourse.add(new TextureRegion(regionGrandRun2));
+            framesGrandCourse.add(new TextureRegion(regionGrandRun1));
+            framesGrandCourse.add(new TextureRegion(regionGrandIdle));
             animationGrandCourse = new Animation<>(0.1f, framesGrandCourse, Animation.PlayMode.LOOP);
             
             Array<TextureRegion> framesGrandSaut = new Array<>();
-            framesGrandSaut.add(new TextureRegion(textureGrandJump));
+            framesGrandSaut.add(new TextureRegion(regionGrandJump));
             animationGrandSaut = new Animation<>(0.2f, framesGrandSaut, Animation.PlayMode.NORMAL);
             
             // ========== ANIMATIONS MARIO PETIT ==========
             Array<TextureRegion> framesPetitImmobile = new Array<>();
-            framesPetitImmobile.add(new TextureRegion(texturePetitIdle));
+            framesPetitImmobile.add(new TextureRegion(regionPetitIdle));
             animationPetitImmobile = new Animation<>(0.2f, framesPetitImmobile, Animation.PlayMode.LOOP);
             
             Array<TextureRegion> framesPetitCourse = new Array<>();
-            framesPetitCourse.add(new TextureRegion(texturePetitRun1));
-            framesPetitCourse.add(new TextureRegion(texturePetitRun2));
-            framesPetitCourse.add(new TextureRegion(texturePetitRun1));
-            framesPetitCourse.add(new TextureRegion(texturePetitIdle));
+            framesPetitCourse.add(new TextureRegion(regionPetitRun1));
+            framesPetitCourse.add(new TextureRegion(regionPetitRun2));
+            framesPetitCourse.add(new TextureRegion(regionPetitRun1));
+            framesPetitCourse.add(new TextureRegion(regionPetitIdle));
             animationPetitCourse = new Animation<>(0.1f, framesPetitCourse, Animation.PlayMode.LOOP);
             
             Array<TextureRegion> framesPetitSaut = new Array<>();
-            framesPetitSaut.add(new TextureRegion(texturePetitJump));
+            framesPetitSaut.add(new TextureRegion(regionPetitJump));
             animationPetitSaut = new Animation<>(0.2f, framesPetitSaut, Animation.PlayMode.NORMAL);
         } catch (Exception e) {
             System.err.println("❌ Erreur lors de la création des animations : " + e.getMessage());
@@ -185,8 +183,8 @@ public class RenduJoueur implements RenduEntite {
                 float hauteur = joueur.getHauteur();
                 
                 batch.draw(frameActuelle, 
-                          joueur.getPosition().x, 
-                          joueur.getPosition().y,
+                          joueur.getPositionRendu().x, 
+                          joueur.getPositionRendu().y,
                           largeur,
                           hauteur);
                 
@@ -232,30 +230,6 @@ public class RenduJoueur implements RenduEntite {
     
     @Override
     public void libererRessources() {
-        // Libérer textures GRAND
-        if (textureGrandIdle != null) textureGrandIdle.dispose();
-        if (textureGrandJump != null) textureGrandJump.dispose();
-        if (textureGrandRun1 != null) textureGrandRun1.dispose();
-        if (textureGrandRun2 != null) textureGrandRun2.dispose();
-        
-        // Libérer textures PETIT (si elles sont différentes des GRAND)
-        if (texturePetitIdle != null && texturePetitIdle != textureGrandIdle) {
-            texturePetitIdle.dispose();
-        }
-        if (texturePetitJump != null && texturePetitJump != textureGrandJump) {
-            texturePetitJump.dispose();
-        }
-        if (texturePetitRun1 != null && texturePetitRun1 != textureGrandRun1) {
-            texturePetitRun1.dispose();
-        }
-        if (texturePetitRun2 != null && texturePetitRun2 != textureGrandRun2) {
-            texturePetitRun2.dispose();
-        }
-        
-        // Legacy
-        if (textureSpritesheet != null) textureSpritesheet.dispose();
+        // Les régions appartiennent à l'atlas partagé, libéré par RenduNiveau
     }
 }
-
-
-
@@ -4,44 +4,53 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.mypackage.projet.jeux.modele.entites.Drapeau;
 import com.mypackage.projet.jeux.modele.entites.Ennemi;
 import com.mypackage.projet.jeux.modele.entites.ObjetCollectable;
 import com.mypackage.projet.jeux.modele.entites.PowerUp;
 import com.mypackage.projet.jeux.modele.niveau.Niveau;
+import com.mypackage.projet.jeux.utilitaires.GestionnairePolices;
+import com.mypackage.projet.jeux.utilitaires.GestionnaireRessources;
+import com.mypackage.projet.jeux.utilitaires.Profileur;
+
+import java.util.List;
 
 /**
  * Classe responsable du rendu d'un niveau complet
  */
 public class RenduNiveau {
     
-    private OrthogonalTiledMapRenderer rendeurCarte;
+    private RenduCarteTuiles rendeurCarte; // Couches de tuiles précalculées par blocs
     private RenduJoueur rendeurJoueur;
     private RenduEnnemi rendeurEnnemi;
     private RenduObjet rendeurObjet;
     private RenduPowerUp rendeurPowerUp;
     private RenduDrapeau rendeurDrapeau;
     private RenduHUD rendeurHUD;
+    private AtlasTextures atlas; // Textures de toutes les entités, sur une seule page
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
     private OrthographicCamera camera;
+    private int appelsRenduEntites; // Envois au GPU du dernier passage des entités
     
     /**
      * Constructeur
      * @param camera La caméra du jeu
+     * @param ressources Le registre des ressources (textures des entités)
+     * @param polices Le service des polices (HUD)
      */
-    public RenduNiveau(OrthographicCamera camera) {
+    public RenduNiveau(OrthographicCamera camera, GestionnaireRessources ressources, GestionnairePolices polices) {
         this.camera = camera;
         this.batch = new SpriteBatch();
         this.shapeRenderer = new ShapeRenderer();
-        this.rendeurJoueur = new RenduJoueur("assets/textures/joueur.png");
-        this.rendeurEnnemi = new RenduEnnemi();
-        this.rendeurObjet = new RenduObjet();
-        this.rendeurPowerUp = new RenduPowerUp();
-        this.rendeurDrapeau = new RenduDrapeau();
-        this.rendeurHUD = new RenduHUD();
+        this.rendeurCarte = new RenduCarteTuiles(camera);
+        this.atlas = new AtlasTextures(ressources);
+        this.rendeurJoueur = new RenduJoueur(atlas);
+        this.rendeurEnnemi = new RenduEnnemi(atlas);
+        this.rendeurObjet = new RenduObjet(atlas);
+        this.rendeurPowerUp = new RenduPowerUp(atlas);
+        this.rendeurDrapeau = new RenduDrapeau(atlas);
+        this.rendeurHUD = new RenduHUD(atlas, polices);
         
         // Charger les textures des ennemis classiques de Mario
         rendeurEnnemi.chargerTexture("terrestre", "assets/textures/goomba.png");
@@ -59,10 +68,8 @@ public class RenduNiveau {
      * @param niveau Le niveau à rendre
      */
     public void initialiserPourNiveau(Niveau niveau) {
-        TiledMap carte = niveau.getCarte();
-        if (carte != null) {
-            rendeurCarte = new OrthogonalTiledMapRenderer(carte);
-        }
+        // Sommets de la carte envoyés au GPU une fois par niveau (rien à faire si déjà affiché)
+        rendeurCarte.initialiserPourNiveau(niveau);
     }
     
     /**
@@ -74,19 +81,20 @@ public class RenduNiveau {
         // NOTE : La caméra est mise à jour dans JeuPlateforme.java avec clamping aux limites
         // Ne pas la mettre à jour ici pour éviter de montrer du vide aux bords du niveau
         
-        // Dessiner la carte Tiled
-        if (rendeurCarte != null) {
-            rendeurCarte.setView(camera);
-            rendeurCarte.render();
-        }
+        // Dessiner la carte Tiled (du niveau courant, qui change après un passage au niveau suivant)
+        Profileur.debut(Profileur.Phase.RENDU_CARTE);
+        initialiserPourNiveau(niveau);
+        rendeurCarte.dessiner();
+        Profileur.fin(Profileur.Phase.RENDU_CARTE);
         
         // Calculer les limites de la caméra pour le culling
+        Profileur.debut(Profileur.Phase.RENDU_ENTITES);
         float cameraLeft = camera.position.x - camera.viewportWidth / 2;
         float cameraRight = camera.position.x + camera.viewportWidth / 2;
         float cameraBottom = camera.position.y - camera.viewportHeight / 2;
         float cameraTop = camera.position.y + camera.viewportHeight / 2;
         
-        // Dessiner les entités
+        // Dessiner les entités (une seule texture liée : l'atlas, donc un seul envoi au GPU)
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
         
@@ -101,21 +109,27 @@ public class RenduNiveau {
         }
         
         // Dessiner les ennemis (CULLING : seulement si visibles)
-        for (Ennemi ennemi : niveau.getEnnemis()) {
+        List<Ennemi> ennemis = niveau.getEnnemis();
+        for (int i = 0; i < ennemis.size(); i++) {
+            Ennemi ennemi = ennemis.get(i);
             if (ennemi.estActive() && estVisible(ennemi, cameraLeft, cameraRight, cameraBottom, cameraTop)) {
                 rendeurEnnemi.dessiner(batch, ennemi);
             }
         }
         
         // Dessiner les objets collectables (CULLING : seulement si visibles)
-        for (ObjetCollectable objet : niveau.getObjetsCollectables()) {
+        List<ObjetCollectable> objetsCollectables = niveau.getObjetsCollectables();
+        for (int i = 0; i < objetsCollectables.size(); i++) {
+            ObjetCollectable objet = objetsCollectables.get(i);
             if (objet.estActive() && estVisible(objet, cameraLeft, cameraRight, cameraBottom, cameraTop)) {
                 rendeurObjet.dessiner(batch, objet);
             }
         }
         
         // Dessiner les power-ups (CULLING : seulement si visibles)
-        for (PowerUp powerUp : niveau.getPowerUps()) {
+        List<PowerUp> powerUps = niveau.getPowerUps();
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
             if (powerUp.estActive() && estVisible(powerUp, cameraLeft, cameraRight, cameraBottom, cameraTop)) {
                 rendeurPowerUp.dessiner(batch, powerUp);
             }
@@ -127,6 +141,8 @@ public class RenduNiveau {
         }
         
         batch.end();
+        appelsRenduEntites = batch.renderCalls;
+        Profileur.fin(Profileur.Phase.RENDU_ENTITES);
         
         // RENDU DE DEBUG DÉSACTIVÉ : Les vrais sprites sont maintenant visibles !
         // Les rectangles de couleur cachaient les sprites Mario et Goombas
@@ -182,10 +198,21 @@ public class RenduNiveau {
      */
     public void dessinerHUD(Niveau niveau, int numeroNiveau) {
         if (niveau.getJoueur() != null) {
+            Profileur.debut(Profileur.Phase.RENDU_HUD);
             rendeurHUD.dessinerAvecNiveau(batch, niveau.getJoueur(), niveau, numeroNiveau);
+            Profileur.fin(Profileur.Phase.RENDU_HUD);
         }
     }
     
+    /**
+     * Transmet la nouvelle taille de l'écran au HUD (sa caméra et la mise en page de ses textes)
+     * @param largeur Largeur de l'écran (en pixels)
+     * @param hauteur Hauteur de l'écran (en pixels)
+     */
+    public void redimensionner(int largeur, int hauteur) {
+        rendeurHUD.redimensionner(largeur, hauteur);
+    }
+    
     /**
      * Vérifie si une entité est visible dans la caméra (pour le culling)
      * @param entite L'entité à vérifier
@@ -197,12 +224,14 @@ public class RenduNiveau {
      */
     private boolean estVisible(com.mypackage.projet.jeux.modele.entites.Entite entite, 
                                 float left, float right, float bottom, float top) {
-        float entityRight = entite.getPosition().x + entite.getLargeur();
-        float entityTop = entite.getPosition().y + entite.getHauteur();
+        float entityX = entite.getPositionRendu().x;
+        float entityY = entite.getPositionRendu().y;
+        float entityRight = entityX + entite.getLargeur();
+        float entityTop = entityY + entite.getHauteur();
         
         // Vérifier si l'entité est dans les limites de la caméra
-        return !(entityRight < left || entite.getPosition().x > right ||
-                 entityTop < bottom || entite.getPosition().y > top);
+        return !(entityRight < left || entityX > right ||
+                 entityTop < bottom || entityY > top);
     }
     
     /**
@@ -213,6 +242,23 @@ public class RenduNiveau {
         return batch;
     }
     
+    /**
+     * Retourne le nombre d'envois au GPU du dernier passage des entités
+     * (1 quand toutes les régions viennent de l'atlas)
+     * @return Nombre d'appels de dessin du SpriteBatch des entités
+     */
+    public int getAppelsRenduEntites() {
+        return appelsRenduEntites;
+    }
+    
+    /**
+     * Retourne le nombre de blocs de la carte dessinés à la dernière frame
+     * @return Nombre d'appels de dessin de la carte
+     */
+    public int getBlocsCarteDessines() {
+        return rendeurCarte.getBlocsDessines();
+    }
+    
     /**
      * Retourne le rendu HUD
      * @return Le RenduHUD
@@ -232,7 +278,7 @@ public class RenduNiveau {
             shapeRenderer.dispose();
         }
         if (rendeurCarte != null) {
-            rendeurCarte.dispose();
+            rendeurCarte.libererRessources();
         }
         if (rendeurJoueur != null) {
             rendeurJoueur.libererRessources();
@@ -252,6 +298,9 @@ public class RenduNiveau {
         if (rendeurHUD != null) {
             rendeurHUD.libererRessources();
         }
+        if (atlas != null) {
+            atlas.libererRessources();
+        }
     }
 }
 
@@ -1,6 +1,5 @@
 package com.mypackage.projet.jeux.vue;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -16,23 +15,25 @@ import java.util.Map;
  */
 public class RenduObjet implements RenduEntite {
     
-    private Map<String, Texture> texturesObjets;
+    private final AtlasTextures atlas;
+    private Map<String, TextureRegion> regionsObjets;
     private Animation<TextureRegion> animationPiece;
-    private Texture spritesheetPiece;
     private float tempsAnimation;
     
     /**
      * Constructeur
+     * @param atlas L'atlas des textures des entités (libéré par RenduNiveau)
      */
-    public RenduObjet() {
-        texturesObjets = new HashMap<>();
+    public RenduObjet(AtlasTextures atlas) {
+        this.atlas = atlas;
+        regionsObjets = new HashMap<>();
         tempsAnimation = 0;
     }
     
     /**
-     * Charge une texture pour un type d'objet
+     * Charge la région d'un type d'objet
      * @param type Type de l'objet
-     * @param cheminTexture Chemin vers la texture
+     * @param cheminTexture Chemin vers la texture (nom de la région dans l'atlas)
      */
     public void chargerTexture(String type, String cheminTexture) {
         try {
@@ -40,8 +41,7 @@ public class RenduObjet implements RenduEntite {
             if ("PIECE".equalsIgnoreCase(type)) {
                 chargerAnimationPiece();
             } else {
-            Texture texture = new Texture(cheminTexture);
-            texturesObjets.put(type, texture);
+                regionsObjets.put(type, atlas.obtenirRegion(cheminTexture));
             }
         } catch (Exception e) {
             System.err.println("Erreur lors du chargement de la texture de l'objet " + type + " : " + e.getMessage());
@@ -53,10 +53,10 @@ public class RenduObjet implements RenduEntite {
      */
     private void chargerAnimationPiece() {
         try {
-            spritesheetPiece = new Texture("assets/textures/coin_spritesheet.png");
+            TextureRegion spritesheetPiece = atlas.obtenirRegion("assets/textures/coin_spritesheet.png");
             
-            // Découper la spritesheet (4 frames de 24x24)
-            TextureRegion[][] tmp = TextureRegion.split(spritesheetPiece, 24, 24);
+            // Découper la spritesheet (4 frames de 24x24, dans la région de l'atlas)
+            TextureRegion[][] tmp = spritesheetPiece.split(24, 24);
             Array<TextureRegion> frames = new Array<>();
             for (int i = 0; i < 4; i++) {
                 frames.add(tmp[0][i]);
@@ -90,17 +90,17 @@ public class RenduObjet implements RenduEntite {
             float offsetY = (float) Math.sin(tempsAnimation * 2) * 3f;
             
             batch.draw(frame,
-                      objet.getPosition().x,
-                      objet.getPosition().y + offsetY,
+                      objet.getPositionRendu().x,
+                      objet.getPositionRendu().y + offsetY,
                       objet.getLargeur(),
                       objet.getHauteur());
         } else {
             // Autres objets : rendu normal
-        Texture texture = texturesObjets.get(objet.getType());
-        if (texture != null) {
-            batch.draw(texture,
-                      objet.getPosition().x,
-                      objet.getPosition().y,
+            TextureRegion region = regionsObjets.get(objet.getType());
+            if (region != null) {
+                batch.draw(region,
+                      objet.getPositionRendu().x,
+                      objet.getPositionRendu().y,
                       objet.getLargeur(),
                       objet.getHauteur());
             }
@@ -109,15 +109,8 @@ public class RenduObjet implements RenduEntite {
     
     @Override
     public void libererRessources() {
-        for (Texture texture : texturesObjets.values()) {
-            if (texture != null) {
-                texture.dispose();
-            }
-        }
-        if (spritesheetPiece != null) {
-            spritesheetPiece.dispose();
-        }
-        texturesObjets.clear();
+        // Les régions appartiennent à l'atlas partagé, libéré par RenduNiveau
+        regionsObjets.clear();
     }
 }
 
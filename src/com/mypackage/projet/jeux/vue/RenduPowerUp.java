@@ -1,6 +1,5 @@
 package com.mypackage.projet.jeux.vue;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.mypackage.projet.jeux.modele.entites.Entite;
@@ -14,27 +13,33 @@ import java.util.Map;
  */
 public class RenduPowerUp implements RenduEntite {
     
-    private Map<PowerUp.TypePowerUp, Texture> texturesPowerUps;
+    private final AtlasTextures atlas;
+    private Map<PowerUp.TypePowerUp, TextureRegion> regionsPowerUps;
     private float tempsAnimation;
     
-    public RenduPowerUp() {
-        texturesPowerUps = new HashMap<>();
+    /**
+     * Constructeur
+     * @param atlas L'atlas des textures des entités (libéré par RenduNiveau)
+     */
+    public RenduPowerUp(AtlasTextures atlas) {
+        this.atlas = atlas;
+        regionsPowerUps = new HashMap<>();
         tempsAnimation = 0;
     }
     
     /**
-     * Charge les textures des power-ups
+     * Obtient les régions des power-ups dans l'atlas
      */
     public void chargerTextures() {
         try {
-            texturesPowerUps.put(PowerUp.TypePowerUp.CHAMPIGNON_MAGIQUE, 
-                new Texture("assets/textures/mushroom_super.png"));
-            texturesPowerUps.put(PowerUp.TypePowerUp.FLEUR_DE_FEU, 
-                new Texture("assets/textures/fire_flower.png"));
-            texturesPowerUps.put(PowerUp.TypePowerUp.CHAMPIGNON_1UP, 
-                new Texture("assets/textures/mushroom_1up.png"));
-            texturesPowerUps.put(PowerUp.TypePowerUp.SUPER_ETOILE, 
-                new Texture("assets/textures/star.png"));
+            regionsPowerUps.put(PowerUp.TypePowerUp.CHAMPIGNON_MAGIQUE, 
+                atlas.obtenirRegion("assets/textures/mushroom_super.png"));
+            regionsPowerUps.put(PowerUp.TypePowerUp.FLEUR_DE_FEU, 
+                atlas.obtenirRegion("assets/textures/fire_flower.png"));
+            regionsPowerUps.put(PowerUp.TypePowerUp.CHAMPIGNON_1UP, 
+                atlas.obtenirRegion("assets/textures/mushroom_1up.png"));
+            regionsPowerUps.put(PowerUp.TypePowerUp.SUPER_ETOILE, 
+                atlas.obtenirRegion("assets/textures/star.png"));
         } catch (Exception e) {
             System.err.println("⚠️ Erreur lors du chargement des textures power-ups : " + e.getMessage());
             // Utiliser des textures par défaut ou créer des sprites de base
@@ -52,8 +57,8 @@ public class RenduPowerUp implements RenduEntite {
         
         tempsAnimation += 0.016f; // ~60 FPS
         
-        Texture texture = texturesPowerUps.get(powerUp.getTypePowerUp());
-        if (texture != null) {
+        TextureRegion region = regionsPowerUps.get(powerUp.getTypePowerUp());
+        if (region != null) {
             // Animation de flottement pour les power-ups
             float offsetY = 0;
             if (powerUp.getTypePowerUp() == PowerUp.TypePowerUp.FLEUR_DE_FEU || 
@@ -64,23 +69,19 @@ public class RenduPowerUp implements RenduEntite {
             // Animation de rotation pour l'étoile
             if (powerUp.getTypePowerUp() == PowerUp.TypePowerUp.SUPER_ETOILE) {
                 float rotation = tempsAnimation * 120f; // Rotation rapide
-                batch.draw(texture,
-                    powerUp.getPosition().x,
-                    powerUp.getPosition().y + offsetY,
+                batch.draw(region,
+                    powerUp.getPositionRendu().x,
+                    powerUp.getPositionRendu().y + offsetY,
                     powerUp.getLargeur() / 2, // Point de rotation au centre
                     powerUp.getHauteur() / 2,
                     powerUp.getLargeur(),
                     powerUp.getHauteur(),
                     1f, 1f,
-                    rotation,
-                    0, 0,
-                    texture.getWidth(),
-                    texture.getHeight(),
-                    false, false);
+                    rotation);
             } else {
-                batch.draw(texture,
-                    powerUp.getPosition().x,
-                    powerUp.getPosition().y + offsetY,
+                batch.draw(region,
+                    powerUp.getPositionRendu().x,
+                    powerUp.getPositionRendu().y + offsetY,
                     powerUp.getLargeur(),
                     powerUp.getHauteur());
             }
@@ -92,12 +93,8 @@ public class RenduPowerUp implements RenduEntite {
     
     @Override
     public void libererRessources() {
-        for (Texture texture : texturesPowerUps.values()) {
-            if (texture != null) {
-                texture.dispose();
-            }
-        }
-        texturesPowerUps.clear();
+        // Les régions appartiennent à l'atlas partagé, libéré par RenduNiveau
+        regionsPowerUps.clear();
     }
 }
 
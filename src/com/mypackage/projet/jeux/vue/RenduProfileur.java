@@ -0,0 +1,143 @@
+package com.mypackage.projet.jeux.vue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.mypackage.projet.jeux.utilitaires.GestionnairePolices;
+import com.mypackage.projet.jeux.utilitaires.Profileur;
+
+/**
+ * Surcouche du profileur : médiane, 99e centile et maximum de chaque phase de la frame,
+ * en millisecondes, sur les dernières frames (voir Profileur).
+ * Les statistiques sont recalculées quelques fois par seconde ; le texte est reconstruit
+ * dans un tampon réutilisé, sans allocation.
+ */
+public class RenduProfileur {
+
+    private static final float PERIODE_CALCUL = 0.25f; // Secondes entre deux calculs des statistiques
+    private static final float MARGE = 8f;
+    private static final float LARGEUR_PANNEAU = 330f;
+    private static final Profileur.Phase[] PHASES = Profileur.Phase.values(); // values() copie le tableau
+
+    private final OrthographicCamera cameraUI;
+    private final SpriteBatch batch;
+    private final ShapeRenderer shapeRenderer;
+    private final BitmapFont police;
+    private final StringBuilder texte;
+    private int nombreLignes;
+    private float tempsDepuisCalcul;
+
+    /**
+     * Constructeur
+     * @param largeur Largeur de la vue (en pixels)
+     * @param hauteur Hauteur de la vue (en pixels)
+     * @param polices Le service des polices
+     */
+    public RenduProfileur(float largeur, float hauteur, GestionnairePolices polices) {
+        this.cameraUI = new OrthographicCamera();
+        this.cameraUI.setToOrtho(false, largeur, hauteur);
+        this.batch = new SpriteBatch();
+        this.shapeRenderer = new ShapeRenderer();
+        this.police = polices.creerPolice(GestionnairePolices.Taille.TEXTE);
+        this.police.setColor(Color.WHITE);
+        this.texte = new StringBuilder(1024);
+        this.tempsDepuisCalcul = PERIODE_CALCUL; // Premier calcul immédiat
+    }
+
+    /**
+     * Dessine la surcouche en haut à droite de l'écran
+     * @param deltaTemps Durée de la frame (en secondes)
+     */
+    public void dessiner(float deltaTemps) {
+        tempsDepuisCalcul += deltaTemps;
+        if (tempsDepuisCalcul >= PERIODE_CALCUL) {
+            tempsDepuisCalcul = 0f;
+            Profileur.calculerStatistiques();
+            construireTexte();
+        }
+
+        float hauteurLigne = police.getLineHeight();
+        float hauteurPanneau = nombreLignes * hauteurLigne + 2 * MARGE;
+        float x = cameraUI.viewportWidth - LARGEUR_PANNEAU - MARGE;
+        float y = cameraUI.viewportHeight - MARGE;
+
+        cameraUI.update();
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shapeRenderer.setProjectionMatrix(cameraUI.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0f, 0f, 0f, 0.7f);
+        shapeRenderer.rect(x, y - hauteurPanneau, LARGEUR_PANNEAU, hauteurPanneau);
+        shapeRenderer.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+
+        batch.setProjectionMatrix(cameraUI.combined);
+        batch.begin();
+        police.draw(batch, texte, x + MARGE, y - MARGE);
+        batch.end();
+    }
+
+    /**
+     * Reconstruit le tableau : une ligne par phase déjà mesurée
+     */
+    private void construireTexte() {
+        texte.setLength(0);
+        texte.append("PROFILEUR (F3)  ").append(Profileur.getNombreFrames()).append(" frames\n");
+        texte.append("phase                      p50    p99    max\n");
+        nombreLignes = 2;
+        for (Profileur.Phase phase : PHASES) {
+            long maximum = Profileur.getMaximumNanos(phase);
+            if (maximum == 0L) {
+                continue;
+            }
+            int debut = texte.length();
+            for (int i = 0; i < phase.getProfondeur(); i++) {
+                texte.append("  ");
+            }
+            texte.append(phase.getLibelle());
+            while (texte.length() - debut < 22) {
+                texte.append(' ');
+            }
+            ajouterMillisecondes(Profileur.getMedianeNanos(phase));
+            ajouterMillisecondes(Profileur.getCentile99Nanos(phase));
+            ajouterMillisecondes(maximum);
+            texte.append('\n');
+            nombreLignes++;
+        }
+        texte.append("F4 : exporter la trace");
+        nombreLignes++;
+    }
+
+    /**
+     * Ajoute une durée en millisecondes avec deux décimales, alignée sur 7 caractères
+     * @param nanos Durée en nanosecondes
+     */
+    private void ajouterMillisecondes(long nanos) {
+        long centiemes = (nanos + 5_000L) / 10_000L;
+        long entier = centiemes / 100;
+        int decimales = (int) (centiemes % 100);
+        int chiffres = entier >= 100 ? 3 : entier >= 10 ? 2 : 1;
+        for (int i = chiffres + 3; i < 7; i++) {
+            texte.append(' ');
+        }
+        texte.append(entier).append('.');
+        if (decimales < 10) {
+            texte.append('0');
+        }
+        texte.append(decimales);
+    }
+
+    /**
+     * Libère les ressources
+     */
+    public void libererRessources() {
+        batch.dispose();
+        shapeRenderer.dispose();
+        // La texture de la police appartient au GestionnairePolices
+    }
+}
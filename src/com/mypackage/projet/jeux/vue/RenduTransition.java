@@ -4,22 +4,31 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.mypackage.projet.jeux.modele.gestionnaires.GestionnaireNiveaux;
 import com.mypackage.projet.jeux.modele.niveau.Niveau;
 import com.mypackage.projet.jeux.modele.niveau.ObjectifNiveau;
 import com.mypackage.projet.jeux.modele.niveau.ProgressionNiveau;
+import com.mypackage.projet.jeux.utilitaires.GestionnairePolices;
 
 /**
  * Classe responsable du rendu des transitions entre niveaux
+ * Une police par taille (GestionnairePolices) : aucune mise à l'échelle pendant le dessin
  */
 public class RenduTransition {
     
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
-    private BitmapFont font;
-    private BitmapFont fontGrand;
+    private GestionnairePolices polices;
+    private BitmapFont font;            // Textes courants (1,5)
+    private BitmapFont fontGrand;       // Titres (3,0)
+    private BitmapFont fontObjectifs;   // Objectifs du niveau (1,2)
+    private BitmapFont fontStatistiques; // Statistiques et instruction de fin (1,8)
+    private BitmapFont fontEtoiles;     // Étoiles obtenues (2,5)
+    private BitmapFont fontIndication;  // Indication clignotante (1,3)
+    private GlyphLayout layout;         // Pour mesurer et centrer les textes
     private OrthographicCamera camera;
     private OrthographicCamera cameraUI; // Caméra fixe pour l'UI
     
@@ -30,13 +39,20 @@ public class RenduTransition {
     /**
      * Constructeur
      * @param camera Caméra pour le rendu
+     * @param polices Le service des polices
      */
-    public RenduTransition(OrthographicCamera camera) {
+    public RenduTransition(OrthographicCamera camera, GestionnairePolices polices) {
         this.camera = camera;
+        this.polices = polices;
         this.batch = new SpriteBatch();
         this.shapeRenderer = new ShapeRenderer();
-        this.font = new BitmapFont();
-        this.fontGrand = new BitmapFont();
+        this.font = polices.creerPolice(GestionnairePolices.Taille.NORMAL);
+        this.fontGrand = polices.creerPolice(GestionnairePolices.Taille.TITRE);
+        this.fontObjectifs = polices.creerPolice(GestionnairePolices.Taille.PETIT);
+        this.fontStatistiques = polices.creerPolice(GestionnairePolices.Taille.VALEUR);
+        this.fontEtoiles = polices.creerPolice(GestionnairePolices.Taille.BOUTON);
+        this.fontIndication = polices.creerPolice(GestionnairePolices.Taille.INDICATION);
+        this.layout = new GlyphLayout();
         
         // Créer une caméra fixe pour l'UI (ne suit pas le joueur)
         this.cameraUI = new OrthographicCamera();
@@ -44,10 +60,19 @@ public class RenduTransition {
         
         // Configurer les polices
         font.setColor(Color.WHITE);
-        font.getData().setScale(1.5f);
-        
         fontGrand.setColor(Color.YELLOW);
-        fontGrand.getData().setScale(3.0f);
+    }
+    
+    /**
+     * Retourne l'abscisse qui centre un texte sur l'écran
+     * @param police La police du texte
+     * @param texte Le texte
+     * @param largeurEcran Largeur de l'écran
+     * @return Position X du début du texte
+     */
+    private float centrer(BitmapFont police, String texte, float largeurEcran) {
+        layout.setText(police, texte);
+        return (largeurEcran - layout.width) / 2;
     }
     
     /**
@@ -80,8 +105,7 @@ public class RenduTransition {
         
         float offsetY = (1.0f - progression) * 200 - 100;
         String texteNiveau = "NIVEAU " + (gestionnaire.getNiveauActuelIndex() + 1);
-        float largeurTexte = fontGrand.getRegions().get(0).getRegionWidth() * texteNiveau.length() * 3.0f / 2;
-        float x = (largeurEcran - largeurTexte) / 2;
+        float x = centrer(fontGrand, texteNiveau, largeurEcran);
         float y = hauteurEcran / 2 + offsetY + 50;
         
         fontGrand.setColor(1, 1, 0, alpha);
@@ -89,8 +113,7 @@ public class RenduTransition {
         
         // Nom du niveau
         String nomNiveau = niveau.getNom();
-        float largeurNom = font.getRegions().get(0).getRegionWidth() * nomNiveau.length() * 1.5f / 2;
-        float xNom = (largeurEcran - largeurNom) / 2;
+        float xNom = centrer(font, nomNiveau, largeurEcran);
         float yNom = y - 60;
         
         font.setColor(1, 1, 1, alpha);
@@ -98,16 +121,15 @@ public class RenduTransition {
         
         // Objectifs du niveau
         float yObjectif = yNom - 80;
-        font.getData().setScale(1.2f);
-        font.draw(batch, "OBJECTIFS:", 100, yObjectif);
+        fontObjectifs.setColor(1, 1, 1, alpha);
+        fontObjectifs.draw(batch, "OBJECTIFS:", 100, yObjectif);
         
         yObjectif -= 40;
         for (ObjectifNiveau objectif : niveau.getObjectifs()) {
-            font.draw(batch, "• " + objectif.getDescription(), 120, yObjectif);
+            fontObjectifs.draw(batch, "• " + objectif.getDescription(), 120, yObjectif);
             yObjectif -= 30;
         }
         
-        font.getData().setScale(1.5f);
         batch.end();
         
         Gdx.gl.glDisable(Gdx.gl.GL_BLEND);
@@ -150,36 +172,33 @@ public class RenduTransition {
             // Titre
             fontGrand.setColor(0, 1, 0, panelAlpha);
             String titre = "NIVEAU TERMINÉ !";
-            float largeurTitre = fontGrand.getRegions().get(0).getRegionWidth() * titre.length() * 3.0f / 2;
-            fontGrand.draw(batch, titre, (largeurEcran - largeurTitre) / 2, y);
+            fontGrand.draw(batch, titre, centrer(fontGrand, titre, largeurEcran), y);
             
             y -= 80;
             
             // Statistiques
-            font.setColor(1, 1, 1, panelAlpha);
-            font.getData().setScale(1.8f);
+            fontStatistiques.setColor(1, 1, 1, panelAlpha);
             
             float x = largeurEcran / 2 - 150;
             
-            font.draw(batch, "Score:", x, y);
-            font.draw(batch, String.valueOf(prog.getScore()), x + 200, y);
+            fontStatistiques.draw(batch, "Score:", x, y);
+            fontStatistiques.draw(batch, String.valueOf(prog.getScore()), x + 200, y);
             y -= 50;
             
-            font.draw(batch, "Pièces:", x, y);
-            font.draw(batch, prog.getPieces() + "/" + niveau.getTotalPiecesInitial(), x + 200, y);
+            fontStatistiques.draw(batch, "Pièces:", x, y);
+            fontStatistiques.draw(batch, prog.getPieces() + "/" + niveau.getTotalPiecesInitial(), x + 200, y);
             y -= 50;
             
-            font.draw(batch, "Ennemis:", x, y);
-            font.draw(batch, String.valueOf(prog.getEnnemisVaincus()), x + 200, y);
+            fontStatistiques.draw(batch, "Ennemis:", x, y);
+            fontStatistiques.draw(batch, String.valueOf(prog.getEnnemisVaincus()), x + 200, y);
             y -= 50;
             
-            font.draw(batch, "Temps:", x, y);
-            font.draw(batch, String.format("%.1fs", prog.getTempsEcoule()), x + 200, y);
+            fontStatistiques.draw(batch, "Temps:", x, y);
+            fontStatistiques.draw(batch, String.format("%.1fs", prog.getTempsEcoule()), x + 200, y);
             y -= 50;
             
             // Étoiles
-            font.getData().setScale(2.5f);
-            font.setColor(1, 0.84f, 0, panelAlpha); // Couleur or
+            fontEtoiles.setColor(1, 0.84f, 0, panelAlpha); // Couleur or
             String etoiles = "";
             for (int i = 0; i < prog.getEtoiles(); i++) {
                 etoiles += "★ ";
@@ -187,38 +206,30 @@ public class RenduTransition {
             for (int i = prog.getEtoiles(); i < 3; i++) {
                 etoiles += "☆ ";
             }
-            float largeurEtoiles = font.getRegions().get(0).getRegionWidth() * etoiles.length() * 2.5f / 2;
-            font.draw(batch, etoiles, (largeurEcran - largeurEtoiles) / 2, y);
+            fontEtoiles.draw(batch, etoiles, centrer(fontEtoiles, etoiles, largeurEcran), y);
             
             // Niveau parfait ?
             if (prog.estParfait()) {
                 y -= 60;
-                font.getData().setScale(1.5f);
                 font.setColor(1, 0, 1, panelAlpha); // Magenta
                 String parfait = "★ NIVEAU PARFAIT ! ★";
-                float largeurParfait = font.getRegions().get(0).getRegionWidth() * parfait.length() * 1.5f / 2;
-                font.draw(batch, parfait, (largeurEcran - largeurParfait) / 2, y);
+                font.draw(batch, parfait, centrer(font, parfait, largeurEcran), y);
             }
             
             // Instructions - Plus visible
             y -= 80;
-            font.getData().setScale(1.8f);
-            font.setColor(1, 1, 0, panelAlpha); // Jaune pour plus de visibilité
+            fontStatistiques.setColor(1, 1, 0, panelAlpha); // Jaune pour plus de visibilité
             String instruction = "▶ ENTRÉE = Niveau Suivant ◀";
-            float largeurInstruction = font.getRegions().get(0).getRegionWidth() * instruction.length() * 1.8f / 2;
-            font.draw(batch, instruction, (largeurEcran - largeurInstruction) / 2, y);
+            fontStatistiques.draw(batch, instruction, centrer(fontStatistiques, instruction, largeurEcran), y);
             
             // Clignotement pour attirer l'attention
             y -= 40;
-            font.getData().setScale(1.3f);
             if ((int)(System.currentTimeMillis() / 500) % 2 == 0) {
-                font.setColor(1, 1, 1, panelAlpha);
+                fontIndication.setColor(1, 1, 1, panelAlpha);
                 String espace = "(ou ESPACE)";
-                float largeurEspace = font.getRegions().get(0).getRegionWidth() * espace.length() * 1.3f / 2;
-                font.draw(batch, espace, (largeurEcran - largeurEspace) / 2, y);
+                fontIndication.draw(batch, espace, centrer(fontIndication, espace, largeurEcran), y);
             }
             
-            font.getData().setScale(1.5f);
             batch.end();
         }
         
@@ -265,8 +276,7 @@ public class RenduTransition {
             batch.begin();
             fontGrand.setColor(1, 1, 1, 1);
             String message = "NIVEAU " + (gestionnaire.getNiveauActuelIndex() + 1);
-            float largeurMessage = fontGrand.getRegions().get(0).getRegionWidth() * message.length() * 3.0f / 2;
-            fontGrand.draw(batch, message, (largeurEcran - largeurMessage) / 2, hauteurEcran / 2);
+            fontGrand.draw(batch, message, centrer(fontGrand, message, largeurEcran), hauteurEcran / 2);
             batch.end();
         }
         
@@ -279,7 +289,7 @@ public class RenduTransition {
      */
     public MenuFinNiveau getMenuGameOver() {
         if (menuGameOver == null) {
-            menuGameOver = new MenuFinNiveau(camera, false, false);
+            menuGameOver = new MenuFinNiveau(camera, polices, false, false);
         }
         return menuGameOver;
     }
@@ -295,7 +305,7 @@ public class RenduTransition {
             if (menuVictoire != null) {
                 menuVictoire.dispose();
             }
-            menuVictoire = new MenuFinNiveau(camera, true, aDesNiveauxRestants);
+            menuVictoire = new MenuFinNiveau(camera, polices, true, aDesNiveauxRestants);
         }
         return menuVictoire;
     }
@@ -375,12 +385,7 @@ public class RenduTransition {
         if (shapeRenderer != null) {
             shapeRenderer.dispose();
         }
-        if (font != null) {
-            font.dispose();
-        }
-        if (fontGrand != null) {
-            fontGrand.dispose();
-        }
+        // La texture des polices appartient au GestionnairePolices
         if (menuGameOver != null) {
             menuGameOver.dispose();
         }
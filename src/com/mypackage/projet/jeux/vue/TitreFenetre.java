@@ -0,0 +1,46 @@
+package com.mypackage.projet.jeux.vue;
+
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * Titre de la fenêtre suivi des FPS (pour le debug).
+ * Le texte n'est reformaté que lorsque la valeur affichée change, soit environ une fois
+ * par seconde : les autres frames n'allouent rien et ne touchent pas à la fenêtre.
+ */
+public class TitreFenetre {
+
+    private final String titre;
+    private final StringBuilder texte = new StringBuilder(48); // Tampon du titre (réutilisé)
+    private int fpsAffiches = -1;
+
+    /**
+     * Constructeur
+     * @param titre Le titre du jeu, sans les FPS
+     */
+    public TitreFenetre(String titre) {
+        this.titre = titre;
+    }
+
+    /**
+     * Reformate le titre si les FPS ont changé depuis le dernier affichage
+     * @param fps Les FPS mesurées
+     * @return true si le titre a changé et doit être envoyé à la fenêtre
+     */
+    public boolean mettreAJour(int fps) {
+        if (fps == fpsAffiches) {
+            return false;
+        }
+        fpsAffiches = fps;
+        texte.setLength(0);
+        texte.append(titre).append(" - FPS: ").append(fps);
+        return true;
+    }
+
+    /**
+     * Retourne le titre formaté par le dernier mettreAJour
+     * @return Le titre
+     */
+    public String getTexte() {
+        return texte.toString();
+    }
+}